@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.sketches.HyperLogLog;
+import org.javafunk.funk.sketches.Sketches;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares estimating the number of distinct elements with a
+ * {@link HyperLogLog} sketch against counting them exactly through
+ * {@link Literals#setFrom(Iterable)}, whose memory grows with the number of
+ * distinct elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DistinctCountBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Integer> elements;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        elements = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    public long hyperLogLog() {
+        return Sketches.sketch(elements, HyperLogLog.<Integer>withPrecision(14)).estimate();
+    }
+
+    @Benchmark
+    public long hyperLogLogInParallel() {
+        return Sketches.sketchInParallel(elements, HyperLogLog.<Integer>withPrecision(14)).estimate();
+    }
+
+    @Benchmark
+    public long exactBaseline() {
+        return Literals.setFrom(elements).size();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Functions.*;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+/**
+ * Measures the cost of the {@code Eagerly} hot paths against equivalent
+ * hand-written loops over the same inputs. Each {@code xxxBaseline}
+ * benchmark produces the same result as its {@code Eagerly} counterpart.
+ *
+ * <p>Cartesian products are taken over two inputs of the square root of
+ * the configured size so that the product contains roughly {@code size}
+ * elements.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EagerlyBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "GENERATOR"})
+    public InputType inputType;
+
+    private Iterable<Integer> input;
+    private Iterable<Integer> productInput;
+    private int sliceStart;
+    private int sliceStop;
+    private int batchSize;
+
+    @Setup
+    public void setUp() {
+        input = inputType.create(size);
+        productInput = inputType.create((int) Math.sqrt(size));
+        sliceStart = size / 4;
+        sliceStop = size - size / 4;
+        batchSize = 100;
+    }
+
+    @Benchmark
+    public Collection<Integer> map() {
+        return Eagerly.map(input, timesTwo);
+    }
+
+    @Benchmark
+    public Collection<Integer> mapBaseline() {
+        List<Integer> result = new ArrayList<Integer>();
+        for (Integer element : input) {
+            result.add(element * 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Integer> filter() {
+        return Eagerly.filter(input, isEven);
+    }
+
+    @Benchmark
+    public Collection<Integer> filterBaseline() {
+        List<Integer> result = new ArrayList<Integer>();
+        for (Integer element : input) {
+            if (element % 2 == 0) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return Eagerly.reduce(input, 0L, sum);
+    }
+
+    @Benchmark
+    public long reduceBaseline() {
+        long result = 0L;
+        for (Integer element : input) {
+            result += element;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<Integer, Collection<Integer>> group() {
+        return Eagerly.group(input, toGroup);
+    }
+
+    @Benchmark
+    public Map<Integer, Collection<Integer>> groupBaseline() {
+        Map<Integer, Collection<Integer>> result = new HashMap<Integer, Collection<Integer>>();
+        for (Integer element : input) {
+            Integer group = element % numberOfGroups;
+            Collection<Integer> members = result.get(group);
+            if (members == null) {
+                members = new ArrayList<Integer>();
+                result.put(group, members);
+            }
+            members.add(element);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Pair<Integer, Integer>> zip() {
+        return Eagerly.zip(input, input);
+    }
+
+    @Benchmark
+    public Collection<Pair<Integer, Integer>> zipBaseline() {
+        List<Pair<Integer, Integer>> result = new ArrayList<Pair<Integer, Integer>>();
+        Iterator<Integer> first = input.iterator();
+        Iterator<Integer> second = input.iterator();
+        while (first.hasNext() && second.hasNext()) {
+            result.add(pair(first.next(), second.next()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Pair<Integer, Integer>> cartesianProduct() {
+        return Eagerly.cartesianProduct(productInput, productInput);
+    }
+
+    @Benchmark
+    public Collection<Pair<Integer, Integer>> cartesianProductBaseline() {
+        List<Pair<Integer, Integer>> result = new ArrayList<Pair<Integer, Integer>>();
+        for (Integer first : productInput) {
+            for (Integer second : productInput) {
+                result.add(pair(first, second));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Integer> slice() {
+        return Eagerly.slice(input, sliceStart, sliceStop);
+    }
+
+    @Benchmark
+    public Collection<Integer> sliceBaseline() {
+        List<Integer> result = new ArrayList<Integer>();
+        int index = 0;
+        for (Integer element : input) {
+            if (index >= sliceStop) {
+                break;
+            }
+            if (index >= sliceStart) {
+                result.add(element);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Collection<Collection<Integer>> batch() {
+        return Eagerly.batch(input, batchSize);
+    }
+
+    @Benchmark
+    public Collection<Collection<Integer>> batchBaseline() {
+        List<Collection<Integer>> result = new ArrayList<Collection<Integer>>();
+        List<Integer> currentBatch = new ArrayList<Integer>(batchSize);
+        for (Integer element : input) {
+            currentBatch.add(element);
+            if (currentBatch.size() == batchSize) {
+                result.add(currentBatch);
+                currentBatch = new ArrayList<Integer>(batchSize);
+            }
+        }
+        if (!currentBatch.isEmpty()) {
+            result.add(currentBatch);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.javafunk.funk.monads.Either;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the field based {@code equals} and {@code hashCode} of
+ * {@code Either} instances against the reflective implementations they
+ * replaced, both directly and when the instances are used as set members.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EqualityBenchmark {
+    @Param({"1000"})
+    public int size;
+
+    private Either<String, Integer> first;
+    private Either<String, Integer> second;
+    private Set<Either<String, Integer>> members;
+    private Set<ReflectiveKey> reflectiveMembers;
+    private List<Either<String, Integer>> probes;
+    private ReflectiveKey[] reflectiveProbes;
+
+    @Setup
+    public void setUp() {
+        first = Either.left("key-42");
+        second = Either.left("key-42");
+        members = new HashSet<Either<String, Integer>>();
+        reflectiveMembers = new HashSet<ReflectiveKey>();
+        probes = new ArrayList<Either<String, Integer>>(size);
+        reflectiveProbes = new ReflectiveKey[size];
+        for (int i = 0; i < size; i++) {
+            members.add(Either.<String, Integer>right(i));
+            reflectiveMembers.add(new ReflectiveKey(i));
+            probes.add(Either.<String, Integer>right(i * 2));
+            reflectiveProbes[i] = new ReflectiveKey(i * 2);
+        }
+    }
+
+    @Benchmark
+    public boolean fieldEquals() {
+        return first.equals(second);
+    }
+
+    @Benchmark
+    public boolean reflectiveEquals() {
+        return EqualsBuilder.reflectionEquals(first, second);
+    }
+
+    @Benchmark
+    public int fieldHashCode() {
+        return first.hashCode();
+    }
+
+    @Benchmark
+    public int reflectiveHashCode() {
+        return HashCodeBuilder.reflectionHashCode(first);
+    }
+
+    @Benchmark
+    public int fieldSetLookup() {
+        int hits = 0;
+        for (Either<String, Integer> probe : probes) {
+            if (members.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int reflectiveSetLookup() {
+        int hits = 0;
+        for (ReflectiveKey probe : reflectiveProbes) {
+            if (reflectiveMembers.contains(probe)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static class ReflectiveKey {
+        private final Integer value;
+
+        private ReflectiveKey(Integer value) {
+            this.value = value;
+        }
+
+        @Override public boolean equals(Object other) {
+            return EqualsBuilder.reflectionEquals(this, other);
+        }
+
+        @Override public int hashCode() {
+            return HashCodeBuilder.reflectionHashCode(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.Reducer;
+
+/**
+ * Cheap functions shared by the benchmarks so that measurements are
+ * dominated by the iteration machinery rather than by the work done
+ * per element. Each has an equivalent inline expression in the
+ * hand-written baselines.
+ */
+final class Functions {
+    private Functions() {}
+
+    static final int numberOfGroups = 16;
+
+    static final Mapper<Integer, Integer> timesTwo = new Mapper<Integer, Integer>() {
+        @Override public Integer map(Integer input) {
+            return input * 2;
+        }
+    };
+
+    static final Predicate<Integer> isEven = new Predicate<Integer>() {
+        @Override public boolean evaluate(Integer input) {
+            return input % 2 == 0;
+        }
+    };
+
+    static final Reducer<Integer, Long> sum = new Reducer<Integer, Long>() {
+        @Override public Long accumulate(Long accumulator, Integer element) {
+            return accumulator + element;
+        }
+    };
+
+    static final Mapper<Integer, Integer> toGroup = new Mapper<Integer, Integer>() {
+        @Override public Integer map(Integer input) {
+            return input % numberOfGroups;
+        }
+    };
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * The shapes of input {@code Iterable} benchmarked against. Each produces
+ * the integers from zero up to, but excluding, the requested size.
+ */
+public enum InputType {
+    ARRAY_LIST {
+        @Override public Iterable<Integer> create(int size) {
+            return integersUpTo(size);
+        }
+    },
+    LINKED_LIST {
+        @Override public Iterable<Integer> create(int size) {
+            return new LinkedList<Integer>(integersUpTo(size));
+        }
+    },
+    HASH_SET {
+        @Override public Iterable<Integer> create(int size) {
+            return new HashSet<Integer>(integersUpTo(size));
+        }
+    },
+    GENERATOR {
+        @Override public Iterable<Integer> create(int size) {
+            return new IntegerRange(0, size);
+        }
+    };
+
+    public abstract Iterable<Integer> create(int size);
+
+    private static List<Integer> integersUpTo(int size) {
+        List<Integer> integers = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            integers.add(i);
+        }
+        return integers;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Functions.isEven;
+import static org.javafunk.funk.benchmarks.Functions.timesTwo;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+/**
+ * Measures the cost of fully iterating the {@code Lazily} counterparts of
+ * the operations in {@link EagerlyBenchmark} against equivalent hand-written
+ * loops. Every element yielded is consumed by a {@code Blackhole} so that
+ * nothing is materialised on either side of the comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LazilyBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "GENERATOR"})
+    public InputType inputType;
+
+    private Iterable<Integer> input;
+    private Iterable<Integer> productInput;
+    private int sliceStart;
+    private int sliceStop;
+    private int batchSize;
+
+    @Setup
+    public void setUp() {
+        input = inputType.create(size);
+        productInput = inputType.create((int) Math.sqrt(size));
+        sliceStart = size / 4;
+        sliceStop = size - size / 4;
+        batchSize = 100;
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        for (Integer element : Lazily.map(input, timesTwo)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void mapBaseline(Blackhole blackhole) {
+        for (Integer element : input) {
+            blackhole.consume(element * 2);
+        }
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        for (Integer element : Lazily.filter(input, isEven)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void filterBaseline(Blackhole blackhole) {
+        for (Integer element : input) {
+            if (element % 2 == 0) {
+                blackhole.consume(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void zip(Blackhole blackhole) {
+        for (Pair<Integer, Integer> element : Lazily.zip(input, input)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void zipBaseline(Blackhole blackhole) {
+        Iterator<Integer> first = input.iterator();
+        Iterator<Integer> second = input.iterator();
+        while (first.hasNext() && second.hasNext()) {
+            blackhole.consume(pair(first.next(), second.next()));
+        }
+    }
+
+    @Benchmark
+    public void cartesianProduct(Blackhole blackhole) {
+        for (Pair<Integer, Integer> element : Lazily.cartesianProduct(productInput, productInput)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void cartesianProductBaseline(Blackhole blackhole) {
+        for (Integer first : productInput) {
+            for (Integer second : productInput) {
+                blackhole.consume(pair(first, second));
+            }
+        }
+    }
+
+    @Benchmark
+    public void slice(Blackhole blackhole) {
+        for (Integer element : Lazily.slice(input, sliceStart, sliceStop, 1)) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void sliceBaseline(Blackhole blackhole) {
+        int index = 0;
+        for (Integer element : input) {
+            if (index >= sliceStop) {
+                break;
+            }
+            if (index >= sliceStart) {
+                blackhole.consume(element);
+            }
+            index++;
+        }
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        for (Iterable<Integer> batch : Lazily.batch(input, batchSize)) {
+            for (Integer element : batch) {
+                blackhole.consume(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public void batchBaseline(Blackhole blackhole) {
+        Iterator<Integer> iterator = input.iterator();
+        while (iterator.hasNext()) {
+            for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Parallelly;
+import org.javafunk.funk.functors.Mapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code Eagerly.map} against {@code Parallelly.map} using a mapper
+ * that does a configurable amount of CPU-bound work per element, to show the
+ * point at which the cost of forking is repaid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ParallellyBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "GENERATOR"})
+    public InputType inputType;
+
+    @Param({"1", "100"})
+    public int workPerElement;
+
+    private Iterable<Integer> input;
+    private Mapper<Integer, Long> work;
+
+    @Setup
+    public void setUp() {
+        input = inputType.create(size);
+        work = new Mapper<Integer, Long>() {
+            @Override public Long map(Integer input) {
+                long result = input;
+                for (int i = 0; i < workPerElement; i++) {
+                    result = result * 6364136223846793005L + 1442695040888963407L;
+                }
+                return result;
+            }
+        };
+    }
+
+    @Benchmark
+    public Collection<Long> sequentialMap() {
+        return Eagerly.map(input, work);
+    }
+
+    @Benchmark
+    public Collection<Long> parallelMap() {
+        return Parallelly.map(input, work);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.Pipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Functions.isEven;
+import static org.javafunk.funk.benchmarks.Functions.timesTwo;
+
+/**
+ * Compares a chain of {@code Lazily} operations materialised by
+ * {@code Eagerly} against the same chain expressed as a fused
+ * {@link Pipeline}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PipelineBenchmark {
+    @Param({"100", "1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "GENERATOR"})
+    public InputType inputType;
+
+    private Iterable<Integer> input;
+    private int numberToDrop;
+    private int numberToTake;
+    private Pipeline<Integer, Integer> pipeline;
+
+    @Setup
+    public void setUp() {
+        input = inputType.create(size);
+        numberToDrop = size / 10;
+        numberToTake = size / 4;
+        pipeline = Pipeline.pipeline(Integer.class)
+                .map(timesTwo)
+                .drop(numberToDrop)
+                .filter(isEven)
+                .map(timesTwo)
+                .take(numberToTake);
+    }
+
+    @Benchmark
+    public Collection<Integer> chained() {
+        return Eagerly.take(Lazily.map(Lazily.filter(Lazily.drop(Lazily.map(input, timesTwo), numberToDrop), isEven), timesTwo), numberToTake);
+    }
+
+    @Benchmark
+    public Collection<Integer> fused() {
+        return pipeline.eagerly(input);
+    }
+}
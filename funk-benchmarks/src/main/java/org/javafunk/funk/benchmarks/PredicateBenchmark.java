@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Predicates;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.predicates.AndPredicate;
+import org.javafunk.funk.predicates.OrPredicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating a composition of {@code AndPredicate},
+ * {@code OrPredicate} and {@code NotPredicate} instances directly against
+ * evaluating its compiled form, with and without adaptive reordering, over
+ * a stream of integers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PredicateBenchmark {
+    @Param({"30"})
+    public int terms;
+
+    private UnaryPredicate<Integer> composed;
+    private UnaryPredicate<Integer> compiled;
+    private UnaryPredicate<Integer> adaptive;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        List<UnaryPredicate<? super Integer>> conjuncts = new ArrayList<UnaryPredicate<? super Integer>>();
+        for (int i = 0; i < terms; i++) {
+            List<UnaryPredicate<? super Integer>> disjuncts = new ArrayList<UnaryPredicate<? super Integer>>();
+            disjuncts.add(Predicates.not(divisibleBy(i + 2)));
+            disjuncts.add(divisibleBy(2 * (i + 2)));
+            conjuncts.add(new OrPredicate<Integer>(disjuncts));
+        }
+        composed = new AndPredicate<Integer>(conjuncts);
+        compiled = Predicates.compile(composed);
+        adaptive = Predicates.compileAdaptively(composed);
+    }
+
+    @Benchmark
+    public boolean composed() {
+        return composed.evaluate(next++);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.evaluate(next++);
+    }
+
+    @Benchmark
+    public boolean adaptive() {
+        return adaptive.evaluate(next++);
+    }
+
+    private static UnaryPredicate<Integer> divisibleBy(final int divisor) {
+        return new UnaryPredicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % divisor == 0;
+            }
+        };
+    }
+}
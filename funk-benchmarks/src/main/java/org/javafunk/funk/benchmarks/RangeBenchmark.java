@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.datastructures.IntRange;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.functions.IntUnaryFunction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scanning and membership testing over the boxed
+ * {@code IntegerRange} against the primitive {@code IntRange}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RangeBenchmark {
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private IntegerRange boxedRange;
+    private IntRange primitiveRange;
+    private IntUnaryFunction timesTwo;
+
+    @Setup
+    public void setUp() {
+        boxedRange = new IntegerRange(0, size);
+        primitiveRange = new IntRange(0, size);
+        timesTwo = new IntUnaryFunction() {
+            @Override public int call(int value) {
+                return value * 2;
+            }
+        };
+    }
+
+    @Benchmark
+    public long boxedScan() {
+        long sum = 0;
+        for (Integer value : boxedRange) {
+            sum += value * 2;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveScan() {
+        return primitiveRange.map(timesTwo).sum();
+    }
+
+    @Benchmark
+    public boolean boxedContains() {
+        return boxedRange.contains(size - 1);
+    }
+
+    @Benchmark
+    public boolean primitiveContains() {
+        return primitiveRange.contains(size - 1);
+    }
+}
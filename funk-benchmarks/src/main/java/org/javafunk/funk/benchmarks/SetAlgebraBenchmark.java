@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import org.javafunk.funk.Multisets;
+import org.javafunk.funk.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Literals.collectionFrom;
+
+/**
+ * Compares the set and multiset algebra in {@link Sets} and
+ * {@link Multisets} against the implementations they replaced, which copied
+ * every operand before combining them. Operands are a large {@code Set}, a
+ * large {@code List} and a small {@code Set}, drawn from overlapping ranges
+ * of integers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SetAlgebraBenchmark {
+    @Param({"100000"})
+    public int size;
+
+    private List<Iterable<Integer>> operands;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Set<Integer> large = new HashSet<Integer>();
+        List<Integer> list = new ArrayList<Integer>();
+        Set<Integer> small = new HashSet<Integer>();
+        for (int i = 0; i < size; i++) {
+            large.add(random.nextInt(2 * size));
+            list.add(random.nextInt(2 * size));
+        }
+        for (int i = 0; i < size / 100; i++) {
+            small.add(random.nextInt(2 * size));
+        }
+        operands = new ArrayList<Iterable<Integer>>();
+        operands.add(large);
+        operands.add(list);
+        operands.add(small);
+    }
+
+    @Benchmark
+    public Set<Integer> intersection() {
+        return Sets.intersection(operands);
+    }
+
+    @Benchmark
+    public Set<Integer> intersectionBaseline() {
+        return Baseline.intersection(operands);
+    }
+
+    @Benchmark
+    public int intersectionView() {
+        List<Set<Integer>> sets = new ArrayList<Set<Integer>>();
+        sets.add((Set<Integer>) operands.get(0));
+        sets.add((Set<Integer>) operands.get(2));
+        return Sets.intersectionView(sets).size();
+    }
+
+    @Benchmark
+    public Set<Integer> difference() {
+        return Sets.difference(operands);
+    }
+
+    @Benchmark
+    public Set<Integer> differenceBaseline() {
+        return Baseline.difference(operands);
+    }
+
+    @Benchmark
+    public Set<Integer> symmetricDifference() {
+        return Sets.symmetricDifference(operands);
+    }
+
+    @Benchmark
+    public Set<Integer> symmetricDifferenceBaseline() {
+        return Baseline.symmetricDifference(operands);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetIntersection() {
+        return Multisets.intersection(operands);
+    }
+
+    @Benchmark
+    public int multisetIntersectionBaseline() {
+        return Baseline.multisetIntersection(operands).size();
+    }
+
+    private static class Baseline {
+        static <T> Set<T> union(Iterable<? extends Iterable<? extends T>> iterables) {
+            Set<T> unionSet = new HashSet<T>();
+            for (Iterable<? extends T> iterable : iterables) {
+                unionSet.addAll(collectionFrom(iterable));
+            }
+            return unionSet;
+        }
+
+        static <T> Set<T> intersection(List<? extends Iterable<? extends T>> iterables) {
+            Set<T> intersectionSet = new HashSet<T>(collectionFrom(iterables.get(0)));
+            for (Iterable<? extends T> iterable : iterables.subList(1, iterables.size())) {
+                intersectionSet.retainAll(collectionFrom(iterable));
+            }
+            return intersectionSet;
+        }
+
+        static <T> Set<T> difference(List<? extends Iterable<? extends T>> iterables) {
+            Set<T> differenceSet = new HashSet<T>(collectionFrom(iterables.get(0)));
+            differenceSet.removeAll(union(iterables.subList(1, iterables.size())));
+            return differenceSet;
+        }
+
+        static <T> Set<T> symmetricDifference(Iterable<? extends Iterable<? extends T>> iterables) {
+            Multiset<T> unionMultiset = Multisets.concatenate(iterables);
+            Set<T> symmetricDifferenceSet = new HashSet<T>();
+            for (T element : unionMultiset) {
+                if (unionMultiset.count(element) % 2 == 1) {
+                    symmetricDifferenceSet.add(element);
+                }
+            }
+            return symmetricDifferenceSet;
+        }
+
+        static <T> Multiset<T> multisetIntersection(List<? extends Iterable<? extends T>> iterables) {
+            Multiset<T> intersectionMultiset = HashMultiset.create(iterables.get(0));
+            for (Iterable<? extends T> iterable : iterables.subList(1, iterables.size())) {
+                intersectionMultiset = com.google.common.collect.Multisets.intersection(
+                        intersectionMultiset, HashMultiset.create(iterable));
+            }
+            return intersectionMultiset;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Eagerly#topK(Iterable, int)} and its {@code int[]} variant
+ * against sorting all of the scores to take the greatest fifty, as a
+ * leaderboard would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TopKBenchmark {
+    private static final int k = 50;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private List<Integer> scores;
+    private int[] primitiveScores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        scores = new ArrayList<Integer>(size);
+        primitiveScores = new int[size];
+        for (int i = 0; i < size; i++) {
+            primitiveScores[i] = random.nextInt();
+            scores.add(primitiveScores[i]);
+        }
+    }
+
+    @Benchmark
+    public Collection<Integer> topK() {
+        return Eagerly.topK(scores, k);
+    }
+
+    @Benchmark
+    public int[] topKInts() {
+        return Eagerly.topK(primitiveScores, k);
+    }
+
+    @Benchmark
+    public double median() {
+        return Eagerly.median(primitiveScores);
+    }
+
+    @Benchmark
+    public List<Integer> sortBaseline() {
+        List<Integer> sorted = new ArrayList<Integer>(scores);
+        Collections.sort(sorted, Collections.reverseOrder());
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+}
@@ -8,8 +8,11 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.datastructures.IntegerRange;
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.behaviours.CloseableIterable;
 import org.javafunk.funk.datastructures.tuples.*;
+import org.javafunk.funk.external.ExternalGrouper;
+import org.javafunk.funk.external.Serializer;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.Reducer;
 import org.javafunk.funk.functors.functions.BinaryFunction;
@@ -124,6 +127,357 @@ public class Eagerly {
         }), noSuchElementFactory("Minimum value is undefined if all values in the supplied Iterable are null."));
     }
 
+    /**
+     * Returns both the minimum and the maximum of the elements in the supplied
+     * {@code Iterable}, as determined by the supplied {@code Comparator}, as a
+     * {@code Pair} of the minimum and the maximum. Unlike calling
+     * {@link #min(Iterable, Comparator)} and {@link #max(Iterable, Comparator)}
+     * in turn, the {@code Iterable} is iterated only once, and elements are
+     * compared in pairs so that around three comparisons are made for every
+     * two elements rather than four.
+     *
+     * @param iterable   The {@code Iterable} for which to find the minimum and maximum.
+     * @param comparator The {@code Comparator} by which to order the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} of the minimum and the maximum element.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> Pair<T, T> minMax(Iterable<T> iterable, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        return minMax(iterable.iterator(), comparator);
+    }
+
+    private static <T> Pair<T, T> minMax(Iterator<T> iterator, Comparator<? super T> comparator) {
+        T min = iterator.next();
+        T max = min;
+        while (iterator.hasNext()) {
+            T first = iterator.next();
+            if (!iterator.hasNext()) {
+                if (comparator.compare(first, min) < 0) {
+                    min = first;
+                } else if (comparator.compare(first, max) > 0) {
+                    max = first;
+                }
+                break;
+            }
+            T second = iterator.next();
+            T smaller = first;
+            T larger = second;
+            if (comparator.compare(second, first) < 0) {
+                smaller = second;
+                larger = first;
+            }
+            if (comparator.compare(smaller, min) < 0) {
+                min = smaller;
+            }
+            if (comparator.compare(larger, max) > 0) {
+                max = larger;
+            }
+        }
+        return tuple(min, max);
+    }
+
+    /**
+     * Returns both the minimum and the maximum of the elements in the supplied
+     * {@code Iterable} in their natural order in a single pass, as for
+     * {@link #minMax(Iterable, Comparator)}. As for {@link #min(Iterable)} and
+     * {@link #max(Iterable)}, {@code null} elements are ignored.
+     *
+     * @param iterable The {@code Iterable} for which to find the minimum and maximum.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} of the minimum and the maximum element.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty or all
+     *                                of its elements are {@code null}.
+     */
+    public static <T extends Comparable<T>> Pair<T, T> minMax(Iterable<T> iterable) {
+        Iterator<T> nonNullElements = Lazily.filter(checkNotNull(iterable), Objects.whereNotNull()).iterator();
+        if (!nonNullElements.hasNext()) {
+            throw new NoSuchElementException(
+                    "Minimum and maximum values are undefined if all values in the supplied Iterable are null.");
+        }
+        return minMax(nonNullElements, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the greatest {@code k} elements in the supplied {@code Iterable}, as
+     * determined by the supplied {@code Comparator}, from greatest to least. If the
+     * {@code Iterable} has fewer than {@code k} elements, all of them are returned.
+     *
+     * <p>The {@code Iterable} is iterated once, retaining no more than {@code 2k}
+     * candidate elements at a time rather than sorting all of them, so that
+     * finding, say, the top ten of a million elements takes linear time and
+     * constant memory.</p>
+     *
+     * @param iterable The {@code Iterable} from which to take the greatest elements.
+     * @param k        The number of elements required.
+     * @param comparator The {@code Comparator} by which to order the elements.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Collection} of at most {@code k} elements, from greatest to least.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    public static <T> Collection<T> topK(Iterable<T> iterable, int k, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        checkRequiredCount(k);
+        return Ordering.from(comparator).greatestOf(iterable, k);
+    }
+
+    /**
+     * Returns the greatest {@code k} elements in the supplied {@code Iterable} in
+     * their natural order, as for {@link #topK(Iterable, int, Comparator)}. As for
+     * {@link #max(Iterable)}, {@code null} elements are ignored.
+     */
+    public static <T extends Comparable<T>> Collection<T> topK(Iterable<T> iterable, int k) {
+        return topK(Lazily.filter(checkNotNull(iterable), Objects.whereNotNull()), k, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the least {@code k} elements in the supplied {@code Iterable}, as
+     * determined by the supplied {@code Comparator}, from least to greatest. If the
+     * {@code Iterable} has fewer than {@code k} elements, all of them are returned.
+     * The {@code Iterable} is iterated once as for
+     * {@link #topK(Iterable, int, Comparator)}.
+     *
+     * @param iterable The {@code Iterable} from which to take the least elements.
+     * @param k        The number of elements required.
+     * @param comparator The {@code Comparator} by which to order the elements.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Collection} of at most {@code k} elements, from least to greatest.
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    public static <T> Collection<T> bottomK(Iterable<T> iterable, int k, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        checkRequiredCount(k);
+        return Ordering.from(comparator).leastOf(iterable, k);
+    }
+
+    /**
+     * Returns the least {@code k} elements in the supplied {@code Iterable} in
+     * their natural order, as for {@link #bottomK(Iterable, int, Comparator)}. As
+     * for {@link #min(Iterable)}, {@code null} elements are ignored.
+     */
+    public static <T extends Comparable<T>> Collection<T> bottomK(Iterable<T> iterable, int k) {
+        return bottomK(Lazily.filter(checkNotNull(iterable), Objects.whereNotNull()), k, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the {@code k}th largest element in the supplied {@code Iterable}, as
+     * determined by the supplied {@code Comparator}, such that the first largest
+     * element is the maximum. If the {@code Iterable} has fewer than {@code k}
+     * elements, {@code None} is returned.
+     *
+     * @param iterable   The {@code Iterable} from which to take the element.
+     * @param k          The rank of the required element, starting at one.
+     * @param comparator The {@code Comparator} by which to order the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Option} over the {@code k}th largest element.
+     * @throws IllegalArgumentException if {@code k} is less than one.
+     */
+    public static <T> Option<T> kthLargest(Iterable<T> iterable, int k, Comparator<? super T> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Rank must be greater than zero.");
+        }
+        List<T> largest = Ordering.from(checkNotNull(comparator)).greatestOf(checkNotNull(iterable), k);
+        return largest.size() == k ? Option.some(largest.get(k - 1)) : Option.<T>none();
+    }
+
+    /**
+     * Returns the {@code k}th largest element in the supplied {@code Iterable} in
+     * its natural order, as for {@link #kthLargest(Iterable, int, Comparator)}.
+     * {@code null} elements are ignored.
+     */
+    public static <T extends Comparable<T>> Option<T> kthLargest(Iterable<T> iterable, int k) {
+        return kthLargest(Lazily.filter(checkNotNull(iterable), Objects.whereNotNull()), k, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the median of the elements in the supplied {@code Iterable}, as
+     * determined by the supplied {@code Comparator}. If the {@code Iterable} has an
+     * even number of elements, the lower of the two middle elements is returned.
+     * If the {@code Iterable} is empty, {@code None} is returned.
+     *
+     * <p>The elements are copied once and the median is selected from the copy in
+     * expected linear time, without sorting it.</p>
+     *
+     * @param iterable   The {@code Iterable} for which to find the median.
+     * @param comparator The {@code Comparator} by which to order the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Option} over the median element.
+     */
+    public static <T> Option<T> median(Iterable<T> iterable, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        T[] elements = toArray(iterable);
+        if (elements.length == 0) {
+            return Option.none();
+        }
+        return Option.some(OrderStatistics.selectInPlace(elements, (elements.length - 1) / 2, comparator));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(Iterable<T> iterable) {
+        if (iterable instanceof Collection) {
+            return (T[]) ((Collection<T>) iterable).toArray();
+        }
+        List<T> elements = new ArrayList<T>();
+        for (T element : iterable) {
+            elements.add(element);
+        }
+        return (T[]) elements.toArray();
+    }
+
+    /**
+     * Returns the median of the elements in the supplied {@code Iterable} in their
+     * natural order, as for {@link #median(Iterable, Comparator)}. {@code null}
+     * elements are ignored.
+     */
+    public static <T extends Comparable<T>> Option<T> median(Iterable<T> iterable) {
+        return median(Lazily.filter(checkNotNull(iterable), Objects.whereNotNull()), Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the greatest {@code k} of the supplied {@code int} values, from
+     * greatest to least, as for {@link #topK(Iterable, int, Comparator)} but
+     * without boxing. The values are scanned once against a heap of {@code k}
+     * values, so that each value smaller than all of those retained costs a
+     * single comparison. The supplied array is not modified.
+     *
+     * @throws IllegalArgumentException if {@code k} is negative.
+     */
+    public static int[] topK(int[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.greatest(values, k);
+    }
+
+    /**
+     * Returns the greatest {@code k} of the supplied {@code long} values, from
+     * greatest to least, as for {@link #topK(int[], int)}.
+     */
+    public static long[] topK(long[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.greatest(values, k);
+    }
+
+    /**
+     * Returns the greatest {@code k} of the supplied {@code double} values, from
+     * greatest to least, as for {@link #topK(int[], int)}. Values are ordered as
+     * by {@link Double#compare(double, double)}, so that {@code NaN} is greater
+     * than any other value.
+     */
+    public static double[] topK(double[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.greatest(values, k);
+    }
+
+    /**
+     * Returns the least {@code k} of the supplied {@code int} values, from least
+     * to greatest, as for {@link #topK(int[], int)}.
+     */
+    public static int[] bottomK(int[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.least(values, k);
+    }
+
+    /**
+     * Returns the least {@code k} of the supplied {@code long} values, from least
+     * to greatest, as for {@link #topK(int[], int)}.
+     */
+    public static long[] bottomK(long[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.least(values, k);
+    }
+
+    /**
+     * Returns the least {@code k} of the supplied {@code double} values, from least
+     * to greatest, as for {@link #topK(double[], int)}.
+     */
+    public static double[] bottomK(double[] values, int k) {
+        checkNotNull(values);
+        checkRequiredCount(k);
+        return OrderStatistics.least(values, k);
+    }
+
+    /**
+     * Returns the {@code k}th largest of the supplied {@code int} values, such that
+     * the first largest is the maximum. The value is selected from a copy of the
+     * array in expected linear time; the supplied array is not modified.
+     *
+     * @throws IllegalArgumentException if {@code k} is less than one or greater than
+     *                                  the number of values.
+     */
+    public static int kthLargest(int[] values, int k) {
+        checkRank(values.length, k);
+        return OrderStatistics.select(values, values.length - k);
+    }
+
+    /**
+     * Returns the {@code k}th largest of the supplied {@code long} values, as for
+     * {@link #kthLargest(int[], int)}.
+     */
+    public static long kthLargest(long[] values, int k) {
+        checkRank(values.length, k);
+        return OrderStatistics.select(values, values.length - k);
+    }
+
+    /**
+     * Returns the {@code k}th largest of the supplied {@code double} values, as for
+     * {@link #kthLargest(int[], int)}, ordered as for {@link #topK(double[], int)}.
+     */
+    public static double kthLargest(double[] values, int k) {
+        checkRank(values.length, k);
+        return OrderStatistics.select(values, values.length - k);
+    }
+
+    /**
+     * Returns the median of the supplied {@code int} values. If there is an even
+     * number of values, the mean of the two middle values is returned. The median
+     * is selected from a copy of the array in expected linear time; the supplied
+     * array is not modified.
+     *
+     * @throws NoSuchElementException if the supplied array is empty.
+     */
+    public static double median(int... values) {
+        return OrderStatistics.median(checkNotNull(values));
+    }
+
+    /**
+     * Returns the median of the supplied {@code long} values, as for
+     * {@link #median(int...)}.
+     */
+    public static double median(long... values) {
+        return OrderStatistics.median(checkNotNull(values));
+    }
+
+    /**
+     * Returns the median of the supplied {@code double} values, as for
+     * {@link #median(int...)}, ordered as for {@link #topK(double[], int)}.
+     */
+    public static double median(double... values) {
+        return OrderStatistics.median(checkNotNull(values));
+    }
+
+    private static void checkRequiredCount(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of elements required cannot be negative");
+        }
+    }
+
+    private static void checkRank(int size, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("Rank must be greater than zero.");
+        }
+        if (k > size) {
+            throw new IllegalArgumentException("Rank must not be greater than the number of values.");
+        }
+    }
+
     /**
      * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
      * of elements of type {@code T} using the supplied {@code UnaryFunction}. The
@@ -1376,6 +1730,66 @@ public class Eagerly {
         return groupedElements;
     }
 
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the key returned
+     * for each element by the supplied indexing function, holding at most
+     * {@code memoryBudget} bytes of serialised elements in memory at a time.
+     *
+     * <p>Elements are serialised using the supplied {@code Serializer} as they
+     * are consumed. Whenever the buffered elements reach the memory budget,
+     * they are sorted by key and written to a temporary file, and once the
+     * supplied {@code Iterable} is exhausted, the sorted runs are merged
+     * lazily as the returned {@code Iterable} is iterated. The groups are
+     * yielded in ascending order of their keys as determined by the supplied
+     * {@code Comparator}, with the elements in each group in the order in
+     * which they were yielded from the supplied {@code Iterable}.</p>
+     *
+     * <p>Whilst the input is consumed eagerly, the elements of each group are
+     * streamed from disk as the group is iterated, and each group can only be
+     * iterated until the next group is requested. The returned
+     * {@code Iterable} can only be iterated once, and should be closed if
+     * iteration is abandoned part way through so that its temporary files
+     * are deleted. See {@link ExternalGrouper} for further details.</p>
+     *
+     * @param iterable     The {@code Iterable} whose elements should be grouped.
+     * @param indexer      A {@code UnaryFunction} returning the key for each element.
+     * @param comparator   The {@code Comparator} determining the order of the keys.
+     * @param serializer   A {@code Serializer} with which to write and read the
+     *                     elements of the supplied {@code Iterable}.
+     * @param memoryBudget The maximum number of bytes of serialised elements to
+     *                     buffer in memory before spilling them to disk.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the keys returned by the indexing function.
+     * @return A {@code CloseableIterable} of {@code Pair} instances, each
+     *         holding a key and the elements with that key.
+     * @throws IllegalArgumentException if the supplied memory budget is not
+     *                                  greater than zero.
+     */
+    public static <S, K> CloseableIterable<Pair<K, Iterable<S>>> group(
+            Iterable<? extends S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            Comparator<? super K> comparator,
+            Serializer<S> serializer,
+            long memoryBudget) {
+        return new ExternalGrouper<S, K>(indexer, comparator, serializer, memoryBudget).group(iterable);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the key returned
+     * for each element by the supplied indexing function, holding at most
+     * {@code memoryBudget} bytes of serialised elements in memory at a time.
+     * The groups are yielded in the natural order of their keys.
+     *
+     * @see #group(Iterable, UnaryFunction, Comparator, Serializer, long)
+     */
+    public static <S, K extends Comparable<? super K>> CloseableIterable<Pair<K, Iterable<S>>> group(
+            Iterable<? extends S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            Serializer<S> serializer,
+            long memoryBudget) {
+        return group(iterable, indexer, Ordering.<K>natural(), serializer, memoryBudget);
+    }
+
     /**
      * Applies the supplied {@code UnaryProcedure} to each element in the
      * supplied {@code Iterable}. Each element in the supplied {@code Iterable} is
@@ -2255,7 +2669,7 @@ public class Eagerly {
      *         {@code Iterable}.
      */
     public static <T> Option<T> last(Iterable<? extends T> iterable) {
-        return first(slice(iterable, -1, null));
+        return nthLast(iterable, 1, null);
     }
 
     /**
@@ -2304,7 +2718,7 @@ public class Eagerly {
      *         supplied {@code Iterable}.
      */
     public static <T> Option<T> secondLast(Iterable<T> iterable) {
-        return first(slice(iterable, -2, -1));
+        return nthLast(iterable, 2, null);
     }
 
     /**
@@ -2353,7 +2767,7 @@ public class Eagerly {
      *         supplied {@code Iterable}.
      */
     public static <T> Option<T> thirdLast(Iterable<T> iterable) {
-            return first(slice(iterable, -3, -2));
+        return nthLast(iterable, 3, null);
     }
 
     /**
@@ -2433,7 +2847,7 @@ public class Eagerly {
     public static <T> Option<T> lastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return last(filter(iterable, predicate));
+        return nthLast(iterable, 1, checkNotNull(predicate));
     }
 
     /**
@@ -2514,7 +2928,7 @@ public class Eagerly {
     public static <T> Option<T> secondLastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return secondLast(filter(iterable, predicate));
+        return nthLast(iterable, 2, checkNotNull(predicate));
     }
 
     /**
@@ -2595,7 +3009,7 @@ public class Eagerly {
     public static <T> Option<T> thirdLastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return thirdLast(filter(iterable, predicate));
+        return nthLast(iterable, 3, checkNotNull(predicate));
     }
 
     /**
@@ -2664,7 +3078,7 @@ public class Eagerly {
         if (numberOfElementsRequired == 0) {
             return emptyList();
         }
-        return slice(iterable, -numberOfElementsRequired, null);
+        return lastElements(iterable, numberOfElementsRequired, null);
     }
 
     /**
@@ -2747,7 +3161,15 @@ public class Eagerly {
             Iterable<T> iterable,
             int numberOfElementsRequired,
             UnaryPredicate<? super T> predicate) {
-        return lastN(filter(iterable, predicate), numberOfElementsRequired);
+        checkNotNull(predicate);
+        if (numberOfElementsRequired < 0) {
+            throw new IllegalArgumentException(
+                    "Number of elements required cannot be negative");
+        }
+        if (numberOfElementsRequired == 0) {
+            return emptyList();
+        }
+        return lastElements(iterable, numberOfElementsRequired, predicate);
     }
 
     /**
@@ -2806,6 +3228,11 @@ public class Eagerly {
      *         {@code Iterable}.
      */
     public static <T> Collection<T> nthRest(final Iterable<T> iterable, final Integer start) {
+        if (iterable instanceof Collection && (start == null || start >= 0)) {
+            Collection<T> collection = (Collection<T>) iterable;
+            int size = collection.size();
+            return subSequence(collection, start == null ? 0 : Math.min(start, size), size);
+        }
         return materialize(Lazily.nthRest(iterable, start));
     }
 
@@ -2870,6 +3297,10 @@ public class Eagerly {
      *                                  is negative.
      */
     public static <T> Collection<T> take(Iterable<T> iterable, int numberToTake) {
+        if (iterable instanceof Collection && numberToTake >= 0) {
+            Collection<T> collection = (Collection<T>) iterable;
+            return subSequence(collection, 0, Math.min(numberToTake, collection.size()));
+        }
         return materialize(Lazily.take(iterable, numberToTake));
     }
 
@@ -3115,6 +3546,11 @@ public class Eagerly {
      *                                  is negative.
      */
     public static <T> Collection<T> drop(Iterable<T> iterable, int numberToDrop) {
+        if (iterable instanceof Collection && numberToDrop >= 0) {
+            Collection<T> collection = (Collection<T>) iterable;
+            int size = collection.size();
+            return subSequence(collection, Math.min(numberToDrop, size), size);
+        }
         return materialize(Lazily.drop(iterable, numberToDrop));
     }
 
@@ -3374,8 +3810,51 @@ public class Eagerly {
     public static <T> Pair<Collection<T>, Collection<T>> partition(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        Pair<Iterable<T>, Iterable<T>> partition = Lazily.partition(iterable, predicate);
-        return tuple(materialize(partition.getFirst()), materialize(partition.getSecond()));
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        if (iterable instanceof Collection) {
+            return partition((Collection<T>) iterable, predicate);
+        }
+        List<T> matching = new ArrayList<T>();
+        List<T> nonMatching = new ArrayList<T>();
+        for (T element : iterable) {
+            if (predicate.evaluate(element)) {
+                matching.add(element);
+            } else {
+                nonMatching.add(element);
+            }
+        }
+        return tuple(
+                (Collection<T>) Collections.unmodifiableList(matching),
+                (Collection<T>) Collections.unmodifiableList(nonMatching));
+    }
+
+    private static <T> Pair<Collection<T>, Collection<T>> partition(
+            Collection<T> collection,
+            UnaryPredicate<? super T> predicate) {
+        // Matching elements fill the array from the front and non-matching
+        // elements from the back, so that a single array of exactly the right
+        // size holds both sides.
+        Object[] elements = new Object[collection.size()];
+        int front = 0;
+        int back = elements.length;
+        for (T element : collection) {
+            if (predicate.evaluate(element)) {
+                elements[front++] = element;
+            } else {
+                elements[--back] = element;
+            }
+        }
+        for (int low = back, high = elements.length - 1; low < high; low++, high--) {
+            Object swap = elements[low];
+            elements[low] = elements[high];
+            elements[high] = swap;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> partitioned = (List<T>) java.util.Arrays.asList(elements);
+        return tuple(
+                (Collection<T>) Collections.unmodifiableList(partitioned.subList(0, front)),
+                (Collection<T>) Collections.unmodifiableList(partitioned.subList(back, elements.length)));
     }
 
     /**
@@ -3511,7 +3990,9 @@ public class Eagerly {
             Integer start,
             Integer stop,
             Integer step) {
-        List<? extends T> inputCollection = Iterables.asList(checkNotNull(iterable));
+        Collection<? extends T> inputCollection = checkNotNull(iterable) instanceof Collection ?
+                (Collection<? extends T>) iterable :
+                Iterables.asList(iterable);
 
         if (inputCollection.size() == 0) {
             return Collections.emptyList();
@@ -3521,11 +4002,18 @@ public class Eagerly {
         int stopIndex = SliceHelper.resolveStopIndex(stop, inputCollection.size());
         int stepSize = SliceHelper.resolveStepSize(step);
 
-        IntegerRange requiredElementIndices = new IntegerRange(startIndex, stopIndex, stepSize);
-        List<T> outputCollection = new ArrayList<T>();
+        int numberOfElements = SliceHelper.numberOfElements(startIndex, stopIndex, stepSize);
+        if (numberOfElements == 0) {
+            return new ArrayList<T>();
+        }
+
+        int lowestIndex = stepSize > 0 ? startIndex : startIndex + (numberOfElements - 1) * stepSize;
+        int highestIndex = stepSize > 0 ? startIndex + (numberOfElements - 1) * stepSize : startIndex;
+        List<? extends T> window = SliceHelper.window(inputCollection, lowestIndex, highestIndex + 1);
+        List<T> outputCollection = new ArrayList<T>(numberOfElements);
 
-        for (Integer elementIndex : requiredElementIndices) {
-            outputCollection.add(inputCollection.get(elementIndex));
+        for (int elementIndex = startIndex - lowestIndex, i = 0; i < numberOfElements; elementIndex += stepSize, i++) {
+            outputCollection.add(window.get(elementIndex));
         }
 
         return outputCollection;
@@ -4214,6 +4702,124 @@ public class Eagerly {
                 iterableWith(p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11on));
     }
 
+    private static <T> Collection<T> subSequence(Collection<T> collection, int from, int to) {
+        if (from >= to) {
+            return emptyList();
+        }
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            return Collections.unmodifiableList(new ArrayList<T>(((List<T>) collection).subList(from, to)));
+        }
+        return Collections.unmodifiableList(SliceHelper.window(collection, from, to));
+    }
+
+    private static <T> Option<T> nthLast(
+            Iterable<? extends T> iterable,
+            int n,
+            UnaryPredicate<? super T> predicate) {
+        List<T> elements = lastElements(iterable, n, predicate);
+        return elements.size() < n ? Option.<T>none() : Option.<T>some(elements.get(0));
+    }
+
+    /**
+     * Collects, in iteration order, at most the supplied number of elements
+     * from the end of the supplied {@code Iterable} that satisfy the supplied
+     * predicate, or all elements if it is {@code null}. A {@code List} or
+     * {@code Deque} is walked backwards from its end, stopping as soon as
+     * enough elements have been found; any other {@code Iterable} is walked
+     * forwards through a {@code RingBuffer} holding only the most recent
+     * matches, so that memory is bounded by the number of elements required
+     * rather than by the size of the input.
+     */
+    private static <T> List<T> lastElements(
+            Iterable<? extends T> iterable,
+            int count,
+            UnaryPredicate<? super T> predicate) {
+        checkNotNull(iterable);
+        Iterator<? extends T> reverseIterator = null;
+        int available = count;
+        if (iterable instanceof List) {
+            List<? extends T> list = (List<? extends T>) iterable;
+            final ListIterator<? extends T> listIterator = list.listIterator(list.size());
+            reverseIterator = new Iterator<T>() {
+                @Override public boolean hasNext() {
+                    return listIterator.hasPrevious();
+                }
+
+                @Override public T next() {
+                    return listIterator.previous();
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+            available = Math.min(count, list.size());
+        } else if (iterable instanceof Deque) {
+            reverseIterator = ((Deque<? extends T>) iterable).descendingIterator();
+            available = Math.min(count, ((Deque<?>) iterable).size());
+        }
+        if (reverseIterator != null) {
+            List<T> elements = new ArrayList<T>(available);
+            while (elements.size() < count && reverseIterator.hasNext()) {
+                T element = reverseIterator.next();
+                if (predicate == null || predicate.evaluate(element)) {
+                    elements.add(element);
+                }
+            }
+            Collections.reverse(elements);
+            return elements;
+        }
+        RingBuffer<T> buffer = new RingBuffer<T>(count);
+        for (T element : iterable) {
+            if (predicate == null || predicate.evaluate(element)) {
+                buffer.add(element);
+            }
+        }
+        return buffer.toList();
+    }
+
+    /**
+     * A fixed capacity buffer retaining the most recently added elements,
+     * overwriting the oldest once full. Storage is allocated as elements
+     * arrive, up to the capacity, so that a large capacity costs nothing for
+     * a short input.
+     */
+    private static class RingBuffer<T> {
+        private static final int initialSlots = 16;
+
+        private final int capacity;
+        private Object[] slots;
+        private int oldest = 0;
+        private int size = 0;
+
+        private RingBuffer(int capacity) {
+            this.capacity = capacity;
+            this.slots = new Object[Math.min(capacity, initialSlots)];
+        }
+
+        private void add(T element) {
+            if (size < capacity) {
+                if (size == slots.length) {
+                    slots = java.util.Arrays.copyOf(slots, (int) Math.min((long) slots.length * 2, capacity));
+                }
+                slots[size++] = element;
+            } else {
+                slots[oldest] = element;
+                oldest = oldest + 1 == capacity ? 0 : oldest + 1;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<T> toList() {
+            List<T> elements = new ArrayList<T>(size);
+            for (int i = 0; i < size; i++) {
+                int slot = oldest + i < size ? oldest + i : oldest + i - size;
+                elements.add((T) slots[slot]);
+            }
+            return elements;
+        }
+    }
+
     private static class SliceHelper {
         private static int resolveStartIndex(Integer start, Integer numberOfElements) {
             if (start == null || start + numberOfElements < 0) {
@@ -4239,6 +4845,33 @@ public class Eagerly {
             }
         }
 
+        private static int numberOfElements(int startIndex, int stopIndex, int stepSize) {
+            if (stepSize > 0) {
+                return startIndex < stopIndex ? (stopIndex - startIndex + stepSize - 1) / stepSize : 0;
+            } else {
+                return startIndex > stopIndex ? (startIndex - stopIndex - stepSize - 1) / -stepSize : 0;
+            }
+        }
+
+        private static <T> List<T> window(Collection<T> collection, int from, int to) {
+            if (collection instanceof List && collection instanceof RandomAccess) {
+                return ((List<T>) collection).subList(from, to);
+            }
+            Iterator<T> iterator = collection.iterator();
+            if (collection instanceof List) {
+                iterator = ((List<T>) collection).listIterator(from);
+            } else {
+                for (int i = 0; i < from; i++) {
+                    iterator.next();
+                }
+            }
+            List<T> window = new ArrayList<T>(to - from);
+            while (window.size() < to - from) {
+                window.add(iterator.next());
+            }
+            return window;
+        }
+
         private static int resolveStepSize(Integer step) {
             if (step == null) {
                 return 1;
@@ -8,11 +8,11 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.annotations.ToDo;
 import org.javafunk.funk.behaviours.Generatable;
 import org.javafunk.funk.behaviours.Generator;
 import org.javafunk.funk.generators.ConstantGenerator;
 import org.javafunk.funk.generators.FiniteGenerator;
+import org.javafunk.funk.iterators.ReplayBuffer;
 
 import java.util.Iterator;
 
@@ -27,13 +27,12 @@ public class Generators {
         return new FiniteGenerator<T>(iterable);
     }
 
-    @ToDo(raisedBy = "Toby",
-          date     = "2012-03-25",
-          message  = "This needs to tee rather than using the same instance in the same way that toIterable would")
-    public static <T> Generatable<T> toGeneratable(final Generator<T> generator) {
+    public static <T> Generatable<T> toGeneratable(Generator<T> generator) {
+        final ReplayBuffer<T> buffer = new ReplayBuffer<T>(generator);
+        buffer.releaseStart();
         return new Generatable<T>() {
             @Override public Iterator<T> iterator() {
-                return generator;
+                return buffer.tailIterator();
             }
         };
     }
@@ -10,10 +10,13 @@ package org.javafunk.funk;
 
 import com.google.common.collect.Multiset;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.javafunk.funk.Literals.*;
 
 public class Iterables {
@@ -36,7 +39,14 @@ public class Iterables {
     }
 
     public static <T> Collection<T> materialize(Iterable<? extends T> iterable) {
-        return collectionFrom(iterable);
+        if (checkNotNull(iterable) instanceof Collection) {
+            return Collections.unmodifiableList(new ArrayList<T>((Collection<? extends T>) iterable));
+        }
+        List<T> elements = new ArrayList<T>();
+        for (T element : iterable) {
+            elements.add(element);
+        }
+        return Collections.unmodifiableList(elements);
     }
 
     public static <T> Iterable<T> empty() {
@@ -8,6 +8,7 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.behaviours.CloseableIterable;
 import org.javafunk.funk.datastructures.tuples.*;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.functions.NullaryFunction;
@@ -18,10 +19,17 @@ import org.javafunk.funk.functors.procedures.UnaryProcedure;
 import org.javafunk.funk.iterators.*;
 import org.javafunk.funk.predicates.NotPredicate;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.newSetFromMap;
+import static java.util.Collections.synchronizedSet;
 import static org.javafunk.funk.Checks.returnOrThrowIfContainsNull;
 import static org.javafunk.funk.Eagerly.first;
 import static org.javafunk.funk.Iterables.concat;
@@ -178,6 +186,136 @@ public class Lazily {
         };
     }
 
+    /**
+     * Batches the elements of the supplied {@code Iterable} into {@code Iterable}
+     * instances of the specified size, as for {@link #batch(Iterable, int)}, while
+     * assembling upcoming batches on the supplied {@code Executor} so that the
+     * consumer does not wait on the supplied {@code Iterable} between batches.
+     *
+     * <p>Each time the returned {@code Iterable} is iterated, a task is submitted
+     * to the supplied {@code Executor} which iterates the supplied {@code Iterable}
+     * and fills batches ahead of the consumer. At most {@code maximumInFlight}
+     * completed batches are held waiting to be consumed, after which the task
+     * blocks until the consumer catches up. Any exception thrown while iterating
+     * the supplied {@code Iterable} is rethrown to the consumer after the batches
+     * completed before it.</p>
+     *
+     * <p>A task whose consumer stops iterating before the end remains blocked
+     * waiting for the consumer until it is cancelled. Closing the returned
+     * {@code CloseableIterable} cancels the tasks of every iteration still in
+     * progress, so a consumer that may stop early should iterate within a
+     * try-with-resources statement.</p>
+     *
+     * <p>For example, to write records to a database in batches of {@code 500}
+     * while the next two batches are being read:</p>
+     * <blockquote>
+     * <pre>
+     *     try (CloseableIterable&lt;Iterable&lt;Record&gt;&gt; batches = Lazily.batchAsync(records, 500, executor, 2)) {
+     *         for (Iterable&lt;Record&gt; batch : batches) {
+     *             database.insertAll(batch);
+     *         }
+     *     }
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable        The {@code Iterable} to batch into batches of the specified
+     *                        number of elements.
+     * @param batchSize       The number of elements required in each batch in the
+     *                        returned {@code Iterable}.
+     * @param executor        The {@code Executor} on which to assemble batches.
+     * @param maximumInFlight The maximum number of completed batches to hold
+     *                        waiting for the consumer.
+     * @param <T>             The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code CloseableIterable} instance of {@code Iterable} instances
+     *         each containing the required number of elements, bar the last which
+     *         may have less dependent on availability.
+     * @throws IllegalArgumentException if the batch size or maximum number of
+     *                                  batches in flight is not positive.
+     */
+    public static <T> CloseableIterable<Iterable<T>> batchAsync(
+            final Iterable<T> iterable,
+            final int batchSize,
+            final Executor executor,
+            final int maximumInFlight) {
+        checkNotNull(iterable);
+        checkNotNull(executor);
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than zero.");
+        if (maximumInFlight <= 0) throw new IllegalArgumentException("Maximum number of batches in flight must be greater than zero.");
+        return cancellable(new NullaryFunction<AsyncBatchedIterator<T>>() {
+            @Override public AsyncBatchedIterator<T> call() {
+                return new AsyncBatchedIterator<T>(iterable.iterator(), batchSize, executor, maximumInFlight);
+            }
+        });
+    }
+
+    /**
+     * Batches the elements of the supplied {@code Iterable} on the supplied
+     * {@code Executor} as for {@link #batchAsync(Iterable, int, Executor, int)},
+     * additionally yielding a partially filled batch once its first element has
+     * been waiting for the specified linger time, so that elements arriving
+     * slowly are not held back until a batch fills up. As for that method,
+     * closing the returned {@code CloseableIterable} cancels any iteration still
+     * in progress.
+     *
+     * @param iterable        The {@code Iterable} to batch into batches of the specified
+     *                        number of elements.
+     * @param batchSize       The maximum number of elements in each batch in the
+     *                        returned {@code Iterable}.
+     * @param executor        The {@code Executor} on which to assemble batches.
+     * @param maximumInFlight The maximum number of completed batches to hold
+     *                        waiting for the consumer.
+     * @param linger          The longest time to hold a partially filled batch
+     *                        back from a waiting consumer.
+     * @param unit            The unit of the supplied linger time.
+     * @param <T>             The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code CloseableIterable} instance of {@code Iterable} instances
+     *         each containing at most the required number of elements.
+     * @throws IllegalArgumentException if the batch size or maximum number of
+     *                                  batches in flight is not positive, or the
+     *                                  linger time is negative.
+     */
+    public static <T> CloseableIterable<Iterable<T>> batchAsync(
+            final Iterable<T> iterable,
+            final int batchSize,
+            final Executor executor,
+            final int maximumInFlight,
+            final long linger,
+            final TimeUnit unit) {
+        checkNotNull(iterable);
+        checkNotNull(executor);
+        checkNotNull(unit);
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than zero.");
+        if (maximumInFlight <= 0) throw new IllegalArgumentException("Maximum number of batches in flight must be greater than zero.");
+        if (linger < 0) throw new IllegalArgumentException("Linger time must not be negative.");
+        return cancellable(new NullaryFunction<AsyncBatchedIterator<T>>() {
+            @Override public AsyncBatchedIterator<T> call() {
+                return new AsyncBatchedIterator<T>(iterable.iterator(), batchSize, executor, maximumInFlight, linger, unit);
+            }
+        });
+    }
+
+    private static <T> CloseableIterable<Iterable<T>> cancellable(
+            final NullaryFunction<AsyncBatchedIterator<T>> factory) {
+        final Set<AsyncBatchedIterator<T>> started = synchronizedSet(
+                newSetFromMap(new WeakHashMap<AsyncBatchedIterator<T>, Boolean>()));
+        return new CloseableIterable<Iterable<T>>() {
+            @Override public Iterator<Iterable<T>> iterator() {
+                AsyncBatchedIterator<T> iterator = factory.call();
+                started.add(iterator);
+                return iterator;
+            }
+
+            @Override public void close() {
+                synchronized (started) {
+                    for (AsyncBatchedIterator<T> iterator : started) {
+                        iterator.cancel();
+                    }
+                    started.clear();
+                }
+            }
+        };
+    }
+
     /**
      * Returns an infinite lazy {@code Iterable} which repeatedly cycles through the
      * elements in the supplied {@code Iterable} in the order in which they are
@@ -1219,17 +1357,17 @@ public class Lazily {
      *         order in which they are yielded.
      */
     public static <T> Iterable<Boolean> equate(
-            Iterable<? extends T> first,
-            Iterable<? extends T> second,
+            final Iterable<? extends T> first,
+            final Iterable<? extends T> second,
             final BinaryPredicate<? super T, ? super T> predicate) {
         checkNotNull(predicate);
         checkNotNull(first);
         checkNotNull(second);
-        return map(zip(first, second), new Mapper<Pair<? extends T, ? extends T>, Boolean>() {
-            public Boolean map(Pair<? extends T, ? extends T> input) {
-                return predicate.evaluate(input.getFirst(), input.getSecond());
+        return new Iterable<Boolean>() {
+            @Override public Iterator<Boolean> iterator() {
+                return new EquatingIterator<T>(first.iterator(), second.iterator(), predicate);
             }
-        });
+        };
     }
 
     /**
@@ -1497,6 +1635,14 @@ public class Lazily {
      * applied to each element in the input {@code Iterable} until the returned
      * {@code Iterable} instances are iterated.</p>
      *
+     * <p>Both sides of the partition are produced from a single pass over the
+     * input {@code Iterable}, the {@code UnaryPredicate} being evaluated once
+     * for each element. Elements belonging to whichever side is lagging are
+     * buffered until that side is iterated, so iterating only one side of a
+     * large or infinite {@code Iterable} retains the elements of the other.
+     * Use {@link #partition(Iterable, UnaryPredicate, int)} to limit how many
+     * elements are buffered.</p>
+     *
      * <p>If no elements in the supplied {@code Iterable} satisfy the supplied
      * {@code UnaryPredicate}, the first slot in the returned {@code Pair}
      * will be occupied by an effectively empty {@code Iterable}. Similarly, if all
@@ -1553,7 +1699,142 @@ public class Lazily {
     public static <T> Pair<Iterable<T>, Iterable<T>> partition(Iterable<T> iterable, UnaryPredicate<? super T> predicate) {
         checkNotNull(predicate);
         checkNotNull(iterable);
-        return tuple(filter(iterable, predicate), reject(iterable, predicate));
+        return partition(new Partitioner<T>(iterable, predicate));
+    }
+
+    /**
+     * Lazily partitions the supplied {@code Iterable} into those elements that
+     * satisfy the supplied {@code UnaryPredicate} and those elements that do not,
+     * as for {@link #partition(Iterable, UnaryPredicate)}, buffering at most
+     * {@code bound} elements for whichever side of the partition is lagging.
+     *
+     * <p>Elements are only buffered for a side that is being iterated. When
+     * the lagging side's buffer is full, iteration of the leading side blocks
+     * until an element is taken from the lagging side. Sides whose iterators
+     * are both obtained before either is iterated share a single pass and must
+     * therefore be consumed concurrently from separate threads, otherwise
+     * iteration may block indefinitely. A side first iterated after
+     * the other has started makes its own pass over the supplied
+     * {@code Iterable}, so iterating the sides one after the other, or only
+     * one of them, never blocks.</p>
+     *
+     * @param iterable  An {@code Iterable} of elements to be partitioned based on
+     *                  whether or not they satisfy the supplied {@code UnaryPredicate}.
+     * @param predicate A {@code UnaryPredicate} to be used to evaluate which side of the
+     *                  partition each element in the supplied {@code Iterable} should
+     *                  reside.
+     * @param bound     The maximum number of elements to buffer for the lagging side.
+     * @param <T>       The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} instance which effectively contains those elements
+     *         from the supplied {@code Iterable} which satisfy the supplied
+     *         {@code UnaryPredicate} in the first slot and those elements from
+     *         the supplied {@code Iterable} which do not satisfy the supplied
+     *         {@code UnaryPredicate} in the second slot.
+     * @throws IllegalArgumentException if the supplied bound is not greater than zero.
+     */
+    public static <T> Pair<Iterable<T>, Iterable<T>> partition(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            int bound) {
+        checkNotNull(predicate);
+        checkNotNull(iterable);
+        return partition(new Partitioner<T>(iterable, predicate, bound));
+    }
+
+    private static <T> Pair<Iterable<T>, Iterable<T>> partition(final Partitioner<T> partitioner) {
+        Iterable<T> matching = new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return partitioner.matchingIterator();
+            }
+        };
+        Iterable<T> nonMatching = new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return partitioner.nonMatchingIterator();
+            }
+        };
+        return tuple(matching, nonMatching);
+    }
+
+    /**
+     * Lazily splits the supplied {@code Iterable} into the specified number of
+     * {@code Iterable} instances, each of which yields every element of the
+     * supplied {@code Iterable}, while iterating the supplied {@code Iterable}
+     * only once.
+     *
+     * <p>The returned {@code Iterable} instances may be consumed at different
+     * rates and concurrently from different threads. Elements are buffered
+     * only until every returned {@code Iterable} has been iterated past them,
+     * so the memory used is proportional to the distance between the leading
+     * and lagging consumers. Iterating any of the returned {@code Iterable}
+     * instances a second time starts a new pass over the supplied
+     * {@code Iterable}.</p>
+     *
+     * <p>For example, given an {@code Iterable} of {@code Record} instances read
+     * from an expensive source, we can write them to three sinks from three
+     * threads as follows:</p>
+     * <blockquote>
+     * <pre>
+     *     List&lt;Iterable&lt;Record&gt;&gt; branches = Lazily.tee(recordSource.readAll(), 3);
+     *     executor.submit(writeTask(archive, branches.get(0)));
+     *     executor.submit(writeTask(index, branches.get(1)));
+     *     executor.submit(writeTask(audit, branches.get(2)));
+     * </pre>
+     * </blockquote>
+     *
+     * @param iterable         The {@code Iterable} to split.
+     * @param numberOfBranches The number of {@code Iterable} instances required.
+     * @param <T>              The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of the required number of {@code Iterable} instances,
+     *         each yielding the elements of the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if the required number of branches is not
+     *                                  positive.
+     */
+    public static <T> List<Iterable<T>> tee(Iterable<T> iterable, int numberOfBranches) {
+        checkNotNull(iterable);
+        final Tee<T> tee = new Tee<T>(iterable, numberOfBranches);
+        List<Iterable<T>> branches = new ArrayList<Iterable<T>>(numberOfBranches);
+        for (int i = 0; i < numberOfBranches; i++) {
+            final int branch = i;
+            branches.add(new Iterable<T>() {
+                @Override public Iterator<T> iterator() {
+                    return tee.iterator(branch);
+                }
+            });
+        }
+        return branches;
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} that iterates the supplied {@code Iterable}
+     * at most once, remembering its elements so that every iteration of the
+     * returned {@code Iterable} yields the same elements without iterating the
+     * supplied {@code Iterable} again.
+     *
+     * <p>The supplied {@code Iterable} is not iterated until the returned
+     * {@code Iterable} is first iterated and is then only iterated as far as the
+     * furthest iteration of the returned {@code Iterable} has reached. Iterations
+     * of the returned {@code Iterable} may proceed concurrently on different
+     * threads. Since every element is retained for as long as the returned
+     * {@code Iterable} is referenced, {@link #tee(Iterable, int)} should be
+     * preferred when the number of consumers is known in advance.</p>
+     *
+     * @param iterable The {@code Iterable} whose elements should be remembered.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable}, iterating it only once.
+     */
+    public static <T> Iterable<T> memoized(final Iterable<T> iterable) {
+        checkNotNull(iterable);
+        return new Iterable<T>() {
+            private ReplayBuffer<T> buffer;
+
+            @Override public synchronized Iterator<T> iterator() {
+                if (buffer == null) {
+                    buffer = new ReplayBuffer<T>(iterable.iterator());
+                }
+                return buffer.iterator();
+            }
+        };
     }
 
     /**
@@ -1765,7 +2046,7 @@ public class Lazily {
             Iterable<R> first,
             Iterable<S> second) {
         return map(
-                cartesianProduct(iterableWith(first, second)),
+                cartesianProductOf(iterableWith(first, second)),
                 Mappers.<R, S>toPair());
     }
 
@@ -1818,7 +2099,7 @@ public class Lazily {
             Iterable<S> second,
             Iterable<T> third) {
         return map(
-                cartesianProduct(iterableWith(first, second, third)),
+                cartesianProductOf(iterableWith(first, second, third)),
                 Mappers.<R, S, T>toTriple());
     }
 
@@ -1874,7 +2155,7 @@ public class Lazily {
             Iterable<T> third,
             Iterable<U> fourth) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth)),
+                cartesianProductOf(iterableWith(first, second, third, fourth)),
                 Mappers.<R, S, T, U>toQuadruple());
     }
 
@@ -1933,7 +2214,7 @@ public class Lazily {
             Iterable<U> fourth,
             Iterable<V> fifth) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth)),
+                cartesianProductOf(iterableWith(first, second, third, fourth, fifth)),
                 Mappers.<R, S, T, U, V>toQuintuple());
     }
 
@@ -1995,7 +2276,7 @@ public class Lazily {
             Iterable<V> fifth,
             Iterable<W> sixth) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth)),
+                cartesianProductOf(iterableWith(first, second, third, fourth, fifth, sixth)),
                 Mappers.<R, S, T, U, V, W>toSextuple());
     }
 
@@ -2060,7 +2341,7 @@ public class Lazily {
             Iterable<W> sixth,
             Iterable<X> seventh) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh)),
+                cartesianProductOf(iterableWith(first, second, third, fourth, fifth, sixth, seventh)),
                 Mappers.<R, S, T, U, V, W, X>toSeptuple());
     }
 
@@ -2128,7 +2409,7 @@ public class Lazily {
             Iterable<X> seventh,
             Iterable<Y> eighth) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)),
+                cartesianProductOf(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)),
                 Mappers.<R, S, T, U, V, W, X, Y>toOctuple());
     }
 
@@ -2199,7 +2480,7 @@ public class Lazily {
             Iterable<Y> eighth,
             Iterable<Z> ninth) {
         return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)),
+                cartesianProductOf(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)),
                 Mappers.<R, S, T, U, V, W, X, Y, Z>toNonuple());
     }
 
@@ -2277,31 +2558,18 @@ public class Lazily {
      *         cartesian product of the supplied {@code Iterable} of {@code Iterable}s.
      */
     public static Iterable<? extends Iterable<?>> cartesianProduct(final Iterable<? extends Iterable<?>> iterables) {
-        checkNotNull(iterables);
-        returnOrThrowIfContainsNull(iterables);
-        return cartesianProduct(listFrom(iterables));
+        return cartesianProductOf(iterables);
     }
 
-    private static Iterable<? extends Iterable<?>> cartesianProduct(final List<? extends Iterable<?>> iterables) {
-        if (iterables.size() == 2) {
-            final Iterable<?> first = first(iterables).get();
-            final Iterable<?> second = first(rest(iterables)).get();
-            return concat(map(first, new Mapper<Object, Iterable<? extends Iterable<?>>>() {
-                public Iterable<? extends Iterable<?>> map(Object input) {
-                    return zip(cycle(iterableWith(input)), second);
-                }
-            }));
-        }
-
-        Iterable<? extends Pair<?, ? extends Iterable<?>>> pairs = cartesianProduct(
-                first(iterables).get(),
-                cartesianProduct(rest(iterables)));
-
-        return map(pairs, new Mapper<Pair<?, ? extends Iterable<?>>, Iterable<?>>() {
-            public Iterable<?> map(Pair<?, ? extends Iterable<?>> input) {
-                return iterableBuilderWith(input.getFirst()).and(input.getSecond()).build();
+    private static Iterable<List<Object>> cartesianProductOf(Iterable<? extends Iterable<?>> iterables) {
+        checkNotNull(iterables);
+        returnOrThrowIfContainsNull(iterables);
+        final List<? extends Iterable<?>> dimensions = listFrom(iterables);
+        return new Iterable<List<Object>>() {
+            public Iterator<List<Object>> iterator() {
+                return new CartesianProductIterator(dimensions);
             }
-        });
+        };
     }
 
     /**
@@ -2365,9 +2633,17 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S> Iterable<Pair<R, S>> zip(
-            Iterable<R> first,
-            Iterable<S> second) {
-        return map(zip(iterableWith(first, second)), Mappers.<R, S>toPair());
+            final Iterable<R> first,
+            final Iterable<S> second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        return new Iterable<Pair<R, S>>() {
+            @Override public Iterator<Pair<R, S>> iterator() {
+                return new ZippedPairIterator<R, S>(
+                        first.iterator(),
+                        second.iterator());
+            }
+        };
     }
 
     /**
@@ -2408,10 +2684,20 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T> Iterable<Triple<R, S, T>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third) {
-        return map(zip(iterableWith(first, second, third)), Mappers.<R, S, T>toTriple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        return new Iterable<Triple<R, S, T>>() {
+            @Override public Iterator<Triple<R, S, T>> iterator() {
+                return new ZippedTripleIterator<R, S, T>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator());
+            }
+        };
     }
 
     /**
@@ -2454,11 +2740,23 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U> Iterable<Quadruple<R, S, T, U>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth) {
-        return map(zip(iterableWith(first, second, third, fourth)), Mappers.<R, S, T, U>toQuadruple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        return new Iterable<Quadruple<R, S, T, U>>() {
+            @Override public Iterator<Quadruple<R, S, T, U>> iterator() {
+                return new ZippedQuadrupleIterator<R, S, T, U>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator());
+            }
+        };
     }
 
     /**
@@ -2503,12 +2801,26 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V> Iterable<Quintuple<R, S, T, U, V>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth)), Mappers.<R, S, T, U, V>toQuintuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        return new Iterable<Quintuple<R, S, T, U, V>>() {
+            @Override public Iterator<Quintuple<R, S, T, U, V>> iterator() {
+                return new ZippedQuintupleIterator<R, S, T, U, V>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator());
+            }
+        };
     }
 
     /**
@@ -2555,13 +2867,29 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W> Iterable<Sextuple<R, S, T, U, V, W>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth)), Mappers.<R, S, T, U, V, W>toSextuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        return new Iterable<Sextuple<R, S, T, U, V, W>>() {
+            @Override public Iterator<Sextuple<R, S, T, U, V, W>> iterator() {
+                return new ZippedSextupleIterator<R, S, T, U, V, W>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator());
+            }
+        };
     }
 
     /**
@@ -2610,14 +2938,32 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X> Iterable<Septuple<R, S, T, U, V, W, X>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh)), Mappers.<R, S, T, U, V, W, X>toSeptuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        return new Iterable<Septuple<R, S, T, U, V, W, X>>() {
+            @Override public Iterator<Septuple<R, S, T, U, V, W, X>> iterator() {
+                return new ZippedSeptupleIterator<R, S, T, U, V, W, X>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator());
+            }
+        };
     }
 
     /**
@@ -2668,15 +3014,35 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X, Y> Iterable<Octuple<R, S, T, U, V, W, X, Y>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh,
-            Iterable<Y> eighth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)), Mappers.<R, S, T, U, V, W, X, Y>toOctuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh,
+            final Iterable<Y> eighth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        checkNotNull(eighth);
+        return new Iterable<Octuple<R, S, T, U, V, W, X, Y>>() {
+            @Override public Iterator<Octuple<R, S, T, U, V, W, X, Y>> iterator() {
+                return new ZippedOctupleIterator<R, S, T, U, V, W, X, Y>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator(),
+                        eighth.iterator());
+            }
+        };
     }
 
     /**
@@ -2729,16 +3095,38 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X, Y, Z> Iterable<Nonuple<R, S, T, U, V, W, X, Y, Z>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh,
-            Iterable<Y> eighth,
-            Iterable<Z> ninth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)), Mappers.<R, S, T, U, V, W, X, Y, Z>toNonuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh,
+            final Iterable<Y> eighth,
+            final Iterable<Z> ninth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        checkNotNull(eighth);
+        checkNotNull(ninth);
+        return new Iterable<Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
+            @Override public Iterator<Nonuple<R, S, T, U, V, W, X, Y, Z>> iterator() {
+                return new ZippedNonupleIterator<R, S, T, U, V, W, X, Y, Z>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator(),
+                        eighth.iterator(),
+                        ninth.iterator());
+            }
+        };
     }
 
     /**
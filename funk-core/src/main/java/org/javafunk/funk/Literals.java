@@ -36,6 +36,7 @@ import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.javafunk.funk.Classes.uncheckedInstantiate;
+import static org.javafunk.funk.datastructures.CompactList.compactListWith;
 import static org.javafunk.funk.datastructures.tuples.Nonuple.nonuple;
 import static org.javafunk.funk.datastructures.tuples.Octuple.octuple;
 import static org.javafunk.funk.datastructures.tuples.Pair.pair;
@@ -189,7 +190,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied element.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e) {
-        return iterableFrom(asList(e));
+        return compactListWith(e);
     }
 
     /**
@@ -203,7 +204,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2) {
-        return iterableFrom(asList(e1, e2));
+        return compactListWith(e1, e2);
     }
 
     /**
@@ -218,7 +219,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3) {
-        return iterableFrom(asList(e1, e2, e3));
+        return compactListWith(e1, e2, e3);
     }
 
     /**
@@ -234,7 +235,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4) {
-        return iterableFrom(asList(e1, e2, e3, e4));
+        return compactListWith(e1, e2, e3, e4);
     }
 
     /**
@@ -251,7 +252,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5));
+        return compactListWith(e1, e2, e3, e4, e5);
     }
 
     /**
@@ -269,7 +270,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5, E e6) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5, e6));
+        return compactListWith(e1, e2, e3, e4, e5, e6);
     }
 
     /**
@@ -288,7 +289,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5, e6, e7));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7);
     }
 
     /**
@@ -308,7 +309,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5, e6, e7, e8));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8);
     }
 
     /**
@@ -329,7 +330,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5, e6, e7, e8, e9));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9);
     }
 
     /**
@@ -351,7 +352,7 @@ public class Literals {
      * @return An {@code Iterable} instance over type {@code E} containing the supplied elements.
      */
     @SuppressWarnings("unchecked") public static <E> Iterable<E> iterableWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-        return iterableFrom(asList(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
     }
 
     /**
@@ -1554,7 +1555,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied element.
      */
     public static <E> Collection<E> collectionWith(E e) {
-        return collectionFrom(iterableWith(e));
+        return compactListWith(e);
     }
 
     /**
@@ -1568,7 +1569,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2) {
-        return collectionFrom(iterableWith(e1, e2));
+        return compactListWith(e1, e2);
     }
 
     /**
@@ -1583,7 +1584,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3) {
-        return collectionFrom(iterableWith(e1, e2, e3));
+        return compactListWith(e1, e2, e3);
     }
 
     /**
@@ -1599,7 +1600,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4));
+        return compactListWith(e1, e2, e3, e4);
     }
 
     /**
@@ -1616,7 +1617,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5));
+        return compactListWith(e1, e2, e3, e4, e5);
     }
 
     /**
@@ -1634,7 +1635,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5, E e6) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5, e6));
+        return compactListWith(e1, e2, e3, e4, e5, e6);
     }
 
     /**
@@ -1653,7 +1654,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7);
     }
 
     /**
@@ -1673,7 +1674,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8);
     }
 
     /**
@@ -1694,7 +1695,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9);
     }
 
     /**
@@ -1716,7 +1717,7 @@ public class Literals {
      * @return A {@code Collection} instance over type {@code E} containing the supplied elements.
      */
     public static <E> Collection<E> collectionWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-        return collectionFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
     }
 
     /**
@@ -2233,7 +2234,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied element.
      */
     public static <E> List<E> listWith(E e) {
-        return listFrom(iterableWith(e));
+        return compactListWith(e);
     }
 
     /**
@@ -2247,7 +2248,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2) {
-        return listFrom(iterableWith(e1, e2));
+        return compactListWith(e1, e2);
     }
 
     /**
@@ -2262,7 +2263,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3) {
-        return listFrom(iterableWith(e1, e2, e3));
+        return compactListWith(e1, e2, e3);
     }
 
     /**
@@ -2278,7 +2279,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4) {
-        return listFrom(iterableWith(e1, e2, e3, e4));
+        return compactListWith(e1, e2, e3, e4);
     }
 
     /**
@@ -2295,7 +2296,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5));
+        return compactListWith(e1, e2, e3, e4, e5);
     }
 
     /**
@@ -2313,7 +2314,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5, E e6) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5, e6));
+        return compactListWith(e1, e2, e3, e4, e5, e6);
     }
 
     /**
@@ -2332,7 +2333,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7);
     }
 
     /**
@@ -2352,7 +2353,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8);
     }
 
     /**
@@ -2373,7 +2374,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9);
     }
 
     /**
@@ -2395,7 +2396,7 @@ public class Literals {
      * @return A {@code List} instance over type {@code E} containing the supplied elements.
      */
     public static <E> List<E> listWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-        return listFrom(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10));
+        return compactListWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
     }
 
     /**
@@ -20,10 +20,10 @@ import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.Iterator;
+import java.util.List;
 
-import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Lazily.rest;
 import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Literals.tuple;
 
 public class Mappers {
@@ -33,9 +33,10 @@ public class Mappers {
     public static <S, T> Mapper<? super Iterable<?>, Pair<S, T>> toPair() {
         return new Mapper<Iterable<?>, Pair<S, T>>() {
             public Pair<S, T> map(Iterable<?> input) {
+                List<?> elements = elementsOf(input);
                 return tuple(
-                        (S) first(input).get(),
-                        (T) first(rest(input)).get());
+                        (S) elements.get(0),
+                        (T) elements.get(1));
             }
         };
     }
@@ -44,10 +45,11 @@ public class Mappers {
     public static <S, T, V> Mapper<? super Iterable<?>, Triple<S, T, V>> toTriple() {
         return new Mapper<Iterable<?>, Triple<S, T, V>>() {
             public Triple<S, T, V> map(Iterable<?> input) {
+                List<?> elements = elementsOf(input);
                 return tuple(
-                        (S) first(input).get(),
-                        (T) first(rest(input)).get(),
-                        (V) first(rest(rest(input))).get());
+                        (S) elements.get(0),
+                        (T) elements.get(1),
+                        (V) elements.get(2));
             }
         };
     }
@@ -56,11 +58,12 @@ public class Mappers {
     public static <S, T, U, V> Mapper<? super Iterable<?>, Quadruple<S, T, U, V>> toQuadruple() {
         return new Mapper<Iterable<?>, Quadruple<S, T, U, V>>() {
             public Quadruple<S, T, U, V> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (S) first(iterable).get(),
-                        (T) first(rest(iterable)).get(),
-                        (U) first(rest(rest(iterable))).get(),
-                        (V) first(rest(rest(rest(iterable)))).get());
+                        (S) elements.get(0),
+                        (T) elements.get(1),
+                        (U) elements.get(2),
+                        (V) elements.get(3));
             }
         };
     }
@@ -69,12 +72,13 @@ public class Mappers {
     public static <R, S, T, U, V> Mapper<? super Iterable<?>, Quintuple<R, S, T, U, V>> toQuintuple() {
         return new Mapper<Iterable<?>, Quintuple<R, S, T, U, V>>() {
             @Override public Quintuple<R, S, T, U, V> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get());
+                        (R) elements.get(0),
+                        (S) elements.get(1),
+                        (T) elements.get(2),
+                        (U) elements.get(3),
+                        (V) elements.get(4));
             }
         };
     }
@@ -83,13 +87,14 @@ public class Mappers {
     public static <R, S, T, U, V, W> Mapper<? super Iterable<?>, Sextuple<R, S, T, U, V, W>> toSextuple() {
         return new Mapper<Iterable<?>, Sextuple<R, S, T, U, V, W>>() {
             @Override public Sextuple<R, S, T, U, V, W> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get());
+                        (R) elements.get(0),
+                        (S) elements.get(1),
+                        (T) elements.get(2),
+                        (U) elements.get(3),
+                        (V) elements.get(4),
+                        (W) elements.get(5));
             }
         };
     }
@@ -98,14 +103,15 @@ public class Mappers {
     public static <R, S, T, U, V, W, X> Mapper<? super Iterable<?>, Septuple<R, S, T, U, V, W, X>> toSeptuple() {
         return new Mapper<Iterable<?>, Septuple<R, S, T, U, V, W, X>>() {
             @Override public Septuple<R, S, T, U, V, W, X> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get());
+                        (R) elements.get(0),
+                        (S) elements.get(1),
+                        (T) elements.get(2),
+                        (U) elements.get(3),
+                        (V) elements.get(4),
+                        (W) elements.get(5),
+                        (X) elements.get(6));
             }
         };
     }
@@ -114,15 +120,16 @@ public class Mappers {
     public static <R, S, T, U, V, W, X, Y> Mapper<? super Iterable<?>, Octuple<R, S, T, U, V, W, X, Y>> toOctuple() {
         return new Mapper<Iterable<?>, Octuple<R, S, T, U, V, W, X, Y>>() {
             @Override public Octuple<R, S, T, U, V, W, X, Y> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get(),
-                        (Y) first(rest(rest(rest(rest(rest(rest(rest(iterable)))))))).get());
+                        (R) elements.get(0),
+                        (S) elements.get(1),
+                        (T) elements.get(2),
+                        (U) elements.get(3),
+                        (V) elements.get(4),
+                        (W) elements.get(5),
+                        (X) elements.get(6),
+                        (Y) elements.get(7));
             }
         };
     }
@@ -131,16 +138,17 @@ public class Mappers {
     public static <R, S, T, U, V, W, X, Y, Z> Mapper<? super Iterable<?>, Nonuple<R, S, T, U, V, W, X, Y, Z>> toNonuple() {
         return new Mapper<Iterable<?>, Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
             @Override public Nonuple<R, S, T, U, V, W, X, Y, Z> map(Iterable<?> iterable) {
+                List<?> elements = elementsOf(iterable);
                 return tuple(
-                        (R) first(iterable).get(),
-                        (S) first(rest(iterable)).get(),
-                        (T) first(rest(rest(iterable))).get(),
-                        (U) first(rest(rest(rest(iterable)))).get(),
-                        (V) first(rest(rest(rest(rest(iterable))))).get(),
-                        (W) first(rest(rest(rest(rest(rest(iterable)))))).get(),
-                        (X) first(rest(rest(rest(rest(rest(rest(iterable))))))).get(),
-                        (Y) first(rest(rest(rest(rest(rest(rest(rest(iterable)))))))).get(),
-                        (Z) first(rest(rest(rest(rest(rest(rest(rest(rest(iterable))))))))).get());
+                        (R) elements.get(0),
+                        (S) elements.get(1),
+                        (T) elements.get(2),
+                        (U) elements.get(3),
+                        (V) elements.get(4),
+                        (W) elements.get(5),
+                        (X) elements.get(6),
+                        (Y) elements.get(7),
+                        (Z) elements.get(8));
             }
         };
     }
@@ -152,4 +160,8 @@ public class Mappers {
             }
         };
     }
+
+    private static List<?> elementsOf(Iterable<?> iterable) {
+        return iterable instanceof List ? (List<?>) iterable : listFrom(iterable);
+    }
 }
@@ -10,11 +10,18 @@ package org.javafunk.funk;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
+import org.javafunk.funk.iterators.SortedMergeIterator;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.javafunk.funk.Eagerly.first;
 import static org.javafunk.funk.Eagerly.rest;
-import static org.javafunk.funk.Literals.collectionFrom;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
 
 public class Multisets {
     private Multisets() {}
@@ -22,31 +29,78 @@ public class Multisets {
     public static <T> Multiset<T> concatenate(Iterable<? extends Iterable<? extends T>> iterables) {
         Multiset<T> concatenatedMultiset = HashMultiset.create(first(iterables).get());
         for (Iterable<? extends T> iterable : rest(iterables)) {
-            concatenatedMultiset.addAll(collectionFrom(iterable));
+            addAll(concatenatedMultiset, iterable);
         }
         return concatenatedMultiset;
     }
 
+    /**
+     * Returns the multiset in which each element occurs as many times as it
+     * does in whichever supplied {@code Iterable} contains it most often.
+     * Supplied {@code Multiset} instances are queried for their counts
+     * directly; any other {@code Iterable} is counted once.
+     */
     public static <T> Multiset<T> union(Iterable<? extends Iterable<? extends T>> iterables) {
         Multiset<T> unionMultiset = HashMultiset.create(first(iterables).get());
         for (Iterable<? extends T> iterable : rest(iterables)) {
-            Multiset<T> currentMultiset = HashMultiset.create(iterable);
-            for (T element : currentMultiset.elementSet()) {
-                int numberInUnionMultiset = unionMultiset.count(element);
-                int numberInCurrentMultiset = currentMultiset.count(element);
-                if (numberInUnionMultiset < numberInCurrentMultiset) {
-                    unionMultiset.setCount(element, numberInCurrentMultiset);
+            Multiset<? extends T> currentMultiset = countsOf(iterable);
+            for (Multiset.Entry<? extends T> entry : currentMultiset.entrySet()) {
+                if (unionMultiset.count(entry.getElement()) < entry.getCount()) {
+                    unionMultiset.setCount(entry.getElement(), entry.getCount());
                 }
             }
         }
         return unionMultiset;
     }
 
+    /**
+     * Returns the multiset in which each element occurs as many times as it
+     * does in whichever supplied {@code Iterable} contains it least often.
+     *
+     * <p>The result is seeded from the smallest {@code Collection} supplied,
+     * or the first {@code Iterable} if none is a {@code Collection}. Each
+     * remaining {@code Multiset} is queried for counts directly, and each
+     * remaining {@code Iterable} is iterated once, counting only those
+     * elements still in the result. Processing stops as soon as the result
+     * is empty.</p>
+     */
     public static <T> Multiset<T> intersection(Iterable<? extends Iterable<? extends T>> iterables) {
-        Multiset<T> intersectionMultiset = HashMultiset.create(first(iterables).get());
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            intersectionMultiset = com.google.common.collect.Multisets.intersection(
-                    intersectionMultiset, HashMultiset.create(iterable));
+        List<Iterable<? extends T>> arguments = listFrom(iterables);
+        Iterable<? extends T> seed = first(arguments).get();
+        for (Iterable<? extends T> iterable : arguments) {
+            if (iterable instanceof Collection
+                    && (!(seed instanceof Collection) || ((Collection<?>) iterable).size() < ((Collection<?>) seed).size())) {
+                seed = iterable;
+            }
+        }
+        Multiset<T> intersectionMultiset = HashMultiset.create(seed);
+        for (Iterable<? extends T> iterable : arguments) {
+            if (iterable == seed) {
+                continue;
+            }
+            if (intersectionMultiset.isEmpty()) {
+                break;
+            }
+            Multiset<?> counts;
+            if (iterable instanceof Multiset) {
+                counts = (Multiset<?>) iterable;
+            } else {
+                Multiset<Object> occurrences = HashMultiset.create();
+                for (T element : iterable) {
+                    if (intersectionMultiset.contains(element)) {
+                        occurrences.add(element);
+                    }
+                }
+                counts = occurrences;
+            }
+            Multiset<T> retained = HashMultiset.create(intersectionMultiset.elementSet().size());
+            for (Multiset.Entry<T> entry : intersectionMultiset.entrySet()) {
+                int count = Math.min(entry.getCount(), counts.count(entry.getElement()));
+                if (count > 0) {
+                    retained.add(entry.getElement(), count);
+                }
+            }
+            intersectionMultiset = retained;
         }
         return intersectionMultiset;
     }
@@ -61,6 +115,98 @@ public class Multisets {
         return differences;
     }
 
+    /**
+     * Returns a lazy {@code Iterable} over the multiset union of the supplied
+     * {@code Iterable} instances, each of which must already be sorted by the
+     * supplied {@code Comparator}. Each element is yielded, in sorted order,
+     * as many times as it occurs in whichever input contains it most often.
+     *
+     * <p>Unlike {@link #union(Iterable)}, the inputs are merged as the result
+     * is iterated, counting each run of equal elements as it passes rather
+     * than building a {@code Multiset}, so that inputs too large to hold in
+     * memory can be combined.</p>
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedUnion(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.UNION);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} over the multiset intersection of the
+     * supplied {@code Iterable} instances, each of which must already be
+     * sorted by the supplied {@code Comparator}. Each element is yielded, in
+     * sorted order, as many times as it occurs in whichever input contains it
+     * least often.
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedIntersection(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.INTERSECTION);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} over the multiset difference of the
+     * supplied {@code Iterable} instances, each of which must already be
+     * sorted by the supplied {@code Comparator}. Each element is yielded, in
+     * sorted order, as many times as it occurs in the first input less the
+     * number of times it occurs in the rest.
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedDifference(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.DIFFERENCE);
+    }
+
+    public static <T> Iterable<T> sortedUnion(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedUnion(iterableWith(i1, i2), comparator);
+    }
+
+    public static <T> Iterable<T> sortedIntersection(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedIntersection(iterableWith(i1, i2), comparator);
+    }
+
+    public static <T> Iterable<T> sortedDifference(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedDifference(iterableWith(i1, i2), comparator);
+    }
+
+    private static <T> Iterable<T> sortedMerge(
+            final Iterable<? extends Iterable<? extends T>> iterables,
+            final Comparator<? super T> comparator,
+            final SortedMergeIterator.Operation operation) {
+        checkNotNull(iterables);
+        checkNotNull(comparator);
+        return new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return new SortedMergeIterator<T>(
+                        iterables, comparator, operation, SortedMergeIterator.Multiplicity.MULTISET);
+            }
+        };
+    }
+
+    private static <T> void addAll(Multiset<T> multiset, Iterable<? extends T> iterable) {
+        if (iterable instanceof Collection) {
+            multiset.addAll((Collection<? extends T>) iterable);
+        } else {
+            for (T element : iterable) {
+                multiset.add(element);
+            }
+        }
+    }
+
+    private static <T> Multiset<? extends T> countsOf(Iterable<? extends T> iterable) {
+        if (iterable instanceof Multiset) {
+            return (Multiset<? extends T>) iterable;
+        }
+        return HashMultiset.create(iterable);
+    }
+
     public static <T> Multiset<T> concatenate(
             Iterable<? extends T> i1, Iterable<? extends T> i2) {
         return concatenate(iterableWith(i1, i2));
@@ -8,14 +8,22 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.datastructures.DoubleSequence;
+import org.javafunk.funk.datastructures.IntSequence;
+import org.javafunk.funk.datastructures.LongSequence;
 import org.javafunk.funk.functors.Reducer;
 import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.DoubleBinaryFunction;
+import org.javafunk.funk.functors.functions.IntBinaryFunction;
+import org.javafunk.funk.functors.functions.LongBinaryFunction;
+import org.javafunk.funk.iterators.DoubleIterator;
 import org.javafunk.funk.monads.Option;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 import static org.javafunk.funk.Accumulators.*;
 import static org.javafunk.funk.Exceptions.arithmeticFactory;
@@ -158,6 +166,175 @@ public class Numbers {
         }
     }
 
+    /**
+     * Sums the supplied {@code Iterable} of {@code Integer}s into a primitive
+     * {@code long}, unboxing each element exactly once. If the supplied
+     * {@code Iterable} is an {@link IntSequence}, its values are summed
+     * without boxing at all.
+     *
+     * <p>Unlike {@link #sum(Iterable, Class)}, an empty {@code Iterable} sums
+     * to zero and, since the sum is accumulated in a {@code long}, it does not
+     * overflow for any {@code Iterable} of fewer than 2<sup>32</sup> elements.</p>
+     *
+     * @param iterable An {@code Iterable} of {@code Integer}s to be summed.
+     * @return The sum of the supplied integers.
+     * @throws NullPointerException if the supplied {@code Iterable} or any of
+     *                              its elements are {@code null}.
+     */
+    public static long sumInts(Iterable<Integer> iterable) {
+        if (checkNotNull(iterable) instanceof IntSequence) {
+            return ((IntSequence) iterable).sum();
+        }
+        long sum = 0;
+        for (int element : iterable) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    public static long sumInts(int... values) {
+        long sum = 0;
+        for (int value : checkNotNull(values)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the supplied {@code Iterable} of {@code Long}s into a primitive
+     * {@code long}, unboxing each element exactly once. If the supplied
+     * {@code Iterable} is a {@link LongSequence}, its values are summed
+     * without boxing at all. An empty {@code Iterable} sums to zero.
+     *
+     * @param iterable An {@code Iterable} of {@code Long}s to be summed.
+     * @return The sum of the supplied longs.
+     * @throws NullPointerException if the supplied {@code Iterable} or any of
+     *                              its elements are {@code null}.
+     */
+    public static long sumLongs(Iterable<Long> iterable) {
+        if (checkNotNull(iterable) instanceof LongSequence) {
+            return ((LongSequence) iterable).sum();
+        }
+        long sum = 0;
+        for (long element : iterable) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    public static long sumLongs(long... values) {
+        long sum = 0;
+        for (long value : checkNotNull(values)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the supplied {@code Iterable} of {@code Double}s into a primitive
+     * {@code double}, unboxing each element exactly once. If the supplied
+     * {@code Iterable} is a {@link DoubleSequence}, its values are summed
+     * without boxing at all. An empty {@code Iterable} sums to zero.
+     *
+     * <p>The sum is accumulated using compensated summation, as described on
+     * {@link DoubleSequence#sum()}, and so is usually more accurate than that
+     * returned by {@link #sum(Iterable, Class)}.</p>
+     *
+     * @param iterable An {@code Iterable} of {@code Double}s to be summed.
+     * @return The sum of the supplied doubles.
+     * @throws NullPointerException if the supplied {@code Iterable} or any of
+     *                              its elements are {@code null}.
+     */
+    public static double sumDoubles(Iterable<Double> iterable) {
+        if (checkNotNull(iterable) instanceof DoubleSequence) {
+            return ((DoubleSequence) iterable).sum();
+        }
+        CompensatedSum sum = new CompensatedSum();
+        for (double element : iterable) {
+            sum.add(element);
+        }
+        return sum.value();
+    }
+
+    public static double sumDoubles(double... values) {
+        CompensatedSum sum = new CompensatedSum();
+        for (double value : checkNotNull(values)) {
+            sum.add(value);
+        }
+        return sum.value();
+    }
+
+    /**
+     * Sums the values remaining in the supplied {@code DoubleIterator} without
+     * boxing them, using the same compensated summation as
+     * {@link #sumDoubles(Iterable)}. An exhausted iterator sums to zero.
+     *
+     * @param iterator A {@code DoubleIterator} over the values to be summed.
+     * @return The sum of the values remaining in the iterator.
+     */
+    public static double sumDoubles(DoubleIterator iterator) {
+        checkNotNull(iterator);
+        CompensatedSum sum = new CompensatedSum();
+        while (iterator.hasNext()) {
+            sum.add(iterator.nextDouble());
+        }
+        return sum.value();
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} of {@code Integer}s using the
+     * supplied primitive function, such as an
+     * {@link org.javafunk.funk.functors.IntReducer}, unboxing each element
+     * exactly once and never boxing the accumulator.
+     */
+    public static int reduceInts(Iterable<Integer> iterable, int initialValue, IntBinaryFunction function) {
+        checkNotNull(function);
+        if (checkNotNull(iterable) instanceof IntSequence) {
+            return ((IntSequence) iterable).reduce(initialValue, function);
+        }
+        int accumulator = initialValue;
+        for (int element : iterable) {
+            accumulator = function.call(accumulator, element);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} of {@code Long}s using the
+     * supplied primitive function, such as a
+     * {@link org.javafunk.funk.functors.LongReducer}, unboxing each element
+     * exactly once and never boxing the accumulator.
+     */
+    public static long reduceLongs(Iterable<Long> iterable, long initialValue, LongBinaryFunction function) {
+        checkNotNull(function);
+        if (checkNotNull(iterable) instanceof LongSequence) {
+            return ((LongSequence) iterable).reduce(initialValue, function);
+        }
+        long accumulator = initialValue;
+        for (long element : iterable) {
+            accumulator = function.call(accumulator, element);
+        }
+        return accumulator;
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} of {@code Double}s using the
+     * supplied primitive function, such as a
+     * {@link org.javafunk.funk.functors.DoubleReducer}, unboxing each element
+     * exactly once and never boxing the accumulator.
+     */
+    public static double reduceDoubles(Iterable<Double> iterable, double initialValue, DoubleBinaryFunction function) {
+        checkNotNull(function);
+        if (checkNotNull(iterable) instanceof DoubleSequence) {
+            return ((DoubleSequence) iterable).reduce(initialValue, function);
+        }
+        double accumulator = initialValue;
+        for (double element : iterable) {
+            accumulator = function.call(accumulator, element);
+        }
+        return accumulator;
+    }
+
     private static final Map<Class<?>, BinaryFunction<?, ?, ?>> sumAccumulatorMap =
             Literals.<Class<?>, BinaryFunction<?, ?, ?>>mapBuilder()
                     .withKeyValuePair(Integer.class, integerAdditionAccumulator())
@@ -198,4 +375,23 @@ public class Numbers {
                     format("Cannot %s numbers of type: %s", operation, numberClass.getSimpleName()));
         }
     }
+
+    private static class CompensatedSum {
+        private double sum = 0;
+        private double compensation = 0;
+
+        private void add(double value) {
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+
+        private double value() {
+            return Double.isInfinite(sum) || Double.isNaN(sum) ? sum : sum + compensation;
+        }
+    }
 }
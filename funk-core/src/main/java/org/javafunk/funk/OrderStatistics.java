@@ -0,0 +1,594 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Selection algorithms over arrays backing the order statistics in
+ * {@link Eagerly}. Those over {@code int}, {@code long} and {@code double}
+ * values neither box a value nor modify the supplied array, whereas
+ * {@link #selectInPlace(Object[], int, Comparator)} reorders an array of
+ * objects owned by the caller.
+ *
+ * <p>The greatest or least <em>k</em> values are found with a binary heap
+ * of <em>k</em> slots, so that each value that cannot be in the result
+ * costs a single comparison. Values of a given rank, including medians, are
+ * found by quickselect on a copy of the input in expected linear time,
+ * falling back to sorting the copy if partitioning fails to converge.
+ * {@code double} values are ordered as by {@link Double#compare}, so that
+ * {@code NaN} is greater than every other value.</p>
+ */
+final class OrderStatistics {
+    private OrderStatistics() {}
+
+    static <T> T selectInPlace(T[] values, int rank, Comparator<? super T> comparator) {
+        int low = 0;
+        int high = values.length - 1;
+        int remainingPartitions = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+        while (low < high) {
+            if (remainingPartitions-- == 0) {
+                java.util.Arrays.sort(values, low, high + 1, comparator);
+                return values[rank];
+            }
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(values[middle], values[low]) < 0) {
+                swap(values, low, middle);
+            }
+            if (comparator.compare(values[high], values[low]) < 0) {
+                swap(values, low, high);
+            }
+            if (comparator.compare(values[high], values[middle]) < 0) {
+                swap(values, middle, high);
+            }
+            T pivot = values[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (comparator.compare(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (comparator.compare(pivot, values[j]) < 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (rank <= j) {
+                high = j;
+            } else if (rank >= i) {
+                low = i;
+            } else {
+                break;
+            }
+        }
+        return values[rank];
+    }
+
+    private static void swap(Object[] values, int first, int second) {
+        Object value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    static int[] greatest(int[] values, int k) {
+        int[] heap = new int[Math.min(k, values.length)];
+        int size = 0;
+        for (int value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMinimum(heap, size++);
+            } else if (size > 0 && heap[0] < value) {
+                heap[0] = value;
+                siftDownMinimum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        reverse(heap);
+        return heap;
+    }
+
+    static int[] least(int[] values, int k) {
+        int[] heap = new int[Math.min(k, values.length)];
+        int size = 0;
+        for (int value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMaximum(heap, size++);
+            } else if (size > 0 && value < heap[0]) {
+                heap[0] = value;
+                siftDownMaximum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        return heap;
+    }
+
+    static int select(int[] values, int rank) {
+        int[] copy = values.clone();
+        return copy[selectInPlace(copy, rank)];
+    }
+
+    static double median(int[] values) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("Median is undefined for an empty array.");
+        }
+        int[] copy = values.clone();
+        int middle = copy.length / 2;
+        int upper = copy[selectInPlace(copy, middle)];
+        if (copy.length % 2 == 1) {
+            return upper;
+        }
+        int lower = copy[0];
+        for (int i = 1; i < middle; i++) {
+            if (lower < copy[i]) {
+                lower = copy[i];
+            }
+        }
+        return lower / 2.0 + upper / 2.0;
+    }
+
+    private static int selectInPlace(int[] values, int rank) {
+        int low = 0;
+        int high = values.length - 1;
+        int remainingPartitions = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+        while (low < high) {
+            if (remainingPartitions-- == 0) {
+                java.util.Arrays.sort(values, low, high + 1);
+                return rank;
+            }
+            int middle = (low + high) >>> 1;
+            if (values[middle] < values[low]) {
+                swap(values, low, middle);
+            }
+            if (values[high] < values[low]) {
+                swap(values, low, high);
+            }
+            if (values[high] < values[middle]) {
+                swap(values, middle, high);
+            }
+            int pivot = values[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (pivot < values[j]) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (rank <= j) {
+                high = j;
+            } else if (rank >= i) {
+                low = i;
+            } else {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    private static void siftUpMinimum(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[index] >= heap[parent]) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMinimum(int[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= heap[index]) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void siftUpMaximum(int[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= heap[index]) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMaximum(int[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && heap[child] < heap[child + 1]) {
+                child++;
+            }
+            if (heap[index] >= heap[child]) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(int[] values, int first, int second) {
+        int value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    private static void reverse(int[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            swap(values, i, j);
+        }
+    }
+
+    static long[] greatest(long[] values, int k) {
+        long[] heap = new long[Math.min(k, values.length)];
+        int size = 0;
+        for (long value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMinimum(heap, size++);
+            } else if (size > 0 && heap[0] < value) {
+                heap[0] = value;
+                siftDownMinimum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        reverse(heap);
+        return heap;
+    }
+
+    static long[] least(long[] values, int k) {
+        long[] heap = new long[Math.min(k, values.length)];
+        int size = 0;
+        for (long value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMaximum(heap, size++);
+            } else if (size > 0 && value < heap[0]) {
+                heap[0] = value;
+                siftDownMaximum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        return heap;
+    }
+
+    static long select(long[] values, int rank) {
+        long[] copy = values.clone();
+        return copy[selectInPlace(copy, rank)];
+    }
+
+    static double median(long[] values) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("Median is undefined for an empty array.");
+        }
+        long[] copy = values.clone();
+        int middle = copy.length / 2;
+        long upper = copy[selectInPlace(copy, middle)];
+        if (copy.length % 2 == 1) {
+            return upper;
+        }
+        long lower = copy[0];
+        for (int i = 1; i < middle; i++) {
+            if (lower < copy[i]) {
+                lower = copy[i];
+            }
+        }
+        return lower / 2.0 + upper / 2.0;
+    }
+
+    private static int selectInPlace(long[] values, int rank) {
+        int low = 0;
+        int high = values.length - 1;
+        int remainingPartitions = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+        while (low < high) {
+            if (remainingPartitions-- == 0) {
+                java.util.Arrays.sort(values, low, high + 1);
+                return rank;
+            }
+            int middle = (low + high) >>> 1;
+            if (values[middle] < values[low]) {
+                swap(values, low, middle);
+            }
+            if (values[high] < values[low]) {
+                swap(values, low, high);
+            }
+            if (values[high] < values[middle]) {
+                swap(values, middle, high);
+            }
+            long pivot = values[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (pivot < values[j]) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (rank <= j) {
+                high = j;
+            } else if (rank >= i) {
+                low = i;
+            } else {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    private static void siftUpMinimum(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[index] >= heap[parent]) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMinimum(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (heap[child] >= heap[index]) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void siftUpMaximum(long[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] >= heap[index]) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMaximum(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && heap[child] < heap[child + 1]) {
+                child++;
+            }
+            if (heap[index] >= heap[child]) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(long[] values, int first, int second) {
+        long value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            swap(values, i, j);
+        }
+    }
+
+    static double[] greatest(double[] values, int k) {
+        double[] heap = new double[Math.min(k, values.length)];
+        int size = 0;
+        for (double value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMinimum(heap, size++);
+            } else if (size > 0 && Double.compare(heap[0], value) < 0) {
+                heap[0] = value;
+                siftDownMinimum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        reverse(heap);
+        return heap;
+    }
+
+    static double[] least(double[] values, int k) {
+        double[] heap = new double[Math.min(k, values.length)];
+        int size = 0;
+        for (double value : values) {
+            if (size < heap.length) {
+                heap[size] = value;
+                siftUpMaximum(heap, size++);
+            } else if (size > 0 && Double.compare(value, heap[0]) < 0) {
+                heap[0] = value;
+                siftDownMaximum(heap, size);
+            }
+        }
+        java.util.Arrays.sort(heap);
+        return heap;
+    }
+
+    static double select(double[] values, int rank) {
+        double[] copy = values.clone();
+        return copy[selectInPlace(copy, rank)];
+    }
+
+    static double median(double[] values) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("Median is undefined for an empty array.");
+        }
+        double[] copy = values.clone();
+        int middle = copy.length / 2;
+        double upper = copy[selectInPlace(copy, middle)];
+        if (copy.length % 2 == 1) {
+            return upper;
+        }
+        double lower = copy[0];
+        for (int i = 1; i < middle; i++) {
+            if (Double.compare(lower, copy[i]) < 0) {
+                lower = copy[i];
+            }
+        }
+        return lower / 2.0 + upper / 2.0;
+    }
+
+    private static int selectInPlace(double[] values, int rank) {
+        int low = 0;
+        int high = values.length - 1;
+        int remainingPartitions = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+        while (low < high) {
+            if (remainingPartitions-- == 0) {
+                java.util.Arrays.sort(values, low, high + 1);
+                return rank;
+            }
+            int middle = (low + high) >>> 1;
+            if (Double.compare(values[middle], values[low]) < 0) {
+                swap(values, low, middle);
+            }
+            if (Double.compare(values[high], values[low]) < 0) {
+                swap(values, low, high);
+            }
+            if (Double.compare(values[high], values[middle]) < 0) {
+                swap(values, middle, high);
+            }
+            double pivot = values[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (Double.compare(values[i], pivot) < 0) {
+                    i++;
+                }
+                while (Double.compare(pivot, values[j]) < 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i++, j--);
+                }
+            }
+            if (rank <= j) {
+                high = j;
+            } else if (rank >= i) {
+                low = i;
+            } else {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    private static void siftUpMinimum(double[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (Double.compare(heap[index], heap[parent]) >= 0) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMinimum(double[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && Double.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            if (Double.compare(heap[child], heap[index]) >= 0) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void siftUpMaximum(double[] heap, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (Double.compare(heap[parent], heap[index]) >= 0) {
+                return;
+            }
+            swap(heap, index, parent);
+            index = parent;
+        }
+    }
+
+    private static void siftDownMaximum(double[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && Double.compare(heap[child], heap[child + 1]) < 0) {
+                child++;
+            }
+            if (Double.compare(heap[index], heap[child]) >= 0) {
+                return;
+            }
+            swap(heap, index, child);
+            index = child;
+        }
+    }
+
+    private static void swap(double[] values, int first, int second) {
+        double value = values[first];
+        values[first] = values[second];
+        values[second] = value;
+    }
+
+    private static void reverse(double[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            swap(values, i, j);
+        }
+    }
+}
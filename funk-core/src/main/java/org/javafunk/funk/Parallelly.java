@@ -0,0 +1,629 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Factory;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * Parallel counterparts of a subset of the functions on {@link Eagerly}. Each
+ * function divides the supplied {@code Iterable} into chunks, applies the
+ * supplied function to those chunks on a {@link ForkJoinPool} and then
+ * combines the results of each chunk in the order in which the chunks
+ * appeared in the input, so that any ordering guaranteed by the sequential
+ * version is retained.
+ *
+ * <p>{@code List}s implementing {@link RandomAccess}, including arrays wrapped
+ * using {@link java.util.Arrays#asList(Object[])}, are split by index range
+ * without being copied. Any other {@code Iterable} is iterated on the calling
+ * thread and its elements batched into chunks, each of which is submitted to
+ * the pool as soon as it is full.</p>
+ *
+ * <p>Unless a {@code ForkJoinPool} is supplied, a shared pool with a
+ * parallelism equal to the number of available processors is used. Since
+ * functions are applied concurrently, any supplied function must be safe to
+ * call from multiple threads at once and should not depend on the order in
+ * which it is applied to elements.</p>
+ *
+ * @see Eagerly
+ */
+public class Parallelly {
+    private static final int chunksPerThread = 4;
+    private static final int unsizedChunkSize = 256;
+
+    private Parallelly() {}
+
+    /**
+     * Maps each element of the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction} in parallel, as per
+     * {@link Eagerly#map(Iterable, UnaryFunction)}.
+     */
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> function) {
+        return map(iterable, function, defaultPool());
+    }
+
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            final UnaryFunction<? super S, T> function,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        return concatenate(perform(iterable, pool, new ChunkOperation<S, List<T>>() {
+            @Override public List<T> perform(List<? extends S> elements, int from, int to) {
+                List<T> results = new ArrayList<T>(to - from);
+                for (int i = from; i < to; i++) {
+                    results.add(function.call(elements.get(i)));
+                }
+                return results;
+            }
+        }));
+    }
+
+    /**
+     * Retains those elements of the supplied {@code Iterable} satisfying the
+     * supplied {@code UnaryPredicate} in parallel, as per
+     * {@link Eagerly#filter(Iterable, UnaryPredicate)}.
+     */
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return filter(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        return concatenate(perform(iterable, pool, new SelectingOperation<T>(predicate, true)));
+    }
+
+    /**
+     * Discards those elements of the supplied {@code Iterable} satisfying the
+     * supplied {@code UnaryPredicate} in parallel, as per
+     * {@link Eagerly#reject(Iterable, UnaryPredicate)}.
+     */
+    public static <T> Collection<T> reject(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return reject(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Collection<T> reject(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        return concatenate(perform(iterable, pool, new SelectingOperation<T>(predicate, false)));
+    }
+
+    /**
+     * Partitions the supplied {@code Iterable} into those elements that satisfy
+     * the supplied {@code UnaryPredicate} and those that do not in parallel, as
+     * per {@link Eagerly#partition(Iterable, UnaryPredicate)}.
+     */
+    public static <T> Pair<Collection<T>, Collection<T>> partition(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return partition(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Pair<Collection<T>, Collection<T>> partition(
+            Iterable<T> iterable,
+            final UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        List<Pair<List<T>, List<T>>> partitions = perform(iterable, pool, new ChunkOperation<T, Pair<List<T>, List<T>>>() {
+            @Override public Pair<List<T>, List<T>> perform(List<? extends T> elements, int from, int to) {
+                List<T> matching = new ArrayList<T>();
+                List<T> nonMatching = new ArrayList<T>();
+                for (int i = from; i < to; i++) {
+                    T element = elements.get(i);
+                    if (predicate.evaluate(element)) {
+                        matching.add(element);
+                    } else {
+                        nonMatching.add(element);
+                    }
+                }
+                return tuple(matching, nonMatching);
+            }
+        });
+        List<List<T>> matching = new ArrayList<List<T>>(partitions.size());
+        List<List<T>> nonMatching = new ArrayList<List<T>>(partitions.size());
+        for (Pair<List<T>, List<T>> partition : partitions) {
+            matching.add(partition.getFirst());
+            nonMatching.add(partition.getSecond());
+        }
+        return tuple(concatenate(matching), concatenate(nonMatching));
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} in parallel. Each chunk is reduced
+     * starting from the supplied initial value using the supplied
+     * {@code BinaryFunction} and the results for each chunk are then combined,
+     * in order, using the supplied combiner.
+     *
+     * <p>For the result to be the same as that of
+     * {@link Eagerly#reduce(Iterable, Object, BinaryFunction)}, the initial
+     * value must be an identity for the combiner and the combiner must be
+     * associative and compatible with the supplied function.</p>
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner) {
+        return reduce(iterable, initialValue, function, combiner, defaultPool());
+    }
+
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            final T initialValue,
+            final BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        checkNotNull(combiner);
+        List<T> accumulators = perform(iterable, pool, new ChunkOperation<S, T>() {
+            @Override public T perform(List<? extends S> elements, int from, int to) {
+                T accumulator = initialValue;
+                for (int i = from; i < to; i++) {
+                    accumulator = function.call(accumulator, elements.get(i));
+                }
+                return accumulator;
+            }
+        });
+        return Eagerly.reduce(accumulators, initialValue, combiner);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} in parallel as per
+     * {@link #reduce(Iterable, Object, BinaryFunction, BinaryFunction)}, but
+     * starting each chunk, and the combination of the results for each chunk,
+     * from a new initial value created by the supplied {@code Factory}. Unlike
+     * an initial value shared between chunks, the created values can be
+     * mutable accumulators, such as the sketches in
+     * {@link org.javafunk.funk.sketches}, which the supplied function updates
+     * in place.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            Factory<? extends T> initialValueFactory,
+            BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner) {
+        return reduce(iterable, initialValueFactory, function, combiner, defaultPool());
+    }
+
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            final Factory<? extends T> initialValueFactory,
+            final BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool) {
+        checkNotNull(initialValueFactory);
+        checkNotNull(function);
+        checkNotNull(combiner);
+        List<T> accumulators = perform(iterable, pool, new ChunkOperation<S, T>() {
+            @Override public T perform(List<? extends S> elements, int from, int to) {
+                T accumulator = initialValueFactory.create();
+                for (int i = from; i < to; i++) {
+                    accumulator = function.call(accumulator, elements.get(i));
+                }
+                return accumulator;
+            }
+        });
+        T initialValue = initialValueFactory.create();
+        return Eagerly.reduce(accumulators, initialValue, combiner);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} in parallel using the supplied
+     * associative {@code BinaryFunction}, for which the supplied initial value
+     * must be an identity.
+     */
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super T, T> function) {
+        return reduce(iterable, initialValue, function, defaultPool());
+    }
+
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super T, T> function,
+            ForkJoinPool pool) {
+        return reduce(iterable, initialValue, function, asCombiner(function), pool);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} in parallel using the supplied
+     * associative {@code BinaryFunction}, as per
+     * {@link Eagerly#reduce(Iterable, BinaryFunction)}.
+     *
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            BinaryFunction<T, ? super T, T> function) {
+        return reduce(iterable, function, defaultPool());
+    }
+
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            final BinaryFunction<T, ? super T, T> function,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        List<T> accumulators = perform(iterable, pool, new ChunkOperation<T, T>() {
+            @Override public T perform(List<? extends T> elements, int from, int to) {
+                T accumulator = elements.get(from);
+                for (int i = from + 1; i < to; i++) {
+                    accumulator = function.call(accumulator, elements.get(i));
+                }
+                return accumulator;
+            }
+        });
+        return Eagerly.reduce(accumulators, function);
+    }
+
+    /**
+     * Returns {@code true} if any element of the supplied {@code Iterable}
+     * satisfies the supplied {@code UnaryPredicate}, as per
+     * {@link Eagerly#any(Iterable, UnaryPredicate)}. Outstanding chunks are
+     * abandoned as soon as a satisfying element is found.
+     */
+    public static <T> Boolean any(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return any(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Boolean any(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        return search(iterable, pool, new SearchingOperation<T>(predicate, true));
+    }
+
+    /**
+     * Returns {@code true} if all elements of the supplied {@code Iterable}
+     * satisfy the supplied {@code UnaryPredicate}, as per
+     * {@link Eagerly#all(Iterable, UnaryPredicate)}. Outstanding chunks are
+     * abandoned as soon as an element failing the predicate is found.
+     */
+    public static <T> Boolean all(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return all(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Boolean all(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        return !search(iterable, pool, new SearchingOperation<T>(predicate, false));
+    }
+
+    /**
+     * Returns {@code true} if no element of the supplied {@code Iterable}
+     * satisfies the supplied {@code UnaryPredicate}, as per
+     * {@link Eagerly#none(Iterable, UnaryPredicate)}.
+     */
+    public static <T> Boolean none(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return none(iterable, predicate, defaultPool());
+    }
+
+    public static <T> Boolean none(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return !any(iterable, predicate, pool);
+    }
+
+    /**
+     * Indexes each element of the supplied {@code Iterable} using the supplied
+     * {@code UnaryFunction} in parallel, as per
+     * {@link Eagerly#index(Iterable, UnaryFunction)}.
+     */
+    public static <S, T> Collection<Pair<T, S>> index(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> function) {
+        return index(iterable, function, defaultPool());
+    }
+
+    public static <S, T> Collection<Pair<T, S>> index(
+            Iterable<S> iterable,
+            final UnaryFunction<? super S, T> function,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        return concatenate(perform(iterable, pool, new ChunkOperation<S, List<Pair<T, S>>>() {
+            @Override public List<Pair<T, S>> perform(List<? extends S> elements, int from, int to) {
+                List<Pair<T, S>> results = new ArrayList<Pair<T, S>>(to - from);
+                for (int i = from; i < to; i++) {
+                    S element = elements.get(i);
+                    results.add(tuple(function.call(element), element));
+                }
+                return results;
+            }
+        }));
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the value returned
+     * by the supplied indexer in parallel, as per
+     * {@link Eagerly#group(Iterable, UnaryFunction)}. Within each group, elements
+     * retain the order in which they were yielded by the supplied {@code Iterable}.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> indexer) {
+        return group(iterable, indexer, defaultPool());
+    }
+
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            final UnaryFunction<? super S, T> indexer,
+            ForkJoinPool pool) {
+        checkNotNull(indexer);
+        List<Map<T, List<S>>> groupings = perform(iterable, pool, new ChunkOperation<S, Map<T, List<S>>>() {
+            @Override public Map<T, List<S>> perform(List<? extends S> elements, int from, int to) {
+                Map<T, List<S>> groupedElements = new HashMap<T, List<S>>();
+                for (int i = from; i < to; i++) {
+                    S element = elements.get(i);
+                    T index = indexer.call(element);
+                    List<S> group = groupedElements.get(index);
+                    if (group == null) {
+                        group = new ArrayList<S>();
+                        groupedElements.put(index, group);
+                    }
+                    group.add(element);
+                }
+                return groupedElements;
+            }
+        });
+        Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
+        for (Map<T, List<S>> grouping : groupings) {
+            for (Map.Entry<T, List<S>> entry : grouping.entrySet()) {
+                Collection<S> group = groupedElements.get(entry.getKey());
+                if (group == null) {
+                    groupedElements.put(entry.getKey(), entry.getValue());
+                } else {
+                    group.addAll(entry.getValue());
+                }
+            }
+        }
+        return groupedElements;
+    }
+
+    private static <T> Boolean search(Iterable<T> iterable, ForkJoinPool pool, SearchingOperation<T> operation) {
+        perform(iterable, pool, operation);
+        return operation.found.get();
+    }
+
+    private static <S, R> List<R> perform(
+            Iterable<? extends S> iterable,
+            ForkJoinPool pool,
+            ChunkOperation<S, R> operation) {
+        checkNotNull(iterable);
+        checkNotNull(pool);
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return performOverRanges((List<? extends S>) iterable, pool, operation);
+        }
+        int chunkSize = iterable instanceof Collection ?
+                chunkSizeFor(((Collection<?>) iterable).size(), pool) :
+                unsizedChunkSize;
+        return performOverChunks(iterable.iterator(), chunkSize, pool, operation);
+    }
+
+    private static <S, R> List<R> performOverRanges(
+            List<? extends S> elements,
+            ForkJoinPool pool,
+            ChunkOperation<S, R> operation) {
+        int size = elements.size();
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        int chunkSize = chunkSizeFor(size, pool);
+        int numberOfChunks = (size + chunkSize - 1) / chunkSize;
+        if (numberOfChunks == 1) {
+            return Collections.singletonList(operation.perform(elements, 0, size));
+        }
+        Object[] results = new Object[numberOfChunks];
+        pool.invoke(new RangeTask<S, R>(elements, operation, results, chunkSize, 0, numberOfChunks));
+        return resultsFrom(results);
+    }
+
+    private static <S, R> List<R> performOverChunks(
+            Iterator<? extends S> iterator,
+            int chunkSize,
+            ForkJoinPool pool,
+            ChunkOperation<S, R> operation) {
+        List<ForkJoinTask<R>> tasks = new ArrayList<ForkJoinTask<R>>();
+        while (iterator.hasNext() && !operation.isComplete()) {
+            List<S> chunk = new ArrayList<S>(chunkSize);
+            while (chunk.size() < chunkSize && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
+            tasks.add(pool.submit(new ChunkTask<S, R>(chunk, operation)));
+        }
+        List<R> results = new ArrayList<R>(tasks.size());
+        for (ForkJoinTask<R> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> resultsFrom(Object[] results) {
+        return (List<R>) java.util.Arrays.asList(results);
+    }
+
+    private static <T> Collection<T> concatenate(List<? extends List<T>> chunks) {
+        int size = 0;
+        for (List<T> chunk : chunks) {
+            size += chunk.size();
+        }
+        List<T> results = new ArrayList<T>(size);
+        for (List<T> chunk : chunks) {
+            results.addAll(chunk);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private static int chunkSizeFor(int size, ForkJoinPool pool) {
+        int numberOfChunks = pool.getParallelism() * chunksPerThread;
+        return Math.max(1, (size + numberOfChunks - 1) / numberOfChunks);
+    }
+
+    private static <T> BinaryFunction<T, T, T> asCombiner(final BinaryFunction<T, ? super T, T> function) {
+        checkNotNull(function);
+        return new BinaryFunction<T, T, T>() {
+            @Override public T call(T first, T second) {
+                return function.call(first, second);
+            }
+        };
+    }
+
+    private static ForkJoinPool defaultPool() {
+        return DefaultPoolHolder.pool;
+    }
+
+    private static class DefaultPoolHolder {
+        private static final ForkJoinPool pool = new ForkJoinPool();
+    }
+
+    private static abstract class ChunkOperation<S, R> {
+        abstract R perform(List<? extends S> elements, int from, int to);
+
+        boolean isComplete() {
+            return false;
+        }
+    }
+
+    private static class SelectingOperation<T> extends ChunkOperation<T, List<T>> {
+        private final UnaryPredicate<? super T> predicate;
+        private final boolean retainMatching;
+
+        private SelectingOperation(UnaryPredicate<? super T> predicate, boolean retainMatching) {
+            this.predicate = predicate;
+            this.retainMatching = retainMatching;
+        }
+
+        @Override List<T> perform(List<? extends T> elements, int from, int to) {
+            List<T> results = new ArrayList<T>();
+            for (int i = from; i < to; i++) {
+                T element = elements.get(i);
+                if (predicate.evaluate(element) == retainMatching) {
+                    results.add(element);
+                }
+            }
+            return results;
+        }
+    }
+
+    private static class SearchingOperation<T> extends ChunkOperation<T, Boolean> {
+        private final UnaryPredicate<? super T> predicate;
+        private final boolean sought;
+        private final AtomicBoolean found = new AtomicBoolean(false);
+
+        private SearchingOperation(UnaryPredicate<? super T> predicate, boolean sought) {
+            this.predicate = predicate;
+            this.sought = sought;
+        }
+
+        @Override Boolean perform(List<? extends T> elements, int from, int to) {
+            for (int i = from; i < to && !found.get(); i++) {
+                if (predicate.evaluate(elements.get(i)) == sought) {
+                    found.set(true);
+                }
+            }
+            return found.get();
+        }
+
+        @Override boolean isComplete() {
+            return found.get();
+        }
+    }
+
+    private static class RangeTask<S, R> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends S> elements;
+        private final ChunkOperation<S, R> operation;
+        private final Object[] results;
+        private final int chunkSize;
+        private final int firstChunk;
+        private final int lastChunk;
+
+        private RangeTask(
+                List<? extends S> elements,
+                ChunkOperation<S, R> operation,
+                Object[] results,
+                int chunkSize,
+                int firstChunk,
+                int lastChunk) {
+            this.elements = elements;
+            this.operation = operation;
+            this.results = results;
+            this.chunkSize = chunkSize;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+        }
+
+        @Override protected void compute() {
+            if (operation.isComplete()) {
+                return;
+            }
+            if (lastChunk - firstChunk == 1) {
+                int from = firstChunk * chunkSize;
+                int to = Math.min(from + chunkSize, elements.size());
+                results[firstChunk] = operation.perform(elements, from, to);
+            } else {
+                int middleChunk = (firstChunk + lastChunk) >>> 1;
+                invokeAll(
+                        new RangeTask<S, R>(elements, operation, results, chunkSize, firstChunk, middleChunk),
+                        new RangeTask<S, R>(elements, operation, results, chunkSize, middleChunk, lastChunk));
+            }
+        }
+    }
+
+    private static class ChunkTask<S, R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<S> chunk;
+        private final ChunkOperation<S, R> operation;
+
+        private ChunkTask(List<S> chunk, ChunkOperation<S, R> operation) {
+            this.chunk = chunk;
+            this.operation = operation;
+        }
+
+        @Override protected R compute() {
+            return operation.isComplete() ? null : operation.perform(chunk, 0, chunk.size());
+        }
+    }
+}
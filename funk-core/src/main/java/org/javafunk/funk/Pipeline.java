@@ -0,0 +1,321 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.functors.procedures.UnaryProcedure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A reusable description of a chain of {@code map}, {@code filter}, {@code reject},
+ * {@code take}, {@code drop} and {@code each} operations that is applied to each
+ * element of a source {@code Iterable} in a single fused loop.
+ *
+ * <p>Chaining the equivalent functions on {@link Lazily} wraps one iterator per
+ * operation around the source, each of which performs its own look ahead on
+ * every element. A {@code Pipeline} instead records its stages up front and
+ * then pushes each source element through all of them in turn, so that only one
+ * iterator over the source is ever required, regardless of the number of stages.</p>
+ *
+ * <p>{@code Pipeline} instances are immutable, each stage method returning a new
+ * {@code Pipeline} with the additional stage appended, and can be applied to any
+ * number of source {@code Iterable}s. The semantics of each stage, including the
+ * point at which iteration of the source stops once a {@code take} is satisfied,
+ * are the same as those of the equivalent function on {@code Lazily}.</p>
+ *
+ * <h3>Example Usage:</h3>
+ * The following two {@code Collection} instances are equivalent:
+ * <blockquote>
+ * <pre>
+ *     Collection&lt;String&gt; chained = Eagerly.map(Lazily.take(Lazily.filter(people, isAdult()), 10), toName());
+ *     Collection&lt;String&gt; fused = Pipeline.pipeline(Person.class)
+ *             .filter(isAdult())
+ *             .take(10)
+ *             .map(toName())
+ *             .eagerly(people);
+ * </pre>
+ * </blockquote>
+ *
+ * @param <S> The type of the elements in the source {@code Iterable}.
+ * @param <T> The type of the elements produced by the final stage.
+ * @see Lazily
+ * @see Eagerly
+ */
+public class Pipeline<S, T> {
+    private static final Object skipped = new Object();
+
+    private final Stage[] stages;
+
+    private Pipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    public static <S> Pipeline<S, S> pipeline() {
+        return new Pipeline<S, S>(new Stage[0]);
+    }
+
+    public static <S> Pipeline<S, S> pipeline(Class<S> sourceClass) {
+        return pipeline();
+    }
+
+    public <U> Pipeline<S, U> map(UnaryFunction<? super T, ? extends U> function) {
+        return withStage(new Stage(StageType.MAP, checkNotNull(function), 0));
+    }
+
+    public Pipeline<S, T> filter(UnaryPredicate<? super T> predicate) {
+        return withStage(new Stage(StageType.FILTER, checkNotNull(predicate), 0));
+    }
+
+    public Pipeline<S, T> reject(UnaryPredicate<? super T> predicate) {
+        return withStage(new Stage(StageType.REJECT, checkNotNull(predicate), 0));
+    }
+
+    public Pipeline<S, T> take(int numberToTake) {
+        if (numberToTake < 0) throw new IllegalArgumentException("Cannot take a negative number of elements.");
+        return withStage(new Stage(StageType.TAKE, null, numberToTake));
+    }
+
+    public Pipeline<S, T> drop(int numberToDrop) {
+        if (numberToDrop < 0) throw new IllegalArgumentException("Cannot drop a negative number of elements.");
+        return withStage(new Stage(StageType.DROP, null, numberToDrop));
+    }
+
+    public Pipeline<S, T> each(UnaryProcedure<? super T> procedure) {
+        return withStage(new Stage(StageType.EACH, checkNotNull(procedure), 0));
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} that, on iteration, pushes the elements of
+     * the supplied {@code Iterable} through the stages of this {@code Pipeline}.
+     * Each call to {@code iterator} starts a fresh pass over the source.
+     *
+     * @param iterable The source {@code Iterable}.
+     * @return An {@code Iterable} effectively containing the results of
+     *         applying this {@code Pipeline} to the supplied {@code Iterable}.
+     */
+    public Iterable<T> lazily(final Iterable<? extends S> iterable) {
+        checkNotNull(iterable);
+        return new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return new PipelineIterator(iterable.iterator());
+            }
+        };
+    }
+
+    /**
+     * Applies this {@code Pipeline} to the supplied {@code Iterable}
+     * immediately, returning the results in a {@code Collection}.
+     *
+     * @param iterable The source {@code Iterable}.
+     * @return A {@code Collection} containing the results of applying this
+     *         {@code Pipeline} to the supplied {@code Iterable}.
+     */
+    public Collection<T> eagerly(Iterable<? extends S> iterable) {
+        final List<T> results = new ArrayList<T>(presize(iterable));
+        run(iterable, new Sink() {
+            @SuppressWarnings("unchecked")
+            @Override public void accept(Object element) {
+                results.add((T) element);
+            }
+        });
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Applies this {@code Pipeline} to the supplied {@code Iterable} immediately,
+     * reducing the results using the supplied {@code BinaryFunction} in the same
+     * way as {@link Eagerly#reduce(Iterable, Object, BinaryFunction)}.
+     */
+    public <A> A reduce(
+            Iterable<? extends S> iterable,
+            A initialValue,
+            final BinaryFunction<A, ? super T, A> function) {
+        checkNotNull(function);
+        final Accumulation<A> accumulation = new Accumulation<A>(initialValue);
+        run(iterable, new Sink() {
+            @SuppressWarnings("unchecked")
+            @Override public void accept(Object element) {
+                accumulation.value = function.call(accumulation.value, (T) element);
+            }
+        });
+        return accumulation.value;
+    }
+
+    /**
+     * Applies this {@code Pipeline} to the supplied {@code Iterable} immediately,
+     * discarding the results. Useful when the {@code Pipeline} ends in an
+     * {@code each} stage.
+     */
+    public void execute(Iterable<? extends S> iterable) {
+        run(iterable, new Sink() {
+            @Override public void accept(Object element) {}
+        });
+    }
+
+    private void run(Iterable<? extends S> iterable, Sink sink) {
+        checkNotNull(iterable);
+        Pass pass = new Pass();
+        Iterator<? extends S> iterator = iterable.iterator();
+        while (!pass.finished && iterator.hasNext()) {
+            Object result = pass.push(iterator.next());
+            if (result != skipped) {
+                sink.accept(result);
+            }
+        }
+    }
+
+    private int presize(Iterable<? extends S> iterable) {
+        if (!(iterable instanceof Collection)) {
+            return 10;
+        }
+        int size = ((Collection<?>) iterable).size();
+        for (Stage stage : stages) {
+            switch (stage.type) {
+                case FILTER:
+                case REJECT:
+                    return Math.min(size, 10);
+                case TAKE:
+                    size = Math.min(size, stage.count);
+                    break;
+                case DROP:
+                    size = Math.max(0, size - stage.count);
+                    break;
+            }
+        }
+        return size;
+    }
+
+    private <U> Pipeline<S, U> withStage(Stage stage) {
+        Stage[] newStages = new Stage[stages.length + 1];
+        System.arraycopy(stages, 0, newStages, 0, stages.length);
+        newStages[stages.length] = stage;
+        return new Pipeline<S, U>(newStages);
+    }
+
+    private enum StageType {
+        MAP, FILTER, REJECT, TAKE, DROP, EACH
+    }
+
+    private static class Stage {
+        private final StageType type;
+        private final Object operation;
+        private final int count;
+
+        private Stage(StageType type, Object operation, int count) {
+            this.type = type;
+            this.operation = operation;
+            this.count = count;
+        }
+    }
+
+    private interface Sink {
+        void accept(Object element);
+    }
+
+    private static class Accumulation<A> {
+        private A value;
+
+        private Accumulation(A value) {
+            this.value = value;
+        }
+    }
+
+    private class Pass {
+        private final int[] counts = new int[stages.length];
+        private boolean finished = false;
+
+        private Pass() {
+            for (Stage stage : stages) {
+                if (stage.type == StageType.TAKE && stage.count == 0) {
+                    finished = true;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object push(Object element) {
+            Object current = element;
+            for (int i = 0; i < stages.length; i++) {
+                Stage stage = stages[i];
+                switch (stage.type) {
+                    case MAP:
+                        current = ((UnaryFunction<Object, Object>) stage.operation).call(current);
+                        break;
+                    case FILTER:
+                        if (!((UnaryPredicate<Object>) stage.operation).evaluate(current)) {
+                            return skipped;
+                        }
+                        break;
+                    case REJECT:
+                        if (((UnaryPredicate<Object>) stage.operation).evaluate(current)) {
+                            return skipped;
+                        }
+                        break;
+                    case TAKE:
+                        counts[i]++;
+                        if (counts[i] == stage.count) {
+                            finished = true;
+                        }
+                        break;
+                    case DROP:
+                        if (counts[i] < stage.count) {
+                            counts[i]++;
+                            return skipped;
+                        }
+                        break;
+                    case EACH:
+                        ((UnaryProcedure<Object>) stage.operation).execute(current);
+                        break;
+                }
+            }
+            return current;
+        }
+    }
+
+    private class PipelineIterator implements Iterator<T> {
+        private final Iterator<? extends S> iterator;
+        private final Pass pass = new Pass();
+        private Object next = skipped;
+
+        private PipelineIterator(Iterator<? extends S> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override public boolean hasNext() {
+            while (next == skipped && !pass.finished && iterator.hasNext()) {
+                next = pass.push(iterator.next());
+            }
+            return next != skipped;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = (T) next;
+            next = skipped;
+            return result;
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.javafunk.funk;
 
 import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.predicates.CompiledPredicate;
 import org.javafunk.funk.predicates.EqualsPredicate;
 import org.javafunk.funk.predicates.FalsePredicate;
 import org.javafunk.funk.predicates.InstanceOfPredicate;
@@ -50,4 +51,44 @@ public class Predicates {
     public static <T> Predicate<T> equalTo(T testObject) {
         return new EqualsPredicate<T>(testObject);
     }
+
+    /**
+     * Compiles the supplied {@code UnaryPredicate} into an equivalent
+     * {@code Predicate} that evaluates any composition of {@code and},
+     * {@code or}, {@code not} and constant predicates without allocating.
+     * Terms are evaluated and short circuit in the order in which they were
+     * composed. See {@link CompiledPredicate} for details.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     * @param <T>       The type of the instances the returned {@code Predicate}
+     *                  evaluates.
+     * @return A {@code Predicate} returning the same result as the supplied
+     *         {@code UnaryPredicate} for every instance.
+     * @throws NullPointerException if the supplied {@code UnaryPredicate} is
+     *         {@code null}.
+     */
+    public static <T> Predicate<T> compile(UnaryPredicate<? super T> predicate) {
+        return new CompiledPredicate<T>(checkNotNull(predicate));
+    }
+
+    /**
+     * Compiles the supplied {@code UnaryPredicate} as for
+     * {@link #compile(UnaryPredicate)}, additionally reordering the terms of
+     * each conjunction and disjunction as evaluation proceeds so that those
+     * that are cheapest relative to how often they decide the result are
+     * evaluated first. Since reordering changes which terms are evaluated
+     * for a given instance, it should only be used when the composed
+     * predicates are free of side effects.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     * @param <T>       The type of the instances the returned {@code Predicate}
+     *                  evaluates.
+     * @return A {@code Predicate} returning the same result as the supplied
+     *         {@code UnaryPredicate} for every instance.
+     * @throws NullPointerException if the supplied {@code UnaryPredicate} is
+     *         {@code null}.
+     */
+    public static <T> Predicate<T> compileAdaptively(UnaryPredicate<? super T> predicate) {
+        return new CompiledPredicate<T>(checkNotNull(predicate), true);
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.external.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.Charset;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+/**
+ * Factory methods for {@link Serializer} instances over commonly used types.
+ * Each of the serialisers returned supports {@code null} values.
+ */
+public class Serializers {
+    private static final Charset utf8 = Charset.forName("UTF-8");
+
+    private Serializers() {}
+
+    public static Serializer<String> stringSerializer() {
+        return new Serializer<String>() {
+            @Override public void write(String value, DataOutput output) throws IOException {
+                if (value == null) {
+                    output.writeInt(-1);
+                } else {
+                    byte[] bytes = value.getBytes(utf8);
+                    output.writeInt(bytes.length);
+                    output.write(bytes);
+                }
+            }
+
+            @Override public String read(DataInput input) throws IOException {
+                int length = input.readInt();
+                if (length < 0) {
+                    return null;
+                }
+                byte[] bytes = new byte[length];
+                input.readFully(bytes);
+                return new String(bytes, utf8);
+            }
+        };
+    }
+
+    public static Serializer<Integer> integerSerializer() {
+        return new Serializer<Integer>() {
+            @Override public void write(Integer value, DataOutput output) throws IOException {
+                output.writeBoolean(value != null);
+                if (value != null) {
+                    output.writeInt(value);
+                }
+            }
+
+            @Override public Integer read(DataInput input) throws IOException {
+                return input.readBoolean() ? input.readInt() : null;
+            }
+        };
+    }
+
+    public static Serializer<Long> longSerializer() {
+        return new Serializer<Long>() {
+            @Override public void write(Long value, DataOutput output) throws IOException {
+                output.writeBoolean(value != null);
+                if (value != null) {
+                    output.writeLong(value);
+                }
+            }
+
+            @Override public Long read(DataInput input) throws IOException {
+                return input.readBoolean() ? input.readLong() : null;
+            }
+        };
+    }
+
+    public static Serializer<Double> doubleSerializer() {
+        return new Serializer<Double>() {
+            @Override public void write(Double value, DataOutput output) throws IOException {
+                output.writeBoolean(value != null);
+                if (value != null) {
+                    output.writeDouble(value);
+                }
+            }
+
+            @Override public Double read(DataInput input) throws IOException {
+                return input.readBoolean() ? input.readDouble() : null;
+            }
+        };
+    }
+
+    public static <A, B> Serializer<Pair<A, B>> pairSerializer(
+            final Serializer<A> firstSerializer,
+            final Serializer<B> secondSerializer) {
+        checkNotNull(firstSerializer);
+        checkNotNull(secondSerializer);
+        return new Serializer<Pair<A, B>>() {
+            @Override public void write(Pair<A, B> value, DataOutput output) throws IOException {
+                output.writeBoolean(value != null);
+                if (value != null) {
+                    firstSerializer.write(value.getFirst(), output);
+                    secondSerializer.write(value.getSecond(), output);
+                }
+            }
+
+            @Override public Pair<A, B> read(DataInput input) throws IOException {
+                if (!input.readBoolean()) {
+                    return null;
+                }
+                A first = firstSerializer.read(input);
+                B second = secondSerializer.read(input);
+                return pair(first, second);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code Serializer} using standard Java serialisation. Since
+     * each value is written as a complete object stream, this is
+     * considerably less compact than a serialiser written for the type in
+     * question and is best reserved for types where no such serialiser
+     * exists.
+     */
+    public static <T extends Serializable> Serializer<T> javaSerializer(final Class<T> valueClass) {
+        checkNotNull(valueClass);
+        return new Serializer<T>() {
+            @Override public void write(T value, DataOutput output) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                ObjectOutputStream objectOutput = new ObjectOutputStream(bytes);
+                objectOutput.writeObject(value);
+                objectOutput.close();
+                output.writeInt(bytes.size());
+                output.write(bytes.toByteArray());
+            }
+
+            @Override public T read(DataInput input) throws IOException {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes));
+                try {
+                    return valueClass.cast(objectInput.readObject());
+                } catch (ClassNotFoundException exception) {
+                    throw new IOException(exception);
+                } finally {
+                    objectInput.close();
+                }
+            }
+        };
+    }
+}
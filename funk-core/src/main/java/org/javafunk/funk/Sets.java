@@ -8,60 +8,323 @@
  */
 package org.javafunk.funk;
 
-import com.google.common.collect.Multiset;
-import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.iterators.SortedMergeIterator;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Eagerly.rest;
-import static org.javafunk.funk.Iterables.asSet;
-import static org.javafunk.funk.Lazily.filter;
 import static org.javafunk.funk.Literals.*;
 
 public class Sets {
     private Sets() {}
 
+    /**
+     * Returns the set of elements that occur in any of the supplied
+     * {@code Iterable} instances. Each {@code Iterable} is iterated once and
+     * none is copied.
+     */
     public static <T> Set<T> union(Iterable<? extends Iterable<? extends T>> iterables) {
-        Set<T> unionSet = new HashSet<T>();
-        for (Iterable<? extends T> iterable : iterables) {
-            unionSet.addAll(collectionFrom(iterable));
+        List<Iterable<? extends T>> arguments = listFrom(iterables);
+        Set<T> unionSet = new HashSet<T>(capacityFor(largestSize(arguments)));
+        for (Iterable<? extends T> iterable : arguments) {
+            addAll(unionSet, iterable);
         }
         return unionSet;
     }
 
+    /**
+     * Returns the set of elements that occur in every one of the supplied
+     * {@code Iterable} instances.
+     *
+     * <p>The result is seeded from the smallest {@code Collection} supplied,
+     * or the first {@code Iterable} if none is a {@code Collection}, and so
+     * never holds more elements than that. Each remaining {@code Iterable}
+     * that is not a {@code Set} is iterated once, keeping only the elements
+     * already in the result. {@code Set} instances are then probed directly
+     * using {@code contains}, smallest first, without being copied or
+     * iterated. Processing stops as soon as the result is empty.</p>
+     */
     public static <T> Set<T> intersection(Iterable<? extends Iterable<? extends T>> iterables) {
-        Set<T> intersectionSet = new HashSet<T>(collectionFrom(first(iterables).get()));
-        for (Iterable<? extends T> iterable : rest(iterables)) {
-            intersectionSet.retainAll(collectionFrom(iterable));
+        List<Iterable<? extends T>> arguments = listFrom(iterables);
+        first(arguments).get();
+        Iterable<? extends T> seed = smallest(arguments);
+        Set<T> intersectionSet = new HashSet<T>(capacityFor(sizeOf(seed)));
+        addAll(intersectionSet, seed);
+
+        List<Set<?>> sets = new ArrayList<Set<?>>();
+        for (Iterable<? extends T> iterable : arguments) {
+            if (iterable == seed) {
+                continue;
+            }
+            if (iterable instanceof Set) {
+                sets.add((Set<?>) iterable);
+                continue;
+            }
+            if (intersectionSet.isEmpty()) {
+                return intersectionSet;
+            }
+            Set<T> retained = new HashSet<T>(capacityFor(intersectionSet.size()));
+            for (T element : iterable) {
+                if (intersectionSet.contains(element)) {
+                    retained.add(element);
+                }
+            }
+            intersectionSet = retained;
+        }
+
+        Collections.sort(sets, bySize());
+        for (Set<?> set : sets) {
+            if (intersectionSet.isEmpty()) {
+                break;
+            }
+            intersectionSet.retainAll(set);
         }
         return intersectionSet;
     }
 
+    /**
+     * Returns the set of elements of the first supplied {@code Iterable} that
+     * do not occur in any of the others. Elements are removed from the result
+     * as each remaining {@code Iterable} is iterated, or, for a {@code Set}
+     * larger than the result, by probing it directly, so that no union of the
+     * remaining {@code Iterable} instances is built.
+     */
     public static <T> Set<T> difference(Iterable<? extends Iterable<? extends T>> iterables) {
         List<Iterable<? extends T>> arguments = listFrom(iterables);
         if (arguments.isEmpty()) {
             return new HashSet<T>();
-        } else {
-            Set<T> differenceSet = setBuilderFrom(first(arguments).get()).build(HashSet.class);
-            differenceSet.removeAll(union(rest(arguments)));
-            return differenceSet;
         }
+        Iterable<? extends T> firstArgument = arguments.get(0);
+        Set<T> differenceSet = new HashSet<T>(capacityFor(sizeOf(firstArgument)));
+        addAll(differenceSet, firstArgument);
+        for (Iterable<? extends T> iterable : arguments.subList(1, arguments.size())) {
+            if (differenceSet.isEmpty()) {
+                break;
+            }
+            if (iterable instanceof Set && ((Set<?>) iterable).size() > differenceSet.size()) {
+                Set<?> set = (Set<?>) iterable;
+                for (Iterator<T> iterator = differenceSet.iterator(); iterator.hasNext(); ) {
+                    if (set.contains(iterator.next())) {
+                        iterator.remove();
+                    }
+                }
+            } else {
+                for (T element : iterable) {
+                    differenceSet.remove(element);
+                }
+            }
+        }
+        return differenceSet;
     }
 
+    /**
+     * Returns the set of elements that occur an odd number of times across all
+     * of the supplied {@code Iterable} instances, counting repeated occurrences
+     * within an {@code Iterable}. Each element encountered toggles its
+     * membership of the result, so a single pass is made over each
+     * {@code Iterable} and no counts are held.
+     */
     public static <T> Set<T> symmetricDifference(Iterable<? extends Iterable<? extends T>> iterables) {
-        final Multiset<T> unionMultiset = Multisets.concatenate(iterables);
-        return asSet(filter(unionMultiset, new Predicate<T>() {
-            public boolean evaluate(T element) {
-                return isOdd(unionMultiset.count(element));
+        List<Iterable<? extends T>> arguments = listFrom(iterables);
+        Set<T> symmetricDifferenceSet = new HashSet<T>(capacityFor(largestSize(arguments)));
+        for (Iterable<? extends T> iterable : arguments) {
+            for (T element : iterable) {
+                if (!symmetricDifferenceSet.remove(element)) {
+                    symmetricDifferenceSet.add(element);
+                }
+            }
+        }
+        return symmetricDifferenceSet;
+    }
+
+    /**
+     * Returns an unmodifiable view of the union of the supplied {@code Set}
+     * instances. The view is not computed up front; it reflects later changes
+     * to the supplied {@code Set} instances and each query consults them
+     * directly.
+     */
+    public static <T> Set<T> unionView(Iterable<? extends Set<? extends T>> sets) {
+        Set<T> view = Collections.emptySet();
+        for (Set<? extends T> set : sets) {
+            view = com.google.common.collect.Sets.union(view, set);
+        }
+        return view;
+    }
+
+    /**
+     * Returns an unmodifiable view of the intersection of the supplied
+     * {@code Set} instances. Iterating the view iterates the smallest of the
+     * supplied {@code Set} instances, probing each of the others.
+     */
+    public static <T> Set<T> intersectionView(Iterable<? extends Set<? extends T>> sets) {
+        List<Set<? extends T>> arguments = new ArrayList<Set<? extends T>>(collectionFrom(sets));
+        first(arguments).get();
+        Collections.sort(arguments, bySize());
+        Set<T> view = Collections.unmodifiableSet(arguments.get(0));
+        for (Set<? extends T> set : arguments.subList(1, arguments.size())) {
+            view = com.google.common.collect.Sets.intersection(view, set);
+        }
+        return view;
+    }
+
+    /**
+     * Returns an unmodifiable view of the elements of the first supplied
+     * {@code Set} that are not in any of the others.
+     */
+    public static <T> Set<T> differenceView(Iterable<? extends Set<? extends T>> sets) {
+        List<Set<? extends T>> arguments = new ArrayList<Set<? extends T>>(collectionFrom(sets));
+        if (arguments.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<T> view = Collections.unmodifiableSet(arguments.get(0));
+        for (Set<? extends T> set : arguments.subList(1, arguments.size())) {
+            view = com.google.common.collect.Sets.difference(view, set);
+        }
+        return view;
+    }
+
+    public static <T> Set<T> unionView(Set<? extends T> s1, Set<? extends T> s2) {
+        return unionView(Literals.<Set<? extends T>>iterableWith(s1, s2));
+    }
+
+    public static <T> Set<T> intersectionView(Set<? extends T> s1, Set<? extends T> s2) {
+        return intersectionView(Literals.<Set<? extends T>>iterableWith(s1, s2));
+    }
+
+    public static <T> Set<T> differenceView(Set<? extends T> s1, Set<? extends T> s2) {
+        return differenceView(Literals.<Set<? extends T>>iterableWith(s1, s2));
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} over the distinct elements that occur in
+     * any of the supplied {@code Iterable} instances, each of which must
+     * already be sorted by the supplied {@code Comparator}. Elements are
+     * yielded in sorted order and are considered equal when the
+     * {@code Comparator} returns zero for them.
+     *
+     * <p>Unlike {@link #union(Iterable)}, the inputs are merged as the result
+     * is iterated, holding only the current element of each input, so that
+     * inputs too large to hold in memory can be combined.</p>
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedUnion(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.UNION);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} over the distinct elements that occur in
+     * every one of the supplied {@code Iterable} instances, each of which must
+     * already be sorted by the supplied {@code Comparator}. Elements are
+     * yielded in sorted order.
+     *
+     * <p>Runs of elements that cannot be in the result are skipped rather
+     * than stepped through where the input allows it: random access
+     * {@code List} instances are searched by galloping and {@code SortedSet}
+     * instances ordered by the same {@code Comparator} are re-entered using
+     * {@code tailSet}.</p>
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedIntersection(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.INTERSECTION);
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} over the distinct elements of the first
+     * supplied {@code Iterable} that do not occur in any of the others, each
+     * of which must already be sorted by the supplied {@code Comparator}.
+     * Elements are yielded in sorted order.
+     *
+     * @see SortedMergeIterator
+     */
+    public static <T> Iterable<T> sortedDifference(
+            Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
+        return sortedMerge(iterables, comparator, SortedMergeIterator.Operation.DIFFERENCE);
+    }
+
+    public static <T> Iterable<T> sortedUnion(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedUnion(iterableWith(i1, i2), comparator);
+    }
+
+    public static <T> Iterable<T> sortedIntersection(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedIntersection(iterableWith(i1, i2), comparator);
+    }
+
+    public static <T> Iterable<T> sortedDifference(
+            Iterable<? extends T> i1, Iterable<? extends T> i2, Comparator<? super T> comparator) {
+        return sortedDifference(iterableWith(i1, i2), comparator);
+    }
+
+    private static <T> Iterable<T> sortedMerge(
+            final Iterable<? extends Iterable<? extends T>> iterables,
+            final Comparator<? super T> comparator,
+            final SortedMergeIterator.Operation operation) {
+        checkNotNull(iterables);
+        checkNotNull(comparator);
+        return new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return new SortedMergeIterator<T>(
+                        iterables, comparator, operation, SortedMergeIterator.Multiplicity.SET);
             }
+        };
+    }
+
+    private static <T> void addAll(Collection<T> target, Iterable<? extends T> iterable) {
+        if (iterable instanceof Collection) {
+            target.addAll((Collection<? extends T>) iterable);
+        } else {
+            for (T element : iterable) {
+                target.add(element);
+            }
+        }
+    }
+
+    private static int sizeOf(Iterable<?> iterable) {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : 0;
+    }
+
+    private static int largestSize(Iterable<? extends Iterable<?>> iterables) {
+        int largest = 0;
+        for (Iterable<?> iterable : iterables) {
+            largest = Math.max(largest, sizeOf(iterable));
+        }
+        return largest;
+    }
+
+    private static <T> Iterable<? extends T> smallest(List<Iterable<? extends T>> iterables) {
+        Iterable<? extends T> smallest = iterables.get(0);
+        for (Iterable<? extends T> iterable : iterables) {
+            if (iterable instanceof Collection
+                    && (!(smallest instanceof Collection) || sizeOf(iterable) < sizeOf(smallest))) {
+                smallest = iterable;
+            }
+        }
+        return smallest;
+    }
+
+    private static int capacityFor(int size) {
+        return size < 3 ? 4 : (int) Math.min(Integer.MAX_VALUE, size / 3L * 4L + 4);
+    }
 
-            private boolean isOdd(Integer value) {
-                return value % 2 == 1;
+    private static Comparator<Collection<?>> bySize() {
+        return new Comparator<Collection<?>>() {
+            @Override public int compare(Collection<?> first, Collection<?> second) {
+                return Integer.compare(first.size(), second.size());
             }
-        }));
+        };
     }
 
     public static <T> Set<T> union(
@@ -8,16 +8,18 @@
  */
 package org.javafunk.funk;
 
-import org.apache.commons.lang3.StringUtils;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.javafunk.funk.BigDecimals.toPlainString;
-import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Objects.toStringValue;
 import static org.javafunk.funk.Objects.whereNull;
@@ -26,6 +28,10 @@ import static org.javafunk.funk.monads.Option.some;
 import static org.javafunk.funk.predicates.OrPredicate.or;
 
 public class Strings {
+    private static final int unlimited = -1;
+    private static final int maximumPresize = 1 << 16;
+    private static final int maximumPresizeSample = 1 << 10;
+
     private Strings() {}
 
     /**
@@ -56,7 +62,161 @@ public class Strings {
      *                              is {@code null}.
      */
     public static <T> String join(Iterable<? extends T> objects, String separator) {
-        return StringUtils.join(materialize(objects), separator);
+        return join(objects, separator, "", "");
+    }
+
+    /**
+     * Joins the {@code String} representation of each of the objects
+     * in the supplied {@code Iterable} using the supplied separator, as
+     * for {@link #join(Iterable, String)}, placing the supplied prefix
+     * before and the supplied suffix after the joined objects.
+     *
+     * <p>The {@code Iterable} is iterated once and is not copied. If it
+     * is a {@code Collection}, the returned {@code String} is built in
+     * storage sized up front from the lengths of any
+     * {@code CharSequence} elements.</p>
+     *
+     * @param objects   The objects to be converted to their {@code String}
+     *                  representation and joined using the supplied
+     *                  separator.
+     * @param separator A separator to be placed between each of the
+     *                  {@code String} instances when joining.
+     * @param prefix    A {@code String} to be placed before the joined
+     *                  objects.
+     * @param suffix    A {@code String} to be placed after the joined
+     *                  objects.
+     * @param <T>       The type of the objects in the {@code Iterable} to be
+     *                  joined.
+     * @return A {@code String} representing the concatenation of the
+     *         supplied objects separated by the supplied separator and
+     *         surrounded by the supplied prefix and suffix.
+     * @throws NullPointerException if any of the supplied arguments is
+     *                              {@code null}.
+     */
+    public static <T> String join(Iterable<? extends T> objects, String separator, String prefix, String suffix) {
+        return join(objects, separator, prefix, suffix, unlimited, "");
+    }
+
+    /**
+     * Joins the {@code String} representation of at most the supplied
+     * limit of the objects in the supplied {@code Iterable}, as for
+     * {@link #join(Iterable, String, String, String)}. If the
+     * {@code Iterable} contains more objects than the limit, the supplied
+     * truncation marker is joined in place of the remainder, which are
+     * neither iterated nor converted to a {@code String}.
+     *
+     * @param objects   The objects to be converted to their {@code String}
+     *                  representation and joined using the supplied
+     *                  separator.
+     * @param separator A separator to be placed between each of the
+     *                  {@code String} instances when joining.
+     * @param prefix    A {@code String} to be placed before the joined
+     *                  objects.
+     * @param suffix    A {@code String} to be placed after the joined
+     *                  objects.
+     * @param limit     The maximum number of objects to join.
+     * @param truncated A {@code String} to be joined in place of any
+     *                  objects beyond the limit.
+     * @param <T>       The type of the objects in the {@code Iterable} to be
+     *                  joined.
+     * @return A {@code String} representing the concatenation of at most
+     *         the limit of the supplied objects.
+     * @throws NullPointerException     if any of the supplied arguments is
+     *                                  {@code null}.
+     * @throws IllegalArgumentException if the supplied limit is negative.
+     */
+    public static <T> String join(
+            Iterable<? extends T> objects, String separator, String prefix, String suffix,
+            int limit, String truncated) {
+        StringBuilder builder = new StringBuilder(estimateJoinedLength(objects, separator, prefix, suffix, limit));
+        return joinTo(builder, objects, separator, prefix, suffix, limit, truncated).toString();
+    }
+
+    /**
+     * Appends the {@code String} representation of each of the objects in
+     * the supplied {@code Iterable}, separated by the supplied separator, to
+     * the supplied {@code Appendable}, such as a {@code StringBuilder} or
+     * {@code Writer}, as they are iterated. Nothing is copied or
+     * accumulated beyond what the {@code Appendable} itself holds.
+     *
+     * <p>Elements that are {@code CharSequence} instances are appended
+     * directly rather than through {@code #toString} and {@code null}
+     * elements are rendered as empty. Any {@code IOException} thrown by the
+     * {@code Appendable} is rethrown wrapped in a
+     * {@code RuntimeException}.</p>
+     *
+     * @param appendable The {@code Appendable} to append to.
+     * @param objects    The objects to be converted to their {@code String}
+     *                   representation and appended.
+     * @param separator  A separator to be placed between each of the
+     *                   objects.
+     * @param <A>        The type of the {@code Appendable}.
+     * @param <T>        The type of the objects in the {@code Iterable} to be
+     *                   joined.
+     * @return The supplied {@code Appendable}.
+     * @throws NullPointerException if any of the supplied arguments is
+     *                              {@code null}.
+     */
+    public static <A extends Appendable, T> A joinTo(A appendable, Iterable<? extends T> objects, String separator) {
+        return joinTo(appendable, objects, separator, "", "");
+    }
+
+    /**
+     * Appends the joined objects to the supplied {@code Appendable}, as for
+     * {@link #joinTo(Appendable, Iterable, String)}, placing the supplied
+     * prefix before and the supplied suffix after them.
+     */
+    public static <A extends Appendable, T> A joinTo(
+            A appendable, Iterable<? extends T> objects, String separator, String prefix, String suffix) {
+        return joinTo(appendable, objects, separator, prefix, suffix, unlimited, "");
+    }
+
+    /**
+     * Appends at most the supplied limit of the objects in the supplied
+     * {@code Iterable} to the supplied {@code Appendable}, as for
+     * {@link #joinTo(Appendable, Iterable, String, String, String)}. If the
+     * {@code Iterable} contains more objects than the limit, the supplied
+     * truncation marker is appended in place of the remainder.
+     *
+     * @throws IllegalArgumentException if the supplied limit is negative.
+     */
+    public static <A extends Appendable, T> A joinTo(
+            A appendable, Iterable<? extends T> objects, String separator, String prefix, String suffix,
+            int limit, String truncated) {
+        checkNotNull(appendable);
+        checkNotNull(objects);
+        checkNotNull(separator);
+        checkNotNull(prefix);
+        checkNotNull(suffix);
+        checkNotNull(truncated);
+        if (limit < 0 && limit != unlimited) {
+            throw new IllegalArgumentException("Limit must not be negative.");
+        }
+        try {
+            appendable.append(prefix);
+            Iterator<? extends T> iterator = objects.iterator();
+            int appended = 0;
+            while (iterator.hasNext()) {
+                if (appended > 0) {
+                    appendable.append(separator);
+                }
+                if (appended == limit) {
+                    appendable.append(truncated);
+                    break;
+                }
+                T object = iterator.next();
+                if (object instanceof CharSequence) {
+                    appendable.append((CharSequence) object);
+                } else if (object != null) {
+                    appendable.append(object.toString());
+                }
+                appended++;
+            }
+            appendable.append(suffix);
+        } catch (IOException exception) {
+            throw new RuntimeException(exception);
+        }
+        return appendable;
     }
 
     /**
@@ -347,6 +507,25 @@ public class Strings {
         };
     }
 
+    private static int estimateJoinedLength(
+            Iterable<?> objects, String separator, String prefix, String suffix, int limit) {
+        long length = prefix.length() + suffix.length();
+        if (objects instanceof Collection) {
+            int considered = 0;
+            for (Object object : (Collection<?>) objects) {
+                if (considered == limit || considered == maximumPresizeSample || length >= maximumPresize) {
+                    break;
+                }
+                length += separator.length();
+                if (object instanceof CharSequence) {
+                    length += ((CharSequence) object).length();
+                }
+                considered++;
+            }
+        }
+        return (int) Math.min(length, maximumPresize);
+    }
+
     private static <T> String toStringOr(String alternative, T value, Mapper<T, String> toStringMapper) {
         return option(value).map(toStringMapper).or(some(alternative)).get();
     }
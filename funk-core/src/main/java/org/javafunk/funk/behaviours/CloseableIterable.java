@@ -0,0 +1,25 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.behaviours;
+
+import java.io.Closeable;
+
+/**
+ * An {@code Iterable} holding resources, such as temporary files or threads,
+ * which are released when iteration completes or, if iteration is abandoned
+ * part way through, when {@link #close()} is called. Closing is idempotent
+ * and, unlike {@link Closeable#close()}, does not throw checked exceptions,
+ * so instances can be used in a try-with-resources statement around an
+ * enhanced for loop.
+ *
+ * @param <T> The type of the elements yielded by this {@code Iterable}.
+ */
+public interface CloseableIterable<T> extends Iterable<T>, Closeable {
+    @Override void close();
+}
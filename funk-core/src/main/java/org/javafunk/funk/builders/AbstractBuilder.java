@@ -12,7 +12,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
-import static org.javafunk.funk.Literals.iterableWith;
+import java.util.Collection;
 
 public abstract class AbstractBuilder<E, B extends AbstractBuilder, C> {
     public abstract C build();
@@ -21,6 +21,13 @@ public abstract class AbstractBuilder<E, B extends AbstractBuilder, C> {
 
     protected abstract B updatedBuilder();
 
+    /**
+     * Called before a known number of elements are handled, so that builders
+     * can make room for them all at once rather than growing as each element
+     * is handled. Does nothing by default.
+     */
+    protected void expectAdditional(int numberOfElements) {}
+
     public B with(Iterable<? extends E> elements) {
         return and(elements);
     }
@@ -30,6 +37,7 @@ public abstract class AbstractBuilder<E, B extends AbstractBuilder, C> {
     }
 
     public B and(E[] elements) {
+        expectAdditional(elements.length);
         for (E element : elements) {
             handle(element);
         }
@@ -37,6 +45,9 @@ public abstract class AbstractBuilder<E, B extends AbstractBuilder, C> {
     }
 
     public B and(Iterable<? extends E> elements) {
+        if (elements instanceof Collection) {
+            expectAdditional(((Collection<?>) elements).size());
+        }
         for (E element : elements) {
             handle(element);
         }
@@ -56,55 +67,136 @@ public abstract class AbstractBuilder<E, B extends AbstractBuilder, C> {
         <T extends C> T build(UnaryFunction<? super Iterable<E>, ? extends T> builderFunction);
     }
 
-    public B with(E e) { return and(iterableWith(e)); }
+    public B with(E e1) { return and(e1); }
 
-    public B with(E e1, E e2) { return and(iterableWith(e1, e2)); }
+    public B with(E e1, E e2) { return and(e1, e2); }
 
-    public B with(E e1, E e2, E e3) { return and(iterableWith(e1, e2, e3)); }
+    public B with(E e1, E e2, E e3) { return and(e1, e2, e3); }
 
-    public B with(E e1, E e2, E e3, E e4) { return and(iterableWith(e1, e2, e3, e4)); }
+    public B with(E e1, E e2, E e3, E e4) { return and(e1, e2, e3, e4); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5) { return and(iterableWith(e1, e2, e3, e4, e5)); }
+    public B with(E e1, E e2, E e3, E e4, E e5) { return and(e1, e2, e3, e4, e5); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5, E e6) { return and(iterableWith(e1, e2, e3, e4, e5, e6)); }
+    public B with(E e1, E e2, E e3, E e4, E e5, E e6) { return and(e1, e2, e3, e4, e5, e6); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7)); }
+    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7) { return and(e1, e2, e3, e4, e5, e6, e7); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8)); }
+    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) { return and(e1, e2, e3, e4, e5, e6, e7, e8); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9)); }
+    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) { return and(e1, e2, e3, e4, e5, e6, e7, e8, e9); }
 
-    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10)); }
+    public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) { return and(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10); }
 
     public B with(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10, E... e11on) {
-        and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10));
-        and(e11on);
-        return updatedBuilder();
+        return and(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10, e11on);
     }
 
-    public B and(E e) { return and(iterableWith(e)); }
+    public B and(E e1) {
+        handle(e1);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2) { return and(iterableWith(e1, e2)); }
+    public B and(E e1, E e2) {
+        expectAdditional(2);
+        handle(e1);
+        handle(e2);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3) { return and(iterableWith(e1, e2, e3)); }
+    public B and(E e1, E e2, E e3) {
+        expectAdditional(3);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4) { return and(iterableWith(e1, e2, e3, e4)); }
+    public B and(E e1, E e2, E e3, E e4) {
+        expectAdditional(4);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5) { return and(iterableWith(e1, e2, e3, e4, e5)); }
+    public B and(E e1, E e2, E e3, E e4, E e5) {
+        expectAdditional(5);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5, E e6) { return and(iterableWith(e1, e2, e3, e4, e5, e6)); }
+    public B and(E e1, E e2, E e3, E e4, E e5, E e6) {
+        expectAdditional(6);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        handle(e6);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7)); }
+    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+        expectAdditional(7);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        handle(e6);
+        handle(e7);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8)); }
+    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+        expectAdditional(8);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        handle(e6);
+        handle(e7);
+        handle(e8);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9)); }
+    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+        expectAdditional(9);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        handle(e6);
+        handle(e7);
+        handle(e8);
+        handle(e9);
+        return updatedBuilder();
+    }
 
-    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) { return and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10)); }
+    public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+        expectAdditional(10);
+        handle(e1);
+        handle(e2);
+        handle(e3);
+        handle(e4);
+        handle(e5);
+        handle(e6);
+        handle(e7);
+        handle(e8);
+        handle(e9);
+        handle(e10);
+        return updatedBuilder();
+    }
 
     public B and(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10, E... e11on) {
-        and(iterableWith(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10));
-        and(e11on);
-        return updatedBuilder();
+        and(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+        return and(e11on);
     }
 }
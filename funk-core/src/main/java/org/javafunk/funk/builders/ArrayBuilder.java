@@ -10,14 +10,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.javafunk.funk.Eagerly.first;
-import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Predicates.instanceOf;
 import static org.javafunk.funk.Predicates.not;
 import static org.javafunk.funk.monads.Option.none;
 import static org.javafunk.funk.monads.Option.option;
 
 public class ArrayBuilder<E> extends AbstractBuilder<E, ArrayBuilder<E>, E[]> {
-    private List<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
     private Option<Class<E>> elementClassOption;
 
     public static <E> ArrayBuilder<E> arrayBuilder() {
@@ -58,7 +57,7 @@ public class ArrayBuilder<E> extends AbstractBuilder<E, ArrayBuilder<E>, E[]> {
                             "Cannot construct array containing instances of different classes without knowing desired element class. " +
                                     "Consider supplying element class at builder construction time.");
                 }
-                return elements.toArray((E[]) Array.newInstance(targetClass, 0));
+                return elements.toArray((E[]) Array.newInstance(targetClass, elements.size()));
             }
         };
     }
@@ -67,7 +66,7 @@ public class ArrayBuilder<E> extends AbstractBuilder<E, ArrayBuilder<E>, E[]> {
     private UnaryFunction<Class<E>, E[]> toArrayUsingKnownClass(final List<E> elements) {
         return new UnaryFunction<Class<E>, E[]>() {
             @Override public E[] call(Class<E> elementClass) {
-                return listFrom(elements).toArray((E[]) Array.newInstance(elementClass, 0));
+                return elements.toArray((E[]) Array.newInstance(elementClass, elements.size()));
             }
         };
     }
@@ -76,7 +75,27 @@ public class ArrayBuilder<E> extends AbstractBuilder<E, ArrayBuilder<E>, E[]> {
         elements.add(element);
     }
 
+    @Override protected void expectAdditional(int numberOfElements) {
+        elements.ensureCapacity(elements.size() + numberOfElements);
+    }
+
     @Override protected ArrayBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        ArrayBuilder<?> that = (ArrayBuilder<?>) other;
+        return elements.equals(that.elements)
+                && elementClassOption.equals(that.elementClassOption);
+    }
+
+    @Override public int hashCode() {
+        return 31 * elements.hashCode() + elementClassOption.hashCode();
+    }
 }
@@ -8,17 +8,20 @@
  */
 package org.javafunk.funk.builders;
 
-import org.javafunk.funk.Classes;
+import org.javafunk.funk.datastructures.CompactList;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 
+import static org.javafunk.funk.datastructures.CompactList.compactListFrom;
+
 public class CollectionBuilder<E>
         extends AbstractBuilder<E, CollectionBuilder<E>, Collection<E>>
         implements AbstractBuilder.WithCustomImplementationSupport<E, Collection, Collection<E>> {
-    private Collection<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
+    private Collection<E> handedOver;
 
     public static <E> CollectionBuilder<E> collectionBuilder() {
         return new CollectionBuilder<E>();
@@ -28,13 +31,33 @@ public class CollectionBuilder<E>
         return new CollectionBuilder<E>();
     }
 
+    /**
+     * Returns an unmodifiable {@code Collection} of the elements in this
+     * builder. Up to {@value CompactList#maximumSize} elements are returned in
+     * a {@code CompactList}. Beyond that, the builder's own list is handed
+     * over behind an unmodifiable view rather than copied. The same view is
+     * returned until the builder is next added to, at which point the builder
+     * takes a copy of its storage.
+     */
     @Override public Collection<E> build() {
-        return Collections.unmodifiableList(new ArrayList<E>(elements));
+        if (handedOver != null) {
+            return handedOver;
+        }
+        if (elements.size() <= CompactList.maximumSize) {
+            return compactListFrom(elements);
+        }
+        handedOver = Collections.unmodifiableList(elements);
+        return handedOver;
     }
 
+    /**
+     * Returns a new instance of the supplied implementation class containing
+     * the elements in this builder. Common implementations are created
+     * without reflection and presized to hold them.
+     */
     @Override public Collection<E> build(Class<? extends Collection> implementationClass) {
         @SuppressWarnings("unchecked")
-        Collection<E> collection = Classes.uncheckedInstantiate(implementationClass);
+        Collection<E> collection = ImplementationFactories.instantiate(implementationClass, elements.size());
         collection.addAll(elements);
         return collection;
     }
@@ -44,10 +67,37 @@ public class CollectionBuilder<E>
     }
 
     @Override protected void handle(E element) {
-        elements.add(element);
+        mutableElements().add(element);
+    }
+
+    private ArrayList<E> mutableElements() {
+        if (handedOver != null) {
+            elements = new ArrayList<E>(elements);
+            handedOver = null;
+        }
+        return elements;
+    }
+
+    @Override protected void expectAdditional(int numberOfElements) {
+        ArrayList<E> elements = mutableElements();
+        elements.ensureCapacity(elements.size() + numberOfElements);
     }
 
     @Override protected CollectionBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((CollectionBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.builders;
+
+import com.google.common.collect.ConcurrentHashMultiset;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.TreeMultiset;
+import org.javafunk.funk.functors.Factory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.lang.String.format;
+
+/**
+ * Creates instances of the implementation classes supplied to the
+ * {@code build(Class)} methods of the builders in this package, presized to
+ * hold the number of elements in the builder where the implementation
+ * allows it.
+ *
+ * <p>The common collection and map implementations of the JDK and of Guava
+ * are created directly through their constructors or factory methods. Any
+ * other implementation class is created through its public no argument
+ * constructor, which is looked up once and cached, rather than through
+ * {@link Class#newInstance()} on every build.</p>
+ */
+final class ImplementationFactories {
+    private static final ConcurrentMap<Class<?>, SizedFactory<?>> factories =
+            new ConcurrentHashMap<Class<?>, SizedFactory<?>>();
+
+    static {
+        register(ArrayList.class, new SizedFactory<ArrayList<?>>() {
+            @Override public ArrayList<?> create(int expectedSize) {
+                return new ArrayList<Object>(expectedSize);
+            }
+        });
+        register(LinkedList.class, new SizedFactory<LinkedList<?>>() {
+            @Override public LinkedList<?> create(int expectedSize) {
+                return new LinkedList<Object>();
+            }
+        });
+        register(Vector.class, new SizedFactory<Vector<?>>() {
+            @Override public Vector<?> create(int expectedSize) {
+                return new Vector<Object>(Math.max(expectedSize, 1));
+            }
+        });
+        register(ArrayDeque.class, new SizedFactory<ArrayDeque<?>>() {
+            @Override public ArrayDeque<?> create(int expectedSize) {
+                return new ArrayDeque<Object>(expectedSize);
+            }
+        });
+        register(CopyOnWriteArrayList.class, new SizedFactory<CopyOnWriteArrayList<?>>() {
+            @Override public CopyOnWriteArrayList<?> create(int expectedSize) {
+                return new CopyOnWriteArrayList<Object>();
+            }
+        });
+        register(HashSet.class, new SizedFactory<HashSet<?>>() {
+            @Override public HashSet<?> create(int expectedSize) {
+                return new HashSet<Object>(hashCapacity(expectedSize));
+            }
+        });
+        register(LinkedHashSet.class, new SizedFactory<LinkedHashSet<?>>() {
+            @Override public LinkedHashSet<?> create(int expectedSize) {
+                return new LinkedHashSet<Object>(hashCapacity(expectedSize));
+            }
+        });
+        register(TreeSet.class, new SizedFactory<TreeSet<?>>() {
+            @Override public TreeSet<?> create(int expectedSize) {
+                return new TreeSet<Object>();
+            }
+        });
+        register(ConcurrentSkipListSet.class, new SizedFactory<ConcurrentSkipListSet<?>>() {
+            @Override public ConcurrentSkipListSet<?> create(int expectedSize) {
+                return new ConcurrentSkipListSet<Object>();
+            }
+        });
+        register(HashMap.class, new SizedFactory<HashMap<?, ?>>() {
+            @Override public HashMap<?, ?> create(int expectedSize) {
+                return new HashMap<Object, Object>(hashCapacity(expectedSize));
+            }
+        });
+        register(LinkedHashMap.class, new SizedFactory<LinkedHashMap<?, ?>>() {
+            @Override public LinkedHashMap<?, ?> create(int expectedSize) {
+                return new LinkedHashMap<Object, Object>(hashCapacity(expectedSize));
+            }
+        });
+        register(TreeMap.class, new SizedFactory<TreeMap<?, ?>>() {
+            @Override public TreeMap<?, ?> create(int expectedSize) {
+                return new TreeMap<Object, Object>();
+            }
+        });
+        register(IdentityHashMap.class, new SizedFactory<IdentityHashMap<?, ?>>() {
+            @Override public IdentityHashMap<?, ?> create(int expectedSize) {
+                return new IdentityHashMap<Object, Object>(expectedSize);
+            }
+        });
+        register(ConcurrentHashMap.class, new SizedFactory<ConcurrentHashMap<?, ?>>() {
+            @Override public ConcurrentHashMap<?, ?> create(int expectedSize) {
+                return new ConcurrentHashMap<Object, Object>(hashCapacity(expectedSize));
+            }
+        });
+        register(ConcurrentSkipListMap.class, new SizedFactory<ConcurrentSkipListMap<?, ?>>() {
+            @Override public ConcurrentSkipListMap<?, ?> create(int expectedSize) {
+                return new ConcurrentSkipListMap<Object, Object>();
+            }
+        });
+        register(HashMultiset.class, new SizedFactory<HashMultiset<?>>() {
+            @Override public HashMultiset<?> create(int expectedSize) {
+                return HashMultiset.create(expectedSize);
+            }
+        });
+        register(LinkedHashMultiset.class, new SizedFactory<LinkedHashMultiset<?>>() {
+            @Override public LinkedHashMultiset<?> create(int expectedSize) {
+                return LinkedHashMultiset.create(expectedSize);
+            }
+        });
+        register(TreeMultiset.class, new SizedFactory<TreeMultiset<?>>() {
+            @SuppressWarnings("unchecked")
+            @Override public TreeMultiset<?> create(int expectedSize) {
+                return TreeMultiset.create();
+            }
+        });
+        register(ConcurrentHashMultiset.class, new SizedFactory<ConcurrentHashMultiset<?>>() {
+            @Override public ConcurrentHashMultiset<?> create(int expectedSize) {
+                return ConcurrentHashMultiset.create();
+            }
+        });
+    }
+
+    private ImplementationFactories() {}
+
+    /**
+     * Returns a new instance of the supplied implementation class, presized
+     * for the expected number of elements if the implementation allows it.
+     *
+     * @throws IllegalArgumentException if the class is not one of those
+     *                                  registered and does not have a public
+     *                                  no argument constructor.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T instantiate(Class<? extends T> implementationClass, int expectedSize) {
+        SizedFactory<?> factory = factories.get(implementationClass);
+        if (factory == null) {
+            factory = constructorFactory(implementationClass);
+            SizedFactory<?> existing = factories.putIfAbsent(implementationClass, factory);
+            if (existing != null) {
+                factory = existing;
+            }
+        }
+        return (T) factory.create(expectedSize);
+    }
+
+    private static <T> void register(Class<?> implementationClass, SizedFactory<T> factory) {
+        factories.put(implementationClass, factory);
+    }
+
+    private static <T> SizedFactory<T> constructorFactory(final Class<T> implementationClass) {
+        final Constructor<T> constructor;
+        try {
+            constructor = implementationClass.getConstructor();
+        } catch (NoSuchMethodException exception) {
+            throw notInstantiable(implementationClass, exception);
+        }
+        return new SizedFactory<T>() {
+            @Override public T create(int expectedSize) {
+                try {
+                    return constructor.newInstance();
+                } catch (InstantiationException exception) {
+                    throw notInstantiable(implementationClass, exception);
+                } catch (IllegalAccessException exception) {
+                    throw notInstantiable(implementationClass, exception);
+                } catch (InvocationTargetException exception) {
+                    Throwable cause = exception.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    if (cause instanceof Error) {
+                        throw (Error) cause;
+                    }
+                    throw notInstantiable(implementationClass, exception);
+                }
+            }
+        };
+    }
+
+    private static IllegalArgumentException notInstantiable(Class<?> implementationClass, Exception cause) {
+        return new IllegalArgumentException(
+                format("Could not instantiate instance of type %s. Does it have a public no argument constructor?",
+                        implementationClass.getSimpleName()),
+                cause);
+    }
+
+    private static int hashCapacity(int expectedSize) {
+        return expectedSize < 3 ? expectedSize + 1 : (int) Math.min(expectedSize / 0.75 + 1, Integer.MAX_VALUE);
+    }
+
+    abstract static class SizedFactory<T> extends Factory<T> {
+        abstract T create(int expectedSize);
+
+        @Override public T create() {
+            return create(0);
+        }
+    }
+}
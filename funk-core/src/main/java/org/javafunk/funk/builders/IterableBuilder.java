@@ -8,12 +8,16 @@
  */
 package org.javafunk.funk.builders;
 
+import org.javafunk.funk.datastructures.CompactList;
+
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+
+import static org.javafunk.funk.datastructures.CompactList.compactListFrom;
 
 public class IterableBuilder<E> extends AbstractBuilder<E, IterableBuilder<E>, Iterable<E>> {
-    private List<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
+    private Iterable<E> handedOver;
 
     public static <E> IterableBuilder<E> iterableBuilder() {
         return new IterableBuilder<E>();
@@ -23,17 +27,59 @@ public class IterableBuilder<E> extends AbstractBuilder<E, IterableBuilder<E>, I
         return new IterableBuilder<E>();
     }
 
+    /**
+     * Returns an unmodifiable {@code Iterable} over the elements in this
+     * builder. Up to {@value CompactList#maximumSize} elements are returned in
+     * a {@code CompactList}. Beyond that, the builder's own list is handed
+     * over behind an unmodifiable view rather than copied. The same view is
+     * returned until the builder is next added to, at which point the builder
+     * takes a copy of its storage.
+     */
     @Override public Iterable<E> build() {
-        return Collections.unmodifiableList(new ArrayList<E>(elements));
+        if (handedOver != null) {
+            return handedOver;
+        }
+        if (elements.size() <= CompactList.maximumSize) {
+            return compactListFrom(elements);
+        }
+        handedOver = Collections.unmodifiableList(elements);
+        return handedOver;
     }
 
     @Override protected void handle(E element) {
-        elements.add(element);
+        mutableElements().add(element);
+    }
+
+    private ArrayList<E> mutableElements() {
+        if (handedOver != null) {
+            elements = new ArrayList<E>(elements);
+            handedOver = null;
+        }
+        return elements;
+    }
+
+    @Override protected void expectAdditional(int numberOfElements) {
+        ArrayList<E> elements = mutableElements();
+        elements.ensureCapacity(elements.size() + numberOfElements);
     }
 
     @Override protected IterableBuilder<E> updatedBuilder() {
         return this;
     }
 
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((IterableBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
+
 }
 
@@ -35,4 +35,18 @@ public class IteratorBuilder<E> extends AbstractBuilder<E, IteratorBuilder<E>, I
     @Override protected IteratorBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((IteratorBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
 }
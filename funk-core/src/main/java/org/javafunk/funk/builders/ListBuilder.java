@@ -8,17 +8,20 @@
  */
 package org.javafunk.funk.builders;
 
-import org.javafunk.funk.Classes;
+import org.javafunk.funk.datastructures.CompactList;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static org.javafunk.funk.datastructures.CompactList.compactListFrom;
+
 public class ListBuilder<E>
         extends AbstractBuilder<E, ListBuilder<E>, List<E>>
         implements AbstractBuilder.WithCustomImplementationSupport<E, List, List<E>> {
-    private List<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
+    private List<E> handedOver;
 
     public static <E> ListBuilder<E> listBuilder() {
         return new ListBuilder<E>();
@@ -28,13 +31,33 @@ public class ListBuilder<E>
         return new ListBuilder<E>();
     }
 
+    /**
+     * Returns an unmodifiable {@code List} of the elements in this builder.
+     * Up to {@value CompactList#maximumSize} elements are returned in a
+     * {@code CompactList}. Beyond that, the builder's own list is handed over
+     * behind an unmodifiable view rather than copied. The same view is
+     * returned until the builder is next added to, at which point the builder
+     * takes a copy of its storage.
+     */
     @Override public List<E> build() {
-        return Collections.unmodifiableList(new ArrayList<E>(elements));
+        if (handedOver != null) {
+            return handedOver;
+        }
+        if (elements.size() <= CompactList.maximumSize) {
+            return compactListFrom(elements);
+        }
+        handedOver = Collections.unmodifiableList(elements);
+        return handedOver;
     }
 
+    /**
+     * Returns a new instance of the supplied implementation class containing
+     * the elements in this builder. Common implementations are created
+     * without reflection and presized to hold them.
+     */
     @Override public List<E> build(Class<? extends List> implementationClass) {
         @SuppressWarnings("unchecked")
-        List<E> list = (List<E>) Classes.uncheckedInstantiate(implementationClass);
+        List<E> list = ImplementationFactories.instantiate(implementationClass, elements.size());
         list.addAll(elements);
         return list;
     }
@@ -44,10 +67,37 @@ public class ListBuilder<E>
     }
 
     @Override protected void handle(E element) {
-        elements.add(element);
+        mutableElements().add(element);
+    }
+
+    private ArrayList<E> mutableElements() {
+        if (handedOver != null) {
+            elements = new ArrayList<E>(elements);
+            handedOver = null;
+        }
+        return elements;
+    }
+
+    @Override protected void expectAdditional(int numberOfElements) {
+        ArrayList<E> elements = mutableElements();
+        elements.ensureCapacity(elements.size() + numberOfElements);
     }
 
     @Override protected ListBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((ListBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
 }
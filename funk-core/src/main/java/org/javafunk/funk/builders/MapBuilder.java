@@ -8,14 +8,13 @@
  */
 package org.javafunk.funk.builders;
 
-import org.javafunk.funk.Classes;
 import org.javafunk.funk.Maps;
 import org.javafunk.funk.Tuples;
+import org.javafunk.funk.datastructures.CompactList;
 import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -23,12 +22,14 @@ import static org.javafunk.funk.Iterables.concat;
 import static org.javafunk.funk.Lazily.map;
 import static org.javafunk.funk.Literals.iterableFrom;
 import static org.javafunk.funk.Literals.mapEntryFor;
+import static org.javafunk.funk.datastructures.CompactMap.compactMapFrom;
 import static org.javafunk.funk.Sets.union;
 
 public class MapBuilder<K, V>
         extends AbstractBuilder<Map.Entry<K, V>, MapBuilder<K, V>, Map<K, V>>
         implements AbstractBuilder.WithCustomImplementationSupport<Map.Entry<K, V>, Map, Map<K, V>> {
     private Map<K, V> elements = new LinkedHashMap<K, V>();
+    private Map<K, V> handedOver;
 
     public static <K, V> MapBuilder<K, V> mapBuilder() {
         return new MapBuilder<K, V>();
@@ -38,13 +39,34 @@ public class MapBuilder<K, V>
         return new MapBuilder<K, V>();
     }
 
+    /**
+     * Returns an unmodifiable {@code Map} of the entries in this builder, in
+     * the order in which their keys were first added. Up to
+     * {@value CompactList#maximumSize} entries are returned in a
+     * {@code CompactMap}. Beyond that, the builder's own map is handed over
+     * behind an unmodifiable view rather than copied. The same view is
+     * returned until the builder is next added to, at which point the builder
+     * takes a copy of its storage.
+     */
     @Override public Map<K, V> build() {
-        return Collections.unmodifiableMap(new HashMap<K, V>(elements));
-    }
-
+        if (handedOver != null) {
+            return handedOver;
+        }
+        if (elements.size() <= CompactList.maximumSize) {
+            return compactMapFrom(elements);
+        }
+        handedOver = Collections.unmodifiableMap(elements);
+        return handedOver;
+    }
+
+    /**
+     * Returns a new instance of the supplied implementation class containing
+     * the entries in this builder. Common implementations are created
+     * without reflection and presized to hold them.
+     */
     @Override public Map<K, V> build(Class<? extends Map> implementationClass) {
         @SuppressWarnings("unchecked")
-        Map<K, V> map = (Map<K, V>) Classes.uncheckedInstantiate(implementationClass);
+        Map<K, V> map = ImplementationFactories.instantiate(implementationClass, elements.size());
         map.putAll(elements);
         return map;
     }
@@ -102,13 +124,35 @@ public class MapBuilder<K, V>
     }
 
     @Override protected void handle(Map.Entry<K, V> element) {
-        elements.put(element.getKey(), element.getValue());
+        mutableElements().put(element.getKey(), element.getValue());
+    }
+
+    private Map<K, V> mutableElements() {
+        if (handedOver != null) {
+            elements = new LinkedHashMap<K, V>(elements);
+            handedOver = null;
+        }
+        return elements;
     }
 
     @Override protected MapBuilder<K, V> updatedBuilder() {
         return this;
     }
 
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((MapBuilder<?, ?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
+
     public MapBuilder<K, V> with(Map<K, V> m1) {
         return andEntries(m1.entrySet());
     }
@@ -11,19 +11,17 @@ package org.javafunk.funk.builders;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multisets;
-import org.javafunk.funk.Classes;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
 
 public class MultisetBuilder<E>
         extends AbstractBuilder<E, MultisetBuilder<E>, Multiset<E>>
         implements AbstractBuilder.WithCustomImplementationSupport<E, Multiset, Multiset<E>> {
     // TODO: Use a sparse multiset that maintains exact insertion ordering for this purpose.
     // This is not memory efficient.
-    private List<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
 
     public static <E> MultisetBuilder<E> multisetBuilder() {
         return new MultisetBuilder<E>();
@@ -34,12 +32,19 @@ public class MultisetBuilder<E>
     }
 
     @Override public Multiset<E> build() {
-        return Multisets.unmodifiableMultiset(HashMultiset.create(elements));
+        Multiset<E> multiset = HashMultiset.create(elements.size());
+        multiset.addAll(elements);
+        return Multisets.unmodifiableMultiset(multiset);
     }
 
+    /**
+     * Returns a new instance of the supplied implementation class containing
+     * the elements in this builder. Common implementations are created
+     * without reflection and presized to hold them.
+     */
     @Override public Multiset<E> build(Class<? extends Multiset> implementationClass) {
         @SuppressWarnings("unchecked")
-        Multiset<E> multiset = (Multiset<E>) Classes.uncheckedInstantiate(implementationClass);
+        Multiset<E> multiset = ImplementationFactories.instantiate(implementationClass, elements.size());
         multiset.addAll(elements);
         return multiset;
     }
@@ -52,7 +57,25 @@ public class MultisetBuilder<E>
         elements.add(element);
     }
 
+    @Override protected void expectAdditional(int numberOfElements) {
+        elements.ensureCapacity(elements.size() + numberOfElements);
+    }
+
     @Override protected MultisetBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((MultisetBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
 }
@@ -8,19 +8,20 @@
  */
 package org.javafunk.funk.builders;
 
-import org.javafunk.funk.Classes;
+import org.javafunk.funk.datastructures.CompactList;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 
+import static org.javafunk.funk.datastructures.CompactSet.compactSetFrom;
+
 public class SetBuilder<E>
         extends AbstractBuilder<E, SetBuilder<E>, Set<E>>
         implements AbstractBuilder.WithCustomImplementationSupport<E, Set, Set<E>> {
-    private List<E> elements = new ArrayList<E>();
+    private ArrayList<E> elements = new ArrayList<E>();
 
     public static <E> SetBuilder<E> setBuilder() {
         return new SetBuilder<E>();
@@ -30,13 +31,26 @@ public class SetBuilder<E>
         return new SetBuilder<E>();
     }
 
+    /**
+     * Returns an unmodifiable {@code Set} of the distinct elements in this
+     * builder. Up to {@value CompactList#maximumSize} elements are returned in
+     * a {@code CompactSet}, and more in a {@code HashSet}.
+     */
     @Override public Set<E> build() {
+        if (elements.size() <= CompactList.maximumSize) {
+            return compactSetFrom(elements);
+        }
         return Collections.unmodifiableSet(new HashSet<E>(elements));
     }
 
+    /**
+     * Returns a new instance of the supplied implementation class containing
+     * the elements in this builder. Common implementations are created
+     * without reflection and presized to hold them.
+     */
     @Override public Set<E> build(Class<? extends Set> implementationClass) {
         @SuppressWarnings("unchecked")
-        Set<E> set = (Set<E>) Classes.uncheckedInstantiate(implementationClass);
+        Set<E> set = ImplementationFactories.instantiate(implementationClass, elements.size());
         set.addAll(elements);
         return set;
     }
@@ -49,7 +63,25 @@ public class SetBuilder<E>
         elements.add(element);
     }
 
+    @Override protected void expectAdditional(int numberOfElements) {
+        elements.ensureCapacity(elements.size() + numberOfElements);
+    }
+
     @Override protected SetBuilder<E> updatedBuilder() {
         return this;
     }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return elements.equals(((SetBuilder<?>) other).elements);
+    }
+
+    @Override public int hashCode() {
+        return elements.hashCode();
+    }
 }
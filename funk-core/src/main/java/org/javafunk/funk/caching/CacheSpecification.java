@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable description of the cache backing a memoised function,
+ * covering how many entries it may hold, how long entries remain valid and
+ * whether keys are held weakly.
+ *
+ * <p>Each {@code with} method returns a new {@code CacheSpecification} with
+ * the corresponding option set, so that specifications can be shared and
+ * refined:</p>
+ * <blockquote>
+ * <pre>
+ *     CacheSpecification specification = CacheSpecification.unbounded()
+ *             .withMaximumSize(10000)
+ *             .withTimeToLive(5, TimeUnit.MINUTES);
+ * </pre>
+ * </blockquote>
+ *
+ * <p>When bounded, entries are evicted in approximately least recently used
+ * order as the cache approaches its maximum size.</p>
+ */
+public class CacheSpecification {
+    private static final long unlimited = -1;
+
+    private final long maximumSize;
+    private final long timeToLiveNanos;
+    private final boolean weakKeys;
+    private final Ticker ticker;
+
+    private CacheSpecification(long maximumSize, long timeToLiveNanos, boolean weakKeys, Ticker ticker) {
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.weakKeys = weakKeys;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Returns a {@code CacheSpecification} for a cache that holds every
+     * entry strongly and indefinitely.
+     *
+     * @return An unbounded {@code CacheSpecification}.
+     */
+    public static CacheSpecification unbounded() {
+        return new CacheSpecification(unlimited, unlimited, false, Ticker.systemTicker());
+    }
+
+    /**
+     * Returns a copy of this {@code CacheSpecification} that holds at most the
+     * supplied number of entries.
+     *
+     * @param maximumSize The maximum number of entries to hold.
+     * @return A bounded copy of this {@code CacheSpecification}.
+     * @throws IllegalArgumentException if the supplied size is negative.
+     */
+    public CacheSpecification withMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative.");
+        }
+        return new CacheSpecification(maximumSize, timeToLiveNanos, weakKeys, ticker);
+    }
+
+    /**
+     * Returns a copy of this {@code CacheSpecification} whose entries expire
+     * once the supplied duration has elapsed since they were computed.
+     *
+     * @param duration The length of time for which entries remain valid.
+     * @param unit     The unit of the supplied duration.
+     * @return An expiring copy of this {@code CacheSpecification}.
+     * @throws IllegalArgumentException if the supplied duration is negative.
+     */
+    public CacheSpecification withTimeToLive(long duration, TimeUnit unit) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Time to live must not be negative.");
+        }
+        return new CacheSpecification(maximumSize, checkNotNull(unit).toNanos(duration), weakKeys, ticker);
+    }
+
+    /**
+     * Returns a copy of this {@code CacheSpecification} that holds keys weakly,
+     * allowing entries to be discarded once their keys are no longer
+     * referenced elsewhere. Weakly held keys are compared by identity rather
+     * than by {@code equals}.
+     *
+     * @return A weakly keyed copy of this {@code CacheSpecification}.
+     */
+    public CacheSpecification withWeakKeys() {
+        return new CacheSpecification(maximumSize, timeToLiveNanos, true, ticker);
+    }
+
+    /**
+     * Returns a copy of this {@code CacheSpecification} that measures the age
+     * of entries using the supplied {@code Ticker} in place of
+     * {@link System#nanoTime()}.
+     *
+     * @param ticker The source of time for expiring entries.
+     * @return A copy of this {@code CacheSpecification} using the supplied
+     *         {@code Ticker}.
+     */
+    public CacheSpecification withTicker(Ticker ticker) {
+        return new CacheSpecification(maximumSize, timeToLiveNanos, weakKeys, checkNotNull(ticker));
+    }
+
+    boolean isBounded() {
+        return maximumSize != unlimited;
+    }
+
+    boolean isExpiring() {
+        return timeToLiveNanos != unlimited;
+    }
+
+    long timeToLiveNanos() {
+        return timeToLiveNanos;
+    }
+
+    Ticker ticker() {
+        return ticker;
+    }
+
+    CacheBuilder<Object, Object> toCacheBuilder() {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats().ticker(ticker);
+        if (isBounded()) {
+            builder.maximumSize(maximumSize);
+        }
+        if (isExpiring()) {
+            builder.expireAfterWrite(timeToLiveNanos, TimeUnit.NANOSECONDS);
+        }
+        if (weakKeys) {
+            builder.weakKeys();
+        }
+        return builder;
+    }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        CacheSpecification that = (CacheSpecification) other;
+        return new EqualsBuilder()
+                .append(maximumSize, that.maximumSize)
+                .append(timeToLiveNanos, that.timeToLiveNanos)
+                .append(weakKeys, that.weakKeys)
+                .append(ticker, that.ticker)
+                .isEquals();
+    }
+
+    @Override public int hashCode() {
+        return new HashCodeBuilder()
+                .append(maximumSize)
+                .append(timeToLiveNanos)
+                .append(weakKeys)
+                .append(ticker)
+                .toHashCode();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("maximumSize", maximumSize)
+                .append("timeToLiveNanos", timeToLiveNanos)
+                .append("weakKeys", weakKeys)
+                .toString();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * A snapshot of the number of hits, misses and evictions recorded by a
+ * memoised function since it was created.
+ *
+ * <p>A hit is a call answered from the cache, a miss is a call that
+ * computed a new value and an eviction is an entry discarded because the
+ * cache was full, the entry expired or its key was garbage collected.</p>
+ */
+public class CacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        CacheStatistics that = (CacheStatistics) other;
+        return new EqualsBuilder()
+                .append(hitCount, that.hitCount)
+                .append(missCount, that.missCount)
+                .append(evictionCount, that.evictionCount)
+                .isEquals();
+    }
+
+    @Override public int hashCode() {
+        return new HashCodeBuilder()
+                .append(hitCount)
+                .append(missCount)
+                .append(evictionCount)
+                .toHashCode();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("hitCount", hitCount)
+                .append("missCount", missCount)
+                .append("evictionCount", evictionCount)
+                .toString();
+    }
+}
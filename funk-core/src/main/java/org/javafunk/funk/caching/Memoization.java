@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import org.javafunk.funk.functors.functions.NullaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+/**
+ * Factory methods for memoised functions, which can be supplied anywhere an
+ * expensive function would otherwise be called repeatedly, for example as
+ * the mapper given to {@code Lazily.map} or {@code Maps.getOrAdd}, or as the
+ * function given to {@code Option.getOrCall} or {@code Lazily.repeatedly}.
+ *
+ * <p>The returned functions are safe to share between threads.</p>
+ */
+public class Memoization {
+    private Memoization() {}
+
+    public static <S, T> MemoizedUnaryFunction<S, T> memoize(UnaryFunction<? super S, ? extends T> function) {
+        return new MemoizedUnaryFunction<S, T>(function);
+    }
+
+    public static <S, T> MemoizedUnaryFunction<S, T> memoize(
+            UnaryFunction<? super S, ? extends T> function,
+            CacheSpecification specification) {
+        return new MemoizedUnaryFunction<S, T>(function, specification);
+    }
+
+    public static <T> MemoizedNullaryFunction<T> memoize(NullaryFunction<? extends T> function) {
+        return new MemoizedNullaryFunction<T>(function);
+    }
+
+    public static <T> MemoizedNullaryFunction<T> memoize(
+            NullaryFunction<? extends T> function,
+            CacheSpecification specification) {
+        return new MemoizedNullaryFunction<T>(function, specification);
+    }
+}
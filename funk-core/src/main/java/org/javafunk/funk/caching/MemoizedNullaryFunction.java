@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import com.google.common.base.Ticker;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.NullaryFunction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code NullaryFunction} that calls a delegate {@code NullaryFunction}
+ * once and returns the same result on every subsequent call, optionally
+ * recomputing it once the time to live given by a
+ * {@link CacheSpecification} has elapsed.
+ *
+ * <p>Concurrent calls while the result is being computed wait for that
+ * computation rather than starting their own. Once a result is available,
+ * calls return it without locking. If the delegate throws, the exception
+ * is propagated and the next call tries again. The maximum size and weak
+ * key options of the specification do not apply to a single value and are
+ * ignored.</p>
+ *
+ * @param <T> The type of the output of this function.
+ */
+public class MemoizedNullaryFunction<T> implements NullaryFunction<T> {
+    private final NullaryFunction<? extends T> function;
+    private final CacheSpecification specification;
+    private final Ticker ticker;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private volatile Entry<T> entry;
+
+    public MemoizedNullaryFunction(NullaryFunction<? extends T> function) {
+        this(function, CacheSpecification.unbounded());
+    }
+
+    public MemoizedNullaryFunction(NullaryFunction<? extends T> function, CacheSpecification specification) {
+        this.function = checkNotNull(function);
+        this.specification = checkNotNull(specification);
+        this.ticker = specification.ticker();
+    }
+
+    @Override public T call() {
+        Entry<T> current = entry;
+        if (isLive(current)) {
+            hitCount.incrementAndGet();
+            return current.value;
+        }
+        synchronized (this) {
+            current = entry;
+            if (isLive(current)) {
+                hitCount.incrementAndGet();
+                return current.value;
+            }
+            if (current != null) {
+                evictionCount.incrementAndGet();
+                entry = null;
+            }
+            missCount.incrementAndGet();
+            T value = function.call();
+            entry = new Entry<T>(value, ticker.read());
+            return value;
+        }
+    }
+
+    public CacheStatistics statistics() {
+        return new CacheStatistics(hitCount.get(), missCount.get(), evictionCount.get());
+    }
+
+    public synchronized void invalidate() {
+        entry = null;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("function", function)
+                .append("specification", specification)
+                .toString();
+    }
+
+    private boolean isLive(Entry<T> entry) {
+        if (entry == null) {
+            return false;
+        }
+        return !specification.isExpiring()
+                || ticker.read() - entry.computedAt < specification.timeToLiveNanos();
+    }
+
+    private static class Entry<T> {
+        private final T value;
+        private final long computedAt;
+
+        private Entry(T value, long computedAt) {
+            this.value = value;
+            this.computedAt = computedAt;
+        }
+    }
+}
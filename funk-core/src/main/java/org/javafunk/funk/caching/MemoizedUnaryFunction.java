@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.monads.Option;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code UnaryFunction} that returns the result of calling a delegate
+ * {@code UnaryFunction}, remembering the result for each input in a
+ * concurrent cache built to a {@link CacheSpecification}.
+ *
+ * <p>Concurrent calls with the same input while its result is being computed
+ * wait for that computation rather than starting their own, so the delegate
+ * is called at most once per input for as long as the result remains
+ * cached. If the delegate throws, the exception is propagated to every
+ * waiting caller and nothing is cached.</p>
+ *
+ * <p>{@code null} results are cached like any other. {@code null} inputs
+ * cannot be used as cache keys and are passed straight through to the
+ * delegate on every call.</p>
+ *
+ * @param <S> The type of the input to this function.
+ * @param <T> The type of the output of this function.
+ */
+public class MemoizedUnaryFunction<S, T> implements UnaryFunction<S, T> {
+    private final UnaryFunction<? super S, ? extends T> function;
+    private final CacheSpecification specification;
+    private final LoadingCache<S, Option<T>> cache;
+
+    public MemoizedUnaryFunction(UnaryFunction<? super S, ? extends T> function) {
+        this(function, CacheSpecification.unbounded());
+    }
+
+    public MemoizedUnaryFunction(
+            final UnaryFunction<? super S, ? extends T> function,
+            CacheSpecification specification) {
+        this.function = checkNotNull(function);
+        this.specification = checkNotNull(specification);
+        this.cache = specification.toCacheBuilder().build(new CacheLoader<S, Option<T>>() {
+            @Override public Option<T> load(S input) {
+                return Option.<T>option(function.call(input));
+            }
+        });
+    }
+
+    @Override public T call(S input) {
+        if (input == null) {
+            return function.call(null);
+        }
+        try {
+            return cache.getUnchecked(input).getOrNull();
+        } catch (UncheckedExecutionException exception) {
+            throw Throwables.propagate(exception.getCause());
+        } catch (ExecutionError error) {
+            throw Throwables.propagate(error.getCause());
+        }
+    }
+
+    public CacheStatistics statistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void invalidate(S input) {
+        if (input != null) {
+            cache.invalidate(input);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("function", function)
+                .append("specification", specification)
+                .toString();
+    }
+}
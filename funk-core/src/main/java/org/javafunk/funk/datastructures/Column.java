@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A single column of values in a {@link TupleTable}, holding one slot of
+ * every tuple in the table. Values are appended only through the table, so
+ * that all of its columns remain the same size.
+ *
+ * <p>Columns of {@code int}, {@code long} and {@code double} values store
+ * them unboxed, either in an array on the heap or, for the off-heap
+ * variants, in a direct {@code ByteBuffer} outside of it, and expose them
+ * as an {@link IntSequence}, {@link LongSequence} or {@link DoubleSequence}
+ * for unboxed {@code map}, {@code filter} and {@code reduce}. Any other
+ * values are held in an object column.</p>
+ *
+ * <p>{@code map} and {@code filter} return lazy {@code Iterable} instances
+ * evaluated each time they are iterated, whereas {@code reduce} consumes
+ * the column immediately.</p>
+ *
+ * @param <T> The type of the values in this column.
+ */
+public abstract class Column<T> implements Iterable<T> {
+    static final int defaultCapacity = 16;
+
+    Column() {}
+
+    public static <T> ObjectColumn<T> objects() {
+        return new ObjectColumn<T>();
+    }
+
+    public static IntColumn ints() {
+        return new IntColumn(false);
+    }
+
+    public static IntColumn offHeapInts() {
+        return new IntColumn(true);
+    }
+
+    public static LongColumn longs() {
+        return new LongColumn(false);
+    }
+
+    public static LongColumn offHeapLongs() {
+        return new LongColumn(true);
+    }
+
+    public static DoubleColumn doubles() {
+        return new DoubleColumn(false);
+    }
+
+    public static DoubleColumn offHeapDoubles() {
+        return new DoubleColumn(true);
+    }
+
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public abstract T get(int index);
+
+    public <R> Iterable<R> map(UnaryFunction<? super T, R> function) {
+        return Lazily.map(this, checkNotNull(function));
+    }
+
+    public Iterable<T> filter(UnaryPredicate<? super T> predicate) {
+        return Lazily.filter(this, checkNotNull(predicate));
+    }
+
+    public <R> R reduce(R initialValue, BinaryFunction<R, ? super T, R> function) {
+        return Eagerly.reduce(this, initialValue, checkNotNull(function));
+    }
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    void checkAddable(T value) {}
+
+    abstract void add(T value);
+
+    abstract void ensureCapacity(int capacity);
+
+    static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    static int grownCapacity(int capacity, int required) {
+        if (required < 0) {
+            throw new IllegalStateException("Column cannot hold more than " + Integer.MAX_VALUE + " values.");
+        }
+        long grown = Math.max((long) capacity * 2, required);
+        return (int) Math.min(grown, Integer.MAX_VALUE - 8);
+    }
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable {@code List} of at most {@value #maximumSize} elements which
+ * holds each element in a field of its own rather than in a backing array.
+ *
+ * <p>Each size is a class of its own, extending the class for one element
+ * fewer with a field for its last element, in the same way as the tuples,
+ * so that a small list costs a single object and element access is a
+ * comparison against the index per preceding element rather than an array
+ * bounds check and load. Elements may be {@code null}, and lists compare
+ * equal to any other {@code List} with the same elements in the same
+ * order.</p>
+ *
+ * @param <E> The type of the elements in the list.
+ */
+public abstract class CompactList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int maximumSize = 10;
+
+    private static final CompactList<Object> empty = new List0<Object>();
+
+    CompactList() {}
+
+    @SuppressWarnings("unchecked")
+    public static <E> CompactList<E> compactListWith() {
+        return (CompactList<E>) empty;
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1) {
+        return new List1<E>(e1);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2) {
+        return new List2<E>(e1, e2);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3) {
+        return new List3<E>(e1, e2, e3);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4) {
+        return new List4<E>(e1, e2, e3, e4);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5) {
+        return new List5<E>(e1, e2, e3, e4, e5);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5, E e6) {
+        return new List6<E>(e1, e2, e3, e4, e5, e6);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+        return new List7<E>(e1, e2, e3, e4, e5, e6, e7);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+        return new List8<E>(e1, e2, e3, e4, e5, e6, e7, e8);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+        return new List9<E>(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+    }
+
+    public static <E> CompactList<E> compactListWith(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+        return new List10<E>(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
+    }
+
+    /**
+     * Returns a {@code CompactList} containing the elements of the supplied
+     * {@code Collection} in iteration order.
+     *
+     * @throws IllegalArgumentException if the collection contains more than
+     *                                  {@value #maximumSize} elements.
+     */
+    public static <E> CompactList<E> compactListFrom(Collection<? extends E> elements) {
+        checkNotNull(elements);
+        if (elements.size() > maximumSize) {
+            throw new IllegalArgumentException("Compact lists cannot hold more than " + maximumSize + " elements.");
+        }
+        if (elements instanceof CompactList) {
+            @SuppressWarnings("unchecked")
+            CompactList<E> list = (CompactList<E>) elements;
+            return list;
+        }
+        Iterator<? extends E> iterator = elements.iterator();
+        switch (elements.size()) {
+            case 0:
+                return compactListWith();
+            case 1:
+                return compactListWith(iterator.next());
+            case 2:
+                return compactListWith(iterator.next(), iterator.next());
+            case 3:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next());
+            case 4:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 5:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 6:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 7:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 8:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 9:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            case 10:
+                return compactListWith(iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next(), iterator.next());
+            default:
+                throw new IllegalStateException("Collection changed size while being copied.");
+        }
+    }
+
+    /**
+     * Returns a {@code CompactList} containing the first {@code size} elements
+     * of the supplied array.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> CompactList<E> compactListFrom(Object[] elements, int size) {
+        switch (size) {
+            case 0:
+                return compactListWith();
+            case 1:
+                return compactListWith((E) elements[0]);
+            case 2:
+                return compactListWith((E) elements[0], (E) elements[1]);
+            case 3:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2]);
+            case 4:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3]);
+            case 5:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4]);
+            case 6:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4], (E) elements[5]);
+            case 7:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4], (E) elements[5], (E) elements[6]);
+            case 8:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4], (E) elements[5], (E) elements[6], (E) elements[7]);
+            case 9:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4], (E) elements[5], (E) elements[6], (E) elements[7], (E) elements[8]);
+            case 10:
+                return compactListWith((E) elements[0], (E) elements[1], (E) elements[2], (E) elements[3], (E) elements[4], (E) elements[5], (E) elements[6], (E) elements[7], (E) elements[8], (E) elements[9]);
+            default:
+                throw new IllegalArgumentException("Compact lists cannot hold more than " + maximumSize + " elements.");
+        }
+    }
+
+    private static class List0<E> extends CompactList<E> {
+        private static final long serialVersionUID = 1L;
+
+        @Override public int size() {
+            return 0;
+        }
+
+        @Override public E get(int index) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        private Object readResolve() {
+            return empty;
+        }
+    }
+
+    private static class List1<E> extends List0<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e1;
+
+        List1(E e1) {
+            this.e1 = e1;
+        }
+
+        @Override public int size() {
+            return 1;
+        }
+
+        @Override public E get(int index) {
+            return index == 0 ? e1 : super.get(index);
+        }
+    }
+
+    private static class List2<E> extends List1<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e2;
+
+        List2(E e1, E e2) {
+            super(e1);
+            this.e2 = e2;
+        }
+
+        @Override public int size() {
+            return 2;
+        }
+
+        @Override public E get(int index) {
+            return index == 1 ? e2 : super.get(index);
+        }
+    }
+
+    private static class List3<E> extends List2<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e3;
+
+        List3(E e1, E e2, E e3) {
+            super(e1, e2);
+            this.e3 = e3;
+        }
+
+        @Override public int size() {
+            return 3;
+        }
+
+        @Override public E get(int index) {
+            return index == 2 ? e3 : super.get(index);
+        }
+    }
+
+    private static class List4<E> extends List3<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e4;
+
+        List4(E e1, E e2, E e3, E e4) {
+            super(e1, e2, e3);
+            this.e4 = e4;
+        }
+
+        @Override public int size() {
+            return 4;
+        }
+
+        @Override public E get(int index) {
+            return index == 3 ? e4 : super.get(index);
+        }
+    }
+
+    private static class List5<E> extends List4<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e5;
+
+        List5(E e1, E e2, E e3, E e4, E e5) {
+            super(e1, e2, e3, e4);
+            this.e5 = e5;
+        }
+
+        @Override public int size() {
+            return 5;
+        }
+
+        @Override public E get(int index) {
+            return index == 4 ? e5 : super.get(index);
+        }
+    }
+
+    private static class List6<E> extends List5<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e6;
+
+        List6(E e1, E e2, E e3, E e4, E e5, E e6) {
+            super(e1, e2, e3, e4, e5);
+            this.e6 = e6;
+        }
+
+        @Override public int size() {
+            return 6;
+        }
+
+        @Override public E get(int index) {
+            return index == 5 ? e6 : super.get(index);
+        }
+    }
+
+    private static class List7<E> extends List6<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e7;
+
+        List7(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
+            super(e1, e2, e3, e4, e5, e6);
+            this.e7 = e7;
+        }
+
+        @Override public int size() {
+            return 7;
+        }
+
+        @Override public E get(int index) {
+            return index == 6 ? e7 : super.get(index);
+        }
+    }
+
+    private static class List8<E> extends List7<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e8;
+
+        List8(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
+            super(e1, e2, e3, e4, e5, e6, e7);
+            this.e8 = e8;
+        }
+
+        @Override public int size() {
+            return 8;
+        }
+
+        @Override public E get(int index) {
+            return index == 7 ? e8 : super.get(index);
+        }
+    }
+
+    private static class List9<E> extends List8<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e9;
+
+        List9(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
+            super(e1, e2, e3, e4, e5, e6, e7, e8);
+            this.e9 = e9;
+        }
+
+        @Override public int size() {
+            return 9;
+        }
+
+        @Override public E get(int index) {
+            return index == 8 ? e9 : super.get(index);
+        }
+    }
+
+    private static class List10<E> extends List9<E> {
+        private static final long serialVersionUID = 1L;
+
+        private final E e10;
+
+        List10(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
+            super(e1, e2, e3, e4, e5, e6, e7, e8, e9);
+            this.e10 = e10;
+        }
+
+        @Override public int size() {
+            return 10;
+        }
+
+        @Override public E get(int index) {
+            return index == 9 ? e10 : super.get(index);
+        }
+    }
+}
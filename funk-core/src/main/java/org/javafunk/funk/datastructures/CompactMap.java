@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable {@code Map} of at most {@value CompactList#maximumSize}
+ * entries, holding its keys and values in a pair of {@link CompactList}s in
+ * the iteration order of the map from which it was created.
+ *
+ * <p>Keys are looked up by comparing against each key in turn, which for so
+ * few entries is cheaper than hashing into a {@code HashMap} and needs
+ * neither a table nor an object per entry.</p>
+ *
+ * @param <K> The type of the keys in the map.
+ * @param <V> The type of the values in the map.
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final CompactList<K> keys;
+    private final CompactList<V> values;
+
+    private CompactMap(CompactList<K> keys, CompactList<V> values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Returns a {@code CompactMap} containing the entries of the supplied
+     * {@code Map} in its iteration order.
+     *
+     * @throws IllegalArgumentException if the map contains more than
+     *                                  {@value CompactList#maximumSize}
+     *                                  entries.
+     */
+    public static <K, V> CompactMap<K, V> compactMapFrom(Map<? extends K, ? extends V> map) {
+        checkNotNull(map);
+        if (map instanceof CompactMap) {
+            @SuppressWarnings("unchecked")
+            CompactMap<K, V> compactMap = (CompactMap<K, V>) map;
+            return compactMap;
+        }
+        if (map.size() > CompactList.maximumSize) {
+            throw new IllegalArgumentException(
+                    "Compact maps cannot hold more than " + CompactList.maximumSize + " entries.");
+        }
+        Object[] keys = new Object[map.size()];
+        Object[] values = new Object[map.size()];
+        int size = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            keys[size] = entry.getKey();
+            values[size] = entry.getValue();
+            size++;
+        }
+        return new CompactMap<K, V>(
+                CompactList.<K>compactListFrom(keys, size),
+                CompactList.<V>compactListFrom(values, size));
+    }
+
+    @Override public int size() {
+        return keys.size();
+    }
+
+    @Override public boolean containsKey(Object key) {
+        return keys.contains(key);
+    }
+
+    @Override public boolean containsValue(Object value) {
+        return values.contains(value);
+    }
+
+    @Override public V get(Object key) {
+        int index = keys.indexOf(key);
+        return index < 0 ? null : values.get(index);
+    }
+
+    @Override public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override public int size() {
+                return keys.size();
+            }
+
+            @Override public Iterator<Map.Entry<K, V>> iterator() {
+                return new Iterator<Map.Entry<K, V>>() {
+                    private int index = 0;
+
+                    @Override public boolean hasNext() {
+                        return index < keys.size();
+                    }
+
+                    @Override public Map.Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Map.Entry<K, V> entry = new SimpleImmutableEntry<K, V>(keys.get(index), values.get(index));
+                        index++;
+                        return entry;
+                    }
+
+                    @Override public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable {@code Set} of at most {@value CompactList#maximumSize}
+ * elements, held in a {@link CompactList} in the order in which they were
+ * first encountered.
+ *
+ * <p>Membership is tested by comparing against each element in turn, which
+ * for so few elements is cheaper than hashing into a {@code HashSet} and
+ * needs no table.</p>
+ *
+ * @param <E> The type of the elements in the set.
+ */
+public class CompactSet<E> extends AbstractSet<E> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final CompactList<E> elements;
+
+    private CompactSet(CompactList<E> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns a {@code CompactSet} containing the distinct elements of the
+     * supplied {@code Collection} in the order in which they are first
+     * encountered.
+     *
+     * @throws IllegalArgumentException if the collection contains more than
+     *                                  {@value CompactList#maximumSize}
+     *                                  distinct elements.
+     */
+    public static <E> CompactSet<E> compactSetFrom(Collection<? extends E> elements) {
+        checkNotNull(elements);
+        if (elements instanceof CompactSet) {
+            @SuppressWarnings("unchecked")
+            CompactSet<E> set = (CompactSet<E>) elements;
+            return set;
+        }
+        Object[] distinct = new Object[Math.min(elements.size(), CompactList.maximumSize)];
+        int size = 0;
+        for (E element : elements) {
+            if (!containsIn(distinct, size, element)) {
+                if (size == CompactList.maximumSize) {
+                    throw new IllegalArgumentException(
+                            "Compact sets cannot hold more than " + CompactList.maximumSize + " elements.");
+                }
+                distinct[size++] = element;
+            }
+        }
+        return new CompactSet<E>(CompactList.<E>compactListFrom(distinct, size));
+    }
+
+    @Override public int size() {
+        return elements.size();
+    }
+
+    @Override public boolean contains(Object element) {
+        return elements.contains(element);
+    }
+
+    @Override public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    private static boolean containsIn(Object[] elements, int size, Object element) {
+        for (int i = 0; i < size; i++) {
+            if (element == null ? elements[i] == null : element.equals(elements[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.DoubleIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link Column} of {@code double} values, stored unboxed either in a
+ * {@code double[]} on the heap or, if off-heap, in a direct {@code ByteBuffer}
+ * of eight bytes per value so that a large column adds nothing to the heap
+ * beyond the buffer itself. Values are boxed only when read through the
+ * {@code Iterable<Double>} interface.
+ */
+public class DoubleColumn extends Column<Double> {
+    private static final int bytesPerValue = 8;
+
+    private final boolean offHeap;
+    private double[] array;
+    private DoubleBuffer buffer;
+    private int capacity = 0;
+    private int size = 0;
+
+    DoubleColumn(boolean offHeap) {
+        this.offHeap = offHeap;
+        ensureCapacity(defaultCapacity);
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    @Override public Double get(int index) {
+        return getDouble(index);
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index, size);
+        return offHeap ? buffer.get(index) : array[index];
+    }
+
+    /**
+     * Returns the values in this column as a {@link DoubleSequence}, for
+     * {@code map}, {@code filter}, {@code reduce} and {@code sum} without
+     * boxing. The sequence reflects values subsequently added to the
+     * column.
+     */
+    public DoubleSequence values() {
+        return new DoubleSequence() {
+            @Override public DoubleIterator iterator() {
+                return new DoubleColumnIterator();
+            }
+        };
+    }
+
+    @Override void checkAddable(Double value) {
+        checkNotNull(value, "A double column cannot hold null values.");
+    }
+
+    @Override void add(Double value) {
+        checkAddable(value);
+        addDouble(value);
+    }
+
+    void addDouble(double value) {
+        ensureCapacity(size + 1);
+        if (offHeap) {
+            buffer.put(size, value);
+        } else {
+            array[size] = value;
+        }
+        size++;
+    }
+
+    @Override void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int grown = grownCapacity(capacity, required);
+        if (offHeap) {
+            int maximumCapacity = Integer.MAX_VALUE / bytesPerValue;
+            if (required > maximumCapacity) {
+                throw new IllegalStateException(
+                        "Off-heap column cannot hold more than " + maximumCapacity + " values.");
+            }
+            grown = Math.min(grown, maximumCapacity);
+            DoubleBuffer grownBuffer = ByteBuffer.allocateDirect(grown * bytesPerValue)
+                    .order(ByteOrder.nativeOrder())
+                    .asDoubleBuffer();
+            if (buffer != null) {
+                DoubleBuffer existing = buffer.duplicate();
+                existing.limit(size);
+                existing.position(0);
+                grownBuffer.put(existing);
+            }
+            buffer = grownBuffer;
+        } else {
+            array = array == null ? new double[grown] : Arrays.copyOf(array, grown);
+        }
+        capacity = grown;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("size", size)
+                .append("offHeap", offHeap)
+                .toString();
+    }
+
+    private class DoubleColumnIterator implements DoubleIterator {
+        private int index = 0;
+
+        @Override public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return getDouble(index++);
+        }
+
+        @Override public Double next() {
+            return nextDouble();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.DoubleIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Range} of {@code double} values from a start value, inclusive, to
+ * an end value, exclusive, at intervals of the supplied step. Iteration yields
+ * primitive values, so that no {@code Double} instances are allocated unless
+ * the boxed {@code Iterable} interface is used.
+ *
+ * <p>The value at each position is computed as {@code start + index * step}
+ * rather than by repeatedly adding the step, so that rounding errors do not
+ * accumulate over the length of the range. Membership, size and positional
+ * access are all computed in constant time, a value being contained in the
+ * range only if it is exactly equal to the value at some position.</p>
+ *
+ * @see IntRange
+ */
+public class DoubleRange extends DoubleSequence implements Range<Double> {
+    private final double start;
+    private final double end;
+    private final double step;
+    private final long size;
+
+    public DoubleRange(double start, double end) {
+        this(start, end, 1);
+    }
+
+    public DoubleRange(double start, double end, double step) {
+        if (step == 0 || Double.isNaN(step) || Double.isInfinite(step)) {
+            throw new IllegalArgumentException("Step size must be finite and non-zero");
+        }
+        if (Double.isNaN(start) || Double.isInfinite(start) || Double.isNaN(end)) {
+            throw new IllegalArgumentException("Start must be finite and end must be a number");
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.size = sizeOf(start, end, step);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return valueAt(start, step, index);
+    }
+
+    public boolean contains(double value) {
+        if (size == 0 || Double.isNaN(value)) {
+            return false;
+        }
+        double position = Math.rint((value - start) / step);
+        return position >= 0 && position < size && valueAt(start, step, (long) position) == value;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Double && contains(((Double) other).doubleValue());
+    }
+
+    @Override
+    public Double getStart() {
+        return start;
+    }
+
+    @Override
+    public Double getEnd() {
+        return end;
+    }
+
+    @Override
+    public Double getStep() {
+        return step;
+    }
+
+    @Override
+    public DoubleIterator iterator() {
+        return new DoubleRangeIterator();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("start", start)
+                .append("end", end)
+                .append("step", step)
+                .toString();
+    }
+
+    private static double valueAt(double start, double step, long index) {
+        return start + index * step;
+    }
+
+    private static long sizeOf(double start, double end, double step) {
+        double estimate = Math.ceil((end - start) / step);
+        if (!(estimate > 0)) {
+            return 0;
+        }
+        if (estimate >= Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Range cannot contain more than Long.MAX_VALUE values");
+        }
+        long size = (long) estimate;
+        if (!isBeforeEnd(valueAt(start, step, size - 1), end, step)) {
+            return size - 1;
+        }
+        if (isBeforeEnd(valueAt(start, step, size), end, step)) {
+            return size + 1;
+        }
+        return size;
+    }
+
+    private static boolean isBeforeEnd(double value, double end, double step) {
+        return step > 0 ? value < end : value > end;
+    }
+
+    private class DoubleRangeIterator implements DoubleIterator {
+        private long index = 0;
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            return valueAt(start, step, index++);
+        }
+
+        @Override
+        public Double next() {
+            return nextDouble();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.Numbers;
+import org.javafunk.funk.functors.functions.DoubleBinaryFunction;
+import org.javafunk.funk.functors.functions.DoubleUnaryFunction;
+import org.javafunk.funk.functors.predicates.DoubleUnaryPredicate;
+import org.javafunk.funk.iterators.DoubleIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A lazy sequence of {@code double} values. The operations defined here consume
+ * the sequence through its {@link DoubleIterator} and so never box the values
+ * they operate on, whilst the sequence remains usable anywhere an
+ * {@code Iterable<Double>} is expected.
+ *
+ * <p>{@code map} and {@code filter} return new lazy sequences, evaluated
+ * each time they are iterated, whereas {@code reduce}, {@code sum} and
+ * {@code toArray} consume the sequence immediately.</p>
+ *
+ * @see DoubleRange
+ */
+public abstract class DoubleSequence implements Iterable<Double> {
+    @Override public abstract DoubleIterator iterator();
+
+    public DoubleSequence map(final DoubleUnaryFunction function) {
+        checkNotNull(function);
+        final DoubleSequence source = this;
+        return new DoubleSequence() {
+            @Override public DoubleIterator iterator() {
+                return new MappedDoubleIterator(source.iterator(), function);
+            }
+        };
+    }
+
+    public DoubleSequence filter(final DoubleUnaryPredicate predicate) {
+        checkNotNull(predicate);
+        final DoubleSequence source = this;
+        return new DoubleSequence() {
+            @Override public DoubleIterator iterator() {
+                return new FilteredDoubleIterator(source.iterator(), predicate);
+            }
+        };
+    }
+
+    public double reduce(double initialValue, DoubleBinaryFunction function) {
+        checkNotNull(function);
+        double accumulator = initialValue;
+        DoubleIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            accumulator = function.call(accumulator, iterator.nextDouble());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the values in this sequence. The sum is accumulated
+     * using Neumaier's variant of Kahan compensated summation, so that the
+     * rounding error does not grow with the length of the sequence and the
+     * result does not depend on the magnitude of the values in the order in
+     * which they happen to be yielded.
+     */
+    public double sum() {
+        return Numbers.sumDoubles(iterator());
+    }
+
+    public double[] toArray() {
+        double[] values = new double[16];
+        int size = 0;
+        DoubleIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = iterator.nextDouble();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static class MappedDoubleIterator implements DoubleIterator {
+        private final DoubleIterator iterator;
+        private final DoubleUnaryFunction function;
+
+        private MappedDoubleIterator(DoubleIterator iterator, DoubleUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        @Override public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override public double nextDouble() {
+            return function.call(iterator.nextDouble());
+        }
+
+        @Override public Double next() {
+            return nextDouble();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class FilteredDoubleIterator implements DoubleIterator {
+        private final DoubleIterator iterator;
+        private final DoubleUnaryPredicate predicate;
+        private boolean populated = false;
+        private double nextValue;
+
+        private FilteredDoubleIterator(DoubleIterator iterator, DoubleUnaryPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override public boolean hasNext() {
+            while (!populated && iterator.hasNext()) {
+                double candidate = iterator.nextDouble();
+                if (predicate.evaluate(candidate)) {
+                    nextValue = candidate;
+                    populated = true;
+                }
+            }
+            return populated;
+        }
+
+        @Override public double nextDouble() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            populated = false;
+            return nextValue;
+        }
+
+        @Override public Double next() {
+            return nextDouble();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.IntIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link Column} of {@code int} values, stored unboxed either in an
+ * {@code int[]} on the heap or, if off-heap, in a direct {@code ByteBuffer}
+ * of four bytes per value so that a large column adds nothing to the heap
+ * beyond the buffer itself. Values are boxed only when read through the
+ * {@code Iterable<Integer>} interface.
+ */
+public class IntColumn extends Column<Integer> {
+    private static final int bytesPerValue = 4;
+
+    private final boolean offHeap;
+    private int[] array;
+    private IntBuffer buffer;
+    private int capacity = 0;
+    private int size = 0;
+
+    IntColumn(boolean offHeap) {
+        this.offHeap = offHeap;
+        ensureCapacity(defaultCapacity);
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    @Override public Integer get(int index) {
+        return getInt(index);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index, size);
+        return offHeap ? buffer.get(index) : array[index];
+    }
+
+    /**
+     * Returns the values in this column as an {@link IntSequence}, for
+     * {@code map}, {@code filter}, {@code reduce} and {@code sum} without
+     * boxing. The sequence reflects values subsequently added to the
+     * column.
+     */
+    public IntSequence values() {
+        return new IntSequence() {
+            @Override public IntIterator iterator() {
+                return new IntColumnIterator();
+            }
+        };
+    }
+
+    @Override void checkAddable(Integer value) {
+        checkNotNull(value, "An int column cannot hold null values.");
+    }
+
+    @Override void add(Integer value) {
+        checkAddable(value);
+        addInt(value);
+    }
+
+    void addInt(int value) {
+        ensureCapacity(size + 1);
+        if (offHeap) {
+            buffer.put(size, value);
+        } else {
+            array[size] = value;
+        }
+        size++;
+    }
+
+    @Override void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int grown = grownCapacity(capacity, required);
+        if (offHeap) {
+            int maximumCapacity = Integer.MAX_VALUE / bytesPerValue;
+            if (required > maximumCapacity) {
+                throw new IllegalStateException(
+                        "Off-heap column cannot hold more than " + maximumCapacity + " values.");
+            }
+            grown = Math.min(grown, maximumCapacity);
+            IntBuffer grownBuffer = ByteBuffer.allocateDirect(grown * bytesPerValue)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            if (buffer != null) {
+                IntBuffer existing = buffer.duplicate();
+                existing.limit(size);
+                existing.position(0);
+                grownBuffer.put(existing);
+            }
+            buffer = grownBuffer;
+        } else {
+            array = array == null ? new int[grown] : Arrays.copyOf(array, grown);
+        }
+        capacity = grown;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("size", size)
+                .append("offHeap", offHeap)
+                .toString();
+    }
+
+    private class IntColumnIterator implements IntIterator {
+        private int index = 0;
+
+        @Override public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return getInt(index++);
+        }
+
+        @Override public Integer next() {
+            return nextInt();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.IntIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link Range} of {@code int} values from a start value, inclusive, to an
+ * end value, exclusive, at intervals of the supplied step, with the same
+ * semantics as {@link IntegerRange}. Membership, size and positional access
+ * are computed arithmetically in constant time and iteration yields primitive
+ * values, so that no {@code Integer} instances are allocated unless the boxed
+ * {@code Iterable} interface is used.
+ *
+ * <p>Unlike {@code IntegerRange}, iteration never overflows: a range ending at
+ * {@link Integer#MAX_VALUE} yields each value up to but excluding the end and
+ * then terminates.</p>
+ */
+public class IntRange extends IntSequence implements Range<Integer> {
+    private final int start;
+    private final int end;
+    private final int step;
+    private final long size;
+
+    public IntRange(int start, int end) {
+        this(start, end, 1);
+    }
+
+    public IntRange(int start, int end, int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("Step size cannot be zero");
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.size = sizeOf(start, end, step);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (int) (start + index * step);
+    }
+
+    public boolean contains(int value) {
+        boolean withinBounds = step > 0 ?
+                value >= start && value < end :
+                value <= start && value > end;
+        return withinBounds && ((long) value - start) % step == 0;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Integer && contains(((Integer) other).intValue());
+    }
+
+    /**
+     * Returns the sum of the values in this range, computed arithmetically
+     * rather than by iteration.
+     */
+    @Override
+    public long sum() {
+        long triangle = (size % 2 == 0) ? (size / 2) * (size - 1) : size * ((size - 1) / 2);
+        return size * start + triangle * step;
+    }
+
+    @Override
+    public Integer getStart() {
+        return start;
+    }
+
+    @Override
+    public Integer getEnd() {
+        return end;
+    }
+
+    @Override
+    public Integer getStep() {
+        return step;
+    }
+
+    @Override
+    public IntIterator iterator() {
+        return new IntRangeIterator();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("start", start)
+                .append("end", end)
+                .append("step", step)
+                .toString();
+    }
+
+    private static long sizeOf(int start, int end, int step) {
+        if (step > 0) {
+            return start < end ? ((long) end - start + step - 1) / step : 0;
+        } else {
+            return start > end ? ((long) start - end - step - 1) / -(long) step : 0;
+        }
+    }
+
+    private class IntRangeIterator implements IntIterator {
+        private long remaining = size;
+        private int currentValue = start;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            int next = currentValue;
+            currentValue += step;
+            remaining--;
+            return next;
+        }
+
+        @Override
+        public Integer next() {
+            return nextInt();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
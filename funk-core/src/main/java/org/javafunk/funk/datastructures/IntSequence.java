@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.IntBinaryFunction;
+import org.javafunk.funk.functors.functions.IntUnaryFunction;
+import org.javafunk.funk.functors.predicates.IntUnaryPredicate;
+import org.javafunk.funk.iterators.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A lazy sequence of {@code int} values. The operations defined here consume
+ * the sequence through its {@link IntIterator} and so never box the values
+ * they operate on, whilst the sequence remains usable anywhere an
+ * {@code Iterable<Integer>} is expected.
+ *
+ * <p>{@code map} and {@code filter} return new lazy sequences, evaluated
+ * each time they are iterated, whereas {@code reduce}, {@code sum} and
+ * {@code toArray} consume the sequence immediately.</p>
+ *
+ * @see IntRange
+ */
+public abstract class IntSequence implements Iterable<Integer> {
+    @Override public abstract IntIterator iterator();
+
+    public IntSequence map(final IntUnaryFunction function) {
+        checkNotNull(function);
+        final IntSequence source = this;
+        return new IntSequence() {
+            @Override public IntIterator iterator() {
+                return new MappedIntIterator(source.iterator(), function);
+            }
+        };
+    }
+
+    public IntSequence filter(final IntUnaryPredicate predicate) {
+        checkNotNull(predicate);
+        final IntSequence source = this;
+        return new IntSequence() {
+            @Override public IntIterator iterator() {
+                return new FilteredIntIterator(source.iterator(), predicate);
+            }
+        };
+    }
+
+    public int reduce(int initialValue, IntBinaryFunction function) {
+        checkNotNull(function);
+        int accumulator = initialValue;
+        IntIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            accumulator = function.call(accumulator, iterator.nextInt());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the values in this sequence. Since the sum is
+     * accumulated in a {@code long}, it does not overflow for any sequence
+     * of fewer than 2<sup>32</sup> values.
+     */
+    public long sum() {
+        long sum = 0;
+        IntIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    public int[] toArray() {
+        int[] values = new int[16];
+        int size = 0;
+        IntIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = iterator.nextInt();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static class MappedIntIterator implements IntIterator {
+        private final IntIterator iterator;
+        private final IntUnaryFunction function;
+
+        private MappedIntIterator(IntIterator iterator, IntUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        @Override public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override public int nextInt() {
+            return function.call(iterator.nextInt());
+        }
+
+        @Override public Integer next() {
+            return nextInt();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class FilteredIntIterator implements IntIterator {
+        private final IntIterator iterator;
+        private final IntUnaryPredicate predicate;
+        private boolean populated = false;
+        private int nextValue;
+
+        private FilteredIntIterator(IntIterator iterator, IntUnaryPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override public boolean hasNext() {
+            while (!populated && iterator.hasNext()) {
+                int candidate = iterator.nextInt();
+                if (predicate.evaluate(candidate)) {
+                    nextValue = candidate;
+                    populated = true;
+                }
+            }
+            return populated;
+        }
+
+        @Override public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            populated = false;
+            return nextValue;
+        }
+
+        @Override public Integer next() {
+            return nextInt();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
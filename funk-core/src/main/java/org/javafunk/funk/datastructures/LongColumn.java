@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.LongIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link Column} of {@code long} values, stored unboxed either in a
+ * {@code long[]} on the heap or, if off-heap, in a direct {@code ByteBuffer}
+ * of eight bytes per value so that a large column adds nothing to the heap
+ * beyond the buffer itself. Values are boxed only when read through the
+ * {@code Iterable<Long>} interface.
+ */
+public class LongColumn extends Column<Long> {
+    private static final int bytesPerValue = 8;
+
+    private final boolean offHeap;
+    private long[] array;
+    private LongBuffer buffer;
+    private int capacity = 0;
+    private int size = 0;
+
+    LongColumn(boolean offHeap) {
+        this.offHeap = offHeap;
+        ensureCapacity(defaultCapacity);
+    }
+
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    @Override public int size() {
+        return size;
+    }
+
+    @Override public Long get(int index) {
+        return getLong(index);
+    }
+
+    public long getLong(int index) {
+        checkIndex(index, size);
+        return offHeap ? buffer.get(index) : array[index];
+    }
+
+    /**
+     * Returns the values in this column as a {@link LongSequence}, for
+     * {@code map}, {@code filter}, {@code reduce} and {@code sum} without
+     * boxing. The sequence reflects values subsequently added to the
+     * column.
+     */
+    public LongSequence values() {
+        return new LongSequence() {
+            @Override public LongIterator iterator() {
+                return new LongColumnIterator();
+            }
+        };
+    }
+
+    @Override void checkAddable(Long value) {
+        checkNotNull(value, "A long column cannot hold null values.");
+    }
+
+    @Override void add(Long value) {
+        checkAddable(value);
+        addLong(value);
+    }
+
+    void addLong(long value) {
+        ensureCapacity(size + 1);
+        if (offHeap) {
+            buffer.put(size, value);
+        } else {
+            array[size] = value;
+        }
+        size++;
+    }
+
+    @Override void ensureCapacity(int required) {
+        if (required <= capacity) {
+            return;
+        }
+        int grown = grownCapacity(capacity, required);
+        if (offHeap) {
+            int maximumCapacity = Integer.MAX_VALUE / bytesPerValue;
+            if (required > maximumCapacity) {
+                throw new IllegalStateException(
+                        "Off-heap column cannot hold more than " + maximumCapacity + " values.");
+            }
+            grown = Math.min(grown, maximumCapacity);
+            LongBuffer grownBuffer = ByteBuffer.allocateDirect(grown * bytesPerValue)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+            if (buffer != null) {
+                LongBuffer existing = buffer.duplicate();
+                existing.limit(size);
+                existing.position(0);
+                grownBuffer.put(existing);
+            }
+            buffer = grownBuffer;
+        } else {
+            array = array == null ? new long[grown] : Arrays.copyOf(array, grown);
+        }
+        capacity = grown;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("size", size)
+                .append("offHeap", offHeap)
+                .toString();
+    }
+
+    private class LongColumnIterator implements LongIterator {
+        private int index = 0;
+
+        @Override public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return getLong(index++);
+        }
+
+        @Override public Long next() {
+            return nextLong();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.iterators.LongIterator;
+
+import java.util.NoSuchElementException;
+
+import static com.google.common.primitives.UnsignedLongs.divide;
+import static com.google.common.primitives.UnsignedLongs.remainder;
+
+/**
+ * A {@link Range} of {@code long} values from a start value, inclusive, to an
+ * end value, exclusive, at intervals of the supplied step. Membership, size
+ * and positional access are computed arithmetically in constant time and
+ * iteration yields primitive values, so that no {@code Long} instances are
+ * allocated unless the boxed {@code Iterable} interface is used.
+ *
+ * <p>A {@code LongRange} may contain at most {@link Long#MAX_VALUE} values.</p>
+ *
+ * @see IntRange
+ */
+public class LongRange extends LongSequence implements Range<Long> {
+    private final long start;
+    private final long end;
+    private final long step;
+    private final long size;
+
+    public LongRange(long start, long end) {
+        this(start, end, 1);
+    }
+
+    public LongRange(long start, long end, long step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("Step size cannot be zero");
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.size = sizeOf(start, end, step);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return start + index * step;
+    }
+
+    public boolean contains(long value) {
+        if (step > 0) {
+            return value >= start && value < end && remainder(value - start, step) == 0;
+        } else {
+            return value <= start && value > end && remainder(start - value, -step) == 0;
+        }
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Long && contains(((Long) other).longValue());
+    }
+
+    /**
+     * Returns the sum of the values in this range, computed arithmetically
+     * rather than by iteration. As with {@link LongSequence#sum()}, the
+     * result wraps silently on overflow.
+     */
+    @Override
+    public long sum() {
+        long triangle = (size % 2 == 0) ? (size / 2) * (size - 1) : size * ((size - 1) / 2);
+        return size * start + triangle * step;
+    }
+
+    @Override
+    public Long getStart() {
+        return start;
+    }
+
+    @Override
+    public Long getEnd() {
+        return end;
+    }
+
+    @Override
+    public Long getStep() {
+        return step;
+    }
+
+    @Override
+    public LongIterator iterator() {
+        return new LongRangeIterator();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("start", start)
+                .append("end", end)
+                .append("step", step)
+                .toString();
+    }
+
+    private static long sizeOf(long start, long end, long step) {
+        long size;
+        if (step > 0) {
+            size = start < end ? divide(end - start - 1, step) + 1 : 0;
+        } else {
+            size = start > end ? divide(start - end - 1, -step) + 1 : 0;
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Range cannot contain more than Long.MAX_VALUE values");
+        }
+        return size;
+    }
+
+    private class LongRangeIterator implements LongIterator {
+        private long remaining = size;
+        private long currentValue = start;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            long next = currentValue;
+            currentValue += step;
+            remaining--;
+            return next;
+        }
+
+        @Override
+        public Long next() {
+            return nextLong();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
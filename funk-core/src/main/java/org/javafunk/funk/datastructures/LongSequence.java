@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.LongBinaryFunction;
+import org.javafunk.funk.functors.functions.LongUnaryFunction;
+import org.javafunk.funk.functors.predicates.LongUnaryPredicate;
+import org.javafunk.funk.iterators.LongIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A lazy sequence of {@code long} values. The operations defined here consume
+ * the sequence through its {@link LongIterator} and so never box the values
+ * they operate on, whilst the sequence remains usable anywhere an
+ * {@code Iterable<Long>} is expected.
+ *
+ * <p>{@code map} and {@code filter} return new lazy sequences, evaluated
+ * each time they are iterated, whereas {@code reduce}, {@code sum} and
+ * {@code toArray} consume the sequence immediately.</p>
+ *
+ * @see LongRange
+ */
+public abstract class LongSequence implements Iterable<Long> {
+    @Override public abstract LongIterator iterator();
+
+    public LongSequence map(final LongUnaryFunction function) {
+        checkNotNull(function);
+        final LongSequence source = this;
+        return new LongSequence() {
+            @Override public LongIterator iterator() {
+                return new MappedLongIterator(source.iterator(), function);
+            }
+        };
+    }
+
+    public LongSequence filter(final LongUnaryPredicate predicate) {
+        checkNotNull(predicate);
+        final LongSequence source = this;
+        return new LongSequence() {
+            @Override public LongIterator iterator() {
+                return new FilteredLongIterator(source.iterator(), predicate);
+            }
+        };
+    }
+
+    public long reduce(long initialValue, LongBinaryFunction function) {
+        checkNotNull(function);
+        long accumulator = initialValue;
+        LongIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            accumulator = function.call(accumulator, iterator.nextLong());
+        }
+        return accumulator;
+    }
+
+    /**
+     * Returns the sum of the values in this sequence. As with any {@code long}
+     * arithmetic, the sum wraps silently on overflow.
+     */
+    public long sum() {
+        long sum = 0;
+        LongIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    public long[] toArray() {
+        long[] values = new long[16];
+        int size = 0;
+        LongIterator iterator = iterator();
+        while (iterator.hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = iterator.nextLong();
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static class MappedLongIterator implements LongIterator {
+        private final LongIterator iterator;
+        private final LongUnaryFunction function;
+
+        private MappedLongIterator(LongIterator iterator, LongUnaryFunction function) {
+            this.iterator = iterator;
+            this.function = function;
+        }
+
+        @Override public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override public long nextLong() {
+            return function.call(iterator.nextLong());
+        }
+
+        @Override public Long next() {
+            return nextLong();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class FilteredLongIterator implements LongIterator {
+        private final LongIterator iterator;
+        private final LongUnaryPredicate predicate;
+        private boolean populated = false;
+        private long nextValue;
+
+        private FilteredLongIterator(LongIterator iterator, LongUnaryPredicate predicate) {
+            this.iterator = iterator;
+            this.predicate = predicate;
+        }
+
+        @Override public boolean hasNext() {
+            while (!populated && iterator.hasNext()) {
+                long candidate = iterator.nextLong();
+                if (predicate.evaluate(candidate)) {
+                    nextValue = candidate;
+                    populated = true;
+                }
+            }
+            return populated;
+        }
+
+        @Override public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            populated = false;
+            return nextValue;
+        }
+
+        @Override public Long next() {
+            return nextLong();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Column} of arbitrary values, held in an array on the heap.
+ * {@code null} values are permitted.
+ *
+ * @param <T> The type of the values in this column.
+ */
+public class ObjectColumn<T> extends Column<T> {
+    private Object[] values = new Object[defaultCapacity];
+    private int size = 0;
+
+    ObjectColumn() {}
+
+    @Override public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public T get(int index) {
+        checkIndex(index, size);
+        return (T) values[index];
+    }
+
+    @Override void add(T value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    @Override void ensureCapacity(int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, grownCapacity(values.length, capacity));
+        }
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("size", size)
+                .toString();
+    }
+}
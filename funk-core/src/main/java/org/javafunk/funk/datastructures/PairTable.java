@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.datastructures.tuples.Pair;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+/**
+ * A {@link TupleTable} of {@link Pair} rows, holding the first and second
+ * slots of each row in separate columns.
+ *
+ * @param <A> The type of the first slot of each row.
+ * @param <B> The type of the second slot of each row.
+ */
+public class PairTable<A, B> extends TupleTable<Pair<A, B>> {
+    private final Column<A> first;
+    private final Column<B> second;
+
+    PairTable(Column<A> first, Column<B> second) {
+        super(Literals.<Column<?>>listWith(first, second));
+        this.first = first;
+        this.second = second;
+    }
+
+    public Column<A> first() {
+        return first;
+    }
+
+    public Column<B> second() {
+        return second;
+    }
+
+    public PairTable<A, B> add(A firstValue, B secondValue) {
+        first.checkAddable(firstValue);
+        second.checkAddable(secondValue);
+        ensureCapacity(size() + 1);
+        first.add(firstValue);
+        second.add(secondValue);
+        rowAdded();
+        return this;
+    }
+
+    @Override public PairTable<A, B> add(Pair<A, B> pair) {
+        checkNotNull(pair);
+        return add(pair.getFirst(), pair.getSecond());
+    }
+
+    @Override public PairTable<A, B> addAll(Iterable<? extends Pair<A, B>> pairs) {
+        super.addAll(pairs);
+        return this;
+    }
+
+    @Override public Pair<A, B> get(int row) {
+        return pair(first.get(row), second.get(row));
+    }
+}
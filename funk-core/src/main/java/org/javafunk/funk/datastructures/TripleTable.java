@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.datastructures.tuples.Triple;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.datastructures.tuples.Triple.triple;
+
+/**
+ * A {@link TupleTable} of {@link Triple} rows, holding the first, second
+ * and third slots of each row in separate columns.
+ *
+ * @param <A> The type of the first slot of each row.
+ * @param <B> The type of the second slot of each row.
+ * @param <C> The type of the third slot of each row.
+ */
+public class TripleTable<A, B, C> extends TupleTable<Triple<A, B, C>> {
+    private final Column<A> first;
+    private final Column<B> second;
+    private final Column<C> third;
+
+    TripleTable(Column<A> first, Column<B> second, Column<C> third) {
+        super(Literals.<Column<?>>listWith(first, second, third));
+        this.first = first;
+        this.second = second;
+        this.third = third;
+    }
+
+    public Column<A> first() {
+        return first;
+    }
+
+    public Column<B> second() {
+        return second;
+    }
+
+    public Column<C> third() {
+        return third;
+    }
+
+    public TripleTable<A, B, C> add(A firstValue, B secondValue, C thirdValue) {
+        first.checkAddable(firstValue);
+        second.checkAddable(secondValue);
+        third.checkAddable(thirdValue);
+        ensureCapacity(size() + 1);
+        first.add(firstValue);
+        second.add(secondValue);
+        third.add(thirdValue);
+        rowAdded();
+        return this;
+    }
+
+    @Override public TripleTable<A, B, C> add(Triple<A, B, C> triple) {
+        checkNotNull(triple);
+        return add(triple.getFirst(), triple.getSecond(), triple.getThird());
+    }
+
+    @Override public TripleTable<A, B, C> addAll(Iterable<? extends Triple<A, B, C>> triples) {
+        super.addAll(triples);
+        return this;
+    }
+
+    @Override public Triple<A, B, C> get(int row) {
+        return triple(first.get(row), second.get(row), third.get(row));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A columnar store of tuples, holding each slot of the tuples in its own
+ * {@link Column} rather than holding a tuple instance per row. Slots of
+ * {@code int}, {@code long} or {@code double} values can be stored unboxed,
+ * on or off the heap, so that a table of millions of rows needs neither a
+ * tuple nor a boxed value per row.
+ *
+ * <p>A {@code TupleTable} is itself an {@code Iterable} over its rows as
+ * tuples. The tuples are created as each row is read and are not retained,
+ * so iterating the table allocates only short-lived objects. For operations
+ * over a single slot, use the column directly, e.g. via
+ * {@link PairTable#first()}, whose {@code map}, {@code filter} and
+ * {@code reduce} read only that column.</p>
+ *
+ * <p>Rows can only be appended. A {@code TupleTable} is not safe for
+ * concurrent modification.</p>
+ *
+ * @param <T> The type of the tuple representing each row.
+ * @see PairTable
+ * @see TripleTable
+ */
+public abstract class TupleTable<T> implements Iterable<T> {
+    private final List<Column<?>> columns;
+    private int size = 0;
+
+    TupleTable(List<Column<?>> columns) {
+        Map<Column<?>, Boolean> distinct = new IdentityHashMap<Column<?>, Boolean>();
+        for (Column<?> column : columns) {
+            checkNotNull(column);
+            if (!column.isEmpty()) {
+                throw new IllegalArgumentException("Columns must be empty when the table is created.");
+            }
+            if (distinct.put(column, true) != null) {
+                throw new IllegalArgumentException("Each column can only be used once.");
+            }
+        }
+        this.columns = unmodifiableList(columns);
+    }
+
+    public static <A, B> PairTable<A, B> pairs(Column<A> first, Column<B> second) {
+        return new PairTable<A, B>(first, second);
+    }
+
+    public static <A, B, C> TripleTable<A, B, C> triples(Column<A> first, Column<B> second, Column<C> third) {
+        return new TripleTable<A, B, C>(first, second, third);
+    }
+
+    /**
+     * Returns a table of the elements of the supplied {@code Iterable}
+     * paired with their index, as for
+     * {@link org.javafunk.funk.Eagerly#enumerate(Iterable)}, with the
+     * indices stored in an {@code int} column.
+     */
+    public static <T> PairTable<Integer, T> enumerate(Iterable<? extends T> iterable) {
+        checkNotNull(iterable);
+        IntColumn indices = Column.ints();
+        ObjectColumn<T> elements = Column.objects();
+        PairTable<Integer, T> table = pairs(indices, elements);
+        if (iterable instanceof Collection) {
+            table.ensureCapacity(((Collection<?>) iterable).size());
+        }
+        for (T element : iterable) {
+            indices.addInt(table.size());
+            elements.add(element);
+            table.rowAdded();
+        }
+        return table;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public List<Column<?>> columns() {
+        return columns;
+    }
+
+    public abstract T get(int row);
+
+    /**
+     * Appends each of the tuples in the supplied {@code Iterable} as a row.
+     * If the {@code Iterable} is a {@code Collection}, each column is grown
+     * once to hold all of the new rows before they are added.
+     */
+    public TupleTable<T> addAll(Iterable<? extends T> tuples) {
+        checkNotNull(tuples);
+        if (tuples instanceof Collection) {
+            ensureCapacity(size + ((Collection<?>) tuples).size());
+        }
+        for (T tuple : tuples) {
+            add(tuple);
+        }
+        return this;
+    }
+
+    public abstract TupleTable<T> add(T tuple);
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int row = 0;
+
+            @Override public boolean hasNext() {
+                return row < size;
+            }
+
+            @Override public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(row++);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("size", size)
+                .append("columns", columns)
+                .toString();
+    }
+
+    void ensureCapacity(int capacity) {
+        for (Column<?> column : columns) {
+            column.ensureCapacity(capacity);
+        }
+    }
+
+    void rowAdded() {
+        size++;
+    }
+}
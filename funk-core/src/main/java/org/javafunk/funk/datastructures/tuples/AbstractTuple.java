@@ -8,18 +8,55 @@
  */
 package org.javafunk.funk.datastructures.tuples;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
+import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
 import static java.lang.String.format;
-import static org.javafunk.funk.Lazily.zip;
 import static org.javafunk.funk.Strings.join;
 
+/**
+ * Base class for the tuple implementations, {@link Single} through
+ * {@link Nonuple}, providing value equality and hashing over the values
+ * in each slot.
+ *
+ * <p>Equality and hashing read the slots directly through {@link #get(int)},
+ * so that neither allocates. Where every slot holds {@code null}, a
+ * {@code String}, a boxed primitive, an enum constant or a {@code Class},
+ * the hash code is computed once and cached, making such tuples cheap to
+ * use as keys in hash based collections. Tuples holding any other value
+ * recompute their hash code on each call since those values may change.</p>
+ */
 public abstract class AbstractTuple implements Iterable<Object> {
+    private static final Set<Class<?>> immutableValueClasses = ImmutableSet.<Class<?>>of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class,
+            Integer.class, Long.class, Float.class, Double.class);
+
+    private int hashCode;
+
     public abstract Iterable<Object> getValues();
 
+    /**
+     * Returns the number of slots in this tuple.
+     *
+     * @return The number of slots in this tuple.
+     */
+    public abstract int size();
+
+    /**
+     * Returns the value in the slot at the supplied zero based index.
+     *
+     * @param index The index of the slot to retrieve.
+     * @return The value in the slot at the supplied index.
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     *                                   than the size of this tuple.
+     */
+    public abstract Object get(int index);
+
     @Override
     public String toString() {
         return format("(%s)", join(getValues(), ", "));
@@ -39,26 +76,79 @@ public abstract class AbstractTuple implements Iterable<Object> {
             return false;
         }
 
-        EqualsBuilder equalsBuilder = new EqualsBuilder();
-        Iterable<Pair<Object, Object>> zippedValues = zip(this.getValues(), ((AbstractTuple) other).getValues());
-        for (Pair<Object, Object> values : zippedValues) {
-            equalsBuilder.append(values.getFirst(), values.getSecond());
+        AbstractTuple that = (AbstractTuple) other;
+        if (this.hashCode != 0 && that.hashCode != 0 && this.hashCode != that.hashCode) {
+            return false;
+        }
+
+        for (int i = 0, size = size(); i < size; i++) {
+            if (!Objects.deepEquals(this.get(i), that.get(i))) {
+                return false;
+            }
         }
 
-        return equalsBuilder.isEquals();
+        return true;
     }
 
     @Override
     public int hashCode() {
-        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder();
-        for (Object value : getValues()) {
-            hashCodeBuilder.append(value);
+        int result = hashCode;
+        if (result == 0) {
+            boolean cacheable = true;
+            result = 17;
+            for (int i = 0, size = size(); i < size; i++) {
+                Object value = get(i);
+                result = result * 37 + hashCodeOf(value);
+                cacheable = cacheable && isImmutable(value);
+            }
+            if (cacheable) {
+                hashCode = result;
+            }
+        }
+        return result;
+    }
+
+    public Iterator<Object> iterator() {
+        return new TupleIterator();
+    }
+
+    protected IndexOutOfBoundsException indexOutOfBounds(int index) {
+        return new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    private static int hashCodeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.getClass().isArray()) {
+            return new HashCodeBuilder().append(value).toHashCode();
         }
-        return hashCodeBuilder.toHashCode();
+        return value.hashCode();
     }
 
-    public Iterator<Object> iterator(){
-        return getValues().iterator();
+    private static boolean isImmutable(Object value) {
+        return value == null
+                || value instanceof Enum
+                || value instanceof Class
+                || immutableValueClasses.contains(value.getClass());
     }
 
+    private class TupleIterator implements Iterator<Object> {
+        private int index = 0;
+
+        @Override public boolean hasNext() {
+            return index < size();
+        }
+
+        @Override public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return get(index++);
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
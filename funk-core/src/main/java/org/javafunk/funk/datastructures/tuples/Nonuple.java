@@ -70,6 +70,14 @@ public class Nonuple<R, S, T, U, V, W, X, Y, Z>
         return nonuple(getFirst(), getSecond(), getThird(), getFourth(), getFifth(), getSixth(), getSeventh(), getEighth(), function.call(getNinth()));
     }
 
+    @Override public int size() {
+        return 9;
+    }
+
+    @Override public Object get(int index) {
+        return index == 8 ? ninth : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getNinth()).build();
     }
@@ -66,6 +66,14 @@ public class Octuple<R, S, T, U, V, W, X, Y>
         return octuple(getFirst(), getSecond(), getThird(), getFourth(), getFifth(), getSixth(), getSeventh(), function.call(getEighth()));
     }
 
+    @Override public int size() {
+        return 8;
+    }
+
+    @Override public Object get(int index) {
+        return index == 7 ? eighth : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getEighth()).build();
     }
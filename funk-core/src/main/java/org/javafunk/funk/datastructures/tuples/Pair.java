@@ -18,7 +18,7 @@ public class Pair<R, S>
         extends Single<R>
         implements Second<S>,
                    MappableSecond<S, Pair<R, ?>> {
-    private S second;
+    private final S second;
 
     public static <R, S> Pair<R, S> pair(R first, S second) {
         return new Pair<R, S>(first, second);
@@ -41,6 +41,14 @@ public class Pair<R, S>
         return pair(getFirst(), function.call(getSecond()));
     }
 
+    @Override public int size() {
+        return 2;
+    }
+
+    @Override public Object get(int index) {
+        return index == 1 ? second : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSecond()).build();
     }
@@ -18,7 +18,7 @@ public class Quadruple<R, S, T, U>
         extends Triple<R, S, T>
         implements Fourth<U>,
                    MappableFourth<U, Quadruple<R, S, T, ?>> {
-    private U fourth;
+    private final U fourth;
 
     public static <R, S, T, U> Quadruple<R, S, T, U> quadruple(R first, S second, T third, U fourth) {
         return new Quadruple<R, S, T, U>(first, second, third, fourth);
@@ -49,6 +49,14 @@ public class Quadruple<R, S, T, U>
         return quadruple(getFirst(), getSecond(), getThird(), function.call(getFourth()));
     }
 
+    @Override public int size() {
+        return 4;
+    }
+
+    @Override public Object get(int index) {
+        return index == 3 ? fourth : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFourth()).build();
     }
@@ -53,6 +53,14 @@ public class Quintuple<R, S, T, U, V>
         return quintuple(getFirst(), getSecond(), getThird(), getFourth(), function.call(getFifth()));
     }
 
+    @Override public int size() {
+        return 5;
+    }
+
+    @Override public Object get(int index) {
+        return index == 4 ? fifth : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFifth()).build();
     }
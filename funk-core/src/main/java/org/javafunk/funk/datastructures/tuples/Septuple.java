@@ -61,6 +61,14 @@ public class Septuple<R, S, T, U, V, W, X>
         return septuple(getFirst(), getSecond(), getThird(), getFourth(), getFifth(), getSixth(), function.call(getSeventh()));
     }
 
+    @Override public int size() {
+        return 7;
+    }
+
+    @Override public Object get(int index) {
+        return index == 6 ? seventh : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSeventh()).build();
     }
@@ -57,6 +57,14 @@ public class Sextuple<R, S, T, U, V, W>
         return sextuple(getFirst(), getSecond(), getThird(), getFourth(), getFifth(), function.call(getSixth()));
     }
 
+    @Override public int size() {
+        return 6;
+    }
+
+    @Override public Object get(int index) {
+        return index == 5 ? sixth : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSixth()).build();
     }
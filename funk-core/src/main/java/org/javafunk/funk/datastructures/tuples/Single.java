@@ -18,7 +18,7 @@ public class Single<R>
         extends AbstractTuple
         implements First<R>,
                    MappableFirst<R, Single<?>> {
-    private R first;
+    private final R first;
 
     public static <R> Single<R> single(R first) {
         return new Single<R>(first);
@@ -36,6 +36,17 @@ public class Single<R>
         return single(mapper.call(first));
     }
 
+    @Override public int size() {
+        return 1;
+    }
+
+    @Override public Object get(int index) {
+        if (index != 0) {
+            throw indexOutOfBounds(index);
+        }
+        return first;
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderOf(Object.class).with(first).build();
     }
@@ -18,7 +18,7 @@ public class Triple<R, S, T>
         extends Pair<R, S>
         implements Third<T>,
                    MappableThird<T, Triple<R, S, ?>> {
-    private T third;
+    private final T third;
 
     public static <R, S, T> Triple<R, S, T> triple(R first, S second, T third) {
         return new Triple<R, S, T>(first, second, third);
@@ -46,6 +46,14 @@ public class Triple<R, S, T>
         return triple(getFirst(), getSecond(), function.call(getThird()));
     }
 
+    @Override public int size() {
+        return 3;
+    }
+
+    @Override public Object get(int index) {
+        return index == 2 ? third : super.get(index);
+    }
+
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getThird()).build();
     }
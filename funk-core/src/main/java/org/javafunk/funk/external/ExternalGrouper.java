@@ -0,0 +1,626 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import org.javafunk.funk.behaviours.CloseableIterable;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+/**
+ * Groups the elements of an {@code Iterable} by the key returned for each
+ * element by an indexing function, holding no more than a fixed number of
+ * bytes of elements in memory at any one time.
+ *
+ * <p>Elements are serialised into an in-memory buffer as they are consumed.
+ * Whenever the buffer reaches the memory budget, its elements are sorted by
+ * key and written out as a run to a temporary file through a
+ * {@code FileChannel}. Whenever {@value #mergeFanIn} runs of the same
+ * generation have been written, they are merged into a single run of the
+ * next generation, and once the input is exhausted, the most recent runs
+ * are merged in the same way until no more than {@value #mergeFanIn}
+ * remain. Those runs are then merged lazily to produce each group in
+ * ascending key order. If the input fits within the budget, no files are
+ * written and the groups are read from the buffer.</p>
+ *
+ * <p>The memory budget bounds the serialised size of the buffered elements,
+ * which may exceed it by at most the size of the last element buffered. The
+ * keys of the buffered elements and a fixed size I/O buffer for each of the
+ * runs being merged are held in addition to it. The number of open run
+ * files grows only with the logarithm of the number of runs written. Keys
+ * are not serialised; they are recomputed from each element as it is read
+ * back, so the indexing function must be deterministic.</p>
+ *
+ * <p>The elements of each group are streamed from the runs as the group is
+ * iterated, retaining the order in which they were yielded from the input.
+ * Each group can be iterated once, and only until the next group is
+ * requested; any of its elements not yet iterated are then skipped. The
+ * returned {@code Iterable} may likewise be iterated only once. Its
+ * temporary files are deleted when iteration completes, or when it is
+ * closed if iteration is abandoned.</p>
+ *
+ * @param <S> The type of the elements to be grouped.
+ * @param <K> The type of the keys by which elements are grouped.
+ */
+public class ExternalGrouper<S, K> {
+    private static final int mergeFanIn = 16;
+    private static final int ioBufferSize = 64 * 1024;
+    private static final int initialBufferSize = 4 * 1024;
+    private static final int maximumBufferSize = Integer.MAX_VALUE - 8;
+
+    private final UnaryFunction<? super S, K> indexer;
+    private final Comparator<? super K> comparator;
+    private final Serializer<S> serializer;
+    private final long memoryBudget;
+
+    public ExternalGrouper(
+            UnaryFunction<? super S, K> indexer,
+            Comparator<? super K> comparator,
+            Serializer<S> serializer,
+            long memoryBudget) {
+        if (memoryBudget <= 0) {
+            throw new IllegalArgumentException("Memory budget must be greater than zero.");
+        }
+        this.indexer = checkNotNull(indexer);
+        this.comparator = checkNotNull(comparator);
+        this.serializer = checkNotNull(serializer);
+        this.memoryBudget = Math.min(memoryBudget, maximumBufferSize);
+    }
+
+    public CloseableIterable<Pair<K, Iterable<S>>> group(Iterable<? extends S> iterable) {
+        checkNotNull(iterable);
+        List<Run> runs = new ArrayList<Run>();
+        RecordBuffer buffer = new RecordBuffer();
+        try {
+            for (S element : iterable) {
+                buffer.add(element);
+                if (buffer.size() >= memoryBudget) {
+                    addSpilledRun(runs, buffer.spill());
+                }
+            }
+            if (runs.isEmpty()) {
+                runs.add(buffer.inMemoryRun());
+            } else {
+                if (!buffer.isEmpty()) {
+                    addSpilledRun(runs, buffer.spill());
+                }
+                while (runs.size() > mergeFanIn) {
+                    mergeLast(runs, mergeFanIn);
+                }
+            }
+        } catch (IOException exception) {
+            closeAll(runs);
+            throw new RuntimeException(exception);
+        } catch (RuntimeException exception) {
+            closeAll(runs);
+            throw exception;
+        }
+        return new GroupedIterable(runs);
+    }
+
+    private void addSpilledRun(List<Run> runs, Run run) throws IOException {
+        runs.add(run);
+        while (runs.size() >= mergeFanIn && lastShareGeneration(runs, mergeFanIn)) {
+            mergeLast(runs, mergeFanIn);
+        }
+    }
+
+    private boolean lastShareGeneration(List<Run> runs, int count) {
+        int generation = runs.get(runs.size() - 1).generation;
+        for (int i = runs.size() - count; i < runs.size(); i++) {
+            if (runs.get(i).generation != generation) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void mergeLast(List<Run> runs, int count) throws IOException {
+        List<Run> sources = runs.subList(runs.size() - count, runs.size());
+        int generation = 0;
+        for (Run source : sources) {
+            generation = Math.max(generation, source.generation + 1);
+        }
+        RunWriter writer = new RunWriter(generation);
+        try {
+            Merger merger = new Merger(new ArrayList<Run>(sources));
+            while (merger.hasNext()) {
+                merger.transferTo(writer);
+            }
+        } catch (IOException exception) {
+            writer.abandon();
+            throw exception;
+        } catch (RuntimeException exception) {
+            writer.abandon();
+            throw exception;
+        }
+        sources.clear();
+        runs.add(writer.finish());
+    }
+
+    private static void closeAll(Iterable<? extends Closeable> closeables) {
+        for (Closeable closeable : closeables) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+                // Nothing more can be done with a run that cannot be closed.
+            }
+        }
+    }
+
+    private class RecordBuffer extends OutputStream {
+        private final DataOutputStream output = new DataOutputStream(this);
+        private final List<K> keys = new ArrayList<K>();
+        private int[] offsets = new int[1024];
+        private byte[] bytes = new byte[(int) Math.min(memoryBudget, initialBufferSize)];
+        private int count = 0;
+
+        void add(S element) throws IOException {
+            if (keys.size() == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[keys.size()] = count;
+            serializer.write(element, output);
+            output.flush();
+            keys.add(indexer.call(element));
+        }
+
+        @Override public void write(int value) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) value;
+        }
+
+        @Override public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+        }
+
+        int size() {
+            return count;
+        }
+
+        boolean isEmpty() {
+            return keys.isEmpty();
+        }
+
+        Run spill() throws IOException {
+            Integer[] order = sortedIndices();
+            RunWriter writer = new RunWriter(0);
+            try {
+                for (int index : order) {
+                    writer.write(bytes, offsets[index], endOf(index) - offsets[index]);
+                }
+            } catch (IOException exception) {
+                writer.abandon();
+                throw exception;
+            }
+            count = 0;
+            keys.clear();
+            return writer.finish();
+        }
+
+        Run inMemoryRun() {
+            return new MemoryRun(bytes, offsets, count, sortedIndices());
+        }
+
+        private void ensureCapacity(int required) {
+            if (required < 0) {
+                throw new OutOfMemoryError("Serialised elements are too large to buffer.");
+            }
+            if (required > bytes.length) {
+                int grown = (int) Math.min(bytes.length * 2L, memoryBudget);
+                bytes = Arrays.copyOf(bytes, Math.max(grown, required));
+            }
+        }
+
+        private int endOf(int index) {
+            return index + 1 < keys.size() ? offsets[index + 1] : count;
+        }
+
+        private Integer[] sortedIndices() {
+            Integer[] indices = new Integer[keys.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = i;
+            }
+            Arrays.sort(indices, new Comparator<Integer>() {
+                @Override public int compare(Integer first, Integer second) {
+                    return comparator.compare(keys.get(first), keys.get(second));
+                }
+            });
+            return indices;
+        }
+    }
+
+    private class RunWriter {
+        private final int generation;
+        private final FileChannel channel;
+        private final ByteBuffer ioBuffer = ByteBuffer.allocate(ioBufferSize);
+
+        RunWriter(int generation) throws IOException {
+            this.generation = generation;
+            Path path = Files.createTempFile("funk-group-", ".run");
+            this.channel = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+        }
+
+        void write(byte[] bytes, int offset, int length) throws IOException {
+            if (ioBuffer.remaining() < 4 + length) {
+                drain(ioBuffer);
+            }
+            if (ioBuffer.remaining() < 4 + length) {
+                ByteBuffer record = ByteBuffer.allocate(4 + length);
+                record.putInt(length).put(bytes, offset, length);
+                drain(record);
+            } else {
+                ioBuffer.putInt(length).put(bytes, offset, length);
+            }
+        }
+
+        Run finish() throws IOException {
+            try {
+                drain(ioBuffer);
+            } catch (IOException exception) {
+                abandon();
+                throw exception;
+            }
+            return new FileRun(generation, channel);
+        }
+
+        void abandon() {
+            closeAll(Collections.singletonList(channel));
+        }
+
+        private void drain(ByteBuffer source) throws IOException {
+            source.flip();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+            source.clear();
+        }
+    }
+
+    private static class RecordInput extends ByteArrayInputStream {
+        private RecordInput() {
+            super(new byte[0]);
+        }
+
+        void select(byte[] bytes, int offset, int length) {
+            this.buf = bytes;
+            this.pos = offset;
+            this.mark = offset;
+            this.count = offset + length;
+        }
+    }
+
+    private abstract class Run implements Closeable {
+        private final int generation;
+        private final RecordInput recordInput = new RecordInput();
+        private final DataInputStream input = new DataInputStream(recordInput);
+        private int ordinal;
+        private S current;
+        private K currentKey;
+        private byte[] currentBytes;
+        private int currentOffset;
+        private int currentLength;
+
+        Run(int generation) {
+            this.generation = generation;
+        }
+
+        abstract boolean advance() throws IOException;
+
+        S current() {
+            return current;
+        }
+
+        K currentKey() {
+            return currentKey;
+        }
+
+        void read(byte[] bytes, int offset, int length) throws IOException {
+            currentBytes = bytes;
+            currentOffset = offset;
+            currentLength = length;
+            recordInput.select(bytes, offset, length);
+            current = serializer.read(input);
+            currentKey = indexer.call(current);
+        }
+
+        void writeCurrentTo(RunWriter writer) throws IOException {
+            writer.write(currentBytes, currentOffset, currentLength);
+        }
+    }
+
+    private class MemoryRun extends Run {
+        private final byte[] bytes;
+        private final int[] offsets;
+        private final int count;
+        private final Integer[] order;
+        private int position = 0;
+
+        MemoryRun(byte[] bytes, int[] offsets, int count, Integer[] order) {
+            super(0);
+            this.bytes = bytes;
+            this.offsets = offsets;
+            this.count = count;
+            this.order = order;
+        }
+
+        @Override boolean advance() throws IOException {
+            if (position == order.length) {
+                return false;
+            }
+            int index = order[position++];
+            int end = index + 1 < order.length ? offsets[index + 1] : count;
+            read(bytes, offsets[index], end - offsets[index]);
+            return true;
+        }
+
+        @Override public void close() {}
+    }
+
+    private class FileRun extends Run {
+        private final FileChannel channel;
+        private ByteBuffer ioBuffer;
+        private long filePosition = 0;
+
+        FileRun(int generation, FileChannel channel) {
+            super(generation);
+            this.channel = channel;
+        }
+
+        @Override boolean advance() throws IOException {
+            if (!ensureAvailable(4)) {
+                return false;
+            }
+            int length = ioBuffer.getInt();
+            if (!ensureAvailable(length)) {
+                throw new IOException("Run file ended part way through a record.");
+            }
+            read(ioBuffer.array(), ioBuffer.arrayOffset() + ioBuffer.position(), length);
+            ioBuffer.position(ioBuffer.position() + length);
+            return true;
+        }
+
+        private boolean ensureAvailable(int length) throws IOException {
+            if (ioBuffer == null) {
+                ioBuffer = ByteBuffer.allocate(ioBufferSize);
+                ioBuffer.flip();
+            }
+            if (ioBuffer.remaining() >= length) {
+                return true;
+            }
+            ioBuffer.compact();
+            if (ioBuffer.capacity() < length) {
+                ByteBuffer larger = ByteBuffer.allocate(length);
+                ioBuffer.flip();
+                larger.put(ioBuffer);
+                ioBuffer = larger;
+            }
+            while (ioBuffer.position() < length) {
+                int read = channel.read(ioBuffer, filePosition);
+                if (read < 0) {
+                    break;
+                }
+                filePosition += read;
+            }
+            ioBuffer.flip();
+            return ioBuffer.remaining() >= length;
+        }
+
+        @Override public void close() throws IOException {
+            ioBuffer = null;
+            channel.close();
+        }
+    }
+
+    private class Merger {
+        private final PriorityQueue<Run> queue;
+
+        Merger(List<Run> runs) throws IOException {
+            queue = new PriorityQueue<Run>(Math.max(runs.size(), 1), new Comparator<Run>() {
+                @Override public int compare(Run first, Run second) {
+                    int keyComparison = comparator.compare(first.currentKey(), second.currentKey());
+                    return keyComparison != 0 ? keyComparison : first.ordinal - second.ordinal;
+                }
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                Run run = runs.get(i);
+                run.ordinal = i;
+                step(run);
+            }
+        }
+
+        boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        K nextKey() {
+            return queue.peek().currentKey();
+        }
+
+        S next() throws IOException {
+            Run run = queue.poll();
+            S element = run.current();
+            step(run);
+            return element;
+        }
+
+        void transferTo(RunWriter writer) throws IOException {
+            Run run = queue.poll();
+            run.writeCurrentTo(writer);
+            step(run);
+        }
+
+        private void step(Run run) throws IOException {
+            if (run.advance()) {
+                queue.add(run);
+            } else {
+                run.close();
+            }
+        }
+    }
+
+    private class GroupedIterable implements CloseableIterable<Pair<K, Iterable<S>>> {
+        private final List<Run> runs;
+        private final AtomicBoolean iterated = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+
+        private GroupedIterable(List<Run> runs) {
+            this.runs = runs;
+        }
+
+        @Override public Iterator<Pair<K, Iterable<S>>> iterator() {
+            checkOpen();
+            if (!iterated.compareAndSet(false, true)) {
+                throw new IllegalStateException("Externally grouped elements can only be iterated once.");
+            }
+            return new GroupIterator();
+        }
+
+        /**
+         * Deletes the temporary files holding any groups not yet iterated.
+         * Any further iteration of the groups throws an
+         * {@code IllegalStateException}.
+         */
+        @Override public void close() {
+            closed = true;
+            closeAll(runs);
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("Externally grouped elements cannot be iterated once closed.");
+            }
+        }
+
+        private class GroupIterator implements Iterator<Pair<K, Iterable<S>>> {
+            private Merger merger;
+            private Group currentGroup;
+
+            @Override public boolean hasNext() {
+                checkOpen();
+                try {
+                    if (merger == null) {
+                        merger = new Merger(runs);
+                    }
+                    if (currentGroup != null) {
+                        currentGroup.expire();
+                        while (currentGroup.hasMoreElements()) {
+                            merger.next();
+                        }
+                        currentGroup = null;
+                    }
+                    return merger.hasNext();
+                } catch (IOException exception) {
+                    close();
+                    throw new RuntimeException(exception);
+                } catch (RuntimeException exception) {
+                    close();
+                    throw exception;
+                }
+            }
+
+            @Override public Pair<K, Iterable<S>> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                currentGroup = new Group(merger.nextKey());
+                return pair(currentGroup.key, (Iterable<S>) currentGroup);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+
+            private class Group implements Iterable<S> {
+                private final K key;
+                private boolean iterated = false;
+                private boolean expired = false;
+
+                private Group(K key) {
+                    this.key = key;
+                }
+
+                void expire() {
+                    expired = true;
+                }
+
+                boolean hasMoreElements() {
+                    return merger.hasNext() && comparator.compare(merger.nextKey(), key) == 0;
+                }
+
+                @Override public Iterator<S> iterator() {
+                    checkCurrent();
+                    if (iterated) {
+                        throw new IllegalStateException("Each group can only be iterated once.");
+                    }
+                    iterated = true;
+                    return new Iterator<S>() {
+                        @Override public boolean hasNext() {
+                            checkCurrent();
+                            return hasMoreElements();
+                        }
+
+                        @Override public S next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            try {
+                                return merger.next();
+                            } catch (IOException exception) {
+                                close();
+                                throw new RuntimeException(exception);
+                            } catch (RuntimeException exception) {
+                                close();
+                                throw exception;
+                            }
+                        }
+
+                        @Override public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                private void checkCurrent() {
+                    checkOpen();
+                    if (expired) {
+                        throw new IllegalStateException("A group cannot be iterated once the next group has been requested.");
+                    }
+                }
+            }
+        }
+    }
+}
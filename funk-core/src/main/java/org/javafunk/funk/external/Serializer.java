@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes values of type {@code T} to, and reads them back from, a binary
+ * representation so that they can be held outside of the heap, for example
+ * in the temporary files used by {@link ExternalGrouper}.
+ *
+ * <p>A value read back through {@link #read(DataInput)} must be equal to the
+ * value originally supplied to {@link #write(Object, DataOutput)}. Each call
+ * to {@code read} must consume exactly the bytes produced by the
+ * corresponding call to {@code write}.</p>
+ *
+ * @param <T> The type of the values this {@code Serializer} can write and read.
+ * @see org.javafunk.funk.Serializers
+ */
+public interface Serializer<T> {
+    void write(T value, DataOutput output) throws IOException;
+
+    T read(DataInput input) throws IOException;
+}
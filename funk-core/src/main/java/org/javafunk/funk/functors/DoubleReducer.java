@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.functors;
+
+import org.javafunk.funk.functors.functions.DoubleBinaryFunction;
+
+public abstract class DoubleReducer implements DoubleBinaryFunction {
+    public abstract double accumulate(double accumulator, double element);
+
+    @Override public double call(double accumulator, double element) {
+        return accumulate(accumulator, element);
+    }
+}
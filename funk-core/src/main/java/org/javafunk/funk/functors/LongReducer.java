@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.functors;
+
+import org.javafunk.funk.functors.functions.LongBinaryFunction;
+
+public abstract class LongReducer implements LongBinaryFunction {
+    public abstract long accumulate(long accumulator, long element);
+
+    @Override public long call(long accumulator, long element) {
+        return accumulate(accumulator, element);
+    }
+}
@@ -26,11 +26,22 @@ public class ConstantGenerator<T> extends AbstractGenerator<T> {
     }
 
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        ConstantGenerator<?> that = (ConstantGenerator<?>) other;
+        return new EqualsBuilder()
+                .append(value, that.value)
+                .isEquals();
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(value)
+                .toHashCode();
     }
 
     @Override public String toString() {
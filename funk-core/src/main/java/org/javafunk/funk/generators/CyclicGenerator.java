@@ -18,8 +18,6 @@ import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 import static org.javafunk.funk.Lazily.cycle;
 
 public class CyclicGenerator<T> extends AbstractGenerator<T> {
-    private static final String[] excludedFields = new String[]{"iterator"};
-
     private final Iterator<T> iterator;
 
     // These fields are required for equality.
@@ -37,11 +35,24 @@ public class CyclicGenerator<T> extends AbstractGenerator<T> {
     }
 
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other, excludedFields);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        CyclicGenerator<?> that = (CyclicGenerator<?>) other;
+        return new EqualsBuilder()
+                .append(iterable, that.iterable)
+                .append(mostRecentElement, that.mostRecentElement)
+                .isEquals();
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(iterable)
+                .append(mostRecentElement)
+                .toHashCode();
     }
 
     @Override public String toString() {
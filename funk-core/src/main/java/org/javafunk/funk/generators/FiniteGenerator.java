@@ -17,8 +17,6 @@ import java.util.Iterator;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 
 public class FiniteGenerator<T> extends AbstractGenerator<T> {
-    private static final String[] excludedFields = new String[]{"iterator"};
-
     private final Iterator<? extends T> iterator;
 
     // These fields are required for equality.
@@ -40,11 +38,24 @@ public class FiniteGenerator<T> extends AbstractGenerator<T> {
     }
     
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other, excludedFields);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        FiniteGenerator<?> that = (FiniteGenerator<?>) other;
+        return new EqualsBuilder()
+                .append(iterable, that.iterable)
+                .append(mostRecentElement, that.mostRecentElement)
+                .isEquals();
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this, excludedFields);
+        return new HashCodeBuilder()
+                .append(iterable)
+                .append(mostRecentElement)
+                .toHashCode();
     }
 
     @Override public String toString() {
@@ -19,8 +19,6 @@ import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 import static org.javafunk.funk.Iterables.asList;
 
 public class RandomGenerator<T> extends AbstractGenerator<T> {
-    private static final String[] excludedFields = new String[]{"random"};
-
     private final List<? extends T> elements;
     private final Random random;
 
@@ -38,11 +36,22 @@ public class RandomGenerator<T> extends AbstractGenerator<T> {
     }
 
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other, excludedFields);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        RandomGenerator<?> that = (RandomGenerator<?>) other;
+        return new EqualsBuilder()
+                .append(elements, that.elements)
+                .isEquals();
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(elements)
+                .toHashCode();
     }
 
     @Override public String toString() {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import com.google.common.base.Throwables;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * An {@code Iterator} over batches of the elements of an underlying
+ * {@code Iterator}, as for {@link BatchedIterator}, where the batches are
+ * assembled ahead of time by a task running on a supplied {@code Executor}.
+ *
+ * <p>The task starts as soon as the {@code AsyncBatchedIterator} is
+ * constructed and fills batches while the consumer is processing earlier
+ * ones. No more than the supplied number of completed batches are held
+ * waiting for the consumer; once that many are waiting, the task blocks
+ * until the consumer takes one. Storage for each batch is allocated at its
+ * full size up front.</p>
+ *
+ * <p>If a linger time is supplied, a batch that has been partially filled
+ * for at least that long is handed to a waiting consumer without waiting
+ * for it to fill up, so that a slow underlying {@code Iterator} does not
+ * hold back elements that have already arrived.</p>
+ *
+ * <p>Any exception thrown by the underlying {@code Iterator} is rethrown
+ * to the consumer once the batches completed before it have been
+ * consumed. A consumer that stops iterating before the end should call
+ * {@link #cancel()}, otherwise the task remains blocked waiting for space
+ * for as long as the {@code Executor} allows.</p>
+ *
+ * @param <T> The type of the elements being batched.
+ */
+public class AsyncBatchedIterator<T> implements Iterator<Iterable<T>> {
+    private static final int maximumPresize = 1 << 16;
+    private static final long noLinger = -1;
+
+    private final Iterator<? extends T> iterator;
+    private final int batchSize;
+    private final int maximumInFlight;
+    private final long lingerNanos;
+    private final ArrayDeque<List<T>> completed = new ArrayDeque<List<T>>();
+    private List<T> filling;
+    private long fillingStartedAt;
+    private boolean finished = false;
+    private boolean cancelled = false;
+    private Throwable failure;
+
+    public AsyncBatchedIterator(Iterator<? extends T> iterator, int batchSize, Executor executor, int maximumInFlight) {
+        this(iterator, batchSize, maximumInFlight, noLinger, executor);
+    }
+
+    public AsyncBatchedIterator(
+            Iterator<? extends T> iterator,
+            int batchSize,
+            Executor executor,
+            int maximumInFlight,
+            long linger,
+            TimeUnit unit) {
+        this(iterator, batchSize, maximumInFlight, lingerNanos(linger, unit), executor);
+    }
+
+    private AsyncBatchedIterator(
+            Iterator<? extends T> iterator,
+            int batchSize,
+            int maximumInFlight,
+            long lingerNanos,
+            Executor executor) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero.");
+        }
+        if (maximumInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum number of batches in flight must be greater than zero.");
+        }
+        this.iterator = checkNotNull(iterator);
+        this.batchSize = batchSize;
+        this.maximumInFlight = maximumInFlight;
+        this.lingerNanos = lingerNanos;
+        checkNotNull(executor).execute(new Runnable() {
+            @Override public void run() {
+                produce();
+            }
+        });
+    }
+
+    private static long lingerNanos(long linger, TimeUnit unit) {
+        if (linger < 0) {
+            throw new IllegalArgumentException("Linger time must not be negative.");
+        }
+        return checkNotNull(unit).toNanos(linger);
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        while (true) {
+            if (!completed.isEmpty()) {
+                return true;
+            }
+            if (failure != null) {
+                Throwable thrown = failure;
+                failure = null;
+                throw Throwables.propagate(thrown);
+            }
+            if (finished || cancelled) {
+                return false;
+            }
+            if (lingerNanos != noLinger && filling != null) {
+                long remaining = fillingStartedAt + lingerNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    completed.add(unmodifiableList(filling));
+                    filling = null;
+                    return true;
+                }
+                await(remaining);
+            } else {
+                await(0);
+            }
+        }
+    }
+
+    @Override
+    public synchronized Iterable<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> batch = completed.poll();
+        notifyAll();
+        return batch;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops the background task from filling any further batches and discards
+     * any that have not yet been consumed.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        completed.clear();
+        filling = null;
+        notifyAll();
+    }
+
+    @Override public synchronized String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("batchSize", batchSize)
+                .append("maximumInFlight", maximumInFlight)
+                .append("lingerNanos", lingerNanos == noLinger ? "none" : lingerNanos)
+                .append("iterator", iterator.toString())
+                .toString();
+    }
+
+    private void produce() {
+        try {
+            while (iterator.hasNext()) {
+                T element = iterator.next();
+                synchronized (this) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (filling == null) {
+                        filling = new ArrayList<T>(Math.min(batchSize, maximumPresize));
+                        fillingStartedAt = System.nanoTime();
+                        if (lingerNanos != noLinger) {
+                            notifyAll();
+                        }
+                    }
+                    filling.add(element);
+                    if (filling.size() == batchSize) {
+                        complete();
+                    }
+                }
+            }
+            synchronized (this) {
+                if (filling != null) {
+                    complete();
+                }
+                finished = true;
+                notifyAll();
+            }
+        } catch (Throwable throwable) {
+            synchronized (this) {
+                failure = throwable;
+                finished = true;
+                notifyAll();
+            }
+        }
+    }
+
+    private void complete() {
+        while (completed.size() >= maximumInFlight && !cancelled) {
+            await(0);
+        }
+        if (!cancelled && filling != null) {
+            completed.add(unmodifiableList(filling));
+        }
+        filling = null;
+        notifyAll();
+    }
+
+    private void await(long nanos) {
+        try {
+            if (nanos == 0) {
+                wait();
+            } else {
+                TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        }
+    }
+}
@@ -20,6 +20,8 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Collections.unmodifiableList;
 
 public class BatchedIterator<T> implements Iterator<Iterable<T>> {
+    private static final int maximumPresize = 1 << 16;
+
     private Iterator<? extends T> iterator;
     private int batchSize;
 
@@ -39,11 +41,9 @@ public class BatchedIterator<T> implements Iterator<Iterable<T>> {
     @Override
     public Iterable<T> next() {
         if (hasNext()) {
-            List<T> nextBatch = new ArrayList<T>();
-            for (int i = 0; i < batchSize; i++) {
-                if (iterator.hasNext()) {
-                    nextBatch.add(iterator.next());
-                }
+            List<T> nextBatch = new ArrayList<T>(Math.min(batchSize, maximumPresize));
+            for (int i = 0; i < batchSize && iterator.hasNext(); i++) {
+                nextBatch.add(iterator.next());
             }
             return unmodifiableList(nextBatch);
         } else {
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import com.google.common.math.LongMath;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.monads.Option;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} over the cartesian product of a number of
+ * {@code Iterable} instances, yielding each combination as an unmodifiable
+ * {@code List} with one element from each {@code Iterable}, in order. The
+ * last {@code Iterable} varies fastest and the first slowest, like the
+ * wheels of an odometer.
+ *
+ * <p>Each {@code Iterable} is iterated at most once. Its elements are cached
+ * as they are first reached so that the combinations can be stepped through
+ * by advancing an index per dimension, without re-iterating any of the
+ * supplied {@code Iterable} instances or building intermediate
+ * {@code Iterable} instances per combination. If any of the supplied
+ * {@code Iterable} instances is infinite, iteration is also infinite and
+ * every element yielded from it is retained.</p>
+ *
+ * <p>Combinations are numbered from zero in iteration order. The total
+ * number of combinations is available from {@link #size()} and a combination
+ * can be retrieved by its number using {@link #get(long)}. The combinations
+ * still to be yielded can be divided between two iterators using
+ * {@link #split()}, for example to enumerate a large product in parallel.
+ * Each of these operations first caches every element of every dimension and
+ * so must not be used when any of the supplied {@code Iterable} instances is
+ * infinite. Once the dimensions have been cached, iterators produced by
+ * {@code split()} can be consumed on separate threads.</p>
+ */
+public class CartesianProductIterator implements Iterator<List<Object>> {
+    private final Iterable<? extends Iterable<?>> iterables;
+    private final Dimension[] dimensions;
+    private final int[] indices;
+    private long position = 0;
+    private long end = -1;
+    private boolean started = false;
+    private boolean prepared = false;
+    private boolean available = false;
+
+    public CartesianProductIterator(Iterable<? extends Iterable<?>> iterables) {
+        this.iterables = checkNotNull(iterables);
+        List<Dimension> dimensions = new ArrayList<Dimension>();
+        for (Iterable<?> iterable : iterables) {
+            dimensions.add(new Dimension(checkNotNull(iterable).iterator()));
+        }
+        this.dimensions = dimensions.toArray(new Dimension[dimensions.size()]);
+        this.indices = new int[this.dimensions.length];
+    }
+
+    private CartesianProductIterator(
+            Iterable<? extends Iterable<?>> iterables,
+            Dimension[] dimensions,
+            long start,
+            long end) {
+        this.iterables = iterables;
+        this.dimensions = dimensions;
+        this.indices = indicesOf(start);
+        this.position = start;
+        this.end = end;
+        this.started = true;
+        this.prepared = true;
+        this.available = true;
+    }
+
+    /**
+     * Returns the total number of combinations in the cartesian product,
+     * including any already yielded by this iterator.
+     *
+     * @throws ArithmeticException if the number of combinations cannot be
+     *                             represented as a {@code long}.
+     */
+    public long size() {
+        long size = 1;
+        for (Dimension dimension : dimensions) {
+            size = LongMath.checkedMultiply(size, dimension.size());
+        }
+        return size;
+    }
+
+    /**
+     * Returns the combination at the supplied position in iteration order,
+     * regardless of how far this iterator has progressed.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     *                                   than {@link #size()}.
+     */
+    public List<Object> get(long index) {
+        long size = size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return combinationAt(indicesOf(index));
+    }
+
+    /**
+     * Divides the combinations yet to be yielded by this iterator in two.
+     * This iterator retains the first half and the second half is yielded by
+     * the returned iterator. If fewer than two combinations remain, nothing
+     * is divided and {@code None} is returned.
+     */
+    public Option<CartesianProductIterator> split() {
+        long limit = end < 0 ? size() : end;
+        long remaining = limit - position;
+        if (remaining < 2) {
+            end = limit;
+            return Option.none();
+        }
+        long middle = position + remaining / 2;
+        end = middle;
+        return Option.some(new CartesianProductIterator(iterables, dimensions, middle, limit));
+    }
+
+    @Override public boolean hasNext() {
+        if (end >= 0 && position >= end) {
+            return false;
+        }
+        if (!prepared) {
+            available = advance();
+            prepared = true;
+        }
+        return available;
+    }
+
+    @Override public List<Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        prepared = false;
+        position++;
+        return combinationAt(indices);
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterables", iterables)
+                .append("position", position)
+                .toString();
+    }
+
+    private boolean advance() {
+        if (!started) {
+            started = true;
+            for (Dimension dimension : dimensions) {
+                if (!dimension.has(0)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = dimensions.length - 1; i >= 0; i--) {
+            if (dimensions[i].has(indices[i] + 1)) {
+                indices[i]++;
+                return true;
+            }
+            indices[i] = 0;
+        }
+        return false;
+    }
+
+    private int[] indicesOf(long index) {
+        int[] result = new int[dimensions.length];
+        long remainder = index;
+        for (int i = dimensions.length - 1; i >= 0; i--) {
+            int size = dimensions[i].size();
+            result[i] = (int) (remainder % size);
+            remainder = remainder / size;
+        }
+        return result;
+    }
+
+    private List<Object> combinationAt(int[] indices) {
+        Object[] values = new Object[dimensions.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = dimensions[i].get(indices[i]);
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    private static class Dimension {
+        private final List<Object> elements = new ArrayList<Object>();
+        private Iterator<?> iterator;
+
+        private Dimension(Iterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        boolean has(int index) {
+            while (index >= elements.size() && iterator != null) {
+                if (iterator.hasNext()) {
+                    elements.add(iterator.next());
+                } else {
+                    iterator = null;
+                }
+            }
+            return index < elements.size();
+        }
+
+        Object get(int index) {
+            return elements.get(index);
+        }
+
+        int size() {
+            while (iterator != null) {
+                has(elements.size());
+            }
+            return elements.size();
+        }
+    }
+}
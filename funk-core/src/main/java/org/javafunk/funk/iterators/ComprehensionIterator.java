@@ -2,7 +2,6 @@ package org.javafunk.funk.iterators;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.javafunk.funk.Eagerly;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
@@ -29,19 +28,10 @@ public class ComprehensionIterator<S, T> extends CachingIterator<T> {
     @Override
     protected T findNext() {
         while (iterator.hasNext()) {
-            final S next = iterator.next();
-            Boolean passesAllPredicates = Eagerly.all(
-                    predicates,
-                    new UnaryPredicate<UnaryPredicate<? super S>>() {
-                        @Override
-                        public boolean evaluate(UnaryPredicate<? super S> predicate) {
-                            return predicate.evaluate(next);
-                        }
-                    });
-            if (passesAllPredicates) {
+            S next = iterator.next();
+            if (satisfiesAllPredicates(next)) {
                 return mapper.call(next);
             }
-
         }
         throw new NoSuchElementException();
     }
@@ -51,6 +41,15 @@ public class ComprehensionIterator<S, T> extends CachingIterator<T> {
         iterator.remove();
     }
 
+    private boolean satisfiesAllPredicates(S element) {
+        for (UnaryPredicate<? super S> predicate : predicates) {
+            if (!predicate.evaluate(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override public String toString() {
         return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
                 .append("mapper", mapper)
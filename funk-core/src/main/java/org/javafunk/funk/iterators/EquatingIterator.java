@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.predicates.BinaryPredicate;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} yielding the result of evaluating a
+ * {@code BinaryPredicate} against corresponding elements of two
+ * {@code Iterator} instances, without constructing an intermediate tuple
+ * for each pair of elements. Iteration is complete as soon as either of
+ * the underlying {@code Iterator} instances is exhausted.
+ */
+public class EquatingIterator<T> implements Iterator<Boolean> {
+    private final Iterator<? extends T> firstIterator;
+    private final Iterator<? extends T> secondIterator;
+    private final BinaryPredicate<? super T, ? super T> predicate;
+
+    public EquatingIterator(
+            Iterator<? extends T> firstIterator,
+            Iterator<? extends T> secondIterator,
+            BinaryPredicate<? super T, ? super T> predicate) {
+        this.firstIterator = checkNotNull(firstIterator);
+        this.secondIterator = checkNotNull(secondIterator);
+        this.predicate = checkNotNull(predicate);
+    }
+
+    @Override public boolean hasNext() {
+        return firstIterator.hasNext() && secondIterator.hasNext();
+    }
+
+    @Override public Boolean next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return predicate.evaluate(firstIterator.next(), secondIterator.next());
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("firstIterator", firstIterator)
+                .append("secondIterator", secondIterator)
+                .append("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import java.util.Iterator;
+
+/**
+ * An {@code Iterator} over {@code int} values which can yield each value
+ * without boxing via {@link #nextInt()}. The boxed {@link #next()} is
+ * retained so that instances can be used anywhere an
+ * {@code Iterator<Integer>} is expected.
+ */
+public interface IntIterator extends Iterator<Integer> {
+    int nextInt();
+}
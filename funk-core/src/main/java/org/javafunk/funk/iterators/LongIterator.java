@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import java.util.Iterator;
+
+/**
+ * An {@code Iterator} over {@code long} values which can yield each value
+ * without boxing via {@link #nextLong()}. The boxed {@link #next()} is
+ * retained so that instances can be used anywhere an
+ * {@code Iterator<Long>} is expected.
+ */
+public interface LongIterator extends Iterator<Long> {
+    long nextLong();
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Splits the elements of an {@code Iterable} into those that satisfy a
+ * {@code UnaryPredicate} and those that do not, iterating the underlying
+ * {@code Iterable} once and evaluating the predicate once per element,
+ * regardless of how the two sides are consumed.
+ *
+ * <p>A matching iterator and a non-matching iterator share a single pass
+ * over the underlying {@code Iterable}. Elements belonging to whichever side
+ * is lagging behind, including a side whose iterator has yet to be
+ * requested, are buffered until that side catches up. Requesting a further
+ * iterator for a side that has already been handed out starts a new pass,
+ * so that each iterator independently yields every element of its side.
+ * Once a new pass has started, elements destined for a side of an earlier
+ * pass that was never handed out are discarded rather than buffered.</p>
+ *
+ * <p>If a bound is supplied, elements are only buffered for a side whose
+ * iterator has been handed out, and no more than that number of elements
+ * are buffered for the lagging side. When the bound is reached, the leading
+ * side blocks until the lagging side, consumed on another thread, takes an
+ * element. An iterator requested once the current pass has started makes a
+ * new pass of its own, so iterating one side of a bounded partition alone
+ * neither buffers nor blocks. Sides handed out together must be consumed
+ * concurrently; consuming both from a single thread may block
+ * indefinitely.</p>
+ *
+ * @param <T> The type of the elements being partitioned.
+ */
+public class Partitioner<T> {
+    private static final Object nullElement = new Object();
+
+    private final Iterable<? extends T> iterable;
+    private final UnaryPredicate<? super T> predicate;
+    private final int bound;
+    private final boolean bounded;
+    private Pass current;
+
+    public Partitioner(Iterable<? extends T> iterable, UnaryPredicate<? super T> predicate) {
+        this(iterable, predicate, Integer.MAX_VALUE);
+    }
+
+    public Partitioner(Iterable<? extends T> iterable, UnaryPredicate<? super T> predicate, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be greater than zero.");
+        }
+        this.iterable = checkNotNull(iterable);
+        this.predicate = checkNotNull(predicate);
+        this.bound = bound;
+        this.bounded = bound != Integer.MAX_VALUE;
+    }
+
+    public synchronized Iterator<T> matchingIterator() {
+        return claim(true);
+    }
+
+    public synchronized Iterator<T> nonMatchingIterator() {
+        return claim(false);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterable", iterable)
+                .append("predicate", predicate)
+                .append("bound", bound)
+                .toString();
+    }
+
+    private Iterator<T> claim(boolean matching) {
+        if (current == null || !current.claim(matching)) {
+            if (current != null) {
+                current.abandonUnclaimed();
+            }
+            current = new Pass(iterable.iterator());
+            current.claim(matching);
+        }
+        return new SideIterator(current, current.side(matching));
+    }
+
+    private static class Side {
+        private final ArrayDeque<Object> buffer = new ArrayDeque<Object>();
+        private boolean claimed = false;
+        private boolean abandoned = false;
+    }
+
+    private class Pass {
+        private final Iterator<? extends T> iterator;
+        private final Side matching = new Side();
+        private final Side nonMatching = new Side();
+        private boolean started = false;
+
+        private Pass(Iterator<? extends T> iterator) {
+            this.iterator = iterator;
+        }
+
+        Side side(boolean isMatching) {
+            return isMatching ? matching : nonMatching;
+        }
+
+        synchronized boolean claim(boolean isMatching) {
+            Side side = side(isMatching);
+            if (side.claimed || (bounded && started)) {
+                return false;
+            }
+            side.claimed = true;
+            return true;
+        }
+
+        synchronized void abandonUnclaimed() {
+            for (Side side : new Side[]{matching, nonMatching}) {
+                if (!side.claimed) {
+                    side.abandoned = true;
+                    side.buffer.clear();
+                }
+            }
+        }
+
+        private boolean accepts(Side side) {
+            return side.claimed || (!bounded && !side.abandoned);
+        }
+
+        synchronized boolean hasNext(Side side) {
+            Side other = side == matching ? nonMatching : matching;
+            while (side.buffer.isEmpty()) {
+                if (other.buffer.size() >= bound) {
+                    awaitSpace();
+                    continue;
+                }
+                if (!iterator.hasNext()) {
+                    return false;
+                }
+                started = true;
+                T element = iterator.next();
+                Side destination = side(predicate.evaluate(element));
+                if (accepts(destination)) {
+                    destination.buffer.add(element == null ? nullElement : element);
+                    if (destination != side) {
+                        signal();
+                    }
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        synchronized T next(Side side) {
+            if (!hasNext(side)) {
+                throw new NoSuchElementException();
+            }
+            Object element = side.buffer.poll();
+            signal();
+            return element == nullElement ? null : (T) element;
+        }
+
+        private void signal() {
+            if (bounded) {
+                notifyAll();
+            }
+        }
+
+        private void awaitSpace() {
+            try {
+                wait();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(exception);
+            }
+        }
+    }
+
+    private class SideIterator implements Iterator<T> {
+        private final Pass pass;
+        private final Side side;
+
+        private SideIterator(Pass pass, Side side) {
+            this.pass = pass;
+            this.side = side;
+        }
+
+        @Override public boolean hasNext() {
+            return pass.hasNext(side);
+        }
+
+        @Override public T next() {
+            return pass.next(side);
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reads the elements of an underlying {@code Iterator} once, on demand, into
+ * an append-only buffer from which any number of iterators can replay them,
+ * each at its own pace and on any thread.
+ *
+ * <p>Elements are buffered in fixed size chunks linked from first to last.
+ * Reading an element that has already been buffered takes no locks; only
+ * the iterator that runs ahead of every other, and so has to pull a new
+ * element from the underlying {@code Iterator}, locks while doing so. Each
+ * replaying iterator refers only to the chunk it is currently reading, so
+ * once the first chunk is released with {@link #releaseStart()} and every
+ * iterator has moved past a chunk, that chunk can be garbage collected.</p>
+ *
+ * <p>If the underlying {@code Iterator} throws, the exception is propagated
+ * to the iterator that was pulling the element and the buffer is left as it
+ * was, so a later attempt will call the underlying {@code Iterator}
+ * again.</p>
+ *
+ * @param <T> The type of the elements being replayed.
+ */
+public class ReplayBuffer<T> {
+    private static final int chunkSize = 64;
+
+    private final Iterator<? extends T> iterator;
+    private final Object lock = new Object();
+    private volatile Chunk start;
+    private volatile Chunk end;
+    private volatile boolean exhausted = false;
+
+    public ReplayBuffer(Iterator<? extends T> iterator) {
+        this.iterator = checkNotNull(iterator);
+        this.start = new Chunk();
+        this.end = start;
+    }
+
+    /**
+     * Returns an iterator that replays every element of the underlying
+     * {@code Iterator} from the first.
+     *
+     * @return A new replaying iterator.
+     * @throws IllegalStateException if the start of the buffer has been
+     *                               released.
+     */
+    public Iterator<T> iterator() {
+        Chunk first = start;
+        if (first == null) {
+            throw new IllegalStateException("Start of buffer has already been released.");
+        }
+        return new ReplayingIterator(first, 0);
+    }
+
+    /**
+     * Returns an iterator over only those elements of the underlying
+     * {@code Iterator} that have yet to be buffered. Unlike
+     * {@link #iterator()}, this can be called after the start of the buffer
+     * has been released.
+     *
+     * @return A new iterator starting at the end of the buffer.
+     */
+    public Iterator<T> tailIterator() {
+        synchronized (lock) {
+            Chunk last = end;
+            return new ReplayingIterator(last, last.count);
+        }
+    }
+
+    /**
+     * Stops this buffer from retaining its first chunk, so that chunks are
+     * held only for as long as some replaying iterator has still to read
+     * them. No further iterators can be obtained once the start has been
+     * released.
+     */
+    public void releaseStart() {
+        start = null;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterator", iterator)
+                .append("exhausted", exhausted)
+                .toString();
+    }
+
+    private boolean fill(Chunk chunk, int index) {
+        synchronized (lock) {
+            if (chunk.count > index || chunk.next != null) {
+                return true;
+            }
+            if (exhausted || !iterator.hasNext()) {
+                exhausted = true;
+                return false;
+            }
+            T element = iterator.next();
+            Chunk last = end;
+            if (last.count == chunkSize) {
+                Chunk next = new Chunk();
+                next.elements[0] = element;
+                next.count = 1;
+                last.next = next;
+                end = next;
+            } else {
+                last.elements[last.count] = element;
+                last.count = last.count + 1;
+            }
+            return true;
+        }
+    }
+
+    private static class Chunk {
+        private final Object[] elements = new Object[chunkSize];
+        private volatile int count = 0;
+        private volatile Chunk next;
+    }
+
+    private class ReplayingIterator implements Iterator<T> {
+        private Chunk chunk;
+        private int index;
+
+        private ReplayingIterator(Chunk chunk, int index) {
+            this.chunk = chunk;
+            this.index = index;
+        }
+
+        @Override public boolean hasNext() {
+            while (true) {
+                boolean finished = exhausted;
+                if (index < chunk.count) {
+                    return true;
+                }
+                if (index == chunkSize && chunk.next != null) {
+                    chunk = chunk.next;
+                    index = 0;
+                    continue;
+                }
+                if (finished || !fill(chunk, index)) {
+                    return false;
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) chunk.elements[index++];
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import com.google.common.collect.Ordering;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.SortedSet;
+
+/**
+ * A position within an {@code Iterable} sorted by a {@code Comparator}, used
+ * by {@link SortedMergeIterator} to walk its inputs. The cursor holds only
+ * the element at its current position.
+ *
+ * <p>Skipping forward to a target element uses the structure of the
+ * underlying {@code Iterable} where it can: a random access {@code List} is
+ * searched by galloping from the current position and a {@code SortedSet}
+ * ordered by the same {@code Comparator} is re-entered using
+ * {@code tailSet}. Anything else is stepped through one element at a
+ * time.</p>
+ *
+ * <p>Elements stepped over are checked to be in order, so an input that is
+ * not sorted by the {@code Comparator} is usually reported with an
+ * {@code IllegalArgumentException}. Elements jumped over are not
+ * inspected.</p>
+ */
+class SortedCursor<T> {
+    private static final int stepsBeforeJumping = 8;
+
+    private final Comparator<? super T> comparator;
+    private final List<? extends T> list;
+    private final SortedSet<T> sortedSet;
+    private Iterator<? extends T> iterator;
+    private int index;
+    private T head;
+    private boolean started;
+    private boolean exhausted;
+
+    @SuppressWarnings("unchecked")
+    SortedCursor(Iterable<? extends T> iterable, Comparator<? super T> comparator) {
+        this.comparator = comparator;
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            this.list = (List<? extends T>) iterable;
+            this.sortedSet = null;
+        } else if (iterable instanceof SortedSet && orderedBy((SortedSet<?>) iterable, comparator)) {
+            this.list = null;
+            this.sortedSet = (SortedSet<T>) iterable;
+            this.iterator = sortedSet.iterator();
+        } else {
+            this.list = null;
+            this.sortedSet = null;
+            this.iterator = iterable.iterator();
+        }
+        load();
+    }
+
+    boolean exhausted() {
+        return exhausted;
+    }
+
+    T head() {
+        return head;
+    }
+
+    int compareHeadTo(T element) {
+        return comparator.compare(head, element);
+    }
+
+    /**
+     * Moves the cursor to the first element not less than the supplied
+     * target.
+     */
+    void advanceTo(T target) {
+        if (exhausted || compareHeadTo(target) >= 0) {
+            return;
+        }
+        if (list != null) {
+            gallopTo(target);
+            return;
+        }
+        for (int step = 0; step < stepsBeforeJumping; step++) {
+            load();
+            if (exhausted || compareHeadTo(target) >= 0) {
+                return;
+            }
+        }
+        if (sortedSet != null) {
+            iterator = sortedSet.tailSet(target).iterator();
+            step();
+        } else {
+            while (!exhausted && compareHeadTo(target) < 0) {
+                load();
+            }
+        }
+    }
+
+    /**
+     * Moves the cursor past every element equal to the current one and
+     * returns how many there were.
+     */
+    int skipEqual() {
+        T current = head;
+        int count = 0;
+        while (!exhausted && compareHeadTo(current) == 0) {
+            count++;
+            load();
+        }
+        return count;
+    }
+
+    private void gallopTo(T target) {
+        int size = list.size();
+        int origin = index - 1;
+        int low = origin;
+        int high = origin + 1;
+        int step = 1;
+        while (high < size && comparator.compare(list.get(high), target) < 0) {
+            low = high;
+            step <<= 1;
+            high = origin + step;
+        }
+        high = Math.min(high, size);
+        while (low + 1 < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(list.get(middle), target) < 0) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        index = high;
+        step();
+    }
+
+    private void load() {
+        boolean hadHead = started && !exhausted;
+        T previous = head;
+        step();
+        if (hadHead && !exhausted && comparator.compare(previous, head) > 0) {
+            throw new IllegalArgumentException("Iterables must be sorted by the supplied comparator.");
+        }
+    }
+
+    private void step() {
+        started = true;
+        if (list != null ? index < list.size() : iterator.hasNext()) {
+            head = list != null ? list.get(index++) : iterator.next();
+        } else {
+            head = null;
+            exhausted = true;
+        }
+    }
+
+    private static boolean orderedBy(SortedSet<?> set, Comparator<?> comparator) {
+        Comparator<?> setComparator = set.comparator();
+        return setComparator == null ? Ordering.natural().equals(comparator) : setComparator.equals(comparator);
+    }
+}
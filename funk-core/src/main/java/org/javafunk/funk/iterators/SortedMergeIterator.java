@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} over the union, intersection or difference of a number
+ * of {@code Iterable} instances that are each already sorted by a supplied
+ * {@code Comparator}, yielding its elements in that same order.
+ *
+ * <p>The inputs are merged as they are iterated, holding only the current
+ * element of each, so the memory required does not grow with the size of
+ * the inputs. Elements are considered equal when the {@code Comparator}
+ * returns zero for them. When an intersection or difference needs to skip
+ * over a run of elements, random access {@code List} inputs are searched by
+ * galloping and {@code SortedSet} inputs ordered by the same
+ * {@code Comparator} are re-entered using {@code tailSet}, rather than
+ * stepping through every element.</p>
+ *
+ * <p>With {@link Multiplicity#SET}, each distinct element is yielded at most
+ * once. With {@link Multiplicity#MULTISET}, runs of equal elements are
+ * counted and each element is yielded as many times as it occurs in whichever
+ * input contains it most often for a union, least often for an
+ * intersection, and as many times as it occurs in the first input less the
+ * total number of times it occurs in the rest for a difference.</p>
+ *
+ * @param <T> The type of the elements being merged.
+ */
+public class SortedMergeIterator<T> implements Iterator<T> {
+    public enum Operation {
+        UNION, INTERSECTION, DIFFERENCE
+    }
+
+    public enum Multiplicity {
+        SET, MULTISET
+    }
+
+    private final Operation operation;
+    private final Multiplicity multiplicity;
+    private final List<SortedCursor<T>> cursors;
+    private T current;
+    private int remaining = 0;
+
+    public SortedMergeIterator(
+            Iterable<? extends Iterable<? extends T>> iterables,
+            Comparator<? super T> comparator,
+            Operation operation,
+            Multiplicity multiplicity) {
+        checkNotNull(iterables);
+        checkNotNull(comparator);
+        this.operation = checkNotNull(operation);
+        this.multiplicity = checkNotNull(multiplicity);
+        this.cursors = new ArrayList<SortedCursor<T>>();
+        for (Iterable<? extends T> iterable : iterables) {
+            cursors.add(new SortedCursor<T>(checkNotNull(iterable), comparator));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (remaining > 0) {
+            return true;
+        }
+        switch (operation) {
+            case UNION:
+                return advanceUnion();
+            case INTERSECTION:
+                return advanceIntersection();
+            default:
+                return advanceDifference();
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        remaining--;
+        return current;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("operation", operation)
+                .append("multiplicity", multiplicity)
+                .append("inputs", cursors.size())
+                .toString();
+    }
+
+    private boolean advanceUnion() {
+        SortedCursor<T> lowest = null;
+        for (SortedCursor<T> cursor : cursors) {
+            if (!cursor.exhausted() && (lowest == null || cursor.compareHeadTo(lowest.head()) < 0)) {
+                lowest = cursor;
+            }
+        }
+        if (lowest == null) {
+            return false;
+        }
+        T element = lowest.head();
+        int count = 0;
+        for (SortedCursor<T> cursor : cursors) {
+            if (!cursor.exhausted() && cursor.compareHeadTo(element) == 0) {
+                count = Math.max(count, cursor.skipEqual());
+            }
+        }
+        return emit(element, count);
+    }
+
+    private boolean advanceIntersection() {
+        if (cursors.isEmpty()) {
+            return false;
+        }
+        while (true) {
+            T candidate = cursors.get(0).head();
+            for (SortedCursor<T> cursor : cursors) {
+                if (cursor.exhausted()) {
+                    return false;
+                }
+                if (cursor.compareHeadTo(candidate) > 0) {
+                    candidate = cursor.head();
+                }
+            }
+            boolean matched = true;
+            for (SortedCursor<T> cursor : cursors) {
+                cursor.advanceTo(candidate);
+                if (cursor.exhausted()) {
+                    return false;
+                }
+                if (cursor.compareHeadTo(candidate) != 0) {
+                    matched = false;
+                    break;
+                }
+            }
+            if (matched) {
+                int count = Integer.MAX_VALUE;
+                for (SortedCursor<T> cursor : cursors) {
+                    count = Math.min(count, cursor.skipEqual());
+                }
+                return emit(candidate, count);
+            }
+        }
+    }
+
+    private boolean advanceDifference() {
+        if (cursors.isEmpty()) {
+            return false;
+        }
+        SortedCursor<T> first = cursors.get(0);
+        while (!first.exhausted()) {
+            T element = first.head();
+            int count = first.skipEqual();
+            for (SortedCursor<T> cursor : cursors.subList(1, cursors.size())) {
+                cursor.advanceTo(element);
+                if (!cursor.exhausted() && cursor.compareHeadTo(element) == 0) {
+                    count = multiplicity == Multiplicity.SET ? 0 : count - cursor.skipEqual();
+                }
+                if (count <= 0) {
+                    break;
+                }
+            }
+            if (count > 0) {
+                return emit(element, count);
+            }
+        }
+        return false;
+    }
+
+    private boolean emit(T element, int count) {
+        current = element;
+        remaining = multiplicity == Multiplicity.SET ? 1 : count;
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Splits a single pass over an {@code Iterable} into a fixed number of
+ * branches, each of which yields every element of the {@code Iterable}
+ * independently of the others.
+ *
+ * <p>The branches of a pass share a {@link ReplayBuffer}, so the underlying
+ * {@code Iterable} is iterated once however many branches consume it and
+ * the branches can be consumed at different rates on different threads.
+ * Elements are held only until every branch has moved past them, and until
+ * every branch has been handed out, elements are held from the first.
+ * Requesting a further iterator for a branch that has already been handed
+ * out starts a new pass, in the same way as for {@link Partitioner}. Once a
+ * new pass has started, branches of an earlier pass that were never handed
+ * out are abandoned.</p>
+ *
+ * @param <T> The type of the elements being teed.
+ */
+public class Tee<T> {
+    private final Iterable<? extends T> iterable;
+    private final int numberOfBranches;
+    private Pass current;
+
+    public Tee(Iterable<? extends T> iterable, int numberOfBranches) {
+        if (numberOfBranches <= 0) {
+            throw new IllegalArgumentException("Number of branches must be greater than zero.");
+        }
+        this.iterable = checkNotNull(iterable);
+        this.numberOfBranches = numberOfBranches;
+    }
+
+    public int numberOfBranches() {
+        return numberOfBranches;
+    }
+
+    public synchronized Iterator<T> iterator(int branch) {
+        if (branch < 0 || branch >= numberOfBranches) {
+            throw new IndexOutOfBoundsException("Branch: " + branch + ", Branches: " + numberOfBranches);
+        }
+        if (current == null || current.claimed[branch]) {
+            if (current != null) {
+                current.buffer.releaseStart();
+            }
+            current = new Pass(new ReplayBuffer<T>(iterable.iterator()));
+        }
+        Iterator<T> iterator = current.buffer.iterator();
+        current.claimed[branch] = true;
+        if (++current.numberClaimed == numberOfBranches) {
+            current.buffer.releaseStart();
+        }
+        return iterator;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterable", iterable)
+                .append("numberOfBranches", numberOfBranches)
+                .toString();
+    }
+
+    private class Pass {
+        private final ReplayBuffer<T> buffer;
+        private final boolean[] claimed = new boolean[numberOfBranches];
+        private int numberClaimed = 0;
+
+        private Pass(ReplayBuffer<T> buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
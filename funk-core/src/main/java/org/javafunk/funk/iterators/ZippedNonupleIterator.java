@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Nonuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} zipping nine {@code Iterator} instances into {@code Nonuple}
+ * instances, pulling one element from each on every call to {@code next()}
+ * and constructing the tuple directly. Iteration is complete as soon as any
+ * of the underlying {@code Iterator} instances is exhausted.
+ */
+public class ZippedNonupleIterator<R, S, T, U, V, W, X, Y, Z> implements Iterator<Nonuple<R, S, T, U, V, W, X, Y, Z>> {
+    private final Iterator<? extends R> firstIterator;
+    private final Iterator<? extends S> secondIterator;
+    private final Iterator<? extends T> thirdIterator;
+    private final Iterator<? extends U> fourthIterator;
+    private final Iterator<? extends V> fifthIterator;
+    private final Iterator<? extends W> sixthIterator;
+    private final Iterator<? extends X> seventhIterator;
+    private final Iterator<? extends Y> eighthIterator;
+    private final Iterator<? extends Z> ninthIterator;
+
+    public ZippedNonupleIterator(
+            Iterator<? extends R> firstIterator,
+            Iterator<? extends S> secondIterator,
+            Iterator<? extends T> thirdIterator,
+            Iterator<? extends U> fourthIterator,
+            Iterator<? extends V> fifthIterator,
+            Iterator<? extends W> sixthIterator,
+            Iterator<? extends X> seventhIterator,
+            Iterator<? extends Y> eighthIterator,
+            Iterator<? extends Z> ninthIterator) {
+        this.firstIterator = checkNotNull(firstIterator);
+        this.secondIterator = checkNotNull(secondIterator);
+        this.thirdIterator = checkNotNull(thirdIterator);
+        this.fourthIterator = checkNotNull(fourthIterator);
+        this.fifthIterator = checkNotNull(fifthIterator);
+        this.sixthIterator = checkNotNull(sixthIterator);
+        this.seventhIterator = checkNotNull(seventhIterator);
+        this.eighthIterator = checkNotNull(eighthIterator);
+        this.ninthIterator = checkNotNull(ninthIterator);
+    }
+
+    @Override public boolean hasNext() {
+        return firstIterator.hasNext()
+                && secondIterator.hasNext()
+                && thirdIterator.hasNext()
+                && fourthIterator.hasNext()
+                && fifthIterator.hasNext()
+                && sixthIterator.hasNext()
+                && seventhIterator.hasNext()
+                && eighthIterator.hasNext()
+                && ninthIterator.hasNext();
+    }
+
+    @Override public Nonuple<R, S, T, U, V, W, X, Y, Z> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Nonuple<R, S, T, U, V, W, X, Y, Z>(
+                firstIterator.next(),
+                secondIterator.next(),
+                thirdIterator.next(),
+                fourthIterator.next(),
+                fifthIterator.next(),
+                sixthIterator.next(),
+                seventhIterator.next(),
+                eighthIterator.next(),
+                ninthIterator.next());
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("firstIterator", firstIterator)
+                .append("secondIterator", secondIterator)
+                .append("thirdIterator", thirdIterator)
+                .append("fourthIterator", fourthIterator)
+                .append("fifthIterator", fifthIterator)
+                .append("sixthIterator", sixthIterator)
+                .append("seventhIterator", seventhIterator)
+                .append("eighthIterator", eighthIterator)
+                .append("ninthIterator", ninthIterator)
+                .toString();
+    }
+}
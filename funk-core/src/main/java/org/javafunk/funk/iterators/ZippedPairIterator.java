@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Pair;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} zipping two {@code Iterator} instances into {@code Pair}
+ * instances, pulling one element from each on every call to {@code next()}
+ * and constructing the tuple directly. Iteration is complete as soon as any
+ * of the underlying {@code Iterator} instances is exhausted.
+ */
+public class ZippedPairIterator<R, S> implements Iterator<Pair<R, S>> {
+    private final Iterator<? extends R> firstIterator;
+    private final Iterator<? extends S> secondIterator;
+
+    public ZippedPairIterator(
+            Iterator<? extends R> firstIterator,
+            Iterator<? extends S> secondIterator) {
+        this.firstIterator = checkNotNull(firstIterator);
+        this.secondIterator = checkNotNull(secondIterator);
+    }
+
+    @Override public boolean hasNext() {
+        return firstIterator.hasNext()
+                && secondIterator.hasNext();
+    }
+
+    @Override public Pair<R, S> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Pair<R, S>(
+                firstIterator.next(),
+                secondIterator.next());
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("firstIterator", firstIterator)
+                .append("secondIterator", secondIterator)
+                .toString();
+    }
+}
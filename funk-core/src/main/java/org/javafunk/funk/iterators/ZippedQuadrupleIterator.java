@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Quadruple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} zipping four {@code Iterator} instances into {@code Quadruple}
+ * instances, pulling one element from each on every call to {@code next()}
+ * and constructing the tuple directly. Iteration is complete as soon as any
+ * of the underlying {@code Iterator} instances is exhausted.
+ */
+public class ZippedQuadrupleIterator<R, S, T, U> implements Iterator<Quadruple<R, S, T, U>> {
+    private final Iterator<? extends R> firstIterator;
+    private final Iterator<? extends S> secondIterator;
+    private final Iterator<? extends T> thirdIterator;
+    private final Iterator<? extends U> fourthIterator;
+
+    public ZippedQuadrupleIterator(
+            Iterator<? extends R> firstIterator,
+            Iterator<? extends S> secondIterator,
+            Iterator<? extends T> thirdIterator,
+            Iterator<? extends U> fourthIterator) {
+        this.firstIterator = checkNotNull(firstIterator);
+        this.secondIterator = checkNotNull(secondIterator);
+        this.thirdIterator = checkNotNull(thirdIterator);
+        this.fourthIterator = checkNotNull(fourthIterator);
+    }
+
+    @Override public boolean hasNext() {
+        return firstIterator.hasNext()
+                && secondIterator.hasNext()
+                && thirdIterator.hasNext()
+                && fourthIterator.hasNext();
+    }
+
+    @Override public Quadruple<R, S, T, U> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Quadruple<R, S, T, U>(
+                firstIterator.next(),
+                secondIterator.next(),
+                thirdIterator.next(),
+                fourthIterator.next());
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("firstIterator", firstIterator)
+                .append("secondIterator", secondIterator)
+                .append("thirdIterator", thirdIterator)
+                .append("fourthIterator", fourthIterator)
+                .toString();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Septuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An {@code Iterator} zipping seven {@code Iterator} instances into {@code Septuple}
+ * instances, pulling one element from each on every call to {@code next()}
+ * and constructing the tuple directly. Iteration is complete as soon as any
+ * of the underlying {@code Iterator} instances is exhausted.
+ */
+public class ZippedSeptupleIterator<R, S, T, U, V, W, X> implements Iterator<Septuple<R, S, T, U, V, W, X>> {
+    private final Iterator<? extends R> firstIterator;
+    private final Iterator<? extends S> secondIterator;
+    private final Iterator<? extends T> thirdIterator;
+    private final Iterator<? extends U> fourthIterator;
+    private final Iterator<? extends V> fifthIterator;
+    private final Iterator<? extends W> sixthIterator;
+    private final Iterator<? extends X> seventhIterator;
+
+    public ZippedSeptupleIterator(
+            Iterator<? extends R> firstIterator,
+            Iterator<? extends S> secondIterator,
+            Iterator<? extends T> thirdIterator,
+            Iterator<? extends U> fourthIterator,
+            Iterator<? extends V> fifthIterator,
+            Iterator<? extends W> sixthIterator,
+            Iterator<? extends X> seventhIterator) {
+        this.firstIterator = checkNotNull(firstIterator);
+        this.secondIterator = checkNotNull(secondIterator);
+        this.thirdIterator = checkNotNull(thirdIterator);
+        this.fourthIterator = checkNotNull(fourthIterator);
+        this.fifthIterator = checkNotNull(fifthIterator);
+        this.sixthIterator = checkNotNull(sixthIterator);
+        this.seventhIterator = checkNotNull(seventhIterator);
+    }
+
+    @Override public boolean hasNext() {
+        return firstIterator.hasNext()
+                && secondIterator.hasNext()
+                && thirdIterator.hasNext()
+                && fourthIterator.hasNext()
+                && fifthIterator.hasNext()
+                && sixthIterator.hasNext()
+                && seventhIterator.hasNext();
+    }
+
+    @Override public Septuple<R, S, T, U, V, W, X> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Septuple<R, S, T, U, V, W, X>(
+                firstIterator.next(),
+                secondIterator.next(),
+                thirdIterator.next(),
+                fourthIterator.next(),
+                fifthIterator.next(),
+                sixthIterator.next(),
+                seventhIterator.next());
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("firstIterator", firstIterator)
+                .append("secondIterator", secondIterator)
+                .append("thirdIterator", thirdIterator)
+                .append("fourthIterator", fourthIterator)
+                .append("fifthIterator", fifthIterator)
+                .append("sixthIterator", sixthIterator)
+                .append("seventhIterator", seventhIterator)
+                .toString();
+    }
+}
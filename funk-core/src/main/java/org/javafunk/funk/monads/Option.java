@@ -8,7 +8,6 @@
  */
 package org.javafunk.funk.monads;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.javafunk.funk.behaviours.Mappable;
 import org.javafunk.funk.behaviours.Value;
@@ -17,6 +16,7 @@ import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.monads.options.None;
 import org.javafunk.funk.monads.options.Some;
 
+import java.util.Objects;
 import java.util.concurrent.Callable;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -519,7 +519,13 @@ public abstract class Option<T>
      */
     @Override
     public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return Objects.deepEquals(getOrNull(), ((Option<?>) other).getOrNull());
     }
 
     /**
@@ -531,6 +537,16 @@ public abstract class Option<T>
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return 17 * 37 + hashCodeOf(getOrNull());
+    }
+
+    private static int hashCodeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.getClass().isArray()) {
+            return new HashCodeBuilder().append(value).toHashCode();
+        }
+        return value.hashCode();
     }
 }
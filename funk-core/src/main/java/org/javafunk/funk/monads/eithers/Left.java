@@ -8,11 +8,12 @@
  */
 package org.javafunk.funk.monads.eithers;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.monads.Either;
 
+import java.util.Objects;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -252,7 +253,13 @@ public class Left<L, R> extends Either<L, R> {
      */
     @Override
     public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return Objects.deepEquals(value, ((Left<?, ?>) other).value);
     }
 
     /**
@@ -263,11 +270,21 @@ public class Left<L, R> extends Either<L, R> {
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return 17 * 37 + hashCodeOf(value);
     }
 
     @Override
     public String toString() {
         return String.format("Either::Left[%s]", value);
     }
+
+    private static int hashCodeOf(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.getClass().isArray()) {
+            return new HashCodeBuilder().append(value).toHashCode();
+        }
+        return value.hashCode();
+    }
 }
@@ -6,8 +6,6 @@ import org.javafunk.funk.Literals;
 import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
-import static org.javafunk.funk.Eagerly.all;
-
 /**
  * {@code AndPredicate} is a {@code Predicate} implementation that
  * returns {@code true} if all {@code UnaryPredicate} instances that the
@@ -63,12 +61,17 @@ public class AndPredicate<T> implements Predicate<T> {
      * @return {@code true} if all delegate {@code UnaryPredicate} instances
      *         return {@code true}, {@code false} otherwise.
      */
-    @Override public boolean evaluate(final T instance) {
-        return all(predicates, new UnaryPredicate<UnaryPredicate<? super T>>() {
-            @Override public boolean evaluate(UnaryPredicate<? super T> predicate) {
-                return predicate.evaluate(instance);
+    @Override public boolean evaluate(T instance) {
+        for (UnaryPredicate<? super T> predicate : predicates) {
+            if (!predicate.evaluate(instance)) {
+                return false;
             }
-        });
+        }
+        return true;
+    }
+
+    Iterable<UnaryPredicate<? super T>> predicates() {
+        return predicates;
     }
 
     /**
@@ -86,7 +89,16 @@ public class AndPredicate<T> implements Predicate<T> {
      *         supplied in the same order, otherwise {@code false}.
      */
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        AndPredicate<?> that = (AndPredicate<?>) other;
+        return new EqualsBuilder()
+                .append(predicates, that.predicates)
+                .isEquals();
     }
 
     /**
@@ -98,7 +110,9 @@ public class AndPredicate<T> implements Predicate<T> {
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(predicates)
+                .toHashCode();
     }
 
     /**
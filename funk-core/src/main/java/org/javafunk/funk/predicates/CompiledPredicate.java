@@ -0,0 +1,399 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.predicates;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@code CompiledPredicate} is a {@code Predicate} implementation that
+ * returns the same result as the {@code UnaryPredicate} it is initialised
+ * with, having first compiled any {@link AndPredicate}, {@link OrPredicate},
+ * {@link NotPredicate}, {@link TruePredicate} and {@link FalsePredicate}
+ * instances composing it into a flat array of nodes.
+ *
+ * <p>During compilation, nested {@code AndPredicate}s and nested
+ * {@code OrPredicate}s are merged into their parents, negations are pushed
+ * down to individual terms using De Morgan's laws and constant terms are
+ * folded away. A constant that decides a conjunction or disjunction only
+ * replaces the whole of it when no other term precedes it; otherwise the
+ * preceding terms are kept and only the terms following it are dropped, as
+ * they would never have been evaluated. Evaluation then walks the
+ * array, short circuiting in the same way as the original composition,
+ * without allocating or creating any {@code Iterator} instances. Any other
+ * {@code UnaryPredicate} is treated as an opaque term and evaluated as
+ * is.</p>
+ *
+ * <p>If the {@code CompiledPredicate} is constructed to be adaptive, then for
+ * a sample of evaluations it additionally measures how long each term of a
+ * conjunction or disjunction takes to evaluate and how often it decides the
+ * result.
+ * Periodically, the terms of each conjunction and disjunction are reordered
+ * so that those that are cheapest relative to how often they short circuit
+ * evaluation are evaluated first. Reordering is only appropriate when the
+ * composed {@code UnaryPredicate}s are free of side effects, since it
+ * changes which of them are evaluated for a given instance. Adaptive
+ * {@code CompiledPredicate}s can be shared between threads; the
+ * measurements are approximate under concurrent use but results are
+ * always correct.</p>
+ *
+ * @param <T> The type of object this {@code CompiledPredicate} can evaluate.
+ */
+public class CompiledPredicate<T> implements Predicate<T> {
+    private static final int leaf = 0;
+    private static final int negatedLeaf = 1;
+    private static final int conjunction = 2;
+    private static final int disjunction = 3;
+    private static final int alwaysTrue = 4;
+    private static final int alwaysFalse = 5;
+
+    private static final int samplingMask = 31;
+    private static final int reorderingInterval = 4096;
+
+    private final UnaryPredicate<? super T> predicate;
+    private final boolean adaptive;
+    private final Statistics statistics;
+    private volatile Program program;
+
+    /**
+     * Constructs a {@code CompiledPredicate} instance over the supplied
+     * {@code UnaryPredicate} that evaluates terms in the order in which
+     * they were composed.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     */
+    public CompiledPredicate(UnaryPredicate<? super T> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Constructs a {@code CompiledPredicate} instance over the supplied
+     * {@code UnaryPredicate}, optionally reordering the terms of each
+     * conjunction and disjunction as evaluation proceeds.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     * @param adaptive  Whether terms should be reordered based on their
+     *                  measured cost and selectivity.
+     */
+    public CompiledPredicate(UnaryPredicate<? super T> predicate, boolean adaptive) {
+        this.predicate = checkNotNull(predicate);
+        this.adaptive = adaptive;
+        this.program = Program.layout(compile(predicate));
+        this.statistics = adaptive ? new Statistics(program.kinds.length) : null;
+    }
+
+    /**
+     * Evaluates the supplied instance of type {@code T} against the
+     * compiled form of the {@code UnaryPredicate} associated with this
+     * {@code CompiledPredicate}.
+     *
+     * @param instance An instance of type {@code T} to evaluate.
+     * @return The result of evaluating the associated {@code UnaryPredicate}
+     *         against the supplied instance.
+     */
+    @Override public boolean evaluate(T instance) {
+        Program program = this.program;
+        if (statistics == null) {
+            return evaluate(program, 0, instance, false);
+        }
+        long call = statistics.calls++;
+        boolean result = evaluate(program, 0, instance, (call & samplingMask) == 0);
+        if (call % reorderingInterval == reorderingInterval - 1) {
+            this.program = statistics.reorder(program);
+        }
+        return result;
+    }
+
+    /**
+     * Implements value equality for {@code CompiledPredicate} instances. Two
+     * {@code CompiledPredicate}s are considered equal if the
+     * {@code UnaryPredicate} instances supplied to each at initialisation are
+     * equal and both are either adaptive or not.
+     *
+     * @param other The object to check for equality to this {@code CompiledPredicate}.
+     * @return {@code true} if the supplied object is also a {@code CompiledPredicate}
+     *         compiled from an equal {@code UnaryPredicate} instance,
+     *         otherwise {@code false}.
+     */
+    @Override public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        CompiledPredicate<?> that = (CompiledPredicate<?>) other;
+        return new EqualsBuilder()
+                .append(predicate, that.predicate)
+                .append(adaptive, that.adaptive)
+                .isEquals();
+    }
+
+    /**
+     * Two {@code CompiledPredicate} instances will have equal hash codes if
+     * they are compiled from equal {@code UnaryPredicate} instances.
+     *
+     * @return The hash code of this {@code CompiledPredicate}.
+     */
+    @Override public int hashCode() {
+        return new HashCodeBuilder()
+                .append(predicate)
+                .append(adaptive)
+                .toHashCode();
+    }
+
+    private boolean evaluate(Program program, int node, T instance, boolean measuring) {
+        switch (program.kinds[node]) {
+            case leaf:
+            case negatedLeaf:
+                return evaluateLeaf(program, node, instance);
+            case alwaysTrue:
+                return true;
+            case alwaysFalse:
+                return false;
+            default:
+                boolean decisive = program.kinds[node] == disjunction;
+                for (int child : program.children[node]) {
+                    boolean result = measuring
+                            ? evaluateMeasuring(program, child, instance)
+                            : evaluateDirectly(program, child, instance);
+                    if (result == decisive) {
+                        return decisive;
+                    }
+                }
+                return !decisive;
+        }
+    }
+
+    private boolean evaluateDirectly(Program program, int node, T instance) {
+        int kind = program.kinds[node];
+        if (kind == leaf || kind == negatedLeaf) {
+            return evaluateLeaf(program, node, instance);
+        }
+        return evaluate(program, node, instance, false);
+    }
+
+    private boolean evaluateMeasuring(Program program, int node, T instance) {
+        long start = System.nanoTime();
+        boolean result = evaluate(program, node, instance, true);
+        statistics.record(node, result, System.nanoTime() - start);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean evaluateLeaf(Program program, int node, T instance) {
+        boolean result = ((UnaryPredicate<? super T>) program.predicates[node]).evaluate(instance);
+        return program.kinds[node] == leaf ? result : !result;
+    }
+
+    private static Term compile(UnaryPredicate<?> predicate) {
+        if (predicate instanceof CompiledPredicate) {
+            return compile(((CompiledPredicate<?>) predicate).predicate);
+        }
+        if (predicate instanceof TruePredicate) {
+            return Term.constant(true);
+        }
+        if (predicate instanceof FalsePredicate) {
+            return Term.constant(false);
+        }
+        if (predicate instanceof NotPredicate) {
+            return Term.negation(compile(((NotPredicate<?>) predicate).predicate()));
+        }
+        if (predicate instanceof AndPredicate) {
+            return Term.junction(conjunction, ((AndPredicate<?>) predicate).predicates());
+        }
+        if (predicate instanceof OrPredicate) {
+            return Term.junction(disjunction, ((OrPredicate<?>) predicate).predicates());
+        }
+        return new Term(leaf, checkNotNull(predicate), Collections.<Term>emptyList());
+    }
+
+    private static class Term {
+        private final int kind;
+        private final UnaryPredicate<?> predicate;
+        private final List<Term> children;
+
+        private Term(int kind, UnaryPredicate<?> predicate, List<Term> children) {
+            this.kind = kind;
+            this.predicate = predicate;
+            this.children = children;
+        }
+
+        static Term constant(boolean value) {
+            return new Term(value ? alwaysTrue : alwaysFalse, null, Collections.<Term>emptyList());
+        }
+
+        static Term negation(Term term) {
+            switch (term.kind) {
+                case leaf:
+                    return new Term(negatedLeaf, term.predicate, term.children);
+                case negatedLeaf:
+                    return new Term(leaf, term.predicate, term.children);
+                case alwaysTrue:
+                    return constant(false);
+                case alwaysFalse:
+                    return constant(true);
+                default:
+                    List<Term> children = new ArrayList<Term>();
+                    for (Term child : term.children) {
+                        children.add(negation(child));
+                    }
+                    return new Term(term.kind == conjunction ? disjunction : conjunction, null, children);
+            }
+        }
+
+        static Term junction(int kind, Iterable<? extends UnaryPredicate<?>> predicates) {
+            int identity = kind == conjunction ? alwaysTrue : alwaysFalse;
+            List<Term> children = new ArrayList<Term>();
+            for (UnaryPredicate<?> predicate : predicates) {
+                Term child = compile(predicate);
+                if (child.kind == kind) {
+                    children.addAll(child.children);
+                } else if (child.kind != identity) {
+                    children.add(child);
+                }
+                if (isAbsorbing(children, identity)) {
+                    break;
+                }
+            }
+            if (children.isEmpty()) {
+                return constant(identity == alwaysTrue);
+            }
+            if (children.size() == 1) {
+                return children.get(0);
+            }
+            return new Term(kind, null, children);
+        }
+
+        private static boolean isAbsorbing(List<Term> children, int identity) {
+            if (children.isEmpty()) {
+                return false;
+            }
+            int last = children.get(children.size() - 1).kind;
+            return (last == alwaysTrue || last == alwaysFalse) && last != identity;
+        }
+    }
+
+    private static class Program {
+        private final int[] kinds;
+        private final UnaryPredicate<?>[] predicates;
+        private final int[][] children;
+
+        private Program(int[] kinds, UnaryPredicate<?>[] predicates, int[][] children) {
+            this.kinds = kinds;
+            this.predicates = predicates;
+            this.children = children;
+        }
+
+        static Program layout(Term root) {
+            List<Term> terms = new ArrayList<Term>();
+            List<int[]> children = new ArrayList<int[]>();
+            layout(root, terms, children);
+            int[] kinds = new int[terms.size()];
+            UnaryPredicate<?>[] predicates = new UnaryPredicate<?>[terms.size()];
+            for (int i = 0; i < kinds.length; i++) {
+                kinds[i] = terms.get(i).kind;
+                predicates[i] = terms.get(i).predicate;
+            }
+            return new Program(kinds, predicates, children.toArray(new int[children.size()][]));
+        }
+
+        private static int layout(Term term, List<Term> terms, List<int[]> children) {
+            int index = terms.size();
+            terms.add(term);
+            children.add(null);
+            int[] indices = new int[term.children.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = layout(term.children.get(i), terms, children);
+            }
+            children.set(index, indices);
+            return index;
+        }
+    }
+
+    private static class Statistics {
+        private final long[] evaluations;
+        private final long[] satisfied;
+        private final long[] nanos;
+        private long calls = 0;
+
+        private Statistics(int nodes) {
+            this.evaluations = new long[nodes];
+            this.satisfied = new long[nodes];
+            this.nanos = new long[nodes];
+        }
+
+        void record(int node, boolean result, long elapsed) {
+            evaluations[node]++;
+            if (result) {
+                satisfied[node]++;
+            }
+            nanos[node] += elapsed;
+        }
+
+        Program reorder(Program program) {
+            int[][] children = program.children.clone();
+            for (int node = 0; node < children.length; node++) {
+                int kind = program.kinds[node];
+                if ((kind == conjunction || kind == disjunction) && children[node].length > 1) {
+                    children[node] = reorder(children[node], kind == disjunction);
+                }
+            }
+            decay();
+            return new Program(program.kinds, program.predicates, children);
+        }
+
+        private int[] reorder(int[] nodes, boolean disjunctive) {
+            Integer[] order = new Integer[nodes.length];
+            final double[] ranks = new double[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                order[i] = i;
+                ranks[i] = rank(nodes[i], disjunctive);
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override public int compare(Integer first, Integer second) {
+                    return Double.compare(ranks[first], ranks[second]);
+                }
+            });
+            int[] reordered = new int[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                reordered[i] = nodes[order[i]];
+            }
+            return reordered;
+        }
+
+        private double rank(int node, boolean disjunctive) {
+            if (evaluations[node] == 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            double cost = Math.max((double) nanos[node] / evaluations[node], 1.0);
+            double trueRate = (double) satisfied[node] / evaluations[node];
+            double decisiveRate = disjunctive ? trueRate : 1.0 - trueRate;
+            return cost / Math.max(decisiveRate, 0.001);
+        }
+
+        private void decay() {
+            for (int node = 0; node < evaluations.length; node++) {
+                evaluations[node] /= 2;
+                satisfied[node] /= 2;
+                nanos[node] /= 2;
+            }
+        }
+    }
+}
@@ -45,10 +45,21 @@ public class EqualsPredicate<T> implements Predicate<T> {
     }
 
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        EqualsPredicate<?> that = (EqualsPredicate<?>) other;
+        return new EqualsBuilder()
+                .append(controlObject, that.controlObject)
+                .isEquals();
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(controlObject)
+                .toHashCode();
     }
 }
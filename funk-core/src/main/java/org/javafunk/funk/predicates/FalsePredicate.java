@@ -8,8 +8,6 @@
  */
 package org.javafunk.funk.predicates;
 
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.javafunk.funk.functors.Predicate;
 
 /**
@@ -50,7 +48,7 @@ public class FalsePredicate<T> implements Predicate<T> {
      *         a {@code FalsePredicate}, otherwise {@code false}.
      */
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        return other != null && getClass() == other.getClass();
     }
 
     /**
@@ -61,6 +59,6 @@ public class FalsePredicate<T> implements Predicate<T> {
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return getClass().hashCode();
     }
 }
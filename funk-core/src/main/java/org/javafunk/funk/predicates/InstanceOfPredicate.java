@@ -60,7 +60,16 @@ public class InstanceOfPredicate<T> implements Predicate<T> {
      *         over the same {@code Class} instance, otherwise {@code false}.
      */
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        InstanceOfPredicate<?> that = (InstanceOfPredicate<?>) other;
+        return new EqualsBuilder()
+                .append(testClass, that.testClass)
+                .isEquals();
     }
 
     /**
@@ -71,6 +80,8 @@ public class InstanceOfPredicate<T> implements Predicate<T> {
      */
     @Override
     public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(testClass)
+                .toHashCode();
     }
 }
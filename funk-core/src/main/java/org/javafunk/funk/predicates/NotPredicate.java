@@ -59,6 +59,10 @@ public class NotPredicate<T> implements Predicate<T> {
         return !predicate.evaluate(instance);
     }
 
+    UnaryPredicate<? super T> predicate() {
+        return predicate;
+    }
+
     /**
      * Implements value equality for {@code NotPredicate} instances. Two
      * {@code NotPredicate}s are considered equal if the {@code UnaryPredicate}
@@ -74,7 +78,16 @@ public class NotPredicate<T> implements Predicate<T> {
      *         otherwise {@code false}.
      */
     @Override public boolean equals(Object other) {
-        return EqualsBuilder.reflectionEquals(this, other);
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        NotPredicate<?> that = (NotPredicate<?>) other;
+        return new EqualsBuilder()
+                .append(predicate, that.predicate)
+                .isEquals();
     }
 
     /**
@@ -85,6 +98,8 @@ public class NotPredicate<T> implements Predicate<T> {
      * @return The hash code of this {@code NotPredicate}.
      */
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return new HashCodeBuilder()
+                .append(predicate)
+                .toHashCode();
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import com.google.common.hash.Funnel;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.external.Serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A count-min sketch estimating the number of times each element occurs in
+ * a stream, in place of counting them exactly with a {@code Multiset}, which
+ * needs memory proportional to the number of distinct elements.
+ *
+ * <p>The sketch holds a table of <em>depth</em> rows of <em>width</em>
+ * counters. Each element increments one counter in every row, and its count
+ * is estimated as the least of those counters, so that an estimate is never
+ * less than the true count. With a width of <em>e</em> / &epsilon; and a
+ * depth of ln(1 / &delta;), an estimate exceeds the true count by more than
+ * &epsilon; times the total count with probability at most &delta;.</p>
+ *
+ * <p>Elements are hashed as for {@link HyperLogLog}. Only sketches of the
+ * same width, depth and hashing can be merged.</p>
+ *
+ * @param <T> The type of the elements whose frequencies are estimated.
+ */
+public class CountMinSketch<T> implements Sketch<T, CountMinSketch<T>> {
+    private final int width;
+    private final int depth;
+    private final Funnel<? super T> funnel;
+    private final long[] counters;
+    private long totalCount;
+
+    private CountMinSketch(int width, int depth, Funnel<? super T> funnel, long[] counters, long totalCount) {
+        this.width = width;
+        this.depth = depth;
+        this.funnel = funnel;
+        this.counters = counters;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Returns an empty sketch whose estimates exceed the true count by more
+     * than {@code epsilon} times the total count with probability at most
+     * {@code 1 - confidence}, which hashes elements by their
+     * {@code hashCode}.
+     */
+    public static <T> CountMinSketch<T> withAccuracy(double epsilon, double confidence) {
+        return withAccuracy(epsilon, confidence, null);
+    }
+
+    public static <T> CountMinSketch<T> withAccuracy(double epsilon, double confidence, Funnel<? super T> funnel) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("Epsilon must be between zero and one exclusive.");
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between zero and one exclusive.");
+        }
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / (1 - confidence)));
+        return withDimensions(width, depth, funnel);
+    }
+
+    /**
+     * Returns an empty sketch of the supplied width and depth which hashes
+     * elements by their {@code hashCode} if the supplied {@code Funnel} is
+     * {@code null}, or the bytes supplied by the funnel otherwise.
+     */
+    public static <T> CountMinSketch<T> withDimensions(int width, int depth, Funnel<? super T> funnel) {
+        checkDimensions(width, depth);
+        return new CountMinSketch<T>(width, depth, funnel, new long[width * depth], 0);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    @Override public CountMinSketch<T> add(T element) {
+        return add(element, 1);
+    }
+
+    public CountMinSketch<T> add(T element, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative.");
+        }
+        long hash = Hashes.hash(element, funnel);
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(hash, row)] += count;
+        }
+        totalCount += count;
+        return this;
+    }
+
+    /**
+     * Returns the estimated number of times the supplied element has been
+     * added to this sketch, which is never less than the true number.
+     */
+    public long estimateCount(T element) {
+        long hash = Hashes.hash(element, funnel);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + column(hash, row)]);
+        }
+        return estimate;
+    }
+
+    @Override public CountMinSketch<T> merge(CountMinSketch<T> other) {
+        checkNotNull(other);
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("Sketches must have the same width and depth to be merged.");
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+        totalCount += other.totalCount;
+        return this;
+    }
+
+    @Override public CountMinSketch<T> emptyCopy() {
+        return new CountMinSketch<T>(width, depth, funnel, new long[counters.length], 0);
+    }
+
+    /**
+     * Returns a {@code Serializer} for sketches which hash elements by their
+     * {@code hashCode} if the supplied {@code Funnel} is {@code null}, or
+     * using the funnel otherwise.
+     */
+    public static <T> Serializer<CountMinSketch<T>> serializer(final Funnel<? super T> funnel) {
+        return new Serializer<CountMinSketch<T>>() {
+            @Override public void write(CountMinSketch<T> sketch, DataOutput output) throws IOException {
+                output.writeInt(sketch.width);
+                output.writeInt(sketch.depth);
+                output.writeLong(sketch.totalCount);
+                for (long counter : sketch.counters) {
+                    output.writeLong(counter);
+                }
+            }
+
+            @Override public CountMinSketch<T> read(DataInput input) throws IOException {
+                int width = input.readInt();
+                int depth = input.readInt();
+                checkDimensions(width, depth);
+                long totalCount = input.readLong();
+                long[] counters = new long[width * depth];
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] = input.readLong();
+                }
+                return new CountMinSketch<T>(width, depth, funnel, counters, totalCount);
+            }
+        };
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("width", width)
+                .append("depth", depth)
+                .append("totalCount", totalCount)
+                .toString();
+    }
+
+    private int column(long hash, int row) {
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % width;
+    }
+
+    private static void checkDimensions(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Width and depth must be greater than zero.");
+        }
+        if ((long) width * depth > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Width multiplied by depth must fit in an array.");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import com.google.common.hash.Funnel;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Derives the 64 bit hashes from which the hashing sketches are built. If no
+ * {@code Funnel} is supplied, an element's {@code hashCode} is spread over
+ * 64 bits, so that elements with equal hash codes are treated as equal;
+ * otherwise the bytes supplied by the funnel are hashed with Murmur3.
+ */
+final class Hashes {
+    private static final HashFunction murmur = Hashing.murmur3_128();
+
+    private Hashes() {}
+
+    static <T> long hash(T element, Funnel<? super T> funnel) {
+        if (funnel == null) {
+            return spread(element == null ? 0 : element.hashCode());
+        }
+        return murmur.hashObject(element, funnel).asLong();
+    }
+
+    private static long spread(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
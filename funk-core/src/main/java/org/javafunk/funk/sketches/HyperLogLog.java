@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import com.google.common.hash.Funnel;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.external.Serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct elements in a
+ * stream, in place of counting them exactly with a {@code Set}, which needs
+ * memory proportional to the number of distinct elements.
+ *
+ * <p>A sketch of precision <em>p</em> holds 2<sup>p</sup> one byte
+ * registers, whatever the number of elements added, and estimates the
+ * number of distinct elements with a relative standard error of around
+ * 1.04 / &radic;2<sup>p</sup>; a precision of 14, for example, uses 16KB and
+ * is accurate to within around 0.8%. Small cardinalities are estimated by
+ * linear counting, which is close to exact.</p>
+ *
+ * <p>Elements are hashed as described by the factory method used to create
+ * the sketch. Only sketches of the same precision and hashing can be
+ * merged.</p>
+ *
+ * @param <T> The type of the elements whose distinct count is estimated.
+ */
+public class HyperLogLog<T> implements Sketch<T, HyperLogLog<T>> {
+    public static final int minimumPrecision = 4;
+    public static final int maximumPrecision = 18;
+
+    private final int precision;
+    private final Funnel<? super T> funnel;
+    private final byte[] registers;
+
+    private HyperLogLog(int precision, Funnel<? super T> funnel, byte[] registers) {
+        this.precision = precision;
+        this.funnel = funnel;
+        this.registers = registers;
+    }
+
+    /**
+     * Returns an empty sketch of the supplied precision which hashes elements
+     * by their {@code hashCode}. Since hash codes are only 32 bits, elements
+     * with equal hash codes are counted once, so for cardinalities beyond
+     * several million use {@link #withPrecision(int, Funnel)} instead.
+     */
+    public static <T> HyperLogLog<T> withPrecision(int precision) {
+        return create(precision, null);
+    }
+
+    /**
+     * Returns an empty sketch of the supplied precision which hashes the bytes
+     * supplied by the given {@code Funnel} for each element.
+     */
+    public static <T> HyperLogLog<T> withPrecision(int precision, Funnel<? super T> funnel) {
+        return create(precision, checkNotNull(funnel));
+    }
+
+    private static <T> HyperLogLog<T> create(int precision, Funnel<? super T> funnel) {
+        checkPrecision(precision);
+        return new HyperLogLog<T>(precision, funnel, new byte[1 << precision]);
+    }
+
+    public int precision() {
+        return precision;
+    }
+
+    @Override public HyperLogLog<T> add(T element) {
+        long hash = Hashes.hash(element, funnel);
+        int index = (int) (hash >>> (64 - precision));
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+        return this;
+    }
+
+    @Override public HyperLogLog<T> merge(HyperLogLog<T> other) {
+        checkNotNull(other);
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Sketches must have the same precision to be merged.");
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+        return this;
+    }
+
+    @Override public HyperLogLog<T> emptyCopy() {
+        return new HyperLogLog<T>(precision, funnel, new byte[registers.length]);
+    }
+
+    /**
+     * Returns the estimated number of distinct elements added to this sketch.
+     */
+    public long estimate() {
+        int registerCount = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = alpha(registerCount) * registerCount * registerCount / sum;
+        if (estimate <= 2.5 * registerCount && zeros > 0) {
+            estimate = registerCount * Math.log((double) registerCount / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * Returns a {@code Serializer} for sketches which hash elements by their
+     * {@code hashCode}.
+     */
+    public static <T> Serializer<HyperLogLog<T>> serializer() {
+        return new HyperLogLogSerializer<T>(null);
+    }
+
+    /**
+     * Returns a {@code Serializer} for sketches which hash elements using the
+     * supplied {@code Funnel}. Sketches read by the serializer hash elements
+     * using the funnel, whatever funnel was used by the sketch written.
+     */
+    public static <T> Serializer<HyperLogLog<T>> serializer(Funnel<? super T> funnel) {
+        return new HyperLogLogSerializer<T>(checkNotNull(funnel));
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("precision", precision)
+                .append("estimate", estimate())
+                .toString();
+    }
+
+    private static double alpha(int registerCount) {
+        switch (registerCount) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1 + 1.079 / registerCount);
+        }
+    }
+
+    private static void checkPrecision(int precision) {
+        if (precision < minimumPrecision || precision > maximumPrecision) {
+            throw new IllegalArgumentException(
+                    "Precision must be between " + minimumPrecision + " and " + maximumPrecision + ".");
+        }
+    }
+
+    private static class HyperLogLogSerializer<T> implements Serializer<HyperLogLog<T>> {
+        private final Funnel<? super T> funnel;
+
+        HyperLogLogSerializer(Funnel<? super T> funnel) {
+            this.funnel = funnel;
+        }
+
+        @Override public void write(HyperLogLog<T> sketch, DataOutput output) throws IOException {
+            output.writeByte(sketch.precision);
+            output.write(sketch.registers);
+        }
+
+        @Override public HyperLogLog<T> read(DataInput input) throws IOException {
+            int precision = input.readByte();
+            checkPrecision(precision);
+            byte[] registers = new byte[1 << precision];
+            input.readFully(registers);
+            return new HyperLogLog<T>(precision, funnel, registers);
+        }
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.external.Serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A KLL sketch estimating the quantiles of a stream of numbers, in place of
+ * sorting all of them.
+ *
+ * <p>Values are held unboxed in a hierarchy of compactors. Each value at
+ * level <em>h</em> stands for 2<sup>h</sup> of the values added; when a
+ * level fills up, it is sorted and every other value, starting from a
+ * randomly chosen one, is promoted to the level above while the rest are
+ * discarded. Level capacities shrink geometrically from the top level's
+ * capacity of <em>k</em>, so that the sketch retains <em>O(k)</em> values
+ * however many are added, and the rank of any value is estimated to within
+ * around 1.7 / <em>k</em> of the total count with high probability; the
+ * default <em>k</em> of 200 gives an error of around 1%.</p>
+ *
+ * <p>The minimum and maximum are tracked exactly, and are returned as the 0
+ * and 1 quantiles. Only sketches of the same <em>k</em> can be merged.</p>
+ */
+public class QuantileSketch implements Sketch<Number, QuantileSketch> {
+    public static final int defaultK = 200;
+    private static final int minimumK = 8;
+    private static final int minimumLevelCapacity = 2;
+    private static final double capacityRatio = 2.0 / 3.0;
+
+    private final int k;
+    private final Random random;
+    private double[][] levels;
+    private int[] levelSizes;
+    private int retained;
+    private int maximumRetained;
+    private long count;
+    private double minimum = Double.NaN;
+    private double maximum = Double.NaN;
+
+    private QuantileSketch(int k, Random random) {
+        this.k = k;
+        this.random = random;
+        this.levels = new double[0][];
+        this.levelSizes = new int[0];
+        grow();
+    }
+
+    public static QuantileSketch create() {
+        return withK(defaultK);
+    }
+
+    public static QuantileSketch withK(int k) {
+        return withK(k, new Random());
+    }
+
+    /**
+     * Returns an empty sketch of the supplied <em>k</em> choosing which values
+     * to promote using the supplied source of randomness, which allows a
+     * sketch to be reproduced. Empty copies of the sketch share the source.
+     */
+    public static QuantileSketch withK(int k, Random random) {
+        checkK(k);
+        return new QuantileSketch(k, checkNotNull(random));
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Returns the number of values added to this sketch, including those no
+     * longer retained.
+     */
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override public QuantileSketch add(Number value) {
+        return add(checkNotNull(value).doubleValue());
+    }
+
+    /**
+     * Adds the supplied value to this sketch without boxing it.
+     *
+     * @throws IllegalArgumentException if the value is {@code NaN}.
+     */
+    public QuantileSketch add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Value must not be NaN.");
+        }
+        if (count == 0 || value < minimum) {
+            minimum = value;
+        }
+        if (count == 0 || value > maximum) {
+            maximum = value;
+        }
+        count++;
+        append(0, value);
+        compressIfFull();
+        return this;
+    }
+
+    @Override public QuantileSketch merge(QuantileSketch other) {
+        checkNotNull(other);
+        if (other.k != k) {
+            throw new IllegalArgumentException("Sketches must have the same k to be merged.");
+        }
+        if (other.count == 0) {
+            return this;
+        }
+        while (levels.length < other.levels.length) {
+            grow();
+        }
+        for (int level = 0; level < other.levels.length; level++) {
+            for (int i = 0; i < other.levelSizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        minimum = count == 0 ? other.minimum : Math.min(minimum, other.minimum);
+        maximum = count == 0 ? other.maximum : Math.max(maximum, other.maximum);
+        count += other.count;
+        compressIfFull();
+        return this;
+    }
+
+    @Override public QuantileSketch emptyCopy() {
+        return new QuantileSketch(k, random);
+    }
+
+    /**
+     * Returns an estimate of the value below which the supplied fraction of
+     * the values added to this sketch fall, so that the 0.5 quantile is the
+     * median.
+     *
+     * @throws IllegalArgumentException if the fraction is not between zero
+     *                                  and one inclusive.
+     * @throws NoSuchElementException   if this sketch is empty.
+     */
+    public double quantile(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Fraction must be between zero and one inclusive.");
+        }
+        if (count == 0) {
+            throw new NoSuchElementException("Quantiles are undefined for an empty sketch.");
+        }
+        if (fraction == 0) {
+            return minimum;
+        }
+        if (fraction == 1) {
+            return maximum;
+        }
+        SortedView view = sortedView();
+        double targetWeight = fraction * count;
+        long cumulativeWeight = 0;
+        for (int i = 0; i < view.values.length; i++) {
+            cumulativeWeight += view.weights[i];
+            if (cumulativeWeight >= targetWeight) {
+                return view.values[i];
+            }
+        }
+        return maximum;
+    }
+
+    /**
+     * Returns an estimate of the fraction of the values added to this sketch
+     * that are less than or equal to the supplied value.
+     *
+     * @throws NoSuchElementException if this sketch is empty.
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            throw new NoSuchElementException("Ranks are undefined for an empty sketch.");
+        }
+        long weight = 0;
+        for (int level = 0; level < levels.length; level++) {
+            for (int i = 0; i < levelSizes[level]; i++) {
+                if (levels[level][i] <= value) {
+                    weight += 1L << level;
+                }
+            }
+        }
+        return (double) weight / count;
+    }
+
+    public static Serializer<QuantileSketch> serializer() {
+        return new Serializer<QuantileSketch>() {
+            @Override public void write(QuantileSketch sketch, DataOutput output) throws IOException {
+                output.writeInt(sketch.k);
+                output.writeLong(sketch.count);
+                output.writeDouble(sketch.minimum);
+                output.writeDouble(sketch.maximum);
+                output.writeInt(sketch.levels.length);
+                for (int level = 0; level < sketch.levels.length; level++) {
+                    output.writeInt(sketch.levelSizes[level]);
+                    for (int i = 0; i < sketch.levelSizes[level]; i++) {
+                        output.writeDouble(sketch.levels[level][i]);
+                    }
+                }
+            }
+
+            @Override public QuantileSketch read(DataInput input) throws IOException {
+                int k = input.readInt();
+                checkK(k);
+                QuantileSketch sketch = new QuantileSketch(k, new Random());
+                sketch.count = input.readLong();
+                sketch.minimum = input.readDouble();
+                sketch.maximum = input.readDouble();
+                int levelCount = input.readInt();
+                while (sketch.levels.length < levelCount) {
+                    sketch.grow();
+                }
+                for (int level = 0; level < levelCount; level++) {
+                    int size = input.readInt();
+                    for (int i = 0; i < size; i++) {
+                        sketch.append(level, input.readDouble());
+                    }
+                }
+                return sketch;
+            }
+        };
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("k", k)
+                .append("count", count)
+                .append("retained", retained)
+                .toString();
+    }
+
+    private void append(int level, double value) {
+        double[] values = levels[level];
+        int size = levelSizes[level];
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(minimumLevelCapacity, size * 2));
+            levels[level] = values;
+        }
+        values[size] = value;
+        levelSizes[level] = size + 1;
+        retained++;
+    }
+
+    private void compressIfFull() {
+        while (retained >= maximumRetained) {
+            for (int level = 0; level < levels.length; level++) {
+                if (levelSizes[level] >= capacity(level)) {
+                    if (level + 1 == levels.length) {
+                        grow();
+                    }
+                    compact(level);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void compact(int level) {
+        double[] values = levels[level];
+        int size = levelSizes[level];
+        Arrays.sort(values, 0, size);
+        int pairs = size / 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, values[2 * i + offset]);
+        }
+        retained -= 2 * pairs;
+        if (size % 2 == 1) {
+            values[0] = values[size - 1];
+            levelSizes[level] = 1;
+        } else {
+            levelSizes[level] = 0;
+        }
+    }
+
+    private void grow() {
+        int levelCount = levels.length + 1;
+        levels = Arrays.copyOf(levels, levelCount);
+        levels[levelCount - 1] = new double[0];
+        levelSizes = Arrays.copyOf(levelSizes, levelCount);
+        maximumRetained = 0;
+        for (int level = 0; level < levelCount; level++) {
+            maximumRetained += capacity(level);
+        }
+    }
+
+    private int capacity(int level) {
+        int depth = levels.length - level - 1;
+        return Math.max(minimumLevelCapacity, (int) Math.ceil(k * Math.pow(capacityRatio, depth)));
+    }
+
+    private SortedView sortedView() {
+        double[] values = new double[0];
+        long[] weights = new long[0];
+        for (int level = 0; level < levels.length; level++) {
+            int size = levelSizes[level];
+            double[] levelValues = Arrays.copyOf(levels[level], size);
+            Arrays.sort(levelValues);
+            double[] mergedValues = new double[values.length + size];
+            long[] mergedWeights = new long[values.length + size];
+            int i = 0;
+            int j = 0;
+            for (int merged = 0; merged < mergedValues.length; merged++) {
+                if (j == size || (i < values.length && values[i] <= levelValues[j])) {
+                    mergedValues[merged] = values[i];
+                    mergedWeights[merged] = weights[i++];
+                } else {
+                    mergedValues[merged] = levelValues[j++];
+                    mergedWeights[merged] = 1L << level;
+                }
+            }
+            values = mergedValues;
+            weights = mergedWeights;
+        }
+        return new SortedView(values, weights);
+    }
+
+    private static void checkK(int k) {
+        if (k < minimumK) {
+            throw new IllegalArgumentException("K must be at least " + minimumK + ".");
+        }
+    }
+
+    private static class SortedView {
+        private final double[] values;
+        private final long[] weights;
+
+        SortedView(double[] values, long[] weights) {
+            this.values = values;
+            this.weights = weights;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.external.Serializer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A uniform random sample of a fixed number of elements from a stream of
+ * unknown length, maintained by reservoir sampling so that every element
+ * added has the same probability of being in the sample.
+ *
+ * <p>Merging two samples draws from each in proportion to the number of
+ * elements it has seen, so that the merged sample is a uniform sample of
+ * both streams combined. Only samples of the same capacity can be
+ * merged.</p>
+ *
+ * @param <T> The type of the sampled elements.
+ */
+public class ReservoirSample<T> implements Sketch<T, ReservoirSample<T>> {
+    private final int capacity;
+    private final Random random;
+    private Object[] sample;
+    private int size;
+    private long count;
+
+    private ReservoirSample(int capacity, Random random, Object[] sample, int size, long count) {
+        this.capacity = capacity;
+        this.random = random;
+        this.sample = sample;
+        this.size = size;
+        this.count = count;
+    }
+
+    public static <T> ReservoirSample<T> ofSize(int capacity) {
+        return ofSize(capacity, new Random());
+    }
+
+    /**
+     * Returns an empty sample of the supplied capacity drawing from the
+     * supplied source of randomness, which allows a sample to be
+     * reproduced. Empty copies of the sample share the source.
+     */
+    public static <T> ReservoirSample<T> ofSize(int capacity, Random random) {
+        checkCapacity(capacity);
+        checkNotNull(random);
+        return new ReservoirSample<T>(capacity, random, new Object[Math.min(capacity, 16)], 0, 0);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of elements added to this sample, including those
+     * not retained.
+     */
+    public long count() {
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> sample() {
+        List<T> elements = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add((T) sample[i]);
+        }
+        return unmodifiableList(elements);
+    }
+
+    @Override public ReservoirSample<T> add(T element) {
+        count++;
+        if (size < capacity) {
+            append(element);
+        } else {
+            long index = (long) (random.nextDouble() * count);
+            if (index < capacity) {
+                sample[(int) index] = element;
+            }
+        }
+        return this;
+    }
+
+    @Override public ReservoirSample<T> merge(ReservoirSample<T> other) {
+        checkNotNull(other);
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("Samples must have the same capacity to be merged.");
+        }
+        Object[] ours = Arrays.copyOf(sample, size);
+        Object[] theirs = Arrays.copyOf(other.sample, other.size);
+        int oursRemaining = ours.length;
+        int theirsRemaining = theirs.length;
+        long oursUnseen = count;
+        long theirsUnseen = other.count;
+        int mergedSize = (int) Math.min(capacity, count + other.count);
+        Object[] merged = new Object[Math.max(mergedSize, 1)];
+        for (int i = 0; i < mergedSize; i++) {
+            boolean fromOurs = random.nextDouble() * (oursUnseen + theirsUnseen) < oursUnseen;
+            if (fromOurs) {
+                merged[i] = take(ours, oursRemaining--);
+                oursUnseen--;
+            } else {
+                merged[i] = take(theirs, theirsRemaining--);
+                theirsUnseen--;
+            }
+        }
+        sample = merged;
+        size = mergedSize;
+        count += other.count;
+        return this;
+    }
+
+    @Override public ReservoirSample<T> emptyCopy() {
+        return new ReservoirSample<T>(capacity, random, new Object[Math.min(capacity, 16)], 0, 0);
+    }
+
+    /**
+     * Returns a {@code Serializer} for samples, writing the sampled elements
+     * with the supplied {@code Serializer}. Samples read by the serializer
+     * draw from a new source of randomness.
+     */
+    public static <T> Serializer<ReservoirSample<T>> serializer(final Serializer<T> elementSerializer) {
+        checkNotNull(elementSerializer);
+        return new Serializer<ReservoirSample<T>>() {
+            @Override public void write(ReservoirSample<T> value, DataOutput output) throws IOException {
+                output.writeInt(value.capacity);
+                output.writeLong(value.count);
+                output.writeInt(value.size);
+                for (T element : value.sample()) {
+                    elementSerializer.write(element, output);
+                }
+            }
+
+            @Override public ReservoirSample<T> read(DataInput input) throws IOException {
+                int capacity = input.readInt();
+                checkCapacity(capacity);
+                long count = input.readLong();
+                int size = input.readInt();
+                Object[] sample = new Object[Math.max(size, 1)];
+                for (int i = 0; i < size; i++) {
+                    sample[i] = elementSerializer.read(input);
+                }
+                return new ReservoirSample<T>(capacity, new Random(), sample, size, count);
+            }
+        };
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("capacity", capacity)
+                .append("count", count)
+                .append("sample", sample())
+                .toString();
+    }
+
+    private void append(T element) {
+        if (size == sample.length) {
+            sample = Arrays.copyOf(sample, Math.min(capacity, sample.length * 2));
+        }
+        sample[size++] = element;
+    }
+
+    private Object take(Object[] elements, int remaining) {
+        int index = random.nextInt(remaining);
+        Object element = elements[index];
+        elements[index] = elements[remaining - 1];
+        return element;
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+    }
+}
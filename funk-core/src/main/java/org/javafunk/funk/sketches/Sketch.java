@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+/**
+ * A fixed-size summary of a stream of elements, from which a statistic over
+ * the whole stream can be estimated without retaining the stream itself.
+ *
+ * <p>A sketch is a mutable accumulator: {@link #add(Object)} and
+ * {@link #merge(Sketch)} update the sketch in place and return it, so that
+ * a sketch can be used directly as the accumulator of a reduction. Two
+ * sketches of the same configuration built over separate streams can be
+ * merged into a sketch of the two streams combined, which allows a stream
+ * to be sketched in parallel. Sketches are not safe for concurrent
+ * modification.</p>
+ *
+ * @param <T> The type of the elements this sketch summarises.
+ * @param <K> The type of the sketch itself.
+ * @see Sketches
+ */
+public interface Sketch<T, K extends Sketch<T, K>> {
+    K add(T element);
+
+    /**
+     * Adds every element summarised by the supplied sketch to this sketch.
+     *
+     * @throws IllegalArgumentException if the supplied sketch is configured
+     *                                  differently to this sketch.
+     */
+    K merge(K other);
+
+    /**
+     * Returns a new, empty sketch with the same configuration as this
+     * sketch, such that the two can be merged.
+     */
+    K emptyCopy();
+}
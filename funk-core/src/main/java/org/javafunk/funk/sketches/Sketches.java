@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Parallelly;
+import org.javafunk.funk.functors.Factory;
+import org.javafunk.funk.functors.Reducer;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Functions for building {@link Sketch} instances over an {@code Iterable},
+ * either sequentially through {@link Eagerly#reduce(Iterable, Object,
+ * org.javafunk.funk.functors.functions.BinaryFunction)} or in parallel
+ * through {@link Parallelly#reduce(Iterable, Factory,
+ * org.javafunk.funk.functors.functions.BinaryFunction,
+ * org.javafunk.funk.functors.functions.BinaryFunction)}.
+ *
+ * <p>For example, to estimate the number of distinct elements in an
+ * {@code Iterable} in parallel, in a fixed amount of memory:</p>
+ * <blockquote>
+ * <pre>
+ *   HyperLogLog&lt;String&gt; distinct = Sketches.sketchInParallel(words, HyperLogLog.&lt;String&gt;withPrecision(14));
+ *   long estimate = distinct.estimate();
+ * </pre>
+ * </blockquote>
+ */
+public class Sketches {
+    private Sketches() {}
+
+    /**
+     * Returns a {@code Reducer} that adds each element to the accumulated
+     * sketch.
+     */
+    public static <T, K extends Sketch<? super T, K>> Reducer<T, K> adder() {
+        return new Reducer<T, K>() {
+            @Override public K accumulate(K sketch, T element) {
+                return sketch.add(element);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code Reducer} that merges each sketch into the accumulated
+     * sketch, for use as the combiner of a parallel reduction.
+     */
+    public static <K extends Sketch<?, K>> Reducer<K, K> merger() {
+        return new Reducer<K, K>() {
+            @Override public K accumulate(K sketch, K other) {
+                return sketch.merge(other);
+            }
+        };
+    }
+
+    /**
+     * Returns a {@code Factory} of empty copies of the supplied sketch.
+     */
+    public static <K extends Sketch<?, K>> Factory<K> emptyCopiesOf(final K template) {
+        checkNotNull(template);
+        return new Factory<K>() {
+            @Override public K create() {
+                return template.emptyCopy();
+            }
+        };
+    }
+
+    /**
+     * Adds each element of the supplied {@code Iterable} to the supplied
+     * sketch, returning the sketch.
+     */
+    public static <T, K extends Sketch<? super T, K>> K sketch(Iterable<? extends T> iterable, K sketch) {
+        checkNotNull(iterable);
+        checkNotNull(sketch);
+        return Eagerly.reduce(iterable, sketch, Sketches.<T, K>adder());
+    }
+
+    /**
+     * Sketches the supplied {@code Iterable} in parallel, building a sketch
+     * per chunk from an empty copy of the supplied template and merging the
+     * results. The template itself is not modified.
+     */
+    public static <T, K extends Sketch<? super T, K>> K sketchInParallel(Iterable<? extends T> iterable, K template) {
+        checkNotNull(iterable);
+        return Parallelly.reduce(iterable, emptyCopiesOf(template), Sketches.<T, K>adder(), Sketches.<K>merger());
+    }
+}
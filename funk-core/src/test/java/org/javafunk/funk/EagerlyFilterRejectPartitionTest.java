@@ -12,9 +12,12 @@ import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.Predicate;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
@@ -158,4 +161,62 @@ public class EagerlyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldEvaluateThePredicateOncePerElementAndRetainOrderWhenPartitioningACollection() throws Exception {
+        // Given
+        Collection<Integer> input = collectionWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        final int[] evaluations = new int[1];
+
+        // When
+        Pair<Collection<Integer>, Collection<Integer>> partitionResults = Eagerly.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        evaluations[0]++;
+                        return item % 3 == 0;
+                    }
+                });
+
+        // Then
+        assertThat(partitionResults.getFirst(), hasOnlyItemsInOrder(3, 6, 9));
+        assertThat(partitionResults.getSecond(), hasOnlyItemsInOrder(1, 2, 4, 5, 7, 8));
+        assertThat(evaluations[0], is(9));
+    }
+
+    @Test
+    public void shouldPartitionAnIterableThatIsNotACollection() throws Exception {
+        // Given
+        final Collection<Integer> elements = collectionWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Iterable<Integer> input = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                return elements.iterator();
+            }
+        };
+
+        // When
+        Pair<Collection<Integer>, Collection<Integer>> partitionResults = Eagerly.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item > 6;
+                    }
+                });
+
+        // Then
+        assertThat(partitionResults.getFirst(), hasOnlyItemsInOrder(7, 8, 9));
+        assertThat(partitionResults.getSecond(), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    public void shouldReturnEmptyCollectionsWhenPartitioningAnEmptyCollection() throws Exception {
+        // Given
+        Collection<Integer> input = new ArrayList<Integer>();
+
+        // When
+        Pair<Collection<Integer>, Collection<Integer>> partitionResults = Eagerly.partition(input,
+                Predicates.<Integer>alwaysTrue());
+
+        // Then
+        assertThat(partitionResults.getFirst().isEmpty(), is(true));
+        assertThat(partitionResults.getSecond().isEmpty(), is(true));
+    }
 }
@@ -12,9 +12,12 @@ import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.monads.Option;
 import org.junit.Test;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -1127,6 +1130,67 @@ public class EagerlyFirstSecondThirdRestLastTest {
         // Then an IllegalArgumentException should be thrown.
     }
 
+    @Test
+    public void shouldReturnTheLastNElementsOfAnIterableThatIsNotACollection() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.take(Lazily.cycle(iterableWith(1, 2, 3, 4, 5, 6, 7)), 1000);
+        Collection<Integer> expectedOutput = collectionWith(4, 5, 6);
+
+        // When
+        Collection<Integer> actualOutput = Eagerly.lastN(input, 3);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
+    @Test
+    public void shouldReturnTheLastNMatchingElementsOfAListInTheOrderTheyOccur() throws Exception {
+        // Given
+        Iterable<Integer> input = listWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Collection<Integer> expectedOutput = collectionWith(4, 6, 8);
+
+        // When
+        Collection<Integer> actualOutput = Eagerly.lastNMatching(input, 3, new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer item) {
+                return item % 2 == 0;
+            }
+        });
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
+    @Test
+    public void shouldSearchDequesFromTheEndWhenFindingTheLastMatchingElement() throws Exception {
+        // Given
+        Deque<Integer> input = new ArrayDeque<Integer>(listWith(1, 2, 3, 4, 5, 6));
+        final List<Integer> evaluated = new ArrayList<Integer>();
+
+        // When
+        Option<Integer> output = Eagerly.lastMatching(input, new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer item) {
+                evaluated.add(item);
+                return item % 5 == 0;
+            }
+        });
+
+        // Then
+        assertThat(output, is(some(5)));
+        assertThat(evaluated, is(listWith(6, 5)));
+    }
+
+    @Test
+    public void shouldReturnTheThirdLastElementOfAnIterableThatIsNotACollection() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.take(Lazily.cycle(iterableWith(1, 2, 3, 4, 5)), 99);
+
+        // When
+        Option<Integer> output = Eagerly.thirdLast(input);
+
+        // Then
+        assertThat(output, is(some(2)));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowANullPointerExceptionIfIterablePassedToLastNIsNull() throws Exception {
         // Given
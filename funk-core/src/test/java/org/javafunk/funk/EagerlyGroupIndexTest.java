@@ -8,16 +8,27 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.behaviours.CloseableIterable;
 import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.external.Serializer;
 import org.javafunk.funk.functors.Indexer;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.*;
+import static org.javafunk.funk.Serializers.integerSerializer;
+import static org.javafunk.funk.Serializers.stringSerializer;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 
 public class EagerlyGroupIndexTest {
@@ -128,4 +139,242 @@ public class EagerlyGroupIndexTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldGroupTheElementsInKeyOrderRetainingTheirOrderWithinEachGroupWhenWithinTheMemoryBudget() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+
+        // When
+        Iterable<Pair<Integer, Iterable<String>>> actualOutput =
+                Eagerly.group(input, toLength(), stringSerializer(), 1024 * 1024);
+
+        // Then
+        assertThat(materializeGroups(actualOutput), hasOnlyItemsInOrder(
+                Pair.<Integer, List<String>>pair(4, listWith("pear")),
+                Pair.<Integer, List<String>>pair(5, listWith("apple", "lemon")),
+                Pair.<Integer, List<String>>pair(6, listWith("orange", "papaya", "banana")),
+                Pair.<Integer, List<String>>pair(7, listWith("apricot"))));
+    }
+
+    @Test
+    public void shouldGroupTheElementsInKeyOrderRetainingTheirOrderWithinEachGroupWhenSpillingToDisk() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            input.add((i * 7919) % 10007);
+        }
+        Indexer<Integer, Integer> moduloTen = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer value) {
+                return value % 10;
+            }
+        };
+
+        List<Pair<Integer, List<Integer>>> expectedOutput = new ArrayList<Pair<Integer, List<Integer>>>();
+        for (int key = 0; key < 10; key++) {
+            List<Integer> group = new ArrayList<Integer>();
+            for (Integer value : input) {
+                if (value % 10 == key) {
+                    group.add(value);
+                }
+            }
+            expectedOutput.add(Pair.<Integer, List<Integer>>pair(key, group));
+        }
+
+        // When
+        Iterable<Pair<Integer, Iterable<Integer>>> actualOutput =
+                Eagerly.group(input, moduloTen, integerSerializer(), 1000);
+
+        // Then
+        assertThat(materializeGroups(actualOutput), is(expectedOutput));
+    }
+
+    @Test
+    public void shouldGroupTheElementsInTheOrderOfTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+
+        // When
+        Iterable<Pair<Integer, Iterable<String>>> actualOutput =
+                Eagerly.group(input, toLength(), Collections.<Integer>reverseOrder(), stringSerializer(), 16);
+
+        // Then
+        assertThat(materializeGroups(actualOutput), hasOnlyItemsInOrder(
+                Pair.<Integer, List<String>>pair(7, listWith("apricot")),
+                Pair.<Integer, List<String>>pair(6, listWith("orange", "papaya", "banana")),
+                Pair.<Integer, List<String>>pair(5, listWith("apple", "lemon")),
+                Pair.<Integer, List<String>>pair(4, listWith("pear"))));
+    }
+
+    @Test
+    public void shouldReturnNoGroupsWhenGroupingAnEmptyIterableWithinAMemoryBudget() throws Exception {
+        // Given
+        Iterable<String> input = new ArrayList<String>();
+
+        // When
+        Iterable<Pair<Integer, Iterable<String>>> actualOutput =
+                Eagerly.group(input, toLength(), stringSerializer(), 16);
+
+        // Then
+        assertThat(actualOutput.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldDeleteSpilledRunsOnceTheGroupsHaveBeenIterated() throws Exception {
+        // Given
+        File temporaryDirectory = new File(System.getProperty("java.io.tmpdir"));
+        Set<String> initialRunFiles = runFilesIn(temporaryDirectory);
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+
+        // When
+        materializeGroups(Eagerly.group(input, toLength(), stringSerializer(), 8));
+        Set<String> remainingRunFiles = runFilesIn(temporaryDirectory);
+
+        // Then
+        assertThat(remainingRunFiles, is(initialRunFiles));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfGroupsWithinAMemoryBudgetAreIteratedTwice() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon");
+        Iterable<Pair<Integer, Iterable<String>>> groups = Eagerly.group(input, toLength(), stringSerializer(), 8);
+        materializeGroups(groups);
+
+        // When
+        groups.iterator();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldGroupTheElementsCorrectlyWhenSpillingMoreRunsThanCanBeMergedAtOnce() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 20000; i++) {
+            input.add((i * 7919) % 20011);
+        }
+        Indexer<Integer, Integer> moduloSeven = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer value) {
+                return value % 7;
+            }
+        };
+
+        List<Pair<Integer, List<Integer>>> expectedOutput = new ArrayList<Pair<Integer, List<Integer>>>();
+        for (int key = 0; key < 7; key++) {
+            List<Integer> group = new ArrayList<Integer>();
+            for (Integer value : input) {
+                if (value % 7 == key) {
+                    group.add(value);
+                }
+            }
+            expectedOutput.add(Pair.<Integer, List<Integer>>pair(key, group));
+        }
+
+        // When
+        Iterable<Pair<Integer, Iterable<Integer>>> actualOutput =
+                Eagerly.group(input, moduloSeven, integerSerializer(), 16);
+
+        // Then
+        assertThat(materializeGroups(actualOutput), is(expectedOutput));
+    }
+
+    @Test
+    public void shouldSkipTheElementsOfAGroupNotIteratedWhenTheNextGroupIsRequested() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+        Iterator<Pair<Integer, Iterable<String>>> groups =
+                Eagerly.group(input, toLength(), stringSerializer(), 8).iterator();
+
+        // When
+        groups.next();
+        groups.next().getSecond().iterator().next();
+        Pair<Integer, Iterable<String>> thirdGroup = groups.next();
+
+        // Then
+        assertThat(thirdGroup.getFirst(), is(6));
+        assertThat(listFrom(thirdGroup.getSecond()), is(listWith("orange", "papaya", "banana")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfAGroupIsIteratedOnceTheNextGroupHasBeenRequested() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon");
+        Iterator<Pair<Integer, Iterable<String>>> groups =
+                Eagerly.group(input, toLength(), stringSerializer(), 8).iterator();
+        Iterable<String> firstGroup = groups.next().getSecond();
+        groups.next();
+
+        // When
+        firstGroup.iterator();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldDeleteSpilledRunsWhenClosedPartWayThroughIteration() throws Exception {
+        // Given
+        File temporaryDirectory = new File(System.getProperty("java.io.tmpdir"));
+        Set<String> initialRunFiles = runFilesIn(temporaryDirectory);
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+        CloseableIterable<Pair<Integer, Iterable<String>>> groups = Eagerly.group(input, toLength(), stringSerializer(), 8);
+        groups.iterator().next();
+
+        // When
+        groups.close();
+        Set<String> remainingRunFiles = runFilesIn(temporaryDirectory);
+
+        // Then
+        assertThat(remainingRunFiles, is(initialRunFiles));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheMemoryBudgetIsNotPositive() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon");
+
+        // When
+        Eagerly.group(input, toLength(), stringSerializer(), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfTheSerializerSuppliedToGroupIsNull() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon");
+        Serializer<String> serializer = null;
+
+        // When
+        Eagerly.group(input, toLength(), serializer, 1024);
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static Indexer<String, Integer> toLength() {
+        return new Indexer<String, Integer>() {
+            @Override public Integer index(String string) {
+                return string.length();
+            }
+        };
+    }
+
+    private static <K, S> List<Pair<K, List<S>>> materializeGroups(Iterable<Pair<K, Iterable<S>>> groups) {
+        List<Pair<K, List<S>>> materialized = new ArrayList<Pair<K, List<S>>>();
+        for (Pair<K, Iterable<S>> group : groups) {
+            materialized.add(Pair.<K, List<S>>pair(group.getFirst(), listFrom(group.getSecond())));
+        }
+        return materialized;
+    }
+
+    private static Set<String> runFilesIn(File directory) {
+        Set<String> runFiles = new HashSet<String>();
+        String[] names = directory.list();
+        for (String name : names == null ? new String[0] : names) {
+            if (name.startsWith("funk-group-") && name.endsWith(".run")) {
+                runFiles.add(name);
+            }
+        }
+        return runFiles;
+    }
 }
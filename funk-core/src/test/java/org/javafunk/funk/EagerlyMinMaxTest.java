@@ -15,6 +15,7 @@ import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.javafunk.funk.datastructures.tuples.Pair;
 import org.junit.Test;
 
 import java.util.Comparator;
@@ -23,8 +24,11 @@ import java.util.NoSuchElementException;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.EagerlyMinMaxTest.NonComparableObject.nonComparableObject;
+import static org.javafunk.funk.Iterators.asIterable;
 import static org.javafunk.funk.Literals.iterable;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.Literals.tuple;
 
 public class EagerlyMinMaxTest {
     @Test
@@ -307,6 +311,100 @@ public class EagerlyMinMaxTest {
         assertThat(passedObjects.contains(null), is(true));
     }
 
+    @Test
+    public void shouldReturnTheMinimumAndMaximumValuesAsAPair() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(4, 7, 1, 9, 3);
+
+        // When
+        Pair<Integer, Integer> actual = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(actual, is(tuple(1, 9)));
+    }
+
+    @Test
+    public void shouldReturnTheOnlyValueAsBothMinimumAndMaximumForASingleElementIterable() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(5);
+
+        // When
+        Pair<Integer, Integer> actual = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(actual, is(tuple(5, 5)));
+    }
+
+    @Test
+    public void shouldSkipNullsInTheSuppliedIterableWhenCalculatingMinimumAndMaximum() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(2, null, 8, 5, null);
+
+        // When
+        Pair<Integer, Integer> actual = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(actual, is(tuple(2, 8)));
+    }
+
+    @Test
+    public void shouldIterateTheSuppliedIterableOnlyOnceWhenCalculatingMinimumAndMaximum() throws Exception {
+        // Given
+        Iterable<Integer> iterable = asIterable(iteratorWith(2, null, 8, 5));
+
+        // When
+        Pair<Integer, Integer> actual = Eagerly.minMax(iterable);
+
+        // Then
+        assertThat(actual, is(tuple(2, 8)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAllValuesSuppliedToMinMaxAreNull() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(null, null);
+
+        // When
+        Eagerly.minMax(iterable);
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheMinimumAndMaximumValuesAccordingToTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<NonComparableObject> iterable = iterableWith(
+                nonComparableObject("aaaa"),
+                nonComparableObject("aa"),
+                nonComparableObject("aaa"),
+                nonComparableObject("aaaaa"));
+
+        // When
+        Pair<NonComparableObject, NonComparableObject> actual = Eagerly.minMax(iterable, new Comparator<NonComparableObject>() {
+            public int compare(NonComparableObject first, NonComparableObject second) {
+                return first.length() - second.length();
+            }
+        });
+
+        // Then
+        assertThat(actual, is(tuple(nonComparableObject("aa"), nonComparableObject("aaaaa"))));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAnEmptyIterableAndAComparatorIsSuppliedToMinMax() throws Exception {
+        // Given
+        Iterable<NonComparableObject> iterable = iterable();
+
+        // When
+        Eagerly.minMax(iterable, new Comparator<NonComparableObject>() {
+            @Override public int compare(NonComparableObject first, NonComparableObject second) {
+                return first.length() - second.length();
+            }
+        });
+
+        // Then a NoSuchElementException is thrown
+    }
+
     static class NonComparableObject {
         private String field;
 
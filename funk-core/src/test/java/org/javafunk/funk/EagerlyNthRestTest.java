@@ -11,9 +11,11 @@ package org.javafunk.funk;
 import org.junit.Test;
 
 import java.util.Collection;
+import java.util.LinkedList;
 
 import static org.javafunk.funk.Literals.collection;
 import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
 
@@ -58,6 +60,21 @@ public class EagerlyNthRestTest {
         assertThat(rest, hasOnlyItemsInOrder(expectedRest));
     }
 
+    @Test
+    public void returnsRestOfANonRandomAccessCollectionAfterGivenPosition(){
+        Collection<String> collection = new LinkedList<String>(listWith("a", "b", "c", "d"));
+        Collection<String> expectedRest = collectionWith("b", "c", "d");
+
+        Collection<String> rest = Eagerly.nthRest(collection, 1);
+
+        assertThat(rest, hasOnlyItemsInOrder(expectedRest));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsIllegalArgumentExceptionIfNegativeStartIsPassedToRest() throws Exception {
+        Eagerly.nthRest(collectionWith("a", "b"), -1);
+    }
+
     @Test(expected = NullPointerException.class)
     public void throwsNullPointerExceptionIfNullIsPassedToRest() throws Exception {
         Eagerly.nthRest(null, 2);
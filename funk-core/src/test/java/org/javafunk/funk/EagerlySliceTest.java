@@ -10,12 +10,16 @@ package org.javafunk.funk;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 
 public class EagerlySliceTest {
@@ -407,6 +411,74 @@ public class EagerlySliceTest {
         assertThat(actualCompleteSlice, hasOnlyItemsInOrder(expectedCompleteSlice));
     }
 
+    @Test
+    public void shouldSliceANonRandomAccessCollectionUsingNegativeIndices() throws Exception {
+        // Given
+        Iterable<String> input = new LinkedList<String>(listWith("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k"));
+        Collection<String> expectedOutput = collectionWith("j", "h", "f");
+
+        // When
+        Collection<String> actualOutput = Eagerly.slice(input, -2, -7, -2);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
+    @Test
+    public void shouldSliceAnIterableOfUnknownSizeUsingNegativeIndices() throws Exception {
+        // Given
+        Iterable<String> input = Iterators.asIterable(listWith("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k").iterator());
+        Collection<String> expectedOutput = collectionWith("e", "g", "i");
+
+        // When
+        Collection<String> actualOutput = Eagerly.slice(input, -7, -1, 2);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
+    @Test
+    public void shouldProduceTheSameSliceRegardlessOfTheTypeOfTheSuppliedIterable() throws Exception {
+        // Given
+        List<String> randomAccessInput = listWith("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k");
+        List<String> sequentialInput = new LinkedList<String>(randomAccessInput);
+        Integer[] indices = new Integer[]{null, -15, -11, -7, -1, 0, 1, 4, 10, 11, 15};
+        Integer[] steps = new Integer[]{null, -3, -2, -1, 1, 2, 3};
+
+        for (Integer start : indices) {
+            for (Integer stop : indices) {
+                for (Integer step : steps) {
+                    if (start != null && start == 11 && step != null && step < 0) {
+                        continue;
+                    }
+
+                    // When
+                    Collection<String> randomAccessSlice = Eagerly.slice(randomAccessInput, start, stop, step);
+                    Collection<String> sequentialSlice = Eagerly.slice(sequentialInput, start, stop, step);
+                    Collection<String> unsizedSlice = Eagerly.slice(Iterators.asIterable(sequentialInput.iterator()), start, stop, step);
+
+                    // Then
+                    assertThat(sequentialSlice, hasOnlyItemsInOrder(randomAccessSlice));
+                    assertThat(unsizedSlice, hasOnlyItemsInOrder(randomAccessSlice));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotReflectChangesMadeToTheSuppliedIterableAfterSlicing() throws Exception {
+        // Given
+        List<String> input = new ArrayList<String>(listWith("a", "b", "c", "d", "e"));
+        Collection<String> expectedOutput = collectionWith("b", "c", "d");
+
+        // When
+        Collection<String> actualOutput = Eagerly.slice(input, 1, 4);
+        input.set(2, "z");
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(expectedOutput));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowNullPointerExceptionIfIterablePassedToSliceIsNull() throws Exception {
         // Given
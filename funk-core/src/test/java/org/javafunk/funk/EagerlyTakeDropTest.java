@@ -12,14 +12,18 @@ import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.collection;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 
 public class EagerlyTakeDropTest {
@@ -151,6 +155,56 @@ public class EagerlyTakeDropTest {
         // Then a NullPointerException is thrown.
     }
 
+    @Test
+    public void shouldTakeTheSpecifiedNumberOfElementsFromANonRandomAccessCollection() throws Exception {
+        // Given
+        Iterable<String> input = new LinkedList<String>(listWith("a", "b", "c", "d", "e"));
+
+        // When
+        Collection<String> actualOutput = Eagerly.take(input, 3);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldDropTheSpecifiedNumberOfElementsFromANonRandomAccessCollection() throws Exception {
+        // Given
+        Iterable<String> input = new LinkedList<String>(listWith("a", "b", "c", "d", "e"));
+
+        // When
+        Collection<String> actualOutput = Eagerly.drop(input, 3);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder("d", "e"));
+    }
+
+    @Test
+    public void shouldNotReflectChangesMadeToTheSuppliedListAfterTakingOrDropping() throws Exception {
+        // Given
+        List<String> input = new ArrayList<String>(listWith("a", "b", "c", "d", "e"));
+
+        // When
+        Collection<String> taken = Eagerly.take(input, 2);
+        Collection<String> remaining = Eagerly.drop(input, 2);
+        input.clear();
+
+        // Then
+        assertThat(taken, hasOnlyItemsInOrder("a", "b"));
+        assertThat(remaining, hasOnlyItemsInOrder("c", "d", "e"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnAnUnmodifiableCollectionFromTake() throws Exception {
+        // Given
+        Iterable<String> input = new ArrayList<String>(listWith("a", "b", "c", "d", "e"));
+
+        // When
+        Eagerly.take(input, 2).add("f");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
     @Test
     public void shouldTakeElementsWhileTheSuppliedPredicateIsTrue() throws Exception {
         // Given
@@ -0,0 +1,276 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.monads.Option;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterable;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.monads.Option.some;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class EagerlyTopKTest {
+    private static final Comparator<String> byLength = new Comparator<String>() {
+        @Override public int compare(String first, String second) {
+            return first.length() - second.length();
+        }
+    };
+
+    @Test
+    public void shouldReturnTheGreatestKElementsFromGreatestToLeast() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 1, 9, 3, 7, 2, 8);
+
+        // When
+        Collection<Integer> actual = Eagerly.topK(input, 3);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(9, 8, 7));
+    }
+
+    @Test
+    public void shouldReturnAllElementsFromGreatestToLeastIfTheIterableHasFewerThanKElements() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(2, 3, 1);
+
+        // When
+        Collection<Integer> actual = Eagerly.topK(input, 5);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(3, 2, 1));
+    }
+
+    @Test
+    public void shouldSkipNullsWhenTakingTheGreatestKElementsInTheirNaturalOrder() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(4, null, 6, null, 5);
+
+        // When
+        Collection<Integer> actual = Eagerly.topK(input, 4);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(6, 5, 4));
+    }
+
+    @Test
+    public void shouldReturnTheGreatestKElementsAccordingToTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("aaa", "a", "aaaaa", "aa", "aaaa");
+
+        // When
+        Collection<String> actual = Eagerly.topK(input, 2, byLength);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("aaaaa", "aaaa"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheNumberOfElementsRequiredForTopKIsNegative() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3);
+
+        // When
+        Eagerly.topK(input, -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheLeastKElementsFromLeastToGreatest() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 1, 9, 3, 7, 2, 8);
+
+        // When
+        Collection<Integer> actual = Eagerly.bottomK(input, 3);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldReturnTheLeastKElementsAccordingToTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("aaa", "a", "aaaaa", "aa", "aaaa");
+
+        // When
+        Collection<String> actual = Eagerly.bottomK(input, 2, byLength);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("a", "aa"));
+    }
+
+    @Test
+    public void shouldReturnTheKthLargestElement() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 1, 9, 3, 7);
+
+        // When
+        Option<Integer> actual = Eagerly.kthLargest(input, 2);
+
+        // Then
+        assertThat(actual, is(some(7)));
+    }
+
+    @Test
+    public void shouldReturnNoneIfTheIterableHasFewerThanKElementsWhenTakingTheKthLargest() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("aa", "a");
+
+        // When
+        Option<String> actual = Eagerly.kthLargest(input, 3, byLength);
+
+        // Then
+        assertThat(actual, is(Option.<String>none()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheRankSuppliedToKthLargestIsZero() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3);
+
+        // When
+        Eagerly.kthLargest(input, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheMiddleElementAsTheMedianOfAnOddNumberOfElements() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(9, 2, 7, 4, 5);
+
+        // When
+        Option<Integer> actual = Eagerly.median(input);
+
+        // Then
+        assertThat(actual, is(some(5)));
+    }
+
+    @Test
+    public void shouldReturnTheLowerMiddleElementAsTheMedianOfAnEvenNumberOfElements() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("aaaa", "a", "aaa", "aa");
+
+        // When
+        Option<String> actual = Eagerly.median(input, byLength);
+
+        // Then
+        assertThat(actual, is(some("aa")));
+    }
+
+    @Test
+    public void shouldReturnNoneAsTheMedianOfAnEmptyIterable() throws Exception {
+        // Given
+        Iterable<Integer> input = iterable();
+
+        // When
+        Option<Integer> actual = Eagerly.median(input);
+
+        // Then
+        assertThat(actual, is(Option.<Integer>none()));
+    }
+
+    @Test
+    public void shouldReturnTheGreatestAndLeastKIntsWithoutModifyingTheSuppliedArray() throws Exception {
+        // Given
+        int[] values = {5, 1, 9, 3, 7, 2, 8};
+
+        // When
+        int[] greatest = Eagerly.topK(values, 3);
+        int[] least = Eagerly.bottomK(values, 3);
+
+        // Then
+        assertThat(greatest, is(new int[]{9, 8, 7}));
+        assertThat(least, is(new int[]{1, 2, 3}));
+        assertThat(values, is(new int[]{5, 1, 9, 3, 7, 2, 8}));
+    }
+
+    @Test
+    public void shouldReturnTheGreatestAndLeastKLongsAndDoubles() throws Exception {
+        // Given
+        long[] longs = {40L, 10L, 30L, 20L};
+        double[] doubles = {0.5, Double.NaN, -1.5, 2.5};
+
+        // When
+        long[] greatestLongs = Eagerly.topK(longs, 2);
+        double[] leastDoubles = Eagerly.bottomK(doubles, 2);
+        double[] greatestDoubles = Eagerly.topK(doubles, 2);
+
+        // Then
+        assertThat(greatestLongs, is(new long[]{40L, 30L}));
+        assertThat(leastDoubles, is(new double[]{-1.5, 0.5}));
+        assertThat(greatestDoubles, is(new double[]{Double.NaN, 2.5}));
+    }
+
+    @Test
+    public void shouldAgreeWithSortingWhenSelectingTheKthLargestInt() throws Exception {
+        // Given
+        Random random = new Random(42);
+        int[] values = new int[1001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100);
+        }
+        int[] sorted = values.clone();
+        java.util.Arrays.sort(sorted);
+
+        // When
+        int[] actual = new int[values.length];
+        for (int k = 1; k <= values.length; k++) {
+            actual[values.length - k] = Eagerly.kthLargest(values, k);
+        }
+
+        // Then
+        assertThat(actual, is(sorted));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheRankSuppliedToKthLargestExceedsTheNumberOfValues() throws Exception {
+        // Given
+        long[] values = {1L, 2L};
+
+        // When
+        Eagerly.kthLargest(values, 3);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheMedianOfPrimitiveValues() throws Exception {
+        // When
+        double oddInts = Eagerly.median(7, 1, 3);
+        double evenInts = Eagerly.median(4, 1, 3, 2);
+        double longs = Eagerly.median(10L, 40L, 20L, 30L);
+        double doubles = Eagerly.median(2.5, -1.0, 0.5);
+
+        // Then
+        assertThat(oddInts, is(3.0));
+        assertThat(evenInts, is(2.5));
+        assertThat(longs, is(25.0));
+        assertThat(doubles, is(0.5));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenTakingTheMedianOfNoValues() throws Exception {
+        // Given
+        double[] values = {};
+
+        // When
+        Eagerly.median(values);
+
+        // Then a NoSuchElementException is thrown
+    }
+}
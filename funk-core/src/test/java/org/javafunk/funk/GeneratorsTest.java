@@ -8,15 +8,19 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.behaviours.Generatable;
 import org.javafunk.funk.behaviours.Generator;
 import org.javafunk.funk.generators.ConstantGenerator;
 import org.javafunk.funk.generators.FiniteGenerator;
 import org.junit.Test;
 
+import java.util.Iterator;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Generators.constantGenerator;
 import static org.javafunk.funk.Generators.finiteGenerator;
+import static org.javafunk.funk.Generators.toGeneratable;
 import static org.javafunk.funk.Literals.iterableWith;
 
 public class GeneratorsTest {
@@ -44,6 +48,26 @@ public class GeneratorsTest {
         assertThat(actualGenerator, is(expectedGenerator));
     }
 
+    @Test
+    public void shouldReturnAGeneratableWhoseIteratorsEachYieldEveryValueGeneratedOnceTheyAreObtained() throws Exception {
+        // Given
+        Generatable<Integer> generatable = toGeneratable(finiteGenerator(iterableWith(1, 2, 3, 4)));
+
+        // When
+        Iterator<Integer> first = generatable.iterator();
+        first.next();
+        first.next();
+        Iterator<Integer> second = generatable.iterator();
+
+        // Then
+        assertThat(second.next(), is(3));
+        assertThat(first.next(), is(3));
+        assertThat(first.next(), is(4));
+        assertThat(second.next(), is(4));
+        assertThat(first.hasNext(), is(false));
+        assertThat(second.hasNext(), is(false));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowANullPointerExceptionIfIterableUsedToConstructFiniteGeneratorIsNull() throws Exception {
         // When
@@ -8,10 +8,14 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.behaviours.CloseableIterable;
 import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.materialize;
@@ -105,4 +109,67 @@ public class LazilyBatchTest {
         assertThat(firstBatchIterator2.next(), is(3));
         assertThat(firstBatchIterator2.hasNext(), is(false));
     }
+
+    @Test
+    public void shouldReturnElementsOfTheIterableInBatchesAssembledOnTheSuppliedExecutor() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Collection<Integer> firstBatch = collectionWith(1, 2, 3);
+        Collection<Integer> secondBatch = collectionWith(4, 5, 6);
+        Collection<Integer> thirdBatch = collectionWith(7, 8, 9);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        Iterator<Iterable<Integer>> returnedIterator = Lazily.batchAsync(input, 3, executor, 2).iterator();
+
+        // Then
+        assertThat(materialize(returnedIterator.next()), hasOnlyItemsInOrder(firstBatch));
+        assertThat(materialize(returnedIterator.next()), hasOnlyItemsInOrder(secondBatch));
+        assertThat(materialize(returnedIterator.next()), hasOnlyItemsInOrder(thirdBatch));
+        assertThat(returnedIterator.hasNext(), is(false));
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldStopAssemblingBatchesOnceTheAsyncBatchesAreClosedPartWayThroughIteration() throws Exception {
+        // Given
+        Iterable<Integer> input = Sequences.integers(Sequences.increasing());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Collection<Integer> firstBatch = null;
+
+        // When
+        try (CloseableIterable<Iterable<Integer>> batches = Lazily.batchAsync(input, 3, executor, 1)) {
+            for (Iterable<Integer> batch : batches) {
+                firstBatch = materialize(batch);
+                break;
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(firstBatch, hasOnlyItemsInOrder(0, 1, 2));
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheSuppliedMaximumInFlightIsZero() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        Lazily.batchAsync(input, 3, Executors.newSingleThreadExecutor(), 0);
+
+        // Then an IllegalArgumentException is thrown.
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfExecutorPassedToBatchAsyncIsNull() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        Lazily.batchAsync(input, 3, null, 2);
+
+        // Then a NullPointerException is thrown.
+    }
 }
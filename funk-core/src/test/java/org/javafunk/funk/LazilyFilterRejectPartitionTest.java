@@ -12,12 +12,14 @@ import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.Predicate;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Iterators.asIterable;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.funk.Literals.listWith;
@@ -242,4 +244,191 @@ public class LazilyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldIterateTheInputOnceAndEvaluateThePredicateOncePerElementWhenSidesAreIteratedOneAfterTheOther() throws Exception {
+        // Given
+        final int[] iteratorCalls = new int[1];
+        final int[] evaluations = new int[1];
+        Iterable<Integer> input = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                iteratorCalls[0]++;
+                return listWith(1, 2, 3, 4, 5, 6, 7, 8).iterator();
+            }
+        };
+
+        // When
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        evaluations[0]++;
+                        return item % 2 == 0;
+                    }
+                });
+        Collection<Integer> actualMatchingItems = materialize(partitionResults.getFirst());
+        Collection<Integer> actualNonMatchingItems = materialize(partitionResults.getSecond());
+
+        // Then
+        assertThat(actualMatchingItems, hasOnlyItemsInOrder(2, 4, 6, 8));
+        assertThat(actualNonMatchingItems, hasOnlyItemsInOrder(1, 3, 5, 7));
+        assertThat(iteratorCalls[0], is(1));
+        assertThat(evaluations[0], is(8));
+    }
+
+    @Test
+    public void shouldMakeAFreshPassForASideOfABoundedPartitionWhoseIteratorIsRequestedOnceIterationHasBegun() throws Exception {
+        // Given
+        final int[] iteratorCalls = new int[1];
+        Iterable<Integer> input = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                iteratorCalls[0]++;
+                return listWith(1, 2, 3, 4, 5, 6, 7, 8).iterator();
+            }
+        };
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 2 == 0;
+                    }
+                }, 16);
+        Iterator<Integer> matchingIterator = partitionResults.getFirst().iterator();
+
+        // When
+        Integer firstMatchingItem = matchingIterator.next();
+        Collection<Integer> actualNonMatchingItems = materialize(partitionResults.getSecond());
+        Collection<Integer> remainingMatchingItems = materialize(asIterable(matchingIterator));
+
+        // Then
+        assertThat(firstMatchingItem, is(2));
+        assertThat(remainingMatchingItems, hasOnlyItemsInOrder(4, 6, 8));
+        assertThat(actualNonMatchingItems, hasOnlyItemsInOrder(1, 3, 5, 7));
+        assertThat(iteratorCalls[0], is(2));
+    }
+
+    @Test
+    public void shouldNotBufferTheOtherSideWhenOnlyOneSideOfABoundedPartitionOfAnInfiniteInputIsIterated() throws Exception {
+        // Given
+        Iterable<Long> input = new Iterable<Long>() {
+            @Override public Iterator<Long> iterator() {
+                return new Iterator<Long>() {
+                    private long next = 0;
+
+                    @Override public boolean hasNext() {
+                        return true;
+                    }
+
+                    @Override public Long next() {
+                        return next++;
+                    }
+
+                    @Override public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+        };
+        Pair<Iterable<Long>, Iterable<Long>> partitionResults = Lazily.partition(input,
+                new Predicate<Long>() {
+                    public boolean evaluate(Long item) {
+                        return item % 1000000 == 0;
+                    }
+                }, 16);
+
+        // When
+        Iterator<Long> matchingIterator = partitionResults.getFirst().iterator();
+        for (int i = 0; i < 50; i++) {
+            matchingIterator.next();
+        }
+
+        // Then
+        assertThat(matchingIterator.next(), is(50000000L));
+    }
+
+    @Test
+    public void shouldNotBlockWhenOnlyOneSideOfABoundedPartitionIsIterated() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            input.add(i);
+        }
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 3 == 0;
+                    }
+                }, 16);
+
+        // When
+        Collection<Integer> actualMatchingItems = materialize(partitionResults.getFirst());
+
+        // Then
+        assertThat(actualMatchingItems.size(), is(3334));
+    }
+
+    @Test
+    public void shouldPartitionNullElements() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", null, "b", null);
+
+        // When
+        Pair<Iterable<String>, Iterable<String>> partitionResults = Lazily.partition(input,
+                new Predicate<String>() {
+                    public boolean evaluate(String item) {
+                        return item == null;
+                    }
+                });
+
+        // Then
+        assertThat(materialize(partitionResults.getFirst()), hasOnlyItemsInOrder((String) null, null));
+        assertThat(materialize(partitionResults.getSecond()), hasOnlyItemsInOrder("a", "b"));
+    }
+
+    @Test
+    public void shouldPartitionIntoBoundedSidesConsumedConcurrently() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        for (int i = 0; i < 10000; i++) {
+            input.add(i);
+        }
+        final Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 3 == 0;
+                    }
+                }, 16);
+        final List<Integer> actualNonMatchingItems = new ArrayList<Integer>();
+        Thread nonMatchingConsumer = new Thread(new Runnable() {
+            @Override public void run() {
+                for (Integer item : partitionResults.getSecond()) {
+                    actualNonMatchingItems.add(item);
+                }
+            }
+        });
+
+        // When
+        nonMatchingConsumer.start();
+        List<Integer> actualMatchingItems = new ArrayList<Integer>();
+        for (Integer item : partitionResults.getFirst()) {
+            actualMatchingItems.add(item);
+        }
+        nonMatchingConsumer.join(10000);
+
+        // Then
+        assertThat(actualMatchingItems.size(), is(3334));
+        assertThat(actualNonMatchingItems.size(), is(6666));
+        assertThat(actualMatchingItems.get(1), is(3));
+        assertThat(actualNonMatchingItems.get(1), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfBoundSuppliedToPartitionIsNotPositive() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8);
+        Predicate<? super Integer> predicate = Predicates.alwaysTrue();
+
+        // When
+        Lazily.partition(input, predicate, 0);
+
+        // Then an IllegalArgumentException is thrown.
+    }
 }
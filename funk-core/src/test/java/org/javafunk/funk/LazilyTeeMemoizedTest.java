@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.listWith;
+
+public class LazilyTeeMemoizedTest {
+    @Test
+    public void shouldReturnTheRequestedNumberOfBranchesEachYieldingEveryElement() throws Exception {
+        // Given
+        CountingIterable<Integer> input = new CountingIterable<Integer>(listWith(1, 2, 3, 4, 5));
+
+        // When
+        List<Iterable<Integer>> branches = Lazily.tee(input, 3);
+
+        // Then
+        assertThat(branches.size(), is(3));
+        assertThat(materialize(branches.get(0)), is((Collection<Integer>) listWith(1, 2, 3, 4, 5)));
+        assertThat(materialize(branches.get(2)), is((Collection<Integer>) listWith(1, 2, 3, 4, 5)));
+        assertThat(materialize(branches.get(1)), is((Collection<Integer>) listWith(1, 2, 3, 4, 5)));
+        assertThat(input.iterations, is(1));
+    }
+
+    @Test
+    public void shouldAllowBranchesToBeConsumedAtDifferentRates() throws Exception {
+        // Given
+        List<Iterable<Integer>> branches = Lazily.tee(Lazily.take(Sequences.integers(Sequences.increasing()), 1000), 2);
+
+        // When
+        Iterator<Integer> leading = branches.get(0).iterator();
+        Iterator<Integer> lagging = branches.get(1).iterator();
+        for (int i = 0; i < 500; i++) {
+            leading.next();
+        }
+
+        // Then
+        assertThat(lagging.next(), is(0));
+        assertThat(leading.next(), is(500));
+    }
+
+    @Test
+    public void shouldAllowBranchesToBeConsumedConcurrently() throws Exception {
+        // Given
+        final List<Iterable<Integer>> branches = Lazily.tee(Lazily.take(Sequences.integers(Sequences.increasing()), 100000), 3);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // When
+        List<Future<Long>> sums = new ArrayList<Future<Long>>();
+        for (final Iterable<Integer> branch : branches) {
+            sums.add(executor.submit(new Callable<Long>() {
+                @Override public Long call() {
+                    long sum = 0;
+                    for (Integer value : branch) {
+                        sum += value;
+                    }
+                    return sum;
+                }
+            }));
+        }
+
+        // Then
+        for (Future<Long> sum : sums) {
+            assertThat(sum.get(), is(4999950000L));
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldStartANewPassWhenABranchIsIteratedAgain() throws Exception {
+        // Given
+        CountingIterable<Integer> input = new CountingIterable<Integer>(listWith(1, 2, 3));
+        List<Iterable<Integer>> branches = Lazily.tee(input, 2);
+
+        // When
+        materialize(branches.get(0));
+        Collection<Integer> again = materialize(branches.get(0));
+
+        // Then
+        assertThat(again, is((Collection<Integer>) listWith(1, 2, 3)));
+        assertThat(input.iterations, is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNumberOfBranchesIsNotPositive() throws Exception {
+        // When
+        Lazily.tee(listWith(1, 2, 3), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfNullIterableSuppliedToTee() throws Exception {
+        // When
+        Lazily.tee(null, 2);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    public void shouldIterateTheSuppliedIterableOnlyOnceWhenMemoized() throws Exception {
+        // Given
+        CountingIterable<String> input = new CountingIterable<String>(listWith("a", null, "c"));
+
+        // When
+        Iterable<String> memoized = Lazily.memoized(input);
+        Collection<String> first = materialize(memoized);
+        Collection<String> second = materialize(memoized);
+
+        // Then
+        assertThat(first, is((Collection<String>) listWith("a", null, "c")));
+        assertThat(second, is((Collection<String>) listWith("a", null, "c")));
+        assertThat(input.iterations, is(1));
+    }
+
+    @Test
+    public void shouldNotIterateTheSuppliedIterableUntilTheMemoizedIterableIsIterated() throws Exception {
+        // Given
+        CountingIterable<String> input = new CountingIterable<String>(listWith("a", "b"));
+
+        // When
+        Lazily.memoized(input);
+
+        // Then
+        assertThat(input.iterations, is(0));
+    }
+
+    private static class CountingIterable<T> implements Iterable<T> {
+        private final Iterable<T> delegate;
+        private int iterations = 0;
+
+        private CountingIterable(Iterable<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override public Iterator<T> iterator() {
+            iterations++;
+            return delegate.iterator();
+        }
+    }
+}
@@ -9,6 +9,7 @@
 package org.javafunk.funk;
 
 import com.google.common.collect.Multiset;
+import com.google.common.collect.Ordering;
 import org.javafunk.funk.testclasses.Animal;
 import org.javafunk.funk.testclasses.Cat;
 import org.javafunk.funk.testclasses.Dog;
@@ -17,6 +18,7 @@ import org.junit.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.multisetBuilderOf;
 import static org.javafunk.funk.Literals.multisetWith;
@@ -237,4 +239,47 @@ public class MultisetsTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldReturnTheSortedMultisetUnionOfSortedIterables() throws Exception {
+        // Given
+        Iterable<String> first = listWith("a", "a", "b", "d");
+        Iterable<String> second = iterableWith("a", "b", "b", "b", "c");
+
+        // When
+        Iterable<String> union = Multisets.sortedUnion(first, second, Ordering.<String>natural());
+
+        // Then
+        assertThat(listFrom(union), is(listWith("a", "a", "b", "b", "b", "c", "d")));
+    }
+
+    @Test
+    public void shouldReturnTheSortedMultisetIntersectionOfSortedIterables() throws Exception {
+        // Given
+        Iterable<String> first = listWith("a", "a", "a", "b", "c", "c", "e");
+        Iterable<String> second = iterableWith("a", "a", "c", "c", "c", "d", "e");
+        Iterable<String> third = listWith("a", "a", "a", "c", "c", "e", "e");
+
+        // When
+        Iterable<String> intersection = Multisets.sortedIntersection(
+                iterableWith(first, second, third), Ordering.<String>natural());
+
+        // Then
+        assertThat(listFrom(intersection), is(listWith("a", "a", "c", "c", "e")));
+    }
+
+    @Test
+    public void shouldReturnTheSortedMultisetDifferenceOfSortedIterables() throws Exception {
+        // Given
+        Iterable<String> first = listWith("a", "a", "a", "b", "c", "c", "d");
+        Iterable<String> second = iterableWith("a", "c", "c", "c");
+        Iterable<String> third = listWith("a", "d");
+
+        // When
+        Iterable<String> difference = Multisets.sortedDifference(
+                iterableWith(first, second, third), Ordering.<String>natural());
+
+        // Then
+        assertThat(listFrom(difference), is(listWith("a", "b")));
+    }
 }
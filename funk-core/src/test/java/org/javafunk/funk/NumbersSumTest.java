@@ -8,6 +8,11 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.datastructures.DoubleRange;
+import org.javafunk.funk.datastructures.IntRange;
+import org.javafunk.funk.functors.DoubleReducer;
+import org.javafunk.funk.functors.IntReducer;
+import org.javafunk.funk.functors.LongReducer;
 import org.javafunk.funk.monads.Option;
 import org.junit.Test;
 
@@ -18,6 +23,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.javafunk.funk.Literals.iterable;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.monads.Option.option;
 import static org.junit.Assert.fail;
 
@@ -240,4 +246,146 @@ public class NumbersSumTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldSumTheSuppliedIntegersIntoALongOnSumInts() {
+        // Given
+        Iterable<Integer> inputs = iterableWith(Integer.MAX_VALUE, Integer.MAX_VALUE, 2);
+
+        // When
+        long sum = Numbers.sumInts(inputs);
+
+        // Then
+        assertThat(sum, is(2L * Integer.MAX_VALUE + 2));
+    }
+
+    @Test
+    public void shouldSumAnIntSequenceWithoutIteratingBoxedValuesOnSumInts() {
+        // Given
+        Iterable<Integer> inputs = new IntRange(1, 101);
+
+        // When
+        long sum = Numbers.sumInts(inputs);
+
+        // Then
+        assertThat(sum, is(5050L));
+    }
+
+    @Test
+    public void shouldSumPrimitiveIntegersOnSumInts() {
+        // When
+        long sum = Numbers.sumInts(1, 2, 3);
+
+        // Then
+        assertThat(sum, is(6L));
+    }
+
+    @Test
+    public void shouldReturnZeroOnSumIntsIfTheSuppliedIterableIsEmpty() {
+        // Given
+        Iterable<Integer> inputs = iterable();
+
+        // When
+        long sum = Numbers.sumInts(inputs);
+
+        // Then
+        assertThat(sum, is(0L));
+    }
+
+    @Test
+    public void shouldSumTheSuppliedLongsOnSumLongs() {
+        // Given
+        Iterable<Long> inputs = iterableWith(1L, 2L, 3L);
+
+        // Then
+        assertThat(Numbers.sumLongs(inputs), is(6L));
+        assertThat(Numbers.sumLongs(1L, 2L, 3L), is(6L));
+    }
+
+    @Test
+    public void shouldCompensateForRoundingErrorsOnSumDoubles() {
+        // Given
+        Iterable<Double> inputs = iterableWith(1.0, 1e100, 1.0, -1e100);
+
+        // When
+        double sum = Numbers.sumDoubles(inputs);
+
+        // Then
+        assertThat(sum, is(2.0));
+    }
+
+    @Test
+    public void shouldCompensateForRoundingErrorsWhenSummingManySmallDoubles() {
+        // Given
+        double[] inputs = new double[10000];
+        java.util.Arrays.fill(inputs, 0.1);
+
+        // When
+        double sum = Numbers.sumDoubles(inputs);
+
+        // Then
+        assertThat(sum, is(1000.0));
+    }
+
+    @Test
+    public void shouldSumADoubleSequenceOnSumDoubles() {
+        // Given
+        Iterable<Double> inputs = new DoubleRange(0.0, 1.0, 0.25);
+
+        // When
+        double sum = Numbers.sumDoubles(inputs);
+
+        // Then
+        assertThat(sum, is(1.5));
+    }
+
+    @Test
+    public void shouldPropagateInfinityOnSumDoubles() {
+        // When
+        double sum = Numbers.sumDoubles(1.0, Double.POSITIVE_INFINITY, 2.0);
+
+        // Then
+        assertThat(sum, is(Double.POSITIVE_INFINITY));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionOnSumIntsIfTheSuppliedIterableContainsNull() {
+        // Given
+        Iterable<Integer> inputs = listWith(1, null, 3);
+
+        // When
+        Numbers.sumInts(inputs);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    public void shouldReduceUsingPrimitiveReducers() {
+        // Given
+        Iterable<Integer> integers = iterableWith(1, 2, 3, 4);
+        Iterable<Long> longs = iterableWith(1L, 2L, 3L, 4L);
+        Iterable<Double> doubles = iterableWith(1.0, 2.0, 3.0, 4.0);
+
+        // When
+        int intProduct = Numbers.reduceInts(integers, 1, new IntReducer() {
+            @Override public int accumulate(int accumulator, int element) {
+                return accumulator * element;
+            }
+        });
+        long longMaximum = Numbers.reduceLongs(longs, Long.MIN_VALUE, new LongReducer() {
+            @Override public long accumulate(long accumulator, long element) {
+                return Math.max(accumulator, element);
+            }
+        });
+        double doubleProduct = Numbers.reduceDoubles(doubles, 1.0, new DoubleReducer() {
+            @Override public double accumulate(double accumulator, double element) {
+                return accumulator * element;
+            }
+        });
+
+        // Then
+        assertThat(intProduct, is(24));
+        assertThat(longMaximum, is(4L));
+        assertThat(doubleProduct, is(24.0));
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Predicate;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listFrom;
+
+public class ParallellyAnyAllNoneTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void shouldReturnTrueForAnyIfAnyElementSatisfiesThePredicate() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Boolean actual = Parallelly.any(input, isEqualTo(9876), pool);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void shouldReturnFalseForAnyIfNoElementSatisfiesThePredicate() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Boolean actual = Parallelly.any(input, isEqualTo(-1), pool);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void shouldReturnTrueForAllIfAllElementsSatisfyThePredicate() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Boolean actual = Parallelly.all(input, isLessThan(10000), pool);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void shouldReturnFalseForAllIfAnyElementDoesNotSatisfyThePredicate() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Boolean actual = Parallelly.all(input, isLessThan(9999), pool);
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    @Test
+    public void shouldReturnTrueForNoneIfNoElementSatisfiesThePredicate() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Boolean actual = Parallelly.none(input, isEqualTo(10000), pool);
+
+        // Then
+        assertThat(actual, is(true));
+    }
+
+    @Test
+    public void shouldReturnFalseForNoneIfAnyElementSatisfiesThePredicate() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Boolean actual = Parallelly.none(input, isEqualTo(0));
+
+        // Then
+        assertThat(actual, is(false));
+    }
+
+    private static Predicate<Integer> isEqualTo(final int value) {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input == value;
+            }
+        };
+    }
+
+    private static Predicate<Integer> isLessThan(final int value) {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input < value;
+            }
+        };
+    }
+}
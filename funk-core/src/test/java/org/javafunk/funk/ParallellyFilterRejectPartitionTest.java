@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Predicate;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.*;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ParallellyFilterRejectPartitionTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void shouldRetainElementsSatisfyingThePredicateInOrder() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Collection<Integer> actual = Parallelly.filter(input, isMultipleOfSeven(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.filter(input, isMultipleOfSeven())));
+    }
+
+    @Test
+    public void shouldRetainElementsOfAnIterableOfUnknownSizeSatisfyingThePredicateInOrder() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Collection<Integer> actual = Parallelly.filter(input, isMultipleOfSeven(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.filter(input, isMultipleOfSeven())));
+    }
+
+    @Test
+    public void shouldDiscardElementsSatisfyingThePredicateRetainingOrder() {
+        // Given
+        List<Integer> input = new LinkedList<Integer>(listFrom(new IntegerRange(0, 10000)));
+
+        // When
+        Collection<Integer> actual = Parallelly.reject(input, isMultipleOfSeven(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.reject(input, isMultipleOfSeven())));
+    }
+
+    @Test
+    public void shouldPartitionTheSuppliedIterableRetainingOrderOnEachSide() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Pair<Collection<Integer>, Collection<Integer>> actual = Parallelly.partition(input, isMultipleOfSeven(), pool);
+
+        // Then
+        assertThat(actual.getFirst(), is(Eagerly.filter(input, isMultipleOfSeven())));
+        assertThat(actual.getSecond(), is(Eagerly.reject(input, isMultipleOfSeven())));
+    }
+
+    @Test
+    public void shouldFilterUsingTheDefaultPoolIfNoneSupplied() {
+        // Given
+        Iterable<Integer> input = iterableWith(7, 8, 14, 15);
+
+        // When
+        Collection<Integer> actual = Parallelly.filter(input, isMultipleOfSeven());
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(7, 14));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfThePredicateSuppliedToPartitionIsNull() {
+        // Given
+        Predicate<Integer> predicate = null;
+
+        // When
+        Parallelly.partition(iterableWith(1, 2, 3), predicate, pool);
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static Predicate<Integer> isMultipleOfSeven() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 7 == 0;
+            }
+        };
+    }
+}
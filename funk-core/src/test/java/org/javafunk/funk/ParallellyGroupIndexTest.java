@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.Indexer;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.*;
+
+public class ParallellyGroupIndexTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void shouldGroupTheElementsRetainingOrderWithinEachGroup() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Map<Integer, Collection<Integer>> actual = Parallelly.group(input, moduloTen(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.group(input, moduloTen())));
+    }
+
+    @Test
+    public void shouldGroupTheElementsOfANonRandomAccessCollection() {
+        // Given
+        List<Integer> input = new LinkedList<Integer>(listFrom(new IntegerRange(0, 10000)));
+
+        // When
+        Map<Integer, Collection<Integer>> actual = Parallelly.group(input, moduloTen(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.group(input, moduloTen())));
+    }
+
+    @Test
+    public void shouldIndexTheElementsRetainingOrder() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Collection<Pair<Integer, Integer>> actual = Parallelly.index(input, moduloTen(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.index(input, moduloTen())));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfTheIndexerSuppliedToGroupIsNull() {
+        // Given
+        Indexer<Integer, Integer> indexer = null;
+
+        // When
+        Parallelly.group(iterableWith(1, 2, 3), indexer, pool);
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static Indexer<Integer, Integer> moduloTen() {
+        return new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer input) {
+                return input % 10;
+            }
+        };
+    }
+}
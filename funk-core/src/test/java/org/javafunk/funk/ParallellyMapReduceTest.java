@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.functors.Factory;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Reducer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.*;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ParallellyMapReduceTest {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Test
+    public void shouldMapEachElementOfARandomAccessListRetainingOrder() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Collection<Integer> actual = Parallelly.map(input, timesTwo(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.map(input, timesTwo())));
+    }
+
+    @Test
+    public void shouldMapEachElementOfANonRandomAccessCollectionRetainingOrder() {
+        // Given
+        List<Integer> input = new LinkedList<Integer>(listFrom(new IntegerRange(0, 10000)));
+
+        // When
+        Collection<Integer> actual = Parallelly.map(input, timesTwo(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.map(input, timesTwo())));
+    }
+
+    @Test
+    public void shouldMapEachElementOfAnIterableOfUnknownSizeRetainingOrder() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Collection<Integer> actual = Parallelly.map(input, timesTwo(), pool);
+
+        // Then
+        assertThat(actual, is(Eagerly.map(input, timesTwo())));
+    }
+
+    @Test
+    public void shouldMapUsingTheDefaultPoolIfNoneSupplied() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3);
+
+        // When
+        Collection<Integer> actual = Parallelly.map(input, timesTwo());
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(2, 4, 6));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyCollectionWhenMappingAnEmptyIterable() {
+        // Given
+        Iterable<Integer> input = new ArrayList<Integer>();
+
+        // When
+        Collection<Integer> actual = Parallelly.map(input, timesTwo(), pool);
+
+        // Then
+        assertThat(actual.isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowAnyExceptionThrownByTheMapper() {
+        // Given
+        Iterable<Integer> input = listFrom(new IntegerRange(0, 1000));
+
+        // When
+        Parallelly.map(input, new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                if (input == 500) {
+                    throw new IllegalStateException();
+                }
+                return input;
+            }
+        }, pool);
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfTheMapperSuppliedToMapIsNull() {
+        // Given
+        Mapper<Integer, Integer> mapper = null;
+
+        // When
+        Parallelly.map(iterableWith(1, 2, 3), mapper, pool);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfTheIterableSuppliedToMapIsNull() {
+        // Given
+        Iterable<Integer> input = null;
+
+        // When
+        Parallelly.map(input, timesTwo(), pool);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    public void shouldReduceTheSuppliedIterableUsingTheSuppliedFunctionAndCombiner() {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 10000);
+
+        // When
+        Long actual = Parallelly.reduce(input, 0L, new Reducer<Integer, Long>() {
+            @Override public Long accumulate(Long accumulator, Integer element) {
+                return accumulator + element;
+            }
+        }, new Reducer<Long, Long>() {
+            @Override public Long accumulate(Long accumulator, Long element) {
+                return accumulator + element;
+            }
+        }, pool);
+
+        // Then
+        assertThat(actual, is(49995000L));
+    }
+
+    @Test
+    public void shouldReduceARandomAccessListUsingTheSuppliedInitialValue() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        Integer actual = Parallelly.reduce(input, 0, sum(), pool);
+
+        // Then
+        assertThat(actual, is(49995000));
+    }
+
+    @Test
+    public void shouldReduceIntoANewInitialValueForEachChunkCreatedByTheSuppliedFactory() {
+        // Given
+        List<Integer> input = listFrom(new IntegerRange(0, 10000));
+
+        // When
+        List<Integer> actual = Parallelly.reduce(input, new Factory<List<Integer>>() {
+            @Override public List<Integer> create() {
+                return new ArrayList<Integer>();
+            }
+        }, new Reducer<Integer, List<Integer>>() {
+            @Override public List<Integer> accumulate(List<Integer> accumulator, Integer element) {
+                accumulator.add(element);
+                return accumulator;
+            }
+        }, new Reducer<List<Integer>, List<Integer>>() {
+            @Override public List<Integer> accumulate(List<Integer> accumulator, List<Integer> element) {
+                accumulator.addAll(element);
+                return accumulator;
+            }
+        }, pool);
+
+        // Then
+        assertThat(actual, is(input));
+    }
+
+    @Test
+    public void shouldReduceRetainingTheOrderOfTheElements() {
+        // Given
+        List<String> input = listFrom(Eagerly.map(new IntegerRange(0, 1000), new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input % 10);
+            }
+        }));
+
+        // When
+        String actual = Parallelly.reduce(input, new Reducer<String, String>() {
+            @Override public String accumulate(String accumulator, String element) {
+                return accumulator + element;
+            }
+        }, pool);
+
+        // Then
+        assertThat(actual, is(Strings.join(input)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowANoSuchElementExceptionIfReducingAnEmptyIterableWithoutAnInitialValue() {
+        // Given
+        Iterable<Integer> input = new ArrayList<Integer>();
+
+        // When
+        Parallelly.reduce(input, sum(), pool);
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    private static Mapper<Integer, Integer> timesTwo() {
+        return new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 2;
+            }
+        };
+    }
+
+    private static Reducer<Integer, Integer> sum() {
+        return new Reducer<Integer, Integer>() {
+            @Override public Integer accumulate(Integer accumulator, Integer element) {
+                return accumulator + element;
+            }
+        };
+    }
+}
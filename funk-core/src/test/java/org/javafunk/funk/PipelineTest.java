@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Action;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.Reducer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Pipeline.pipeline;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class PipelineTest {
+    @Test
+    public void shouldApplyEachStageInTheOrderInWhichItWasAdded() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        Pipeline<Integer, String> pipeline = pipeline(Integer.class)
+                .filter(isEven())
+                .map(timesThree())
+                .drop(1)
+                .take(3)
+                .map(toStringValue());
+
+        // When
+        Collection<String> actual = pipeline.eagerly(input);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("12", "18", "24"));
+    }
+
+    @Test
+    public void shouldProduceTheSameResultsAsTheEquivalentChainOfLazyOperations() {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 10, 15, 20, 25, 30, 35, 40);
+        Iterable<Integer> chained = Lazily.take(Lazily.reject(Lazily.map(Lazily.drop(input, 2), timesThree()), isEven()), 2);
+        Pipeline<Integer, Integer> fused = pipeline(Integer.class)
+                .drop(2)
+                .map(timesThree())
+                .reject(isEven())
+                .take(2);
+
+        // When
+        Collection<Integer> actual = fused.eagerly(input);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(chained));
+    }
+
+    @Test
+    public void shouldReturnTheSourceElementsIfThePipelineHasNoStages() {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        Collection<String> actual = Pipeline.<String>pipeline().eagerly(input);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldStopIteratingTheSourceOnceATakeStageIsSatisfied() {
+        // Given
+        Iterable<Integer> input = new FailingAfterIterable<Integer>(listWith(1, 2, 3));
+        Pipeline<Integer, Integer> pipeline = pipeline(Integer.class).take(3);
+
+        // When
+        Collection<Integer> actual = pipeline.eagerly(input);
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldNotIterateTheSourceAtAllIfZeroElementsAreTaken() {
+        // Given
+        Iterable<Integer> input = new FailingAfterIterable<Integer>(new ArrayList<Integer>());
+        Pipeline<Integer, Integer> pipeline = pipeline(Integer.class).map(timesThree()).take(0);
+
+        // When
+        Collection<Integer> actual = pipeline.eagerly(input);
+
+        // Then
+        assertThat(actual.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldOnlyExecuteEachStagesForElementsReachingThatStage() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6);
+        final List<Integer> seen = new ArrayList<Integer>();
+        Pipeline<Integer, Integer> pipeline = pipeline(Integer.class)
+                .filter(isEven())
+                .each(new Action<Integer>() {
+                    @Override public void on(Integer input) {
+                        seen.add(input);
+                    }
+                })
+                .take(2);
+
+        // When
+        pipeline.execute(input);
+
+        // Then
+        assertThat(seen, hasOnlyItemsInOrder(2, 4));
+    }
+
+    @Test
+    public void shouldApplyThePipelineLazily() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4);
+        final List<Integer> seen = new ArrayList<Integer>();
+        Pipeline<Integer, Integer> pipeline = pipeline(Integer.class)
+                .each(new Action<Integer>() {
+                    @Override public void on(Integer input) {
+                        seen.add(input);
+                    }
+                })
+                .map(timesThree());
+
+        // When
+        Iterable<Integer> lazy = pipeline.lazily(input);
+        Iterator<Integer> iterator = lazy.iterator();
+
+        // Then
+        assertThat(seen.isEmpty(), is(true));
+        assertThat(iterator.next(), is(3));
+        assertThat(seen, hasOnlyItemsInOrder(1));
+        assertThat(lazy, hasOnlyItemsInOrder(3, 6, 9, 12));
+    }
+
+    @Test
+    public void shouldAllowALazyPipelineToBeIteratedMoreThanOnce() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6);
+        Iterable<Integer> lazy = pipeline(Integer.class).filter(isEven()).take(2).lazily(input);
+
+        // When
+        Collection<Integer> firstPass = Literals.collectionFrom(lazy);
+        Collection<Integer> secondPass = Literals.collectionFrom(lazy);
+
+        // Then
+        assertThat(firstPass, hasOnlyItemsInOrder(2, 4));
+        assertThat(secondPass, hasOnlyItemsInOrder(2, 4));
+    }
+
+    @Test
+    public void shouldReduceTheResultsOfThePipeline() {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5);
+        Pipeline<Integer, Integer> pipeline = pipeline(Integer.class).map(timesThree());
+
+        // When
+        Integer actual = pipeline.reduce(input, 0, new Reducer<Integer, Integer>() {
+            @Override public Integer accumulate(Integer accumulator, Integer element) {
+                return accumulator + element;
+            }
+        });
+
+        // Then
+        assertThat(actual, is(45));
+    }
+
+    @Test
+    public void shouldNotModifyThePipelineWhenAddingAStage() {
+        // Given
+        Iterable<Integer> input = collectionWith(1, 2, 3, 4);
+        Pipeline<Integer, Integer> original = pipeline(Integer.class).map(timesThree());
+
+        // When
+        original.filter(isEven());
+
+        // Then
+        assertThat(original.eagerly(input), hasOnlyItemsInOrder(3, 6, 9, 12));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNegativeNumberOfElementsTaken() {
+        // When
+        pipeline(Integer.class).take(-1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNegativeNumberOfElementsDropped() {
+        // When
+        pipeline(Integer.class).drop(-1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfNullFunctionSuppliedToMap() {
+        // When
+        pipeline(Integer.class).map(null);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfNullIterableSupplied() {
+        // When
+        pipeline(Integer.class).eagerly(null);
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static Predicate<Integer> isEven() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        };
+    }
+
+    private static Mapper<Integer, Integer> timesThree() {
+        return new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 3;
+            }
+        };
+    }
+
+    private static Mapper<Integer, String> toStringValue() {
+        return new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return input.toString();
+            }
+        };
+    }
+
+    private static class FailingAfterIterable<T> implements Iterable<T> {
+        private final List<T> elements;
+
+        private FailingAfterIterable(List<T> elements) {
+            this.elements = elements;
+        }
+
+        @Override public Iterator<T> iterator() {
+            final Iterator<T> delegate = elements.iterator();
+            return new Iterator<T>() {
+                @Override public boolean hasNext() {
+                    return true;
+                }
+
+                @Override public T next() {
+                    if (!delegate.hasNext()) {
+                        throw new AssertionError("Iterated beyond the expected elements.");
+                    }
+                    return delegate.next();
+                }
+
+                @Override public void remove() {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+}
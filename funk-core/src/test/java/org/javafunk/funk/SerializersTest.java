@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.external.Serializer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Serializers.*;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+public class SerializersTest {
+    @Test
+    public void shouldRoundTripStringsIncludingNull() throws Exception {
+        // Given
+        List<String> values = listWith("", "hello", "héllo wörld", null);
+
+        // When
+        List<String> actual = roundTrip(stringSerializer(), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    @Test
+    public void shouldRoundTripIntegersIncludingNull() throws Exception {
+        // Given
+        List<Integer> values = listWith(0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, null);
+
+        // When
+        List<Integer> actual = roundTrip(integerSerializer(), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    @Test
+    public void shouldRoundTripLongsIncludingNull() throws Exception {
+        // Given
+        List<Long> values = listWith(0L, Long.MAX_VALUE, Long.MIN_VALUE, null);
+
+        // When
+        List<Long> actual = roundTrip(longSerializer(), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    @Test
+    public void shouldRoundTripDoublesIncludingNull() throws Exception {
+        // Given
+        List<Double> values = listWith(0.0, -1.5, Double.MAX_VALUE, Double.NaN, null);
+
+        // When
+        List<Double> actual = roundTrip(doubleSerializer(), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    @Test
+    public void shouldRoundTripPairsUsingTheSuppliedSerializers() throws Exception {
+        // Given
+        List<Pair<String, Integer>> values = listWith(pair("one", 1), pair((String) null, 2), null);
+
+        // When
+        List<Pair<String, Integer>> actual = roundTrip(pairSerializer(stringSerializer(), integerSerializer()), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    @Test
+    public void shouldRoundTripSerializableValuesUsingJavaSerialization() throws Exception {
+        // Given
+        List<ArrayList> values = Literals.<ArrayList>listWith(new ArrayList<String>(listWith("a", "b")), null);
+
+        // When
+        List<ArrayList> actual = roundTrip(javaSerializer(ArrayList.class), values);
+
+        // Then
+        assertThat(actual, is(values));
+    }
+
+    private static <T> List<T> roundTrip(Serializer<T> serializer, List<T> values) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        for (T value : values) {
+            serializer.write(value, output);
+        }
+        output.flush();
+
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        List<T> result = new ArrayList<T>();
+        for (int i = 0; i < values.size(); i++) {
+            result.add(serializer.read(input));
+        }
+        assertThat(input.read(), is(-1));
+        return result;
+    }
+}
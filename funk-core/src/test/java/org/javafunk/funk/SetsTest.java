@@ -8,17 +8,22 @@
  */
 package org.javafunk.funk;
 
+import com.google.common.collect.Ordering;
 import org.javafunk.funk.testclasses.Animal;
 import org.javafunk.funk.testclasses.Cat;
 import org.javafunk.funk.testclasses.Dog;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
 import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Literals.multisetWith;
 import static org.javafunk.funk.Literals.setBuilderOf;
@@ -240,4 +245,120 @@ public class SetsTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldProbeSetsRatherThanIteratingThemWhenIntersecting() throws Exception {
+        // Given
+        Set<String> large = new HashSet<String>(listWith("a", "b", "c", "d", "e", "f")) {
+            @Override public Iterator<String> iterator() {
+                throw new AssertionError("Large set should not be iterated");
+            }
+        };
+        Iterable<String> list = listWith("b", "c", "d", "x");
+        Set<String> small = setWith("c", "d", "y");
+
+        // When
+        Set<String> actualIntersectionSet = Sets.intersection(large, list, small);
+
+        // Then
+        assertThat(actualIntersectionSet, is(setWith("c", "d")));
+    }
+
+    @Test
+    public void shouldCountRepeatedOccurrencesWithinAnIterableForSymmetricDifference() throws Exception {
+        // Given
+        Iterable<String> firstIterable = listWith("a", "a", "b");
+        Iterable<String> secondIterable = listWith("b", "c");
+
+        // When
+        Set<String> actualSymmetricDifferenceSet = Sets.symmetricDifference(firstIterable, secondIterable);
+
+        // Then
+        assertThat(actualSymmetricDifferenceSet, is(setWith("c")));
+    }
+
+    @Test
+    public void shouldReturnViewsReflectingChangesToTheSuppliedSets() throws Exception {
+        // Given
+        Set<String> first = new HashSet<String>(setWith("a", "b", "c"));
+        Set<String> second = new HashSet<String>(setWith("b", "c", "d"));
+
+        // When
+        Set<String> union = Sets.unionView(first, second);
+        Set<String> intersection = Sets.intersectionView(first, second);
+        Set<String> difference = Sets.differenceView(first, second);
+        second.add("a");
+
+        // Then
+        assertThat(union, is(setWith("a", "b", "c", "d")));
+        assertThat(intersection, is(setWith("a", "b", "c")));
+        assertThat(difference, is(Collections.<String>emptySet()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnUnmodifiableViews() throws Exception {
+        // Given
+        Set<String> view = Sets.differenceView(setWith("a", "b"), setWith("b"));
+
+        // When
+        view.add("c");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheSortedUnionOfSortedIterablesLazily() throws Exception {
+        // Given
+        Iterable<Integer> first = listWith(1, 3, 5, 7);
+        Iterable<Integer> second = new TreeSet<Integer>(listWith(2, 3, 8));
+        Iterable<Integer> third = iterableWith(0, 5, 5, 9);
+
+        // When
+        Iterable<Integer> union = Sets.sortedUnion(
+                iterableWith(first, second, third), Ordering.<Integer>natural());
+
+        // Then
+        assertThat(listFrom(union), is(listWith(0, 1, 2, 3, 5, 7, 8, 9)));
+    }
+
+    @Test
+    public void shouldReturnTheSortedIntersectionOfSortedIterables() throws Exception {
+        // Given
+        Iterable<Integer> first = listWith(1, 2, 3, 5, 8, 13, 21, 34, 55, 89);
+        Iterable<Integer> second = new TreeSet<Integer>(listWith(1, 3, 5, 7, 9, 11, 13, 15, 17, 19, 21, 89));
+        Iterable<Integer> third = iterableWith(0, 1, 1, 5, 13, 14, 89, 90);
+
+        // When
+        Iterable<Integer> intersection = Sets.sortedIntersection(
+                iterableWith(first, second, third), Ordering.<Integer>natural());
+
+        // Then
+        assertThat(listFrom(intersection), is(listWith(1, 5, 13, 89)));
+    }
+
+    @Test
+    public void shouldReturnTheSortedDifferenceOfTwoSortedIterables() throws Exception {
+        // Given
+        Iterable<String> first = listWith("e", "d", "c", "b", "a");
+        Iterable<String> second = listWith("d", "b");
+
+        // When
+        Iterable<String> difference = Sets.sortedDifference(
+                first, second, Ordering.<String>natural().reverse());
+
+        // Then
+        assertThat(listFrom(difference), is(listWith("e", "c", "a")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfAnIterableIsNotSortedByTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<Integer> union = Sets.sortedUnion(
+                listWith(1, 2, 3), iterableWith(3, 1, 2), Ordering.<Integer>natural());
+
+        // When
+        listFrom(union);
+
+        // Then an IllegalArgumentException is thrown
+    }
 }
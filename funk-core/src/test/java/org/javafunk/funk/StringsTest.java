@@ -10,6 +10,10 @@ package org.javafunk.funk;
 
 import org.junit.Test;
 
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.Collection;
@@ -18,7 +22,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.funk.Strings.join;
+import static org.javafunk.funk.Strings.joinTo;
 
 public class StringsTest {
     @Test
@@ -90,6 +96,121 @@ public class StringsTest {
         assertThat(joinedStrings, is("Heo"));
     }
 
+    @Test
+    public void joinsAllObjectsInTheIterableBetweenThePrefixAndSuffix() throws Exception {
+        // Given
+        Iterable<Integer> numbers = iterableWith(1, 2, 3);
+
+        // When
+        String joinedStrings = join(numbers, ", ", "[", "]");
+
+        // Then
+        assertThat(joinedStrings, is("[1, 2, 3]"));
+    }
+
+    @Test
+    public void joinsAtMostTheLimitOfObjectsFollowedByTheTruncationMarker() throws Exception {
+        // Given
+        Collection<String> strings = collectionWith("a", "b", "c", "d");
+
+        // When
+        String joinedStrings = join(strings, ",", "<", ">", 2, "...");
+
+        // Then
+        assertThat(joinedStrings, is("<a,b,...>"));
+    }
+
+    @Test
+    public void doesNotIncludeTheTruncationMarkerIfTheIterableDoesNotExceedTheLimit() throws Exception {
+        // Given
+        Collection<String> strings = collectionWith("a", "b");
+
+        // When
+        String joinedStrings = join(strings, ",", "", "", 2, "...");
+
+        // Then
+        assertThat(joinedStrings, is("a,b"));
+    }
+
+    @Test
+    public void appendsCharSequencesWithoutCallingToString() throws Exception {
+        // Given
+        CharSequence first = new StringBuilder("ab");
+        CharSequence second = new CharSequence() {
+            @Override public int length() {
+                return 2;
+            }
+
+            @Override public char charAt(int index) {
+                return "cd".charAt(index);
+            }
+
+            @Override public CharSequence subSequence(int start, int end) {
+                return "cd".subSequence(start, end);
+            }
+
+            @Override public String toString() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        String joinedStrings = join(Literals.<CharSequence>collectionWith(first, second), "-");
+
+        // Then
+        assertThat(joinedStrings, is("ab-cd"));
+    }
+
+    @Test
+    public void appendsTheJoinedObjectsToTheSuppliedAppendable() throws Exception {
+        // Given
+        StringWriter writer = new StringWriter();
+        writer.write("row: ");
+
+        // When
+        StringWriter result = joinTo(writer, iterableWith("x", null, "z"), "|");
+
+        // Then
+        assertThat(result.toString(), is("row: x||z"));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void rethrowsExceptionsThrownByTheAppendableWrappedInARuntimeException() throws Exception {
+        // Given
+        Writer writer = new FilterWriter(new StringWriter()) {
+            @Override public Writer append(CharSequence sequence) throws IOException {
+                throw new IOException();
+            }
+        };
+
+        // When
+        joinTo(writer, iterableWith("a"), ",");
+
+        // Then a RuntimeException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void throwsANullPointerExceptionIfSeparatorPassedToJoinIsNull() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b");
+
+        // When
+        join(input, null);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsAnIllegalArgumentExceptionIfLimitPassedToJoinIsNegative() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b");
+
+        // When
+        join(input, ",", "", "", -2, "...");
+
+        // Then an IllegalArgumentException is thrown
+    }
+
     @Test
     public void convertsObjectToStringIfNotNullForToStringOrNull() {
         // Given
@@ -9,6 +9,7 @@
 package org.javafunk.funk.builders;
 
 import com.google.common.collect.ImmutableList;
+import org.javafunk.funk.datastructures.CompactList;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.testclasses.NoNoArgsConstructorList;
 import org.junit.Test;
@@ -19,6 +20,7 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.javafunk.funk.Literals.*;
 import static org.javafunk.funk.builders.ListBuilder.listBuilder;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
@@ -215,6 +217,33 @@ public class ListBuilderTest {
         assertThat(actual, hasOnlyItemsInOrder(expected));
     }
 
+    @Test
+    public void shouldNotReflectElementsAddedToTheBuilderAfterBuildingAnArrayList() throws Exception {
+        // Given
+        ListBuilder<Integer> listBuilder = listBuilderWith(1, 2);
+        List<Integer> built = listBuilder.build(ArrayList.class);
+
+        // When
+        listBuilder.and(3);
+
+        // Then
+        assertThat(built, is(listWith(1, 2)));
+        assertThat(listBuilder.build(), is(listWith(1, 2, 3)));
+    }
+
+    @Test
+    public void shouldNotReflectChangesToABuiltArrayListInTheBuilder() throws Exception {
+        // Given
+        ListBuilder<Integer> listBuilder = listBuilderWith(1, 2);
+        List<Integer> built = listBuilder.build(ArrayList.class);
+
+        // When
+        built.add(3);
+
+        // Then
+        assertThat(listBuilder.build(), is(listWith(1, 2)));
+    }
+
     @Test
     public void shouldThrowAnIllegalArgumentExceptionIfTheSpecifiedImplementationDoesNotHaveAnAccessibleConstructor() throws Exception {
         // Given
@@ -323,4 +352,56 @@ public class ListBuilderTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldBuildACompactListForTenOrFewerElements() throws Exception {
+        // Given
+        ListBuilder<Integer> listBuilder = listBuilderWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        // When
+        List<Integer> list = listBuilder.build();
+
+        // Then
+        assertThat(list instanceof CompactList, is(true));
+        assertThat(list, is(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+    }
+
+    @Test
+    public void shouldNotChangeAPreviouslyBuiltListOfMoreThanTenElementsWhenMoreElementsAreAdded() throws Exception {
+        // Given
+        ListBuilder<Integer> listBuilder = listBuilderWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        List<Integer> firstList = listBuilder.build();
+
+        // When
+        listBuilder.with(12);
+        List<Integer> secondList = listBuilder.build();
+
+        // Then
+        assertThat(firstList, is(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11)));
+        assertThat(secondList, is(asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12)));
+    }
+
+    @Test
+    public void shouldReturnTheSameListOfMoreThanTenElementsWhenBuiltAgainWithoutChanges() throws Exception {
+        // Given
+        ListBuilder<Integer> listBuilder = listBuilderWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        List<Integer> firstList = listBuilder.build();
+
+        // When
+        List<Integer> secondList = listBuilder.build();
+
+        // Then
+        assertThat(secondList, is(sameInstance(firstList)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowABuiltListOfMoreThanTenElementsToBeModified() throws Exception {
+        // Given
+        List<Integer> list = listBuilderWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11).build();
+
+        // When
+        list.add(12);
+
+        // Then an UnsupportedOperationException is thrown
+    }
 }
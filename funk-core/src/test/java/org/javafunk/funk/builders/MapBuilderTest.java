@@ -17,10 +17,12 @@ import org.javafunk.funk.testclasses.NoNoArgsConstructorMap;
 import org.junit.Test;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.javafunk.funk.Literals.*;
 import static org.javafunk.funk.builders.MapBuilder.mapBuilder;
 import static org.junit.Assert.fail;
@@ -554,6 +556,46 @@ public class MapBuilderTest {
         assertThat(actualEntries, is(expectedEntries));
     }
 
+    @Test
+    public void shouldNotReflectEntriesAddedToTheBuilderAfterBuildingALinkedHashMap() throws Exception {
+        // Given
+        MapBuilder<String, Integer> mapBuilder = mapBuilderWithKeyValuePairs("first", 1, "second", 2);
+        Map<String, Integer> built = mapBuilder.build(LinkedHashMap.class);
+
+        // When
+        mapBuilder.andKeyValuePair("third", 3);
+
+        // Then
+        assertThat(built, is(mapWithKeyValuePairs("first", 1, "second", 2)));
+        assertThat(mapBuilder.build(LinkedHashMap.class), is(mapWithKeyValuePairs("first", 1, "second", 2, "third", 3)));
+    }
+
+    @Test
+    public void shouldNotReflectChangesToABuiltLinkedHashMapInTheBuilder() throws Exception {
+        // Given
+        MapBuilder<String, Integer> mapBuilder = mapBuilderWithKeyValuePairs("first", 1, "second", 2);
+        Map<String, Integer> built = mapBuilder.build(LinkedHashMap.class);
+
+        // When
+        built.put("leaked", 3);
+
+        // Then
+        assertThat(mapBuilder.build(), is(mapWithKeyValuePairs("first", 1, "second", 2)));
+    }
+
+    @Test
+    public void shouldBuildAConcurrentHashMapContainingTheEntriesInTheBuilder() throws Exception {
+        // Given
+        MapBuilder<String, Integer> mapBuilder = mapBuilderWithKeyValuePairs("first", 1, "second", 2);
+
+        // When
+        Map<String, Integer> actual = mapBuilder.build(ConcurrentHashMap.class);
+
+        // Then
+        assertThat(actual instanceof ConcurrentHashMap, is(true));
+        assertThat(actual, is(mapWithKeyValuePairs("first", 1, "second", 2)));
+    }
+
     @Test
     public void shouldThrowAnIllegalArgumentExceptionIfTheSpecifiedImplementationDoesNotHaveAnAccessibleConstructor() throws Exception {
         // Given
@@ -671,6 +713,72 @@ public class MapBuilderTest {
         // Then a NullPointerException is thrown.
     }
 
+    @Test
+    public void shouldBuildAMapWhichIteratesInTheOrderInWhichKeysWereFirstAdded() throws Exception {
+        // Given
+        MapBuilder<Integer, String> mapBuilder = mapBuilder();
+        for (int i = 20; i > 0; i--) {
+            mapBuilder.with(mapEntryFor(i, "value" + i));
+        }
+        mapBuilder.with(mapEntryFor(20, "replaced"));
+
+        // When
+        Map<Integer, String> map = mapBuilder.build();
+
+        // Then
+        List<Integer> expectedKeys = new ArrayList<Integer>();
+        for (int i = 20; i > 0; i--) {
+            expectedKeys.add(i);
+        }
+        assertThat(new ArrayList<Integer>(map.keySet()), is(expectedKeys));
+        assertThat(map.get(20), is("replaced"));
+    }
+
+    @Test
+    public void shouldNotChangeAPreviouslyBuiltMapWhenMoreEntriesAreAdded() throws Exception {
+        // Given
+        MapBuilder<Integer, Integer> mapBuilder = mapBuilder();
+        for (int i = 0; i < 20; i++) {
+            mapBuilder.with(mapEntryFor(i, i));
+        }
+        Map<Integer, Integer> firstMap = mapBuilder.build();
+
+        // When
+        mapBuilder.with(mapEntryFor(0, 100));
+        Map<Integer, Integer> secondMap = mapBuilder.build();
+
+        // Then
+        assertThat(firstMap.get(0), is(0));
+        assertThat(secondMap.get(0), is(100));
+    }
+
+    @Test
+    public void shouldReturnTheSameMapWhenBuiltAgainWithoutChanges() throws Exception {
+        // Given
+        MapBuilder<Integer, Integer> mapBuilder = mapBuilder();
+        for (int i = 0; i < 20; i++) {
+            mapBuilder.with(mapEntryFor(i, i));
+        }
+        Map<Integer, Integer> firstMap = mapBuilder.build();
+
+        // When
+        Map<Integer, Integer> secondMap = mapBuilder.build();
+
+        // Then
+        assertThat(secondMap, is(sameInstance(firstMap)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowABuiltMapToBeModified() throws Exception {
+        // Given
+        Map<String, Integer> map = mapBuilderWithKeyValuePair("first", 1).build();
+
+        // When
+        map.put("second", 2);
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
     private Mapper<Map.Entry<String, Integer>, Pair<String, Integer>> toPairs() {
         return new Mapper<Map.Entry<String, Integer>, Pair<String, Integer>>() {
             @Override public Pair<String, Integer> map(Map.Entry<String, Integer> input) {
@@ -202,6 +202,22 @@ public class MultisetBuilderTest {
         assertThat(actual instanceof NoArgsConstructorMultiset, is(true));
     }
 
+    @Test
+    public void shouldBuildGuavaMultisetsWhichHaveNoPublicConstructor() throws Exception {
+        // Given
+        MultisetBuilder<Integer> multisetBuilder = multisetBuilderWith(1, 2, 2);
+
+        // When
+        Multiset<Integer> hashMultiset = multisetBuilder.build(HashMultiset.class);
+        Multiset<Integer> concurrentMultiset = multisetBuilder.build(ConcurrentHashMultiset.class);
+
+        // Then
+        assertThat(hashMultiset instanceof HashMultiset, is(true));
+        assertThat(hashMultiset.count(2), is(2));
+        assertThat(concurrentMultiset instanceof ConcurrentHashMultiset, is(true));
+        assertThat(concurrentMultiset.count(2), is(2));
+    }
+
     @Test
     public void shouldAddElementsToAMultisetOfTheSpecifiedImplementationInTheOrderTheyWereSuppliedToTheBuilder() throws Exception {
         // Given
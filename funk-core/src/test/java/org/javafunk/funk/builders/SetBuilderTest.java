@@ -9,6 +9,7 @@
 package org.javafunk.funk.builders;
 
 import com.google.common.collect.ImmutableSet;
+import org.javafunk.funk.datastructures.CompactSet;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.testclasses.Name;
 import org.junit.Test;
@@ -333,4 +334,17 @@ public class SetBuilderTest {
             throw new UnsupportedOperationException("should never throw", argument);
         }
     }
+
+    @Test
+    public void shouldBuildACompactSetOfTheDistinctElementsIfThereAreTenOrFewer() throws Exception {
+        // Given
+        SetBuilder<Integer> setBuilder = setBuilderWith(1, 2, 1, 3, 2);
+
+        // When
+        Set<Integer> set = setBuilder.build();
+
+        // Then
+        assertThat(set instanceof CompactSet, is(true));
+        assertThat(set, is((Set<Integer>) new HashSet<Integer>(asList(1, 2, 3))));
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import org.javafunk.funk.functors.functions.NullaryFunction;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.caching.Memoization.memoize;
+
+public class MemoizedNullaryFunctionTest {
+    @Test
+    public void shouldCallTheDelegateOnlyOnce() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedNullaryFunction<Integer> memoized = memoize(delegate);
+
+        // When
+        memoized.call();
+        memoized.call();
+        Integer result = memoized.call();
+
+        // Then
+        assertThat(result, is(1));
+        assertThat(memoized.statistics(), is(new CacheStatistics(2, 1, 0)));
+    }
+
+    @Test
+    public void shouldRecomputeTheResultOnceItsTimeToLiveHasElapsed() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedUnaryFunctionTest.ManualTicker ticker = new MemoizedUnaryFunctionTest.ManualTicker();
+        MemoizedNullaryFunction<Integer> memoized = memoize(delegate,
+                CacheSpecification.unbounded().withTimeToLive(1, TimeUnit.MINUTES).withTicker(ticker));
+
+        // When
+        Integer first = memoized.call();
+        ticker.advance(1, TimeUnit.MINUTES);
+        Integer second = memoized.call();
+
+        // Then
+        assertThat(first, is(1));
+        assertThat(second, is(2));
+        assertThat(memoized.statistics(), is(new CacheStatistics(0, 2, 1)));
+    }
+
+    @Test
+    public void shouldRecomputeTheResultOnceInvalidated() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedNullaryFunction<Integer> memoized = memoize(delegate);
+
+        // When
+        memoized.call();
+        memoized.invalidate();
+        Integer result = memoized.call();
+
+        // Then
+        assertThat(result, is(2));
+    }
+
+    @Test
+    public void shouldTryAgainAfterTheDelegateThrows() throws Exception {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        MemoizedNullaryFunction<Integer> memoized = memoize(new NullaryFunction<Integer>() {
+            @Override public Integer call() {
+                if (calls.incrementAndGet() == 1) {
+                    throw new IllegalStateException();
+                }
+                return calls.get();
+            }
+        });
+
+        // When
+        try {
+            memoized.call();
+        } catch (IllegalStateException expected) {
+            // the first call fails
+        }
+        Integer result = memoized.call();
+
+        // Then
+        assertThat(result, is(2));
+    }
+
+    private static class CountingFunction implements NullaryFunction<Integer> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override public Integer call() {
+            return calls.incrementAndGet();
+        }
+    }
+}
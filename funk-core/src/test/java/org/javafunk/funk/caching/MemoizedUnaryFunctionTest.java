@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.caching;
+
+import com.google.common.base.Ticker;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.javafunk.funk.caching.Memoization.memoize;
+
+public class MemoizedUnaryFunctionTest {
+    @Test
+    public void shouldCallTheDelegateOnlyOncePerInput() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(delegate);
+
+        // When
+        memoized.call(1);
+        memoized.call(2);
+        String result = memoized.call(1);
+
+        // Then
+        assertThat(result, is("1"));
+        assertThat(delegate.calls.get(), is(2));
+        assertThat(memoized.statistics(), is(new CacheStatistics(1, 2, 0)));
+    }
+
+    @Test
+    public void shouldCacheNullResults() throws Exception {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                calls.incrementAndGet();
+                return null;
+            }
+        });
+
+        // When
+        memoized.call(1);
+        String result = memoized.call(1);
+
+        // Then
+        assertThat(result, is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldEvictEntriesOnceTheMaximumSizeIsReached() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(delegate,
+                CacheSpecification.unbounded().withMaximumSize(2));
+
+        // When
+        memoized.call(1);
+        memoized.call(2);
+        memoized.call(3);
+
+        // Then
+        assertThat(memoized.size(), is(2L));
+        assertThat(memoized.statistics().evictionCount(), is(1L));
+    }
+
+    @Test
+    public void shouldRecomputeEntriesOnceTheirTimeToLiveHasElapsed() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        ManualTicker ticker = new ManualTicker();
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(delegate,
+                CacheSpecification.unbounded().withTimeToLive(10, TimeUnit.SECONDS).withTicker(ticker));
+
+        // When
+        memoized.call(1);
+        ticker.advance(5, TimeUnit.SECONDS);
+        memoized.call(1);
+        ticker.advance(5, TimeUnit.SECONDS);
+        memoized.call(1);
+
+        // Then
+        assertThat(delegate.calls.get(), is(2));
+    }
+
+    @Test
+    public void shouldCallTheDelegateOnceForConcurrentMissesOnTheSameInput() throws Exception {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final MemoizedUnaryFunction<Integer, String> memoized = memoize(new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                calls.incrementAndGet();
+                try {
+                    started.await();
+                } catch (InterruptedException exception) {
+                    throw new RuntimeException(exception);
+                }
+                return String.valueOf(input);
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<String>> results = new ArrayList<Future<String>>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(new Callable<String>() {
+                @Override public String call() {
+                    return memoized.call(42);
+                }
+            }));
+        }
+        Thread.sleep(50);
+        started.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(), is("42"));
+        }
+        assertThat(calls.get(), is(1));
+        executor.shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldPropagateExceptionsThrownByTheDelegate() throws Exception {
+        // Given
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                throw new IllegalStateException();
+            }
+        });
+
+        // When
+        memoized.call(1);
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldPassNullInputsStraightThroughToTheDelegate() throws Exception {
+        // Given
+        CountingFunction delegate = new CountingFunction();
+        MemoizedUnaryFunction<Integer, String> memoized = memoize(delegate);
+
+        // When
+        memoized.call(null);
+        String result = memoized.call(null);
+
+        // Then
+        assertThat(result, is("null"));
+        assertThat(delegate.calls.get(), is(2));
+        assertThat(memoized.size(), is(0L));
+    }
+
+    private static class CountingFunction implements UnaryFunction<Integer, String> {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override public String call(Integer input) {
+            calls.incrementAndGet();
+            return String.valueOf(input);
+        }
+    }
+
+    static class ManualTicker extends Ticker {
+        private long nanos = 0;
+
+        void advance(long duration, TimeUnit unit) {
+            nanos += unit.toNanos(duration);
+        }
+
+        @Override public long read() {
+            return nanos;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.IntUnaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.IntUnaryPredicate;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Literals.listWith;
+
+public class ColumnTest {
+    @Test
+    public void shouldGrowOffHeapColumnsBeyondTheirInitialCapacityPreservingTheirValues() throws Exception {
+        // Given
+        PairTable<Integer, Long> table = TupleTable.pairs(Column.offHeapInts(), Column.offHeapLongs());
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            table.add(i, (long) i * i);
+        }
+
+        // Then
+        assertThat(table.first().isEmpty(), is(false));
+        assertThat(((IntColumn) table.first()).isOffHeap(), is(true));
+        assertThat(((IntColumn) table.first()).values().sum(), is(499500L));
+        assertThat(((LongColumn) table.second()).getLong(999), is(998001L));
+    }
+
+    @Test
+    public void shouldMapFilterAndReduceTheValuesInAPrimitiveColumnWithoutBoxing() throws Exception {
+        // Given
+        IntColumn column = Column.ints();
+        TupleTable.pairs(column, Column.<String>objects()).add(1, "a").add(2, "b").add(3, "c").add(4, "d");
+
+        // When
+        IntSequence result = column.values()
+                .filter(new IntUnaryPredicate() {
+                    @Override public boolean evaluate(int input) {
+                        return input % 2 == 0;
+                    }
+                })
+                .map(new IntUnaryFunction() {
+                    @Override public int call(int input) {
+                        return input * 10;
+                    }
+                });
+
+        // Then
+        assertThat(listFrom(result), is(listWith(20, 40)));
+    }
+
+    @Test
+    public void shouldMapFilterAndReduceTheValuesInAnObjectColumn() throws Exception {
+        // Given
+        ObjectColumn<String> column = Column.objects();
+        TupleTable.pairs(Column.ints(), column).add(1, "apple").add(2, "kiwi").add(3, "banana");
+
+        // When
+        Iterable<Integer> lengths = column.map(new UnaryFunction<String, Integer>() {
+            @Override public Integer call(String input) {
+                return input.length();
+            }
+        });
+        Iterable<String> longNames = column.filter(new UnaryPredicate<String>() {
+            @Override public boolean evaluate(String input) {
+                return input.length() > 4;
+            }
+        });
+        String concatenated = column.reduce("", new BinaryFunction<String, String, String>() {
+            @Override public String call(String accumulator, String element) {
+                return accumulator + element.charAt(0);
+            }
+        });
+
+        // Then
+        assertThat(listFrom(lengths), is(listWith(5, 4, 6)));
+        assertThat(listFrom(longNames), is(listWith("apple", "banana")));
+        assertThat(concatenated, is("akb"));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.datastructures.CompactList.compactListFrom;
+import static org.javafunk.funk.datastructures.CompactList.compactListWith;
+
+public class CompactListTest {
+    @Test
+    public void shouldHoldTheSuppliedElementsInOrder() throws Exception {
+        // When
+        List<Integer> list = compactListWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        // Then
+        assertThat(list.size(), is(10));
+        for (int i = 0; i < 10; i++) {
+            assertThat(list.get(i), is(i + 1));
+        }
+    }
+
+    @Test
+    public void shouldBeEqualToAnyListWithTheSameElementsInTheSameOrder() throws Exception {
+        // Given
+        List<String> expected = new ArrayList<String>(Arrays.asList("a", null, "c"));
+
+        // When
+        List<String> list = compactListWith("a", null, "c");
+
+        // Then
+        assertThat(list.equals(expected), is(true));
+        assertThat(expected.equals(list), is(true));
+        assertThat(list.hashCode(), is(expected.hashCode()));
+        assertThat(list.toString(), is(expected.toString()));
+    }
+
+    @Test
+    public void shouldCopyCollectionsOfEverySizeUpToTheMaximum() throws Exception {
+        for (int size = 0; size <= CompactList.maximumSize; size++) {
+            // Given
+            List<Integer> elements = new ArrayList<Integer>();
+            for (int i = 0; i < size; i++) {
+                elements.add(i * 7);
+            }
+
+            // When
+            List<Integer> list = compactListFrom(elements);
+
+            // Then
+            assertThat(list, is(elements));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheCollectionHasMoreThanTheMaximumNumberOfElements() throws Exception {
+        // Given
+        List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+
+        // When
+        compactListFrom(elements);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowAnIndexOutOfBoundsExceptionForAnIndexBeyondTheEndOfTheList() throws Exception {
+        // Given
+        List<String> list = compactListWith("a", "b");
+
+        // When
+        list.get(2);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowAnIndexOutOfBoundsExceptionForANegativeIndex() throws Exception {
+        // Given
+        List<String> list = compactListWith("a", "b");
+
+        // When
+        list.get(-1);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowElementsToBeAdded() throws Exception {
+        // Given
+        List<String> list = compactListWith("a", "b");
+
+        // When
+        list.add("c");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowElementsToBeReplaced() throws Exception {
+        // Given
+        List<String> list = compactListWith("a", "b");
+
+        // When
+        list.set(0, "c");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test
+    public void shouldSurviveSerialization() throws Exception {
+        // Given
+        List<String> list = compactListWith("a", "b", "c");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+
+        // When
+        output.writeObject(list);
+        output.close();
+        Object read = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        // Then
+        assertThat(read.equals(list), is(true));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.javafunk.funk.datastructures.CompactMap.compactMapFrom;
+
+public class CompactMapTest {
+    @Test
+    public void shouldHoldTheEntriesOfTheSuppliedMapInItsIterationOrder() throws Exception {
+        // Given
+        Map<String, Integer> entries = new LinkedHashMap<String, Integer>();
+        entries.put("third", 3);
+        entries.put("first", 1);
+        entries.put(null, 0);
+
+        // When
+        Map<String, Integer> map = compactMapFrom(entries);
+
+        // Then
+        assertThat(new ArrayList<String>(map.keySet()), is(Arrays.asList("third", "first", null)));
+        assertThat(new ArrayList<Integer>(map.values()), is(Arrays.asList(3, 1, 0)));
+        assertThat(map.get("first"), is(1));
+        assertThat(map.get(null), is(0));
+        assertThat(map.get("second"), is(nullValue()));
+        assertThat(map.containsKey("third"), is(true));
+        assertThat(map.containsValue(2), is(false));
+    }
+
+    @Test
+    public void shouldBeEqualToAnyMapWithTheSameEntries() throws Exception {
+        // Given
+        Map<String, Integer> expected = new HashMap<String, Integer>();
+        expected.put("a", 1);
+        expected.put("b", 2);
+
+        // When
+        Map<String, Integer> map = compactMapFrom(expected);
+
+        // Then
+        assertThat(map.equals(expected), is(true));
+        assertThat(expected.equals(map), is(true));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheMapHasMoreThanTheMaximumNumberOfEntries() throws Exception {
+        // Given
+        Map<Integer, Integer> entries = new HashMap<Integer, Integer>();
+        for (int i = 0; i <= CompactList.maximumSize; i++) {
+            entries.put(i, i);
+        }
+
+        // When
+        compactMapFrom(entries);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowEntriesToBeAdded() throws Exception {
+        // Given
+        Map<String, Integer> map = compactMapFrom(new HashMap<String, Integer>());
+
+        // When
+        map.put("a", 1);
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowEntriesToBeRemovedThroughTheKeySet() throws Exception {
+        // Given
+        Map<String, Integer> entries = new HashMap<String, Integer>();
+        entries.put("a", 1);
+        Map<String, Integer> map = compactMapFrom(entries);
+
+        // When
+        map.keySet().remove("a");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.datastructures.CompactSet.compactSetFrom;
+
+public class CompactSetTest {
+    @Test
+    public void shouldHoldTheDistinctElementsInTheOrderInWhichTheyWereFirstEncountered() throws Exception {
+        // Given
+        List<String> elements = Arrays.asList("c", "a", "c", null, "b", "a", null);
+
+        // When
+        Set<String> set = compactSetFrom(elements);
+
+        // Then
+        assertThat(new ArrayList<String>(set), is(Arrays.asList("c", "a", null, "b")));
+    }
+
+    @Test
+    public void shouldBeEqualToAnySetWithTheSameElements() throws Exception {
+        // Given
+        Set<Integer> expected = new HashSet<Integer>(Arrays.asList(3, 1, 2));
+
+        // When
+        Set<Integer> set = compactSetFrom(Arrays.asList(1, 2, 3, 2));
+
+        // Then
+        assertThat(set.equals(expected), is(true));
+        assertThat(expected.equals(set), is(true));
+        assertThat(set.hashCode(), is(expected.hashCode()));
+        assertThat(set.contains(2), is(true));
+        assertThat(set.contains(4), is(false));
+    }
+
+    @Test
+    public void shouldAcceptMoreThanTheMaximumNumberOfElementsIfAtMostTheMaximumAreDistinct() throws Exception {
+        // Given
+        List<Integer> elements = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i % CompactList.maximumSize);
+        }
+
+        // When
+        Set<Integer> set = compactSetFrom(elements);
+
+        // Then
+        assertThat(set.size(), is(CompactList.maximumSize));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfThereAreMoreThanTheMaximumNumberOfDistinctElements() throws Exception {
+        // Given
+        List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+
+        // When
+        compactSetFrom(elements);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowElementsToBeRemoved() throws Exception {
+        // Given
+        Set<String> set = compactSetFrom(Arrays.asList("a", "b"));
+
+        // When
+        set.remove("a");
+
+        // Then an UnsupportedOperationException is thrown
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.predicates.DoubleUnaryPredicate;
+import org.javafunk.funk.iterators.DoubleIterator;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class DoubleRangeTest {
+    @Test
+    public void shouldIterateOverAllValuesInTheSpecifiedRangeSpacedByTheSpecifiedStepSize() throws Exception {
+        // Given
+        DoubleRange range = new DoubleRange(0.0, 1.0, 0.25);
+
+        // When
+        Iterable<Double> materializedRange = materialize(range);
+
+        // Then
+        assertThat(materializedRange, hasOnlyItemsInOrder(0.0, 0.25, 0.5, 0.75));
+    }
+
+    @Test
+    public void shouldIterateInReverseIfTheStepSizeIsNegative() throws Exception {
+        // Given
+        DoubleIterator iterator = new DoubleRange(1.0, 0.0, -0.5).iterator();
+
+        // Then
+        assertThat(iterator.nextDouble(), is(1.0));
+        assertThat(iterator.nextDouble(), is(0.5));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldExcludeTheEndEvenWhenTheStepIsNotExactlyRepresentable() throws Exception {
+        // Given
+        DoubleRange range = new DoubleRange(0.0, 0.3, 0.1);
+
+        // Then
+        assertThat(range.size(), is(3L));
+        assertThat(range.get(2) < 0.3, is(true));
+    }
+
+    @Test
+    public void shouldNotAccumulateRoundingErrorsOverTheLengthOfTheRange() throws Exception {
+        // Given
+        DoubleRange range = new DoubleRange(0.0, 1000.0, 0.1);
+
+        // Then
+        assertThat(range.size(), is(10000L));
+        assertThat(range.get(9999), is(9999 * 0.1));
+    }
+
+    @Test
+    public void shouldContainOnlyThoseValuesYieldedOnIteration() throws Exception {
+        // Given
+        DoubleRange range = new DoubleRange(-1.0, 1.0, 0.5);
+
+        // Then
+        assertThat(range.contains(-1.0), is(true));
+        assertThat(range.contains(0.5), is(true));
+        assertThat(range.contains(1.0), is(false));
+        assertThat(range.contains(0.25), is(false));
+        assertThat(range.contains(Double.NaN), is(false));
+        assertThat(range.contains((Object) 0.0), is(true));
+    }
+
+    @Test
+    public void shouldFilterAndSumTheRange() throws Exception {
+        // Given
+        DoubleRange range = new DoubleRange(0.0, 5.0);
+
+        // When
+        DoubleSequence aboveTwo = range.filter(new DoubleUnaryPredicate() {
+            @Override public boolean evaluate(double value) {
+                return value > 2.0;
+            }
+        });
+
+        // Then
+        assertThat(range.sum(), is(10.0));
+        assertThat(aboveTwo.sum(), is(7.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfZeroIsSpecifiedForStepSize() throws Exception {
+        // When
+        new DoubleRange(0.0, 1.0, 0.0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.IntBinaryFunction;
+import org.javafunk.funk.functors.functions.IntUnaryFunction;
+import org.javafunk.funk.functors.predicates.IntUnaryPredicate;
+import org.javafunk.funk.iterators.IntIterator;
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class IntRangeTest {
+    @Test
+    public void shouldIterateOverAllIntegersInTheSpecifiedRangeSpacedByTheSpecifiedStepSize() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 10, 3);
+
+        // When
+        Iterable<Integer> materializedRange = materialize(range);
+
+        // Then
+        assertThat(materializedRange, hasOnlyItemsInOrder(0, 3, 6, 9));
+    }
+
+    @Test
+    public void shouldIterateInReverseIfTheStepSizeIsNegativeAndTheStartIsGreaterThanTheEnd() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, 0, -3);
+
+        // When
+        Iterable<Integer> materializedRange = materialize(range);
+
+        // Then
+        assertThat(materializedRange, hasOnlyItemsInOrder(10, 7, 4, 1));
+    }
+
+    @Test
+    public void shouldBeEmptyIfTheStepSizeIsPositiveAndTheEndIsLessThanTheStart() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, 5);
+
+        // Then
+        assertThat(range.isEmpty(), is(true));
+        assertThat(range.iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldYieldPrimitiveValuesFromItsIterator() throws Exception {
+        // Given
+        IntIterator iterator = new IntRange(5, 7).iterator();
+
+        // When
+        int first = iterator.nextInt();
+        int second = iterator.nextInt();
+
+        // Then
+        assertThat(first, is(5));
+        assertThat(second, is(6));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowANoSuchElementExceptionIfIteratedBeyondTheEnd() throws Exception {
+        // Given
+        IntIterator iterator = new IntRange(0, 1).iterator();
+        iterator.nextInt();
+
+        // When
+        iterator.nextInt();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldNotOverflowWhenTheRangeEndsAtIntegerMax() throws Exception {
+        // Given
+        IntRange range = new IntRange(Integer.MAX_VALUE - 3, Integer.MAX_VALUE, 2);
+
+        // When
+        Iterable<Integer> materializedRange = materialize(range);
+
+        // Then
+        assertThat(materializedRange, hasOnlyItemsInOrder(Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void shouldCalculateTheSizeOfTheRange() throws Exception {
+        // Then
+        assertThat(new IntRange(0, 10, 3).size(), is(4L));
+        assertThat(new IntRange(10, -10, -5).size(), is(4L));
+        assertThat(new IntRange(0, 0).size(), is(0L));
+        assertThat(new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE).size(), is(4294967295L));
+    }
+
+    @Test
+    public void shouldReturnTheValueAtTheSpecifiedIndex() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, -10, -3);
+
+        // Then
+        assertThat(range.get(0), is(10));
+        assertThat(range.get(4), is(-2));
+        assertThat(range.get(6), is(-8));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowAnIndexOutOfBoundsExceptionIfTheIndexIsBeyondTheEndOfTheRange() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 10, 3);
+
+        // When
+        range.get(4);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test
+    public void shouldContainOnlyThoseValuesYieldedOnIteration() throws Exception {
+        // Given
+        IntRange range = new IntRange(-7, 20, 3);
+
+        // Then
+        assertThat(range.contains(-7), is(true));
+        assertThat(range.contains(2), is(true));
+        assertThat(range.contains(17), is(true));
+        assertThat(range.contains(3), is(false));
+        assertThat(range.contains(20), is(false));
+        assertThat(range.contains(-10), is(false));
+        assertThat(range.contains((Object) 5), is(true));
+        assertThat(range.contains((Object) 5L), is(false));
+    }
+
+    @Test
+    public void shouldContainValuesInADescendingRange() throws Exception {
+        // Given
+        IntRange range = new IntRange(Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+        // Then
+        assertThat(range.contains(Integer.MAX_VALUE), is(true));
+        assertThat(range.contains(-1), is(true));
+        assertThat(range.contains(0), is(false));
+        assertThat(range.size(), is(2L));
+    }
+
+    @Test
+    public void shouldSumTheRangeWithoutOverflowing() throws Exception {
+        // Then
+        assertThat(new IntRange(1, 101).sum(), is(5050L));
+        assertThat(new IntRange(10, 0, -3).sum(), is(22L));
+        assertThat(new IntRange(0, 0).sum(), is(0L));
+        assertThat(new IntRange(Integer.MAX_VALUE - 2, Integer.MAX_VALUE).sum(), is(2L * Integer.MAX_VALUE - 3));
+    }
+
+    @Test
+    public void shouldMapFilterAndReduceTheRange() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 10);
+
+        // When
+        IntSequence sequence = range
+                .map(new IntUnaryFunction() {
+                    @Override public int call(int value) {
+                        return value * value;
+                    }
+                })
+                .filter(new IntUnaryPredicate() {
+                    @Override public boolean evaluate(int value) {
+                        return value % 2 == 0;
+                    }
+                });
+        int total = sequence.reduce(1, new IntBinaryFunction() {
+            @Override public int call(int accumulator, int value) {
+                return accumulator + value;
+            }
+        });
+
+        // Then
+        assertThat(materialize(sequence), hasOnlyItemsInOrder(0, 4, 16, 36, 64));
+        assertThat(sequence.sum(), is(120L));
+        assertThat(total, is(121));
+        assertThat(sequence.toArray(), is(new int[]{0, 4, 16, 36, 64}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfZeroIsSpecifiedForStepSize() throws Exception {
+        // When
+        new IntRange(0, 10, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.LongUnaryFunction;
+import org.javafunk.funk.iterators.LongIterator;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LongRangeTest {
+    @Test
+    public void shouldIterateOverAllLongsInTheSpecifiedRangeSpacedByTheSpecifiedStepSize() throws Exception {
+        // Given
+        LongRange range = new LongRange(10L, 0L, -4L);
+
+        // When
+        Iterable<Long> materializedRange = materialize(range);
+
+        // Then
+        assertThat(materializedRange, hasOnlyItemsInOrder(10L, 6L, 2L));
+    }
+
+    @Test
+    public void shouldYieldPrimitiveValuesFromItsIterator() throws Exception {
+        // Given
+        LongIterator iterator = new LongRange(Long.MAX_VALUE - 1, Long.MAX_VALUE).iterator();
+
+        // When
+        long value = iterator.nextLong();
+
+        // Then
+        assertThat(value, is(Long.MAX_VALUE - 1));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldCalculateTheSizeOfRangesSpanningMoreThanHalfOfAllLongs() throws Exception {
+        // Then
+        assertThat(new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3).size(), is(6148914691236517205L));
+        assertThat(new LongRange(0L, Long.MAX_VALUE).size(), is(Long.MAX_VALUE));
+        assertThat(new LongRange(Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE).size(), is(2L));
+        assertThat(new LongRange(0L, 10L, 3L).size(), is(4L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheRangeContainsMoreThanLongMaxValues() throws Exception {
+        // When
+        new LongRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldContainOnlyThoseValuesYieldedOnIteration() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3);
+
+        // Then
+        assertThat(range.contains(Long.MIN_VALUE), is(true));
+        assertThat(range.contains(Long.MIN_VALUE + 3), is(true));
+        assertThat(range.contains(Long.MAX_VALUE - 3), is(true));
+        assertThat(range.contains(Long.MAX_VALUE - 1), is(false));
+        assertThat(range.contains((Object) Long.MIN_VALUE), is(true));
+        assertThat(range.contains((Object) 1), is(false));
+    }
+
+    @Test
+    public void shouldReturnTheValueAtTheSpecifiedIndex() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE, 3);
+
+        // Then
+        assertThat(range.get(range.size() - 1), is(Long.MAX_VALUE - 3));
+    }
+
+    @Test
+    public void shouldSumAndMapTheRange() throws Exception {
+        // Given
+        LongRange range = new LongRange(1L, 101L);
+
+        // When
+        LongSequence doubled = range.map(new LongUnaryFunction() {
+            @Override public long call(long value) {
+                return value * 2;
+            }
+        });
+
+        // Then
+        assertThat(range.sum(), is(5050L));
+        assertThat(doubled.sum(), is(10100L));
+    }
+}
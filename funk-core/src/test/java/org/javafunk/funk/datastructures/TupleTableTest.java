@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.datastructures.tuples.Triple;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+import static org.javafunk.funk.datastructures.tuples.Triple.triple;
+
+public class TupleTableTest {
+    @Test
+    public void shouldReturnTheAddedPairsByRowAndOnIteration() throws Exception {
+        // Given
+        PairTable<Integer, String> table = TupleTable.pairs(Column.ints(), Column.<String>objects());
+
+        // When
+        table.add(1, "one").add(pair(2, "two")).addAll(listWith(pair(3, "three"), pair(4, (String) null)));
+
+        // Then
+        assertThat(table.size(), is(4));
+        assertThat(table.get(1), is(pair(2, "two")));
+        assertThat(listFrom(table), is(listWith(
+                pair(1, "one"), pair(2, "two"), pair(3, "three"), pair(4, (String) null))));
+    }
+
+    @Test
+    public void shouldStoreEachSlotOfTheAddedTriplesInItsOwnColumn() throws Exception {
+        // Given
+        TripleTable<Long, Double, String> table = TupleTable.triples(
+                Column.offHeapLongs(), Column.doubles(), Column.<String>objects());
+
+        // When
+        table.addAll(iterableWith(triple(1L, 0.5, "a"), triple(2L, 1.5, "b")));
+
+        // Then
+        assertThat(listFrom(table), is(listWith(triple(1L, 0.5, "a"), triple(2L, 1.5, "b"))));
+        assertThat(listFrom(table.first()), is(listWith(1L, 2L)));
+        assertThat(table.second().get(1), is(1.5));
+        assertThat(listFrom(table.third()), is(listWith("a", "b")));
+    }
+
+    @Test
+    public void shouldEnumerateTheElementsOfTheSuppliedIterableIntoAnIntColumn() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        PairTable<Integer, String> table = TupleTable.enumerate(input);
+
+        // Then
+        assertThat(listFrom(table), is(listWith(pair(0, "a"), pair(1, "b"), pair(2, "c"))));
+        assertThat(table.first() instanceof IntColumn, is(true));
+    }
+
+    @Test
+    public void shouldNotAddARowIfAnyValueCannotBeStoredInItsColumn() throws Exception {
+        // Given
+        PairTable<String, Integer> table = TupleTable.pairs(Column.<String>objects(), Column.ints());
+        table.add("a", 1);
+
+        // When
+        try {
+            table.add("b", null);
+            throw new AssertionError("Expected a NullPointerException");
+        } catch (NullPointerException expected) {
+            // Then
+            assertThat(table.size(), is(1));
+            assertThat(table.first().size(), is(1));
+            assertThat(table.second().size(), is(1));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheSameColumnIsUsedForTwoSlots() throws Exception {
+        // Given
+        Column<Integer> column = Column.ints();
+
+        // When
+        TupleTable.pairs(column, column);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfAColumnAlreadyHoldsValues() throws Exception {
+        // Given
+        PairTable<Integer, Integer> table = TupleTable.pairs(Column.ints(), Column.ints());
+        table.add(1, 2);
+
+        // When
+        TupleTable.pairs(table.first(), Column.ints());
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfTheRowDoesNotExist() throws Exception {
+        // Given
+        PairTable<Integer, String> table = TupleTable.pairs(Column.ints(), Column.<String>objects());
+        table.add(1, "one");
+
+        // When
+        table.get(1);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+}
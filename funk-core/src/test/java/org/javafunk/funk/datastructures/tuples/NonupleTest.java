@@ -25,7 +25,9 @@ import org.javafunk.funk.testclasses.Location;
 import org.javafunk.funk.testclasses.Name;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -370,6 +372,42 @@ public class NonupleTest {
         assertThat(actual, hasOnlyItemsInOrder(expected));
     }
 
+    @Test
+    public void shouldReturnTheValueAtEachIndex() {
+        // Given
+        Nonuple<Integer, String, Boolean, Double, Long, Name, Colour, Age, Location> nonuple =
+                tuple(5, "Five", true, 3.6, 23L, name("fred"), colour("blue"), age(25), location("USA"));
+        Collection<Object> expected = collectionBuilderOf(Object.class)
+                .with(5, "Five", true, 3.6, 23L, name("fred"), colour("blue"), age(25), location("USA"))
+                .build();
+
+        // When
+        List<Object> actual = new ArrayList<Object>();
+        for (int i = 0; i < nonuple.size(); i++) {
+            actual.add(nonuple.get(i));
+        }
+
+        // Then
+        assertThat(nonuple.size(), is(9));
+        assertThat(actual, hasOnlyItemsInOrder(expected));
+    }
+
+    @Test
+    public void shouldHaveTheSameHashCodeIfHasSameValues() {
+        // Given
+        Nonuple<Integer, String, Boolean, Double, Long, Name, Colour, Age, Location> first =
+                tuple(5, "Five", true, 3.6, 23L, name("fred"), colour("blue"), age(25), location("USA"));
+        Nonuple<Integer, String, Boolean, Double, Long, Name, Colour, Age, Location> second =
+                tuple(5, "Five", true, 3.6, 23L, name("fred"), colour("blue"), age(25), location("USA"));
+
+        // When
+        int firstHashCode = first.hashCode();
+        int secondHashCode = second.hashCode();
+
+        // Then
+        assertThat(firstHashCode, is(secondHashCode));
+    }
+
     @Test
     public void shouldBeMappableUsingMapperOnFirstPosition() throws Exception {
         // Given
@@ -14,7 +14,9 @@ import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -141,6 +143,49 @@ public class PairTest {
         assertThat(secondDirection, is(false));
     }
 
+    @Test
+    public void shouldHaveTheSameHashCodeIfHasSameFirstAndSecond() {
+        // Given
+        Pair<Integer, String> pair1 = tuple(5, "Five");
+        Pair<Integer, String> pair2 = tuple(5, "Five");
+
+        // When
+        int hashCode1 = pair1.hashCode();
+        int hashCode2 = pair2.hashCode();
+
+        // Then
+        assertThat(hashCode1, is(hashCode2));
+    }
+
+    @Test
+    public void shouldReflectChangesToMutableValuesInHashCode() {
+        // Given
+        List<Integer> values = new ArrayList<Integer>(listWith(1, 2));
+        Pair<String, List<Integer>> pair = tuple("Numbers", values);
+        int initialHashCode = pair.hashCode();
+
+        // When
+        values.add(3);
+
+        // Then
+        assertThat(pair.hashCode(), is(tuple("Numbers", listWith(1, 2, 3)).hashCode()));
+        assertThat(pair.hashCode() == initialHashCode, is(false));
+    }
+
+    @Test
+    public void shouldBeEqualIfHasEqualArrays() {
+        // Given
+        Pair<Integer, int[]> pair1 = tuple(5, new int[]{1, 2, 3});
+        Pair<Integer, int[]> pair2 = tuple(5, new int[]{1, 2, 3});
+
+        // When
+        Boolean isEqual = pair1.equals(pair2);
+
+        // Then
+        assertThat(isEqual, is(true));
+        assertThat(pair1.hashCode(), is(pair2.hashCode()));
+    }
+
     @Test
     public void shouldBeIterable() {
         // Given
@@ -156,6 +201,54 @@ public class PairTest {
         assertThat(actual, hasOnlyItemsInOrder(expected));
     }
 
+    @Test
+    public void shouldHaveASizeOfTwo() {
+        // Given
+        Pair<Integer, String> pair = tuple(5, "Five");
+
+        // When
+        int size = pair.size();
+
+        // Then
+        assertThat(size, is(2));
+    }
+
+    @Test
+    public void shouldReturnTheValueAtTheSuppliedIndex() {
+        // Given
+        Pair<Integer, String> pair = tuple(5, "Five");
+
+        // When
+        Object first = pair.get(0);
+        Object second = pair.get(1);
+
+        // Then
+        assertThat(first, is((Object) 5));
+        assertThat(second, is((Object) "Five"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfIndexIsNotLessThanTheSize() {
+        // Given
+        Pair<Integer, String> pair = tuple(5, "Five");
+
+        // When
+        pair.get(2);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfIndexIsNegative() {
+        // Given
+        Pair<Integer, String> pair = tuple(5, "Five");
+
+        // When
+        pair.get(-1);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
     @Test
     public void shouldBeMappableUsingMapperOnFirstPosition() throws Exception {
         // Given
@@ -75,6 +75,22 @@ public class CyclicGeneratorTest {
         assertThat(equal, is(true));
     }
 
+    @Test
+    public void shouldHaveTheSameHashCodeIfEqual() throws Exception {
+        // Given
+        Generator<Integer> firstGenerator = new CyclicGenerator<Integer>(iterableWith(1, 2, 3));
+        times(4, progress(firstGenerator));
+        Generator<Integer> secondGenerator = new CyclicGenerator<Integer>(iterableWith(1, 2, 3));
+        times(7, progress(secondGenerator));
+
+        // When
+        int firstHashCode = firstGenerator.hashCode();
+        int secondHashCode = secondGenerator.hashCode();
+
+        // Then
+        assertThat(firstHashCode, is(secondHashCode));
+    }
+
     @Test
     public void shouldNotBeEqualIfSuppliedIterablesAreDifferent() throws Exception {
         // Given
@@ -53,6 +53,20 @@ public class RandomGeneratorTest {
         assertThat(equal, is(true));
     }
 
+    @Test
+    public void shouldHaveTheSameHashCodeIfSuppliedIterablesAreTheSame() throws Exception {
+        // Given
+        RandomGenerator<Integer> firstGenerator = new RandomGenerator<Integer>(iterableWith(1, 2, 3, 4, 5, 6));
+        RandomGenerator<Integer> secondGenerator = new RandomGenerator<Integer>(iterableWith(1, 2, 3, 4, 5, 6));
+
+        // When
+        int firstHashCode = firstGenerator.hashCode();
+        int secondHashCode = secondGenerator.hashCode();
+
+        // Then
+        assertThat(firstHashCode, is(secondHashCode));
+    }
+
     @Test
     public void shouldNotBeEqualIfSuppliedIterablesAreDifferent() throws Exception {
         // Given
@@ -0,0 +1,186 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+
+public class AsyncBatchedIteratorTest {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @After
+    public void shutDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnElementsOfTheIteratorInBatchesOfTheSpecifiedSize() throws Exception {
+        // Given
+        Iterator<Integer> input = iteratorWith(1, 2, 3, 4, 5, 6, 7);
+
+        // When
+        Iterator<Iterable<Integer>> batches = new AsyncBatchedIterator<Integer>(input, 3, executor, 2);
+
+        // Then
+        assertThat(materialize(batches.next()), is((Collection<Integer>) collectionWith(1, 2, 3)));
+        assertThat(materialize(batches.next()), is((Collection<Integer>) collectionWith(4, 5, 6)));
+        assertThat(materialize(batches.next()), is((Collection<Integer>) collectionWith(7)));
+        assertThat(batches.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldNotFillMoreThanTheMaximumNumberOfBatchesAheadOfTheConsumer() throws Exception {
+        // Given
+        CountingIterator input = new CountingIterator(100);
+
+        // When
+        Iterator<Iterable<Integer>> batches = new AsyncBatchedIterator<Integer>(input, 10, executor, 2);
+        Thread.sleep(100);
+
+        // Then
+        assertThat(input.taken.get() <= 31, is(true));
+        int total = 0;
+        while (batches.hasNext()) {
+            total += materialize(batches.next()).size();
+        }
+        assertThat(total, is(100));
+    }
+
+    @Test
+    public void shouldYieldAPartiallyFilledBatchOnceTheLingerTimeHasElapsed() throws Exception {
+        // Given
+        final Semaphore permits = new Semaphore(2);
+        Iterator<Integer> input = new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override public boolean hasNext() {
+                permits.acquireUninterruptibly();
+                permits.release();
+                return true;
+            }
+
+            @Override public Integer next() {
+                permits.acquireUninterruptibly();
+                return next++;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        AsyncBatchedIterator<Integer> batches =
+                new AsyncBatchedIterator<Integer>(input, 10, executor, 2, 50, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertThat(materialize(batches.next()), is((Collection<Integer>) collectionWith(0, 1)));
+        batches.cancel();
+        permits.release(10);
+    }
+
+    @Test
+    public void shouldRethrowExceptionsThrownByTheIteratorAfterCompletedBatches() throws Exception {
+        // Given
+        Iterator<Integer> input = new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override public boolean hasNext() {
+                return true;
+            }
+
+            @Override public Integer next() {
+                if (next == 2) {
+                    throw new IllegalStateException();
+                }
+                return next++;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        // When
+        Iterator<Iterable<Integer>> batches = new AsyncBatchedIterator<Integer>(input, 2, executor, 1);
+
+        // Then
+        assertThat(materialize(batches.next()), is((Collection<Integer>) collectionWith(0, 1)));
+        try {
+            batches.hasNext();
+            throw new AssertionError("Expected an IllegalStateException");
+        } catch (IllegalStateException expected) {
+            assertThat(batches.hasNext(), is(false));
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenExhausted() throws Exception {
+        // Given
+        Iterator<Iterable<Integer>> batches = new AsyncBatchedIterator<Integer>(iteratorWith(1), 2, executor, 1);
+
+        // When
+        batches.next();
+        batches.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfMaximumInFlightIsNotPositive() throws Exception {
+        // When
+        new AsyncBatchedIterator<Integer>(iteratorWith(1), 2, executor, 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfLingerTimeIsNegative() throws Exception {
+        // When
+        new AsyncBatchedIterator<Integer>(iteratorWith(1), 2, executor, 1, -1, TimeUnit.MILLISECONDS);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static class CountingIterator implements Iterator<Integer> {
+        private final int size;
+        private final AtomicInteger taken = new AtomicInteger();
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override public boolean hasNext() {
+            return taken.get() < size;
+        }
+
+        @Override public Integer next() {
+            return taken.getAndIncrement();
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.monads.Option;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+
+public class CartesianProductIteratorTest {
+    @Test
+    public void shouldYieldCombinationsWithTheLastIterableVaryingFastest() throws Exception {
+        // Given
+        Iterable<Iterable<?>> iterables = iterables(iterableWith(1, 2), iterableWith("a", "b", "c"));
+
+        // When
+        List<List<Object>> combinations = drain(new CartesianProductIterator(iterables));
+
+        // Then
+        assertThat(combinations, is(listWith(
+                combination(1, "a"), combination(1, "b"), combination(1, "c"),
+                combination(2, "a"), combination(2, "b"), combination(2, "c"))));
+    }
+
+    @Test
+    public void shouldIterateEachSuppliedIterableOnlyOnce() throws Exception {
+        // Given
+        CountingIterable<Integer> first = new CountingIterable<Integer>(iterableWith(1, 2, 3));
+        CountingIterable<String> second = new CountingIterable<String>(iterableWith("a", "b"));
+        CountingIterable<Long> third = new CountingIterable<Long>(iterableWith(1L, 2L));
+
+        // When
+        List<List<Object>> combinations = drain(new CartesianProductIterator(iterables(first, second, third)));
+
+        // Then
+        assertThat(combinations.size(), is(12));
+        assertThat(first.iterations, is(1));
+        assertThat(second.iterations, is(1));
+        assertThat(third.iterations, is(1));
+    }
+
+    @Test
+    public void shouldYieldNothingIfAnyOfTheSuppliedIterablesIsEmpty() throws Exception {
+        // Given
+        Iterable<Iterable<?>> iterables = iterables(iterableWith(1, 2), new ArrayList<String>(), iterableWith(3L));
+
+        // When
+        CartesianProductIterator iterator = new CartesianProductIterator(iterables);
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(iterator.size(), is(0L));
+    }
+
+    @Test
+    public void shouldReturnTheTotalNumberOfCombinations() throws Exception {
+        // Given
+        Iterable<Iterable<?>> iterables = iterables(iterableWith(1, 2), iterableWith("a", "b", "c"), iterableWith(1L, 2L));
+
+        // When
+        CartesianProductIterator iterator = new CartesianProductIterator(iterables);
+        iterator.next();
+
+        // Then
+        assertThat(iterator.size(), is(12L));
+    }
+
+    @Test
+    public void shouldReturnTheCombinationAtTheSuppliedIndex() throws Exception {
+        // Given
+        Iterable<Iterable<?>> iterables = iterables(iterableWith(1, 2), iterableWith("a", "b", "c"), iterableWith(1L, 2L));
+        List<List<Object>> expected = drain(new CartesianProductIterator(iterables));
+
+        // When
+        CartesianProductIterator iterator = new CartesianProductIterator(iterables);
+
+        // Then
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(iterator.get(i), is(expected.get(i)));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowAnIndexOutOfBoundsExceptionIfTheIndexIsNotLessThanTheSize() throws Exception {
+        // Given
+        CartesianProductIterator iterator = new CartesianProductIterator(
+                iterables(iterableWith(1, 2), iterableWith("a", "b")));
+
+        // When
+        iterator.get(4);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test
+    public void shouldSplitTheRemainingCombinationsBetweenTwoIterators() throws Exception {
+        // Given
+        Iterable<Iterable<?>> iterables = iterables(iterableWith(1, 2, 3), iterableWith("a", "b", "c"));
+        List<List<Object>> expected = drain(new CartesianProductIterator(iterables));
+        CartesianProductIterator iterator = new CartesianProductIterator(iterables);
+        List<Object> first = iterator.next();
+
+        // When
+        Option<CartesianProductIterator> other = iterator.split();
+
+        // Then
+        List<List<Object>> combined = new ArrayList<List<Object>>();
+        combined.add(first);
+        combined.addAll(drain(iterator));
+        combined.addAll(drain(other.get()));
+        assertThat(combined, is(expected));
+    }
+
+    @Test
+    public void shouldNotSplitWhenFewerThanTwoCombinationsRemain() throws Exception {
+        // Given
+        CartesianProductIterator iterator = new CartesianProductIterator(
+                iterables(iterableWith(1, 2), iterableWith("a")));
+        iterator.next();
+
+        // When
+        Option<CartesianProductIterator> other = iterator.split();
+
+        // Then
+        assertThat(other.hasValue(), is(false));
+        assertThat(iterator.next(), is(combination(2, "a")));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowANoSuchElementExceptionIfNextIsCalledWhenExhausted() throws Exception {
+        // Given
+        CartesianProductIterator iterator = new CartesianProductIterator(
+                iterables(iterableWith(1), iterableWith("a")));
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfAnyOfTheSuppliedIterablesIsNull() throws Exception {
+        // Given
+        Iterable<Integer> first = iterableWith(1, 2);
+        Iterable<String> second = null;
+
+        // When
+        new CartesianProductIterator(iterables(first, second));
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static Iterable<Iterable<?>> iterables(Iterable<?>... iterables) {
+        List<Iterable<?>> result = new ArrayList<Iterable<?>>();
+        for (Iterable<?> iterable : iterables) {
+            result.add(iterable);
+        }
+        return result;
+    }
+
+    private static List<Object> combination(Object... values) {
+        return Arrays.asList(values);
+    }
+
+    private static List<List<Object>> drain(Iterator<List<Object>> iterator) {
+        List<List<Object>> result = new ArrayList<List<Object>>();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private static class CountingIterable<T> implements Iterable<T> {
+        private final Iterable<T> iterable;
+        private int iterations = 0;
+
+        private CountingIterable(Iterable<T> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override public Iterator<T> iterator() {
+            iterations++;
+            return iterable.iterator();
+        }
+    }
+}
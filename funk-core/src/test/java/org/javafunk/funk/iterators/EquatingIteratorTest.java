@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.functors.predicates.BinaryPredicate;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iteratorWith;
+
+public class EquatingIteratorTest {
+    @Test
+    public void shouldEvaluateThePredicateAgainstCorrespondingElements() throws Exception {
+        // Given
+        Iterator<String> first = iteratorWith("a", "b", "c");
+        Iterator<String> second = iteratorWith("a", "x", "c", "d");
+        BinaryPredicate<String, String> equality = new BinaryPredicate<String, String>() {
+            @Override public boolean evaluate(String first, String second) {
+                return first.equals(second);
+            }
+        };
+
+        // When
+        Iterator<Boolean> iterator = new EquatingIterator<String>(first, second, equality);
+
+        // Then
+        assertThat(iterator.next(), is(true));
+        assertThat(iterator.next(), is(false));
+        assertThat(iterator.next(), is(true));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowANoSuchElementExceptionIfNextIsCalledWhenExhausted() throws Exception {
+        // Given
+        Iterator<String> first = iteratorWith("a");
+        Iterator<String> second = new ArrayList<String>().iterator();
+        BinaryPredicate<String, String> equality = new BinaryPredicate<String, String>() {
+            @Override public boolean evaluate(String first, String second) {
+                return first.equals(second);
+            }
+        };
+        Iterator<Boolean> iterator = new EquatingIterator<String>(first, second, equality);
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfThePredicateIsNull() throws Exception {
+        // Given
+        BinaryPredicate<String, String> predicate = null;
+
+        // When
+        new EquatingIterator<String>(iteratorWith("a"), iteratorWith("a"), predicate);
+
+        // Then a NullPointerException is thrown
+    }
+}
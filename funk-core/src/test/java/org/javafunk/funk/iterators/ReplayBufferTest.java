@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+
+public class ReplayBufferTest {
+    @Test
+    public void shouldReplayEveryElementToEachIterator() throws Exception {
+        // Given
+        ReplayBuffer<Integer> buffer = new ReplayBuffer<Integer>(listWith(1, 2, 3).iterator());
+
+        // When
+        Iterator<Integer> first = buffer.iterator();
+        Iterator<Integer> second = buffer.iterator();
+
+        // Then
+        assertThat(first.next(), is(1));
+        assertThat(first.next(), is(2));
+        assertThat(second.next(), is(1));
+        assertThat(first.next(), is(3));
+        assertThat(first.hasNext(), is(false));
+        assertThat(second.next(), is(2));
+        assertThat(second.next(), is(3));
+        assertThat(second.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReplayElementsSpanningManyChunks() throws Exception {
+        // Given
+        Iterator<Integer> input = new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override public boolean hasNext() {
+                return next < 1000;
+            }
+
+            @Override public Integer next() {
+                return next++;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ReplayBuffer<Integer> buffer = new ReplayBuffer<Integer>(input);
+
+        // When
+        Iterator<Integer> leading = buffer.iterator();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(leading.next(), is(i));
+        }
+        Iterator<Integer> lagging = buffer.iterator();
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(lagging.next(), is(i));
+        }
+        assertThat(lagging.hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotProvideIteratorsOnceTheStartHasBeenReleased() throws Exception {
+        // Given
+        ReplayBuffer<Integer> buffer = new ReplayBuffer<Integer>(listWith(1, 2, 3).iterator());
+
+        // When
+        buffer.releaseStart();
+        buffer.iterator();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldReturnTailIteratorsYieldingOnlyElementsNotYetBufferedOnceTheStartIsReleased() throws Exception {
+        // Given
+        Iterator<Integer> input = new Iterator<Integer>() {
+            private int next = 0;
+
+            @Override public boolean hasNext() {
+                return next < 200;
+            }
+
+            @Override public Integer next() {
+                return next++;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        ReplayBuffer<Integer> buffer = new ReplayBuffer<Integer>(input);
+        buffer.releaseStart();
+
+        // When
+        Iterator<Integer> first = buffer.tailIterator();
+        for (int i = 0; i < 128; i++) {
+            first.next();
+        }
+        Iterator<Integer> second = buffer.tailIterator();
+
+        // Then
+        assertThat(second.next(), is(128));
+        assertThat(first.next(), is(128));
+        assertThat(first.next(), is(129));
+        assertThat(second.next(), is(129));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenExhausted() throws Exception {
+        // Given
+        Iterator<Integer> iterator = new ReplayBuffer<Integer>(listWith(1).iterator()).iterator();
+
+        // When
+        iterator.next();
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotSupportRemove() throws Exception {
+        // Given
+        Iterator<Integer> iterator = new ReplayBuffer<Integer>(listWith(1).iterator()).iterator();
+
+        // When
+        iterator.next();
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+}
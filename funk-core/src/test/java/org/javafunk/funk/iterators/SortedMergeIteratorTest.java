@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import com.google.common.collect.Ordering;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterators.asList;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.iterators.SortedMergeIterator.Multiplicity.MULTISET;
+import static org.javafunk.funk.iterators.SortedMergeIterator.Multiplicity.SET;
+import static org.javafunk.funk.iterators.SortedMergeIterator.Operation.DIFFERENCE;
+import static org.javafunk.funk.iterators.SortedMergeIterator.Operation.INTERSECTION;
+import static org.javafunk.funk.iterators.SortedMergeIterator.Operation.UNION;
+
+public class SortedMergeIteratorTest {
+    @Test
+    public void shouldGallopThroughRandomAccessListsWhenIntersecting() throws Exception {
+        // Given
+        List<Integer> multiplesOfThree = new ArrayList<Integer>();
+        for (int i = 0; i < 3000; i += 3) {
+            multiplesOfThree.add(i);
+        }
+        List<Integer> sparse = listWith(-1, 0, 1000, 1001, 1002, 2997, 2998, 5000);
+
+        // When
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                iterableWith(multiplesOfThree, sparse), Ordering.<Integer>natural(), INTERSECTION, SET);
+
+        // Then
+        assertThat(asList(iterator), is(listWith(0, 1002, 2997)));
+    }
+
+    @Test
+    public void shouldJumpThroughSortedSetsOrderedByTheSameComparatorWhenTakingADifference() throws Exception {
+        // Given
+        TreeSet<Integer> evens = new TreeSet<Integer>();
+        for (int i = 0; i < 1000; i += 2) {
+            evens.add(i);
+        }
+        Iterable<Integer> candidates = iterableWith(1, 4, 500, 501, 997, 998, 1000);
+
+        // When
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                iterableWith(candidates, evens), Ordering.<Integer>natural(), DIFFERENCE, SET);
+
+        // Then
+        assertThat(asList(iterator), is(listWith(1, 501, 997, 1000)));
+    }
+
+    @Test
+    public void shouldYieldEachElementAsManyTimesAsItOccursInTheInputContainingItMostOftenForAMultisetUnion() throws Exception {
+        // Given
+        Iterable<Integer> first = listWith(1, 1, 2);
+        Iterable<Integer> second = listWith(1, 2, 2, 2);
+
+        // When
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                iterableWith(first, second), Ordering.<Integer>natural(), UNION, MULTISET);
+
+        // Then
+        assertThat(asList(iterator), is(listWith(1, 1, 2, 2, 2)));
+    }
+
+    @Test
+    public void shouldYieldNothingWhenNoIterablesAreSupplied() throws Exception {
+        // When
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                new ArrayList<Iterable<Integer>>(), Ordering.<Integer>natural(), INTERSECTION, SET);
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenExhausted() throws Exception {
+        // Given
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                iterableWith(listWith(1), listWith(1)), Ordering.<Integer>natural(), UNION, SET);
+
+        // When
+        iterator.next();
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldThrowUnsupportedOperationExceptionWhenRemoveIsCalled() throws Exception {
+        // Given
+        Iterator<Integer> iterator = new SortedMergeIterator<Integer>(
+                iterableWith(listWith(1)), Ordering.<Integer>natural(), UNION, SET);
+
+        // When
+        iterator.next();
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.datastructures.tuples.Pair.pair;
+
+public class ZippedPairIteratorTest {
+    @Test
+    public void shouldZipCorrespondingElementsIntoPairs() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1, 2, 3);
+        Iterator<String> second = iteratorWith("one", "two", "three");
+
+        // When
+        Iterator<Pair<Integer, String>> iterator = new ZippedPairIterator<Integer, String>(first, second);
+
+        // Then
+        assertThat(iterator.next(), is(pair(1, "one")));
+        assertThat(iterator.next(), is(pair(2, "two")));
+        assertThat(iterator.next(), is(pair(3, "three")));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldStopAsSoonAsTheShortestIteratorIsExhausted() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1, 2, 3);
+        Iterator<String> second = iteratorWith("one");
+
+        // When
+        Iterator<Pair<Integer, String>> iterator = new ZippedPairIterator<Integer, String>(first, second);
+
+        // Then
+        assertThat(iterator.next(), is(pair(1, "one")));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowANoSuchElementExceptionIfNextIsCalledWhenExhausted() throws Exception {
+        // Given
+        Iterator<Pair<Integer, String>> iterator = new ZippedPairIterator<Integer, String>(
+                iteratorWith(1), iteratorWith("one"));
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldThrowAnUnsupportedOperationExceptionIfRemoveIsCalled() throws Exception {
+        // Given
+        Iterator<Pair<Integer, String>> iterator = new ZippedPairIterator<Integer, String>(
+                iteratorWith(1), iteratorWith("one"));
+        iterator.next();
+
+        // When
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfAnyOfTheSuppliedIteratorsAreNull() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1, 2, 3);
+        Iterator<String> second = null;
+
+        // When
+        new ZippedPairIterator<Integer, String>(first, second);
+
+        // Then a NullPointerException is thrown
+    }
+}
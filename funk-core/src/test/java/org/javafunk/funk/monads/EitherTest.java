@@ -752,6 +752,34 @@ public class EitherTest {
                 hasAllElementsEqualTo(false));
     }
 
+    @Test
+    public void shouldHaveTheSameHashCodeIfBothLeftOverSameValue() throws Exception {
+        // Given
+        Either<String, Integer> first = Either.left("Hello");
+        Either<String, Long> second = Either.left("Hello");
+
+        // When
+        int firstHashCode = first.hashCode();
+        int secondHashCode = second.hashCode();
+
+        // Then
+        assertThat(firstHashCode, is(secondHashCode));
+    }
+
+    @Test
+    public void shouldBeEqualIfBothLeftOverEqualArrays() throws Exception {
+        // Given
+        Either<Integer[], String> first = Either.left(new Integer[]{1, 2, 3});
+        Either<Integer[], String> second = Either.left(new Integer[]{1, 2, 3});
+
+        // When
+        boolean equal = first.equals(second);
+
+        // Then
+        assertThat(equal, is(true));
+        assertThat(first.hashCode(), is(second.hashCode()));
+    }
+
     @Test
     public void shouldBeEqualIfBothRightOverSameValue() throws Exception {
         // Given
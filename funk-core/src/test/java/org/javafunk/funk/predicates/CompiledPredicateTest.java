@@ -0,0 +1,179 @@
+package org.javafunk.funk.predicates;
+
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.javafunk.funk.Predicates.alwaysFalse;
+import static org.javafunk.funk.Predicates.alwaysTrue;
+import static org.javafunk.funk.Predicates.not;
+import static org.javafunk.funk.predicates.AndPredicate.and;
+import static org.javafunk.funk.predicates.OrPredicate.or;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompiledPredicateTest {
+    @Mock private Predicate<Object> firstPredicate;
+    @Mock private Predicate<Object> secondPredicate;
+
+    @Test
+    public void shouldReturnTheSameResultsAsTheUncompiledPredicate() throws Exception {
+        // Given
+        UnaryPredicate<Integer> predicate = or(
+                and(divisibleBy(2), not(divisibleBy(3))),
+                not(not(and(divisibleBy(5), or(divisibleBy(7), below(50))))),
+                and(alwaysTrue(), divisibleBy(11)));
+
+        // When
+        Predicate<Integer> compiled = new CompiledPredicate<Integer>(predicate);
+
+        // Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(compiled.evaluate(i), is(predicate.evaluate(i)));
+        }
+    }
+
+    @Test
+    public void shouldShortCircuitInTheOrderInWhichPredicatesWereComposed() throws Exception {
+        // Given
+        given(firstPredicate.evaluate(anyObject())).willReturn(false);
+
+        // When
+        Predicate<Object> compiled = new CompiledPredicate<Object>(and(firstPredicate, secondPredicate));
+        boolean result = compiled.evaluate(new Object());
+
+        // Then
+        assertThat(result, is(false));
+        verify(secondPredicate, never()).evaluate(anyObject());
+    }
+
+    @Test
+    public void shouldFoldLeadingConstantTermsWithoutEvaluatingOtherPredicates() throws Exception {
+        // Given
+        UnaryPredicate<Object> predicate = or(and(alwaysFalse(), firstPredicate), not(and(alwaysFalse(), secondPredicate)));
+
+        // When
+        Predicate<Object> compiled = new CompiledPredicate<Object>(predicate);
+        boolean result = compiled.evaluate(new Object());
+
+        // Then
+        assertThat(result, is(true));
+        verify(firstPredicate, never()).evaluate(anyObject());
+        verify(secondPredicate, never()).evaluate(anyObject());
+    }
+
+    @Test
+    public void shouldEvaluateTermsPrecedingADecidingConstantButNotThoseFollowingIt() throws Exception {
+        // Given
+        given(firstPredicate.evaluate(anyObject())).willReturn(true);
+        UnaryPredicate<Object> predicate = and(firstPredicate, alwaysFalse(), secondPredicate);
+
+        // When
+        Predicate<Object> compiled = new CompiledPredicate<Object>(predicate);
+        boolean result = compiled.evaluate(new Object());
+
+        // Then
+        assertThat(result, is(false));
+        verify(firstPredicate).evaluate(anyObject());
+        verify(secondPredicate, never()).evaluate(anyObject());
+    }
+
+    @Test
+    public void shouldEvaluateToTrueForAnEmptyConjunctionAndFalseForAnEmptyDisjunction() throws Exception {
+        // Given
+        Predicate<Object> emptyConjunction = new AndPredicate<Object>(new ArrayList<UnaryPredicate<? super Object>>());
+        Predicate<Object> emptyDisjunction = new OrPredicate<Object>(new ArrayList<UnaryPredicate<? super Object>>());
+
+        // When
+        boolean conjunctionResult = new CompiledPredicate<Object>(emptyConjunction).evaluate(new Object());
+        boolean disjunctionResult = new CompiledPredicate<Object>(emptyDisjunction).evaluate(new Object());
+
+        // Then
+        assertThat(conjunctionResult, is(true));
+        assertThat(disjunctionResult, is(false));
+    }
+
+    @Test
+    public void shouldReorderTermsSoThatThoseMostOftenDecidingTheResultAreEvaluatedFirstWhenAdaptive() throws Exception {
+        // Given
+        CountingPredicate rarelyRejecting = new CountingPredicate(divisibleBy(1000), true);
+        CountingPredicate usuallyRejecting = new CountingPredicate(divisibleBy(10), false);
+        Predicate<Integer> compiled = new CompiledPredicate<Integer>(and(rarelyRejecting, usuallyRejecting), true);
+
+        // When
+        for (int i = 1; i <= 10000; i++) {
+            assertThat(compiled.evaluate(i), is(i % 10 == 0 && i % 1000 != 0));
+        }
+
+        // Then
+        assertThat(rarelyRejecting.evaluations, lessThan(usuallyRejecting.evaluations));
+    }
+
+    @Test
+    public void shouldBeEqualIfCompiledFromEqualPredicates() throws Exception {
+        // Given
+        CompiledPredicate<Object> first = new CompiledPredicate<Object>(and(firstPredicate, secondPredicate));
+        CompiledPredicate<Object> second = new CompiledPredicate<Object>(and(firstPredicate, secondPredicate));
+
+        // When
+        boolean equal = first.equals(second);
+
+        // Then
+        assertThat(equal, is(true));
+        assertThat(first.hashCode(), is(second.hashCode()));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfUnaryPredicateSuppliedToConstructorIsNull() throws Exception {
+        // Given
+        UnaryPredicate<Object> predicate = null;
+
+        // When
+        new CompiledPredicate<Object>(predicate);
+
+        // Then a NullPointerException is thrown
+    }
+
+    private static UnaryPredicate<Integer> divisibleBy(final int divisor) {
+        return new UnaryPredicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % divisor == 0;
+            }
+        };
+    }
+
+    private static UnaryPredicate<Integer> below(final int bound) {
+        return new UnaryPredicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input < bound;
+            }
+        };
+    }
+
+    private static class CountingPredicate implements UnaryPredicate<Integer> {
+        private final UnaryPredicate<Integer> delegate;
+        private final boolean negated;
+        private int evaluations = 0;
+
+        private CountingPredicate(UnaryPredicate<Integer> delegate, boolean negated) {
+            this.delegate = delegate;
+            this.negated = negated;
+        }
+
+        @Override public boolean evaluate(Integer input) {
+            evaluations++;
+            return delegate.evaluate(input) != negated;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.javafunk.funk.external.Serializer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.javafunk.funk.Literals.iterableWith;
+
+public class CountMinSketchTest {
+    @Test
+    public void shouldEstimateTheFrequencyOfEachElement() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "a", "c", "a", "b");
+
+        // When
+        CountMinSketch<String> sketch = Sketches.sketch(input, CountMinSketch.<String>withAccuracy(0.01, 0.99));
+
+        // Then
+        assertThat(sketch.estimateCount("a"), is(3L));
+        assertThat(sketch.estimateCount("b"), is(2L));
+        assertThat(sketch.estimateCount("c"), is(1L));
+        assertThat(sketch.estimateCount("d"), is(0L));
+        assertThat(sketch.totalCount(), is(6L));
+    }
+
+    @Test
+    public void shouldNeverUnderestimateAndOverestimateByNoMoreThanEpsilonOfTheTotal() throws Exception {
+        // Given
+        CountMinSketch<Integer> sketch = CountMinSketch.withAccuracy(0.001, 0.999);
+
+        // When
+        for (int i = 0; i < 100000; i++) {
+            sketch.add(i % 1000, i % 1000 == 7 ? 10 : 1);
+        }
+
+        // Then
+        assertThat(sketch.estimateCount(7), is(greaterThanOrEqualTo(1000L)));
+        assertThat(sketch.estimateCount(7), is(lessThanOrEqualTo(1000L + 109)));
+        assertThat(sketch.estimateCount(8), is(greaterThanOrEqualTo(100L)));
+        assertThat(sketch.estimateCount(8), is(lessThanOrEqualTo(100L + 109)));
+    }
+
+    @Test
+    public void shouldSumFrequenciesWhenMerged() throws Exception {
+        // Given
+        CountMinSketch<String> first = Sketches.sketch(iterableWith("a", "b", "a"), CountMinSketch.<String>withAccuracy(0.01, 0.99));
+        CountMinSketch<String> second = Sketches.sketch(iterableWith("a", "c"), first.emptyCopy());
+
+        // When
+        CountMinSketch<String> merged = first.merge(second);
+
+        // Then
+        assertThat(merged.estimateCount("a"), is(3L));
+        assertThat(merged.totalCount(), is(5L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfSketchesOfDifferentDimensionsAreMerged() throws Exception {
+        // Given
+        CountMinSketch<String> first = CountMinSketch.withDimensions(100, 4, null);
+        CountMinSketch<String> second = CountMinSketch.withDimensions(200, 4, null);
+
+        // When
+        first.merge(second);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfANegativeCountIsAdded() throws Exception {
+        // Given
+        CountMinSketch<String> sketch = CountMinSketch.withAccuracy(0.01, 0.99);
+
+        // When
+        sketch.add("a", -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldWriteAndReadASketchUsingItsSerializer() throws Exception {
+        // Given
+        CountMinSketch<String> sketch = Sketches.sketch(iterableWith("a", "b", "a"), CountMinSketch.<String>withAccuracy(0.01, 0.99));
+        Serializer<CountMinSketch<String>> serializer = CountMinSketch.serializer(null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        serializer.write(sketch, new DataOutputStream(bytes));
+        CountMinSketch<String> actual = serializer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertThat(actual.estimateCount("a"), is(2L));
+        assertThat(actual.totalCount(), is(3L));
+    }
+}
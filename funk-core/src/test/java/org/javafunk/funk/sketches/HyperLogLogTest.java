@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import com.google.common.hash.Funnels;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.external.Serializer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+
+public class HyperLogLogTest {
+    @Test
+    public void shouldEstimateSmallDistinctCountsExactly() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "a", "c", "b", "a");
+
+        // When
+        HyperLogLog<String> sketch = Sketches.sketch(input, HyperLogLog.<String>withPrecision(12));
+
+        // Then
+        assertThat(sketch.estimate(), is(3L));
+    }
+
+    @Test
+    public void shouldEstimateLargeDistinctCountsWithinTheExpectedError() throws Exception {
+        // Given
+        HyperLogLog<Integer> sketch = HyperLogLog.withPrecision(14, Funnels.integerFunnel());
+
+        // When
+        for (int i = 0; i < 1000000; i++) {
+            sketch.add(i % 200000);
+        }
+
+        // Then
+        assertThat((double) sketch.estimate(), is(closeTo(200000, 200000 * 0.03)));
+    }
+
+    @Test
+    public void shouldEstimateTheDistinctCountOfTheUnionWhenMerged() throws Exception {
+        // Given
+        HyperLogLog<Integer> first = Sketches.sketch(new IntegerRange(0, 60000), HyperLogLog.<Integer>withPrecision(14));
+        HyperLogLog<Integer> second = Sketches.sketch(new IntegerRange(40000, 100000), first.emptyCopy());
+
+        // When
+        HyperLogLog<Integer> merged = first.merge(second);
+
+        // Then
+        assertThat((double) merged.estimate(), is(closeTo(100000, 100000 * 0.03)));
+    }
+
+    @Test
+    public void shouldEstimateTheSameDistinctCountWhenSketchedInParallel() throws Exception {
+        // Given
+        Iterable<Integer> input = new IntegerRange(0, 100000);
+        HyperLogLog<Integer> template = HyperLogLog.withPrecision(12);
+
+        // When
+        HyperLogLog<Integer> sequential = Sketches.sketch(input, template.emptyCopy());
+        HyperLogLog<Integer> parallel = Sketches.sketchInParallel(input, template);
+
+        // Then
+        assertThat(parallel.estimate(), is(sequential.estimate()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfSketchesOfDifferentPrecisionsAreMerged() throws Exception {
+        // Given
+        HyperLogLog<String> first = HyperLogLog.withPrecision(10);
+        HyperLogLog<String> second = HyperLogLog.withPrecision(12);
+
+        // When
+        first.merge(second);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfThePrecisionIsOutOfRange() throws Exception {
+        // When
+        HyperLogLog.withPrecision(3);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldWriteAndReadASketchUsingItsSerializer() throws Exception {
+        // Given
+        HyperLogLog<Integer> sketch = Sketches.sketch(new IntegerRange(0, 5000), HyperLogLog.<Integer>withPrecision(10));
+        Serializer<HyperLogLog<Integer>> serializer = HyperLogLog.serializer();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        serializer.write(sketch, new DataOutputStream(bytes));
+        HyperLogLog<Integer> actual = serializer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertThat(actual.precision(), is(10));
+        assertThat(actual.estimate(), is(sketch.estimate()));
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.external.Serializer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.javafunk.funk.Literals.iterableWith;
+
+public class QuantileSketchTest {
+    @Test
+    public void shouldReturnExactQuantilesWhileAllValuesAreRetained() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(5, 1, 4, 2, 3);
+
+        // When
+        QuantileSketch sketch = Sketches.sketch(input, QuantileSketch.create());
+
+        // Then
+        assertThat(sketch.quantile(0), is(1.0));
+        assertThat(sketch.quantile(0.5), is(3.0));
+        assertThat(sketch.quantile(1), is(5.0));
+        assertThat(sketch.rank(2), is(0.4));
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfALargeStreamWithinTheExpectedError() throws Exception {
+        // Given
+        QuantileSketch sketch = QuantileSketch.withK(200, new Random(17));
+
+        // When
+        for (int i = 0; i < 1000000; i++) {
+            sketch.add((i * 7919L) % 1000000);
+        }
+
+        // Then
+        assertThat(sketch.count(), is(1000000L));
+        assertThat(sketch.quantile(0.5), is(closeTo(500000, 1000000 * 0.02)));
+        assertThat(sketch.quantile(0.99), is(closeTo(990000, 1000000 * 0.02)));
+        assertThat(sketch.rank(250000), is(closeTo(0.25, 0.02)));
+    }
+
+    @Test
+    public void shouldEstimateQuantilesOfTheCombinedStreamWhenMerged() throws Exception {
+        // Given
+        QuantileSketch first = Sketches.sketch(new IntegerRange(0, 50000), QuantileSketch.withK(200, new Random(3)));
+        QuantileSketch second = Sketches.sketch(new IntegerRange(50000, 100000), first.emptyCopy());
+
+        // When
+        QuantileSketch merged = first.merge(second);
+
+        // Then
+        assertThat(merged.count(), is(100000L));
+        assertThat(merged.quantile(0), is(0.0));
+        assertThat(merged.quantile(1), is(99999.0));
+        assertThat(merged.quantile(0.75), is(closeTo(75000, 100000 * 0.02)));
+    }
+
+    @Test
+    public void shouldSketchInParallelRetainingFarFewerValuesThanAddedAndLeavingTheTemplateEmpty() throws Exception {
+        // Given
+        QuantileSketch template = QuantileSketch.withK(100, new Random(5));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        QuantileSketch sketch = Sketches.sketchInParallel(new IntegerRange(0, 200000), template);
+        QuantileSketch.serializer().write(sketch, new DataOutputStream(bytes));
+
+        // Then
+        assertThat(template.isEmpty(), is(true));
+        assertThat(sketch.count(), is(200000L));
+        assertThat(sketch.quantile(0.5), is(closeTo(100000, 200000 * 0.03)));
+        assertThat(bytes.size(), is(lessThan(200000)));
+    }
+
+    @Test
+    public void shouldWriteAndReadASketchUsingItsSerializer() throws Exception {
+        // Given
+        QuantileSketch sketch = Sketches.sketch(new IntegerRange(0, 10000), QuantileSketch.withK(50, new Random(11)));
+        Serializer<QuantileSketch> serializer = QuantileSketch.serializer();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        serializer.write(sketch, new DataOutputStream(bytes));
+        QuantileSketch actual = serializer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertThat(actual.count(), is(sketch.count()));
+        assertThat(actual.quantile(0.3), is(sketch.quantile(0.3)));
+        assertThat(actual.quantile(0.9), is(sketch.quantile(0.9)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenTakingAQuantileOfAnEmptySketch() throws Exception {
+        // Given
+        QuantileSketch sketch = QuantileSketch.create();
+
+        // When
+        sketch.quantile(0.5);
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfSketchesWithDifferentKAreMerged() throws Exception {
+        // Given
+        QuantileSketch first = QuantileSketch.withK(100);
+        QuantileSketch second = QuantileSketch.withK(200);
+
+        // When
+        first.merge(second);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
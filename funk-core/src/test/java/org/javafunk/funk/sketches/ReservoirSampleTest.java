@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.sketches;
+
+import org.javafunk.funk.Serializers;
+import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.external.Serializer;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ReservoirSampleTest {
+    @Test
+    public void shouldRetainAllElementsWhileFewerThanTheCapacityHaveBeenAdded() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        ReservoirSample<String> sample = Sketches.sketch(input, ReservoirSample.<String>ofSize(5));
+
+        // Then
+        assertThat(sample.sample(), hasOnlyItemsInOrder("a", "b", "c"));
+        assertThat(sample.count(), is(3L));
+    }
+
+    @Test
+    public void shouldSampleEachElementWithEqualProbability() throws Exception {
+        // Given
+        Random random = new Random(23);
+        int[] timesSampled = new int[100];
+
+        // When
+        for (int trial = 0; trial < 2000; trial++) {
+            ReservoirSample<Integer> sample = Sketches.sketch(new IntegerRange(0, 100), ReservoirSample.<Integer>ofSize(10, random));
+            for (Integer element : sample.sample()) {
+                timesSampled[element]++;
+            }
+        }
+
+        // Then
+        for (int times : timesSampled) {
+            assertThat((double) times, is(closeTo(200, 60)));
+        }
+    }
+
+    @Test
+    public void shouldSampleFromEachSampleInProportionToItsCountWhenMerged() throws Exception {
+        // Given
+        Random random = new Random(29);
+        int fromFirst = 0;
+
+        // When
+        for (int trial = 0; trial < 1000; trial++) {
+            ReservoirSample<Integer> first = Sketches.sketch(new IntegerRange(0, 300), ReservoirSample.<Integer>ofSize(10, random));
+            ReservoirSample<Integer> second = Sketches.sketch(new IntegerRange(300, 400), first.emptyCopy());
+            for (Integer element : first.merge(second).sample()) {
+                if (element < 300) {
+                    fromFirst++;
+                }
+            }
+        }
+
+        // Then
+        assertThat(fromFirst / 10000.0, is(closeTo(0.75, 0.03)));
+    }
+
+    @Test
+    public void shouldWriteAndReadASampleUsingItsSerializer() throws Exception {
+        // Given
+        ReservoirSample<String> sample = Sketches.sketch(iterableWith("a", "b", "c"), ReservoirSample.<String>ofSize(2));
+        Serializer<ReservoirSample<String>> serializer = ReservoirSample.serializer(Serializers.stringSerializer());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // When
+        serializer.write(sample, new DataOutputStream(bytes));
+        ReservoirSample<String> actual = serializer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        assertThat(actual.sample(), is(sample.sample()));
+        assertThat(actual.count(), is(3L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheCapacityIsNotPositive() throws Exception {
+        // When
+        ReservoirSample.ofSize(0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}